@@ -0,0 +1,94 @@
+// 仮想スレッド実行プロファイルと従来のプラットフォームスレッド実行の比較用負荷試験
+//
+// BCryptによるパスワード照合を伴うログインと、データベースを参照する取得APIを同時に実行し、
+// エンドポイントごとのp99レイテンシを比較する。
+//
+// 実行例（devプロファイルのシードデータを利用する）:
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/virtual-threads.js
+//
+// 環境変数:
+//   BASE_URL       APIのベースURL（context-pathを含む）
+//   VUS            同時接続クライアント数（既定: 2000）
+//   LOGIN_RATIO    ログインを実行するクライアントの割合（既定: 0.1）
+//   DURATION       計測時間（既定: 2m）
+//   LOGIN_ID       ログインに用いるメールアドレスまたはログインID
+//   PASSWORD       ログインに用いるパスワード
+//   MAINTOPIC_ID   詳細取得の対象とするメイントピックID（既定: 1）
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const LOGIN_RATIO = parseFloat(__ENV.LOGIN_RATIO || '0.1');
+const DURATION = __ENV.DURATION || '2m';
+const LOGIN_ID = __ENV.LOGIN_ID || 'testuser1@example.com';
+const PASSWORD = __ENV.PASSWORD || 'passwordskl';
+const MAINTOPIC_ID = __ENV.MAINTOPIC_ID || '1';
+
+const LOGIN_VUS = Math.max(1, Math.round(VUS * LOGIN_RATIO));
+const READ_VUS = Math.max(1, VUS - LOGIN_VUS);
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-vus',
+            exec: 'login',
+            vus: LOGIN_VUS,
+            duration: DURATION,
+        },
+        read: {
+            executor: 'constant-vus',
+            exec: 'read',
+            vus: READ_VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        // エンドポイントごとのp99をサマリーに出力するための閾値（合否判定には用いない）
+        'http_req_duration{name:POST /v1/auth/login}': ['p(99)>=0'],
+        'http_req_duration{name:GET /maintopics}': ['p(99)>=0'],
+        'http_req_duration{name:GET /maintopics/{id}}': ['p(99)>=0'],
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+const loginBody = JSON.stringify({ emailOrLoginId: LOGIN_ID, password: PASSWORD });
+const jsonHeaders = { 'Content-Type': 'application/json' };
+
+// 取得用クライアントごとに保持するアクセストークン（期限切れの場合は再ログインする）
+let accessToken = null;
+
+function authenticate() {
+    const response = http.post(`${BASE_URL}/v1/auth/login`, loginBody, {
+        headers: jsonHeaders,
+        tags: { name: 'POST /v1/auth/login' },
+    });
+    check(response, { 'login status is 200': (r) => r.status === 200 });
+    return response.status === 200 ? response.json('accessToken') : null;
+}
+
+export function login() {
+    authenticate();
+}
+
+export function read() {
+    if (accessToken === null) {
+        accessToken = authenticate();
+        if (accessToken === null) {
+            return;
+        }
+    }
+    const params = { headers: { Authorization: `Bearer ${accessToken}` } };
+
+    const list = http.get(`${BASE_URL}/maintopics`, Object.assign({ tags: { name: 'GET /maintopics' } }, params));
+    const detail = http.get(`${BASE_URL}/maintopics/${MAINTOPIC_ID}`, Object.assign({ tags: { name: 'GET /maintopics/{id}' } }, params));
+
+    if (list.status === 401 || detail.status === 401) {
+        accessToken = null;
+        return;
+    }
+    check(list, { 'list status is 200': (r) => r.status === 200 });
+    check(detail, { 'detail status is 200': (r) => r.status === 200 });
+}
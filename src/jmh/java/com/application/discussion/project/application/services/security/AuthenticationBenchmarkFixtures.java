@@ -0,0 +1,86 @@
+package com.application.discussion.project.application.services.security;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.domain.entities.users.Role;
+import com.application.discussion.project.domain.valueobjects.users.RoleNormalUser;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証処理のベンチマークで共通して使用するテストデータを生成するクラス
+ */
+public final class AuthenticationBenchmarkFixtures {
+
+    public static final String JWT_SECRET = "dGVzdFNlY3JldEtleUZvckpXVFRva2VuVGhhdElzTG9uZ0Vub3VnaEZvckhtYWNTaGE1MTJBbGdvcml0aG0=";
+    public static final String REFRESH_TOKEN_SECRET = "YmVuY2htYXJrUmVmcmVzaFRva2VuU2VjcmV0S2V5VGhhdElzTG9uZ0Vub3VnaEZvckhtYWM=";
+    public static final long EXPIRATION_MS = 3600000L;
+    public static final long REFRESH_EXPIRATION_MS = 604800000L;
+
+    private static final UUID USER_ID = UUID.fromString("7f1c8a52-3b6e-4d0a-9c2f-5e8b1d4a6c30");
+    private static final String USERNAME = "Benchmark User";
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String LOGIN_ID = "benchmarkuser";
+    private static final String ENCODED_PASSWORD = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2PjGxk1Zb2Qz6pXl9GQm3rW";
+    private static final String ROLE_NAME = "ROLE_NORMAL";
+
+    private AuthenticationBenchmarkFixtures() {
+    }
+
+    /**
+     * アプリケーション設定の代わりにベンチマーク用の値を設定したJWTUtilsを生成する
+     *
+     * @return 設定済みのJWTUtils
+     */
+    public static JWTUtils createJwtUtils() {
+        final JWTUtils jwtUtils = new JWTUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtils, "jwtRefreshTokenSecret", REFRESH_TOKEN_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtRefreshTokenExpirationMs", REFRESH_EXPIRATION_MS);
+        return jwtUtils;
+    }
+
+    /**
+     * メモリ上にのみ記録するレジストリを使用したAuthenticationMetricsを生成する
+     *
+     * @return 初期化済みのAuthenticationMetrics
+     */
+    public static AuthenticationMetrics createAuthenticationMetrics() {
+        final AuthenticationMetrics authenticationMetrics = new AuthenticationMetrics();
+        ReflectionTestUtils.setField(authenticationMetrics, "meterRegistry", new SimpleMeterRegistry());
+        authenticationMetrics.initialize();
+        return authenticationMetrics;
+    }
+
+    /**
+     * ユーザー情報取得時にDBから読み込まれるユーザーモデルを生成する
+     *
+     * @return ユーザーモデル
+     */
+    public static Users createUsers() {
+        final Users users = new Users();
+        users.setUserId(USER_ID);
+        users.setUsername(USERNAME);
+        users.setEmail(EMAIL);
+        users.setPassword(ENCODED_PASSWORD);
+        users.setLoginId(LOGIN_ID);
+        users.setIsDeleted(false);
+        users.setIsActive(true);
+        return users;
+    }
+
+    /**
+     * 一般ユーザーのロールを生成する
+     *
+     * @return ロールのセット
+     */
+    public static Set<Role> createRoles() {
+        return Set.of(Role.of(1, ROLE_NAME, null, null, null, RoleNormalUser.create()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.application.discussion.project.application.services.security;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.application.discussion.project.domain.entities.users.Role;
+import com.application.discussion.project.infrastructure.models.users.Users;
+
+/**
+ * ユーザー情報とロールから認証情報を構築する処理のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTAuthUserDetailsBenchmark {
+
+    private Users users;
+    private Set<Role> roles;
+    private JWTVerifiedClaims verifiedClaims;
+
+    @Setup
+    public void setUp() {
+        users = AuthenticationBenchmarkFixtures.createUsers();
+        roles = AuthenticationBenchmarkFixtures.createRoles();
+        final JWTUtils jwtUtils = AuthenticationBenchmarkFixtures.createJwtUtils();
+        verifiedClaims = jwtUtils.parseAndVerify(jwtUtils.generateToken(JWTAuthUserDetails.build(users, roles)));
+    }
+
+    @Benchmark
+    public JWTAuthUserDetails build() {
+        return JWTAuthUserDetails.build(users, roles);
+    }
+
+    /**
+     * 認証フィルターが検証済みクレームのみから認証情報を復元する処理
+     */
+    @Benchmark
+    public JWTAuthUserDetails fromClaims() {
+        return JWTAuthUserDetails.fromClaims(verifiedClaims);
+    }
+}
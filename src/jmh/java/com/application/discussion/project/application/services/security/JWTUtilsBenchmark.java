@@ -0,0 +1,76 @@
+package com.application.discussion.project.application.services.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 全ての認証済みリクエストで実行されるJWTの生成・検証処理のベンチマーク
+ * トークンの有効期限内に計測が終わるよう、トークンは計測開始前に1度だけ生成する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilsBenchmark {
+
+    private JWTUtils jwtUtils;
+    private JWTAuthUserDetails userDetails;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = AuthenticationBenchmarkFixtures.createJwtUtils();
+        userDetails = JWTAuthUserDetails.build(
+            AuthenticationBenchmarkFixtures.createUsers(),
+            AuthenticationBenchmarkFixtures.createRoles()
+        );
+        accessToken = jwtUtils.generateToken(userDetails);
+        refreshToken = jwtUtils.generateRefreshToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(accessToken);
+    }
+
+    @Benchmark
+    public String getEmailOrLoginId() {
+        return jwtUtils.getEmailOrLoginId(accessToken);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return jwtUtils.hashToken(refreshToken);
+    }
+
+    /**
+     * 認証フィルターが1リクエストで行う、1回の解析でクレームを取得する処理
+     */
+    @Benchmark
+    public JWTVerifiedClaims parseAndVerify() {
+        return jwtUtils.parseAndVerify(accessToken);
+    }
+
+    /**
+     * 検証とクレーム取得で個別にトークンを解析する場合の比較用
+     */
+    @Benchmark
+    public void validateThenExtractClaims(final Blackhole blackhole) {
+        blackhole.consume(jwtUtils.validateJwtToken(accessToken));
+        blackhole.consume(jwtUtils.getEmailOrLoginId(accessToken));
+        blackhole.consume(jwtUtils.getUserIdFromToken(accessToken));
+    }
+}
@@ -0,0 +1,136 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.application.discussion.project.DiscussionAppApplication;
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.repositories.CommentRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+import com.application.discussion.project.infrastructure.models.discussions.Discussions;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.discussions.JpaDiscussionsRepository;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+import com.application.discussion.project.infrastructure.repositories.users.JpaUsersRepository;
+
+/**
+ * 1つの議論に投稿された12,000件のコメントのスレッド取得のベンチマーク
+ * 返信の半数は直前のコメントへの返信とし、最大の深さに達する深いスレッドを含む木を作成する（最も深いコメントには返信せず、起点のいずれかへ返信する）
+ * findThreadによる1回の範囲検索（pathRange）と、返信先ごとにfindRepliesを発行する階層ごとの取得（perLevel）を比較する
+ * 既定ではtestプロファイルの組み込みH2を使用し、SPRING_DATASOURCE_URLなどの環境変数でPostgreSQLに切り替えられる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentThreadBenchmark {
+
+    private static final int COMMENT_COUNT = 12_000;
+    private static final int ROOT_COUNT = 20;
+    private static final int MAX_THREAD_SIZE = 500;
+
+    @Param({"3", "10"})
+    private int depth;
+
+    @Param({"pathRange", "perLevel"})
+    private String loadMode;
+
+    private ConfigurableApplicationContext applicationContext;
+    private CommentRepository commentRepository;
+    private Long discussionId;
+    private List<Long> rootIds;
+    private int nextRoot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(DiscussionAppApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties("springboot.app.discussions.reconcile-count-on-startup=false")
+            .run();
+        commentRepository = applicationContext.getBean(CommentRepository.class);
+
+        final Users user = new Users();
+        user.setUsername("benchmark user");
+        user.setEmail("benchmark-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("pAssworD12345");
+        user.setLoginId("benchmark" + System.nanoTime());
+        user.setIsActive(true);
+        user.setIsDeleted(false);
+        final Users savedUser = applicationContext.getBean(JpaUsersRepository.class).save(user);
+        final Maintopics maintopic = applicationContext.getBean(JpaMaintopicsRepository.class).save(
+            new Maintopics(null, "ベンチマーク", "説明", savedUser, null, null, false, false)
+        );
+        discussionId = applicationContext.getBean(JpaDiscussionsRepository.class).save(
+            new Discussions(null, "コメントのベンチマーク", maintopic, savedUser, null, null, null)
+        ).getId();
+
+        final Random random = new Random(42);
+        final List<Comment> created = new ArrayList<>(COMMENT_COUNT);
+        rootIds = new ArrayList<>(ROOT_COUNT);
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            final Paragraph paragraph = Paragraph.of("ベンチマーク用のコメント" + i);
+            final Comment comment;
+            if (i < ROOT_COUNT) {
+                comment = Comment.create(paragraph, discussionId, savedUser.getUserId());
+            } else {
+                final Comment candidate = random.nextBoolean()
+                    ? created.get(created.size() - 1)
+                    : created.get(random.nextInt(created.size()));
+                final Comment parent = candidate.acceptsReplies() ? candidate : created.get(random.nextInt(ROOT_COUNT));
+                comment = Comment.createReply(paragraph, parent, savedUser.getUserId());
+            }
+            final Comment saved = commentRepository.createComment(comment);
+            created.add(saved);
+            if (i < ROOT_COUNT) {
+                rootIds.add(saved.getCommentId());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Comment> findThread() {
+        final Long rootId = rootIds.get(nextRoot++ % ROOT_COUNT);
+        if ("pathRange".equals(loadMode)) {
+            return commentRepository.findThread(discussionId, rootId, 3, depth, MAX_THREAD_SIZE);
+        }
+        final List<Comment> thread = new ArrayList<>();
+        thread.add(commentRepository.findById(rootId).orElseThrow());
+        final Deque<Comment> parents = new ArrayDeque<>(thread);
+        while (!parents.isEmpty() && thread.size() < MAX_THREAD_SIZE) {
+            final Comment parent = parents.poll();
+            if (parent.getDepth() - thread.get(0).getDepth() >= depth) {
+                continue;
+            }
+            for (final Comment reply : commentRepository.findReplies(discussionId, parent.getCommentId(), null, 3)) {
+                thread.add(reply);
+                parents.add(reply);
+            }
+        }
+        return thread;
+    }
+}
@@ -0,0 +1,115 @@
+package com.application.discussion.project.infrastructure.repositories.discussions;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.application.discussion.project.DiscussionAppApplication;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+import com.application.discussion.project.infrastructure.repositories.users.JpaUsersRepository;
+
+/**
+ * ディスカッション10万件の登録時間のベンチマーク
+ * 1件ずつトランザクションを分けて登録する従来の経路と、createDiscussionsによる一括登録を
+ * JDBCバッチサイズ1（バッチ無効）と50で比較する
+ * 既定ではtestプロファイルの組み込みH2を使用し、SPRING_DATASOURCE_URLなどの環境変数でPostgreSQLに切り替えられる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiscussionBulkInsertBenchmark {
+
+    private static final int DISCUSSION_COUNT = 100_000;
+    private static final int MAINTOPIC_COUNT = 10;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"perRow", "bulk"})
+    private String insertMode;
+
+    private ConfigurableApplicationContext applicationContext;
+    private DiscussionRepository discussionRepository;
+    private JpaDiscussionsRepository jpaDiscussionsRepository;
+    private List<Discussion> discussions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(DiscussionAppApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "springboot.app.discussions.reconcile-count-on-startup=false"
+            )
+            .run();
+        discussionRepository = applicationContext.getBean(DiscussionRepository.class);
+        jpaDiscussionsRepository = applicationContext.getBean(JpaDiscussionsRepository.class);
+
+        final Users user = new Users();
+        user.setUsername("benchmark user");
+        user.setEmail("benchmark-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("pAssworD12345");
+        user.setLoginId("benchmark" + System.nanoTime());
+        user.setIsActive(true);
+        user.setIsDeleted(false);
+        final Users savedUser = applicationContext.getBean(JpaUsersRepository.class).save(user);
+
+        final JpaMaintopicsRepository jpaMaintopicsRepository = applicationContext.getBean(JpaMaintopicsRepository.class);
+        final List<Long> maintopicIds = IntStream.range(0, MAINTOPIC_COUNT)
+            .mapToObj(i -> jpaMaintopicsRepository.save(
+                new Maintopics(null, "ベンチマーク" + i, "説明", savedUser, null, null, false, false)
+            ).getId())
+            .toList();
+
+        discussions = IntStream.range(0, DISCUSSION_COUNT)
+            .mapToObj(i -> Discussion.create(
+                Paragraph.of("ベンチマーク用のディスカッション" + i),
+                maintopicIds.get(i % MAINTOPIC_COUNT),
+                savedUser.getUserId()
+            ))
+            .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearDiscussions() {
+        jpaDiscussionsRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object createDiscussions() {
+        if ("bulk".equals(insertMode)) {
+            return discussionRepository.createDiscussions(discussions);
+        }
+        Discussion lastCreated = null;
+        for (final Discussion discussion : discussions) {
+            lastCreated = discussionRepository.createDiscussion(discussion);
+        }
+        return lastCreated;
+    }
+}
@@ -0,0 +1,91 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.infrastructure.seeds.bulk.ZipfSampler;
+
+/**
+ * アプリケーション内の転置インデックスによる議論検索のベンチマーク
+ * 語の出現頻度がZipf分布に従う日本語の議論を登録し、頻出語・中程度の語・稀な語・複数語の検索時間を計測する
+ * 頻出語は候補が多く、上位10件の選択までの時間が支配的となる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class DiscussionInvertedIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "議論", "リモートワーク", "通勤", "会議", "生産性", "コミュニケーション", "評価", "育児", "介護", "副業",
+        "残業", "休暇", "研修", "採用", "転職", "給与", "福利厚生", "オフィス", "出張", "時短",
+        "健康", "睡眠", "運動", "食事", "読書", "映画", "音楽", "旅行", "料理", "写真",
+        "教育", "選挙", "税金", "年金", "医療", "保険", "住宅", "交通", "環境", "防災",
+        "プログラミング", "設計", "テスト", "レビュー", "障害", "監視", "性能", "データベース", "検索", "キャッシュ"
+    };
+    private static final String[] PARTICLES = { "は", "が", "を", "に", "と", "の", "で", "も" };
+    private static final int WORDS_PER_DISCUSSION = 12;
+    private static final int LIMIT = 11;
+    private static final LongFunction<String> MAINTOPIC_TITLES = maintopicId -> "メイントピック";
+
+    @Param({"100000", "1000000"})
+    private int discussionCount;
+
+    private DiscussionInvertedIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final ZipfSampler wordSampler = ZipfSampler.of(WORDS.length, 1.1);
+        final LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        index = new DiscussionInvertedIndex();
+        final StringBuilder paragraph = new StringBuilder();
+        for (int i = 1; i <= discussionCount; i++) {
+            paragraph.setLength(0);
+            for (int w = 0; w < WORDS_PER_DISCUSSION; w++) {
+                paragraph.append(WORDS[wordSampler.sample(random)]).append(PARTICLES[random.nextInt(PARTICLES.length)]);
+            }
+            index.add(i, i % 1000 + 1, createdAt.plusSeconds(i), paragraph.toString());
+        }
+    }
+
+    @Benchmark
+    public List<DiscussionSearchHit> frequentTerm() {
+        return index.search(List.of("議論"), null, null, LIMIT, MAINTOPIC_TITLES);
+    }
+
+    @Benchmark
+    public List<DiscussionSearchHit> longTerm() {
+        return index.search(List.of("コミュニケーション"), null, null, LIMIT, MAINTOPIC_TITLES);
+    }
+
+    @Benchmark
+    public List<DiscussionSearchHit> rareTerm() {
+        return index.search(List.of("キャッシュ"), null, null, LIMIT, MAINTOPIC_TITLES);
+    }
+
+    @Benchmark
+    public List<DiscussionSearchHit> multipleTerms() {
+        return index.search(List.of("リモートワーク", "育児"), null, null, LIMIT, MAINTOPIC_TITLES);
+    }
+
+    @Benchmark
+    public List<DiscussionSearchHit> filteredByMaintopic() {
+        return index.search(List.of("議論"), 500L, null, LIMIT, MAINTOPIC_TITLES);
+    }
+}
@@ -0,0 +1,158 @@
+package com.application.discussion.project.presentation.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.application.services.security.AuthenticationBenchmarkFixtures;
+import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTUtils;
+import com.application.discussion.project.presentation.security.JWTAuthenticationFilter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * ログの出力レベルと出力方式ごとの、認証済みリクエストのスループットのベンチマーク
+ * 相関IDの付与とJWT認証フィルターを通過する1リクエストを計測し、ログは書式化した上で破棄する
+ * DEBUGはホットパスのログを降格する前のINFO相当の出力量となる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    private static final String LOG_PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level [%thread] [%X{requestId:-}] %logger{39} : %msg%n";
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    private String logLevel;
+
+    @Param({"sync", "async"})
+    private String appenderMode;
+
+    private RequestCorrelationIdFilter requestCorrelationIdFilter;
+    private JWTAuthenticationFilter jwtAuthenticationFilter;
+    private String accessToken;
+    private Appender<ILoggingEvent> appender;
+
+    @Setup
+    public void setUp() {
+        appender = configureRootLogger();
+
+        final JWTUtils jwtUtils = AuthenticationBenchmarkFixtures.createJwtUtils();
+        final JWTRevocationDenylist jwtRevocationDenylist = new JWTRevocationDenylist();
+        ReflectionTestUtils.setField(jwtRevocationDenylist, "jwtTokenExpirationMs", AuthenticationBenchmarkFixtures.EXPIRATION_MS);
+
+        jwtAuthenticationFilter = new JWTAuthenticationFilter();
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtRevocationDenylist", jwtRevocationDenylist);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "authenticationMetrics", AuthenticationBenchmarkFixtures.createAuthenticationMetrics());
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "isStatelessPrincipalEnabled", true);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "authenticationLogSampleRate", 0.01d);
+
+        requestCorrelationIdFilter = new RequestCorrelationIdFilter();
+
+        accessToken = jwtUtils.generateToken(JWTAuthUserDetails.build(
+            AuthenticationBenchmarkFixtures.createUsers(),
+            AuthenticationBenchmarkFixtures.createRoles()
+        ));
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+    }
+
+    @Benchmark
+    public void authenticatedRequest(final RequestState requestState) throws ServletException, IOException {
+        final FilterChain authenticationChain = (request, response) ->
+            jwtAuthenticationFilter.doFilter(request, response, RequestState.NO_OP_FILTER_CHAIN);
+        try {
+            requestCorrelationIdFilter.doFilter(requestState.request, requestState.response, authenticationChain);
+        } finally {
+            requestState.request.clearAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * OncePerRequestFilterが付与する属性はリクエストごとに保持されるため、スレッドごとにリクエストを用意する
+     */
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> { };
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(final RequestLoggingBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/maintopics/1/discussions");
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + benchmark.accessToken);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    /**
+     * ルートロガーの出力先を、書式化した結果を破棄するアペンダーに置き換える
+     * asyncの場合はアプリケーションと同じく、ブロックしない設定のAsyncAppenderを介して出力する
+     */
+    private Appender<ILoggingEvent> configureRootLogger() {
+        final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAndStopAllAppenders();
+        rootLogger.setLevel(Level.toLevel(logLevel));
+
+        final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(LOG_PATTERN);
+        encoder.start();
+
+        final OutputStreamAppender<ILoggingEvent> discardingAppender = new OutputStreamAppender<>();
+        discardingAppender.setContext(loggerContext);
+        discardingAppender.setEncoder(encoder);
+        discardingAppender.setOutputStream(OutputStream.nullOutputStream());
+        discardingAppender.start();
+
+        if (!"async".equals(appenderMode)) {
+            rootLogger.addAppender(discardingAppender);
+            return discardingAppender;
+        }
+        final AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(discardingAppender);
+        asyncAppender.start();
+        rootLogger.addAppender(asyncAppender);
+        return asyncAppender;
+    }
+}
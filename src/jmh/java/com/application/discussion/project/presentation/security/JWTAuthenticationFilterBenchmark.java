@@ -0,0 +1,100 @@
+package com.application.discussion.project.presentation.security;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.application.services.security.AuthenticationBenchmarkFixtures;
+import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * 認証フィルターが1リクエストあたりに追加する処理時間のベンチマーク
+ * 公開パス・プリフライトはshouldNotFilterで通過し、保護対象のパスはトークンの検証と認証情報の復元まで行う
+ * DBを参照しないよう、保護対象のパスはステートレスモードで計測する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JWTAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> { };
+
+    private JWTAuthenticationFilter jwtAuthenticationFilter;
+    private MockHttpServletRequest publicPathRequest;
+    private MockHttpServletRequest preflightRequest;
+    private MockHttpServletRequest protectedPathRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        final JWTUtils jwtUtils = AuthenticationBenchmarkFixtures.createJwtUtils();
+        final JWTRevocationDenylist jwtRevocationDenylist = new JWTRevocationDenylist();
+        ReflectionTestUtils.setField(jwtRevocationDenylist, "jwtTokenExpirationMs", AuthenticationBenchmarkFixtures.EXPIRATION_MS);
+
+        jwtAuthenticationFilter = new JWTAuthenticationFilter();
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "jwtRevocationDenylist", jwtRevocationDenylist);
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "authenticationMetrics", AuthenticationBenchmarkFixtures.createAuthenticationMetrics());
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "isStatelessPrincipalEnabled", true);
+
+        final String accessToken = jwtUtils.generateToken(JWTAuthUserDetails.build(
+            AuthenticationBenchmarkFixtures.createUsers(),
+            AuthenticationBenchmarkFixtures.createRoles()
+        ));
+
+        publicPathRequest = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+
+        preflightRequest = new MockHttpServletRequest("OPTIONS", "/maintopics/1/discussions");
+        preflightRequest.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        preflightRequest.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+
+        protectedPathRequest = new MockHttpServletRequest("GET", "/maintopics/1/discussions");
+        protectedPathRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void publicPath() throws ServletException, IOException {
+        doFilter(publicPathRequest);
+    }
+
+    @Benchmark
+    public void preflight() throws ServletException, IOException {
+        doFilter(preflightRequest);
+    }
+
+    @Benchmark
+    public void protectedPathWithToken() throws ServletException, IOException {
+        doFilter(protectedPathRequest);
+    }
+
+    /**
+     * OncePerRequestFilterが付与する処理済みの属性と認証情報を毎回破棄し、同じリクエストを再利用する
+     */
+    private void doFilter(final MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            jwtAuthenticationFilter.doFilter(request, response, NO_OP_FILTER_CHAIN);
+        } finally {
+            request.clearAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.application.discussion.project.presentation.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 全てのリクエストで実行される公開パス判定のベンチマーク
+ * 保護対象のパスは先頭セグメントの比較のみで判定を終えるため、公開パスとの差を計測する
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicPathMatcherBenchmark {
+
+    @Param({"/maintopics/1/discussions", "/swagger-ui/index.html", "/v3/api-docs/swagger-config"})
+    private String path;
+
+    @Benchmark
+    public boolean isPublicPath() {
+        return PublicPathMatcher.isPublicPath(path);
+    }
+}
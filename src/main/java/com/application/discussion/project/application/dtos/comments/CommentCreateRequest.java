@@ -0,0 +1,46 @@
+package com.application.discussion.project.application.dtos.comments;
+
+/**
+ * コメント作成時のリクエストDTO
+ * 返信先のコメントIDを省略した場合は、議論への直接のコメントとして作成する
+ */
+public class CommentCreateRequest {
+
+    private String paragraph;
+
+    private Long parentId;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public CommentCreateRequest() {}
+
+    /**
+     * 本文と返信先を指定してインスタンスを生成するコンストラクタ
+     *
+     * @param paragraph コメントの本文
+     * @param parentId  返信先のコメントID（議論への直接のコメントの場合はnull）
+     */
+    public CommentCreateRequest(String paragraph, Long parentId) {
+        this.paragraph = paragraph;
+        this.parentId = parentId;
+    }
+
+    /**
+     * コメントの本文を取得する
+     *
+     * @return コメントの本文
+     */
+    public String getParagraph() {
+        return paragraph;
+    }
+
+    /**
+     * 返信先のコメントIDを取得する
+     *
+     * @return 返信先のコメントID（議論への直接のコメントの場合はnull）
+     */
+    public Long getParentId() {
+        return parentId;
+    }
+}
@@ -0,0 +1,54 @@
+package com.application.discussion.project.application.dtos.comments;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 同じ階層のコメント一覧のレスポンス
+ */
+@Schema(description = "同じ階層のコメント一覧のレスポンス")
+public class CommentListResponse {
+
+    @Schema(description = "コメントのリスト（投稿順）")
+    private final List<CommentResponse> comments;
+
+    @Schema(description = "1ページあたりの件数", example = "20")
+    private final Integer pageSize;
+
+    @Schema(description = "次ページ取得用のカーソル（afterに指定する。次ページがない場合は省略）", example = "42")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long nextCursor;
+
+    private CommentListResponse(final List<CommentResponse> comments, final Integer pageSize, final Long nextCursor) {
+        this.comments = comments;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param comments   コメントのリスト
+     * @param pageSize   1ページあたりの件数
+     * @param nextCursor 次ページ取得用のカーソル（次ページがない場合はnull）
+     * @return コメント一覧のレスポンス
+     */
+    public static CommentListResponse of(final List<CommentResponse> comments, final Integer pageSize, final Long nextCursor) {
+        return new CommentListResponse(comments, pageSize, nextCursor);
+    }
+
+    public List<CommentResponse> getComments() {
+        return comments;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
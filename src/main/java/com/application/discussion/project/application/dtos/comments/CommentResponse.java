@@ -0,0 +1,117 @@
+package com.application.discussion.project.application.dtos.comments;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * コメントのレスポンス
+ * スレッドの取得では、取得した返信をrepliesに階層のまま格納する
+ */
+@Schema(description = "コメントのレスポンス")
+public class CommentResponse {
+
+    @Schema(description = "コメントID", example = "1")
+    private final Long commentId;
+
+    @Schema(description = "議論ID", example = "1")
+    private final Long discussionId;
+
+    @Schema(description = "返信先のコメントID（議論への直接のコメントの場合は省略）", example = "1")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long parentId;
+
+    @Schema(description = "投稿したユーザーのID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private final UUID userId;
+
+    @Schema(description = "本文", example = "その観点は見落としていました。")
+    private final String paragraph;
+
+    @Schema(description = "深さ（議論への直接のコメントは0）", example = "0")
+    private final Integer depth;
+
+    @Schema(description = "直接の返信の件数", example = "3")
+    private final Integer replyCount;
+
+    @Schema(description = "作成日時", example = "2026-01-01T00:00:00")
+    private final LocalDateTime createdAt;
+
+    @Schema(description = "取得した返信（スレッドの取得時のみ）")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResponse> replies;
+
+    private CommentResponse(final Comment comment) {
+        this.commentId = comment.getCommentId();
+        this.discussionId = comment.getDiscussionId();
+        this.parentId = comment.getParentId();
+        this.userId = comment.getUserId();
+        this.paragraph = comment.getParagraph();
+        this.depth = comment.getDepth();
+        this.replyCount = comment.getReplyCount();
+        this.createdAt = comment.getCreatedAt();
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param comment コメントドメインエンティティ
+     * @return コメントのレスポンス
+     */
+    public static CommentResponse of(final Comment comment) {
+        return new CommentResponse(comment);
+    }
+
+    /**
+     * 取得した返信を追加する
+     *
+     * @param reply 返信のレスポンス
+     */
+    public void addReply(final CommentResponse reply) {
+        if (replies == null) {
+            replies = new ArrayList<>();
+        }
+        replies.add(reply);
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getParagraph() {
+        return paragraph;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public Integer getReplyCount() {
+        return replyCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<CommentResponse> getReplies() {
+        return replies;
+    }
+}
@@ -0,0 +1,49 @@
+package com.application.discussion.project.application.dtos.discussions;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 議論へのいいね・いいね取消のレスポンス
+ */
+@Schema(description = "議論へのいいねのレスポンス")
+public class DiscussionLikeResponse {
+
+    @Schema(description = "議論ID", example = "1")
+    private final Long discussionId;
+
+    @Schema(description = "操作後にいいねしているか", example = "true")
+    private final Boolean liked;
+
+    @Schema(description = "いいね件数", example = "42")
+    private final Long likeCount;
+
+    private DiscussionLikeResponse(final Long discussionId, final Boolean liked, final Long likeCount) {
+        this.discussionId = discussionId;
+        this.liked = liked;
+        this.likeCount = likeCount;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param discussionId 議論ID
+     * @param liked        操作後にいいねしているか
+     * @param likeCount    いいね件数
+     * @return いいねのレスポンス
+     */
+    public static DiscussionLikeResponse of(final Long discussionId, final Boolean liked, final Long likeCount) {
+        return new DiscussionLikeResponse(discussionId, liked, likeCount);
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Boolean getLiked() {
+        return liked;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+}
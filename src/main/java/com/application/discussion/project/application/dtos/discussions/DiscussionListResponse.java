@@ -1,5 +1,7 @@
 package com.application.discussion.project.application.dtos.discussions;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 
@@ -25,6 +27,14 @@ public class DiscussionListResponse {
     @Schema(description = "総ページ数", example = "3")
     private Integer totalPages;
 
+    @Schema(description = "次ページ取得用のカーソル（カーソル方式のみ、次ページがない場合は省略）", example = "MjAyNi0wMS0wMVQwMDowMHw0Mg")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "前ページ取得用のカーソル（カーソル方式のみ、前ページがない場合は省略）", example = "MjAyNi0wMS0wMVQwMDowMHw1MQ")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String prevCursor;
+
     /**
      * コンストラクタ
      * @param discussions
@@ -41,6 +51,22 @@ public class DiscussionListResponse {
         this.totalPages = totalPages;
     }
 
+    /**
+     * カーソル方式用のコンストラクタ
+     * @param discussions
+     * @param totalCount
+     * @param pageSize
+     * @param nextCursor
+     * @param prevCursor
+     */
+    private DiscussionListResponse(List<DiscussionResponse> discussions, Integer totalCount, Integer pageSize, String nextCursor, String prevCursor) {
+        this.discussions = discussions;
+        this.totalCount = totalCount;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
     public DiscussionListResponse() {}
 
     /**
@@ -56,6 +82,20 @@ public class DiscussionListResponse {
         return new DiscussionListResponse(discussions, totalCount, currentPage, pageSize, totalPages);
     }
 
+    /**
+     * カーソル方式のファクトリーメソッド
+     * 総件数はクライアントが要求した場合のみ設定し、ページ番号・総ページ数は設定しない
+     * @param discussions
+     * @param totalCount 総件数（要求されない場合はnull）
+     * @param pageSize
+     * @param nextCursor 次ページがない場合はnull
+     * @param prevCursor 前ページがない場合はnull
+     * @return
+     */
+    public static DiscussionListResponse ofCursor(List<DiscussionResponse> discussions, Integer totalCount, Integer pageSize, String nextCursor, String prevCursor) {
+        return new DiscussionListResponse(discussions, totalCount, pageSize, nextCursor, prevCursor);
+    }
+
     public List<DiscussionResponse> getDiscussions() {
         return discussions;
     }
@@ -75,4 +115,12 @@ public class DiscussionListResponse {
     public Integer getTotalPages() {
         return totalPages;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
 }
@@ -28,6 +28,9 @@ public class DiscussionResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
 
+    @Schema(description = "いいね件数", example = "42")
+    private Long likeCount;
+
     /**
      * コンストラクタ
      * @param discussionId
@@ -35,19 +38,22 @@ public class DiscussionResponse {
      * @param maintopicId
      * @param createdAt
      * @param updatedAt
+     * @param likeCount
      */
     private DiscussionResponse(
         Long discussionId, 
         String paragraph, 
         Long maintopicId,
         LocalDateTime createdAt, 
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long likeCount
     ) {
         this.discussionId = discussionId;
         this.paragraph = paragraph;
         this.maintopicId = maintopicId;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.likeCount = likeCount;
     }
 
     /**
@@ -62,10 +68,27 @@ public class DiscussionResponse {
     public static DiscussionResponse of(
         Long discussionId, String paragraph, Long maintopicId,
         LocalDateTime createdAt, LocalDateTime updatedAt
+    ){
+        return of(discussionId, paragraph, maintopicId, createdAt, updatedAt, 0L);
+    }
+
+    /**
+     * いいね件数を含むファクトリーメソッド
+     * @param discussionId
+     * @param paragraph
+     * @param maintopicId
+     * @param createdAt
+     * @param updatedAt
+     * @param likeCount
+     * @return
+     */
+    public static DiscussionResponse of(
+        Long discussionId, String paragraph, Long maintopicId,
+        LocalDateTime createdAt, LocalDateTime updatedAt, Long likeCount
     ){
         return new DiscussionResponse(
             discussionId, paragraph, maintopicId,
-            createdAt, updatedAt
+            createdAt, updatedAt, likeCount
         );
     }
 
@@ -88,4 +111,8 @@ public class DiscussionResponse {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
 }
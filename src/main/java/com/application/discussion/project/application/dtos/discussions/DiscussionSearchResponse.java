@@ -0,0 +1,60 @@
+package com.application.discussion.project.application.dtos.discussions;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 議論検索のレスポンス
+ */
+@Schema(description = "議論検索のレスポンス")
+public class DiscussionSearchResponse {
+
+    @Schema(description = "検索結果のリスト（関連度の高い順）")
+    private List<DiscussionSearchResultResponse> results;
+
+    @Schema(description = "1ページあたりの件数", example = "10")
+    private Integer pageSize;
+
+    @Schema(description = "次ページ取得用のカーソル（次ページがない場合は省略）", example = "MS41fDQy")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    /**
+     * コンストラクタ
+     * @param results
+     * @param pageSize
+     * @param nextCursor
+     */
+    private DiscussionSearchResponse(List<DiscussionSearchResultResponse> results, Integer pageSize, String nextCursor) {
+        this.results = results;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+    }
+
+    public DiscussionSearchResponse() {}
+
+    /**
+     * ファクトリーメソッド
+     * @param results
+     * @param pageSize
+     * @param nextCursor 次ページがない場合はnull
+     * @return
+     */
+    public static DiscussionSearchResponse of(List<DiscussionSearchResultResponse> results, Integer pageSize, String nextCursor) {
+        return new DiscussionSearchResponse(results, pageSize, nextCursor);
+    }
+
+    public List<DiscussionSearchResultResponse> getResults() {
+        return results;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,114 @@
+package com.application.discussion.project.application.dtos.discussions;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * 議論検索の1件分の結果のレスポンス
+ */
+@Schema(description = "議論検索の結果")
+public class DiscussionSearchResultResponse {
+
+    @Schema(description = "議論ID", example = "1")
+    private Long discussionId;
+
+    @Schema(description = "メイントピックID", example = "10")
+    private Long maintopicId;
+
+    @Schema(description = "メイントピックのタイトル", example = "リモートワークの是非")
+    private String maintopicTitle;
+
+    @Schema(description = "パラグラフ", example = "リモートワークでは通勤時間が...")
+    private String paragraph;
+
+    @Schema(description = "一致箇所を<mark>で囲んだ本文の抜粋（HTMLエスケープ済み）", example = "<mark>リモートワーク</mark>では通勤時間が...")
+    private String highlight;
+
+    @Schema(description = "検索スコア（大きいほど関連度が高い）", example = "1.5")
+    private Double score;
+
+    @Schema(description = "作成日時", example = "2024-01-15T10:30:00")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    /**
+     * コンストラクタ
+     * @param discussionId
+     * @param maintopicId
+     * @param maintopicTitle
+     * @param paragraph
+     * @param highlight
+     * @param score
+     * @param createdAt
+     */
+    private DiscussionSearchResultResponse(
+        Long discussionId,
+        Long maintopicId,
+        String maintopicTitle,
+        String paragraph,
+        String highlight,
+        Double score,
+        LocalDateTime createdAt
+    ) {
+        this.discussionId = discussionId;
+        this.maintopicId = maintopicId;
+        this.maintopicTitle = maintopicTitle;
+        this.paragraph = paragraph;
+        this.highlight = highlight;
+        this.score = score;
+        this.createdAt = createdAt;
+    }
+
+    public DiscussionSearchResultResponse() {}
+
+    /**
+     * ファクトリーメソッド
+     * @param discussionId
+     * @param maintopicId
+     * @param maintopicTitle
+     * @param paragraph
+     * @param highlight
+     * @param score
+     * @param createdAt
+     * @return
+     */
+    public static DiscussionSearchResultResponse of(
+        Long discussionId, Long maintopicId, String maintopicTitle,
+        String paragraph, String highlight, Double score, LocalDateTime createdAt
+    ) {
+        return new DiscussionSearchResultResponse(
+            discussionId, maintopicId, maintopicTitle,
+            paragraph, highlight, score, createdAt
+        );
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    public String getMaintopicTitle() {
+        return maintopicTitle;
+    }
+
+    public String getParagraph() {
+        return paragraph;
+    }
+
+    public String getHighlight() {
+        return highlight;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.application.discussion.project.application.dtos.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * 処理能力の上限に達したため、一時的にリクエストを受け付けられない場合の例外
+ * クライアントに再試行までの待機秒数（Retry-After）を返却する
+ */
+public class ServiceUnavailableException extends ApplicationLayerException {
+    private final long retryAfterSeconds;
+
+    /**
+     * メッセージと再試行までの待機秒数を指定するコンストラクタ
+     * @param message エラーメッセージ
+     * @param retryAfterSeconds 再試行までの待機秒数
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, HttpStatusCode.valueOf(503));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 再試行までの待機秒数を取得する
+     * @return 再試行までの待機秒数
+     */
+    public long getRetryAfterSeconds() {
+        return this.retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.application.discussion.project.application.dtos.favorites;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * お気に入り状態の一括判定のレスポンス
+ */
+@Schema(description = "お気に入り状態の一括判定のレスポンス")
+public class FavoriteMembershipResponse {
+
+    @Schema(description = "対象の種類（maintopicsまたはdiscussions）", example = "discussions")
+    private final String targetType;
+
+    @Schema(description = "指定したIDのうちお気に入りにしているもの（指定した順序）", example = "[3, 7]")
+    private final List<Long> favoritedIds;
+
+    private FavoriteMembershipResponse(final String targetType, final List<Long> favoritedIds) {
+        this.targetType = targetType;
+        this.favoritedIds = favoritedIds;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param targetType   対象の種類
+     * @param favoritedIds お気に入りにしている対象のID
+     * @return お気に入り状態の一括判定のレスポンス
+     */
+    public static FavoriteMembershipResponse of(final String targetType, final List<Long> favoritedIds) {
+        return new FavoriteMembershipResponse(targetType, List.copyOf(favoritedIds));
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    public List<Long> getFavoritedIds() {
+        return favoritedIds;
+    }
+}
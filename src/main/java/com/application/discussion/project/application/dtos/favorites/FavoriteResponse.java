@@ -0,0 +1,49 @@
+package com.application.discussion.project.application.dtos.favorites;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * お気に入りの追加・削除のレスポンス
+ */
+@Schema(description = "お気に入りの追加・削除のレスポンス")
+public class FavoriteResponse {
+
+    @Schema(description = "対象の種類（maintopicsまたはdiscussions）", example = "discussions")
+    private final String targetType;
+
+    @Schema(description = "対象のID", example = "1")
+    private final Long targetId;
+
+    @Schema(description = "操作後にお気に入りにしているか", example = "true")
+    private final Boolean favorited;
+
+    private FavoriteResponse(final String targetType, final Long targetId, final Boolean favorited) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.favorited = favorited;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param targetType 対象の種類
+     * @param targetId   対象のID
+     * @param favorited  操作後にお気に入りにしているか
+     * @return お気に入りの追加・削除のレスポンス
+     */
+    public static FavoriteResponse of(final String targetType, final Long targetId, final Boolean favorited) {
+        return new FavoriteResponse(targetType, targetId, favorited);
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public Boolean getFavorited() {
+        return favorited;
+    }
+}
@@ -0,0 +1,41 @@
+package com.application.discussion.project.application.dtos.notifications;
+
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 未読件数と既読位置のレスポンス
+ */
+@Schema(description = "未読件数と既読位置のレスポンス")
+public class NotificationInboxResponse {
+
+    @Schema(description = "未読件数", example = "3")
+    private final Long unreadCount;
+
+    @Schema(description = "既読位置（この通知ID以下の通知は既読）", example = "40")
+    private final Long lastReadId;
+
+    private NotificationInboxResponse(final Long unreadCount, final Long lastReadId) {
+        this.unreadCount = unreadCount;
+        this.lastReadId = lastReadId;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param inbox 受信箱ドメインエンティティ
+     * @return 未読件数と既読位置のレスポンス
+     */
+    public static NotificationInboxResponse of(final NotificationInbox inbox) {
+        return new NotificationInboxResponse(inbox.getUnreadCount(), inbox.getLastReadId());
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public Long getLastReadId() {
+        return lastReadId;
+    }
+}
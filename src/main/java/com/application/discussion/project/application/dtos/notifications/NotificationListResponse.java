@@ -0,0 +1,73 @@
+package com.application.discussion.project.application.dtos.notifications;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 通知一覧のレスポンス
+ */
+@Schema(description = "通知一覧のレスポンス")
+public class NotificationListResponse {
+
+    @Schema(description = "通知のリスト（新しい順）")
+    private final List<NotificationResponse> notifications;
+
+    @Schema(description = "未読件数", example = "3")
+    private final Long unreadCount;
+
+    @Schema(description = "既読位置（この通知ID以下の通知は既読）", example = "40")
+    private final Long lastReadId;
+
+    @Schema(description = "次ページ取得用のカーソル（beforeに指定する。次ページがない場合は省略）", example = "21")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long nextCursor;
+
+    private NotificationListResponse(
+        final List<NotificationResponse> notifications,
+        final Long unreadCount,
+        final Long lastReadId,
+        final Long nextCursor
+    ) {
+        this.notifications = notifications;
+        this.unreadCount = unreadCount;
+        this.lastReadId = lastReadId;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param notifications 通知のリスト
+     * @param unreadCount   未読件数
+     * @param lastReadId    既読位置
+     * @param nextCursor    次ページ取得用のカーソル（次ページがない場合はnull）
+     * @return 通知一覧のレスポンス
+     */
+    public static NotificationListResponse of(
+        final List<NotificationResponse> notifications,
+        final Long unreadCount,
+        final Long lastReadId,
+        final Long nextCursor
+    ) {
+        return new NotificationListResponse(notifications, unreadCount, lastReadId, nextCursor);
+    }
+
+    public List<NotificationResponse> getNotifications() {
+        return notifications;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public Long getLastReadId() {
+        return lastReadId;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
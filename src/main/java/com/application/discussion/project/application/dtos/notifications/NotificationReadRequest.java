@@ -0,0 +1,33 @@
+package com.application.discussion.project.application.dtos.notifications;
+
+/**
+ * 通知の既読リクエストDTO
+ * 指定した通知ID以下の通知をまとめて既読にする
+ */
+public class NotificationReadRequest {
+
+    private Long upToId;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public NotificationReadRequest() {}
+
+    /**
+     * 既読にする最後の通知IDを指定してインスタンスを生成するコンストラクタ
+     *
+     * @param upToId 既読にする最後の通知ID
+     */
+    public NotificationReadRequest(Long upToId) {
+        this.upToId = upToId;
+    }
+
+    /**
+     * 既読にする最後の通知IDを取得する
+     *
+     * @return 既読にする最後の通知ID
+     */
+    public Long getUpToId() {
+        return upToId;
+    }
+}
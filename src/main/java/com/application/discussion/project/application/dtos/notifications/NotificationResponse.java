@@ -0,0 +1,85 @@
+package com.application.discussion.project.application.dtos.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.entities.notifications.Notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 通知のレスポンス
+ */
+@Schema(description = "通知のレスポンス")
+public class NotificationResponse {
+
+    @Schema(description = "通知ID", example = "1")
+    private final Long notificationId;
+
+    @Schema(description = "通知の種類", example = "NEW_DISCUSSION")
+    private final String type;
+
+    @Schema(description = "メイントピックID", example = "1")
+    private final Long maintopicId;
+
+    @Schema(description = "議論ID", example = "1")
+    private final Long discussionId;
+
+    @Schema(description = "通知のきっかけとなる操作をしたユーザーのID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private final UUID actorUserId;
+
+    @Schema(description = "既読か", example = "false")
+    private final Boolean read;
+
+    @Schema(description = "作成日時", example = "2026-01-01T00:00:00")
+    private final LocalDateTime createdAt;
+
+    private NotificationResponse(final Notification notification, final Boolean read) {
+        this.notificationId = notification.getNotificationId();
+        this.type = notification.getType().name();
+        this.maintopicId = notification.getMaintopicId();
+        this.discussionId = notification.getDiscussionId();
+        this.actorUserId = notification.getActorUserId();
+        this.read = read;
+        this.createdAt = notification.getCreatedAt();
+    }
+
+    /**
+     * ファクトリーメソッド
+     *
+     * @param notification 通知ドメインエンティティ
+     * @param read         既読か
+     * @return 通知のレスポンス
+     */
+    public static NotificationResponse of(final Notification notification, final Boolean read) {
+        return new NotificationResponse(notification, read);
+    }
+
+    public Long getNotificationId() {
+        return notificationId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public Boolean getRead() {
+        return read;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.application.discussion.project.application.dtos.topics;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * メイントピックリストのページ単位のレスポンス
+ */
+@Schema(description = "メイントピックリストのページ単位のレスポンス")
+public class MaintopicPageResponse {
+
+    @Schema(description = "メイントピックのリスト")
+    private List<MaintopicListResponse> maintopics;
+
+    @Schema(description = "1ページあたりの件数", example = "20")
+    private Integer pageSize;
+
+    @Schema(description = "次ページ取得用のカーソル（次ページがない場合は省略）", example = "20")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextCursor;
+
+    /**
+     * コンストラクタ
+     * @param maintopics
+     * @param pageSize
+     * @param nextCursor
+     */
+    private MaintopicPageResponse(List<MaintopicListResponse> maintopics, Integer pageSize, Long nextCursor) {
+        this.maintopics = maintopics;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+    }
+
+    public MaintopicPageResponse() {}
+
+    /**
+     * ファクトリーメソッド
+     * @param maintopics
+     * @param pageSize
+     * @param nextCursor 次ページがない場合はnull
+     * @return
+     */
+    public static MaintopicPageResponse of(List<MaintopicListResponse> maintopics, Integer pageSize, Long nextCursor) {
+        return new MaintopicPageResponse(maintopics, pageSize, nextCursor);
+    }
+
+    public List<MaintopicListResponse> getMaintopics() {
+        return maintopics;
+    }
+
+    public Integer getPageSize() {
+        return pageSize;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,19 @@
+package com.application.discussion.project.application.services.comments;
+
+import com.application.discussion.project.application.dtos.comments.CommentCreateRequest;
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+
+/**
+ * コメント作成サービスインターフェイス
+ */
+public interface CommentCreateService {
+
+    /**
+     * 認証済みユーザーとして議論にコメント、またはコメントに返信する
+     *
+     * @param discussionId         議論ID
+     * @param commentCreateRequest 本文と返信先を含むリクエストDTO
+     * @return 作成されたコメント
+     */
+    CommentResponse service(Long discussionId, CommentCreateRequest commentCreateRequest);
+}
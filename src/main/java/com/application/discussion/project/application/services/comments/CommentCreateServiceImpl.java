@@ -0,0 +1,54 @@
+package com.application.discussion.project.application.services.comments;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.comments.CommentCreateRequest;
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.CommentRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+
+/**
+ * コメント作成サービスの実装クラス
+ * 返信の場合は返信先を取得してドメインエンティティで階層を決定し、リポジトリで保存と返信件数の更新を行う
+ */
+@Service
+public class CommentCreateServiceImpl implements CommentCreateService {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCreateServiceImpl.class);
+
+    @Override
+    public CommentResponse service(final Long discussionId, final CommentCreateRequest commentCreateRequest) {
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final Paragraph paragraph = Paragraph.of(commentCreateRequest.getParagraph());
+
+        final Comment comment;
+        if (Objects.isNull(commentCreateRequest.getParentId())) {
+            comment = Comment.create(paragraph, discussionId, authenticatedUser.getUserId());
+        } else {
+            final Comment parent = commentRepository.findById(commentCreateRequest.getParentId())
+                .filter(found -> found.getDiscussionId().equals(discussionId))
+                .orElseThrow(() -> new ResourceNotFoundException("コメントは存在しません", "Not_Found"));
+            comment = Comment.createReply(paragraph, parent, authenticatedUser.getUserId());
+        }
+
+        final Comment createdComment = commentRepository.createComment(comment);
+        logger.info("Comment created with ID: {}, discussion ID: {}, user ID: {}",
+            createdComment.getCommentId(), discussionId, authenticatedUser.getUserId());
+        return CommentResponse.of(createdComment);
+    }
+}
@@ -0,0 +1,20 @@
+package com.application.discussion.project.application.services.comments;
+
+import com.application.discussion.project.application.dtos.comments.CommentListResponse;
+
+/**
+ * 同じ階層のコメント一覧取得サービスインターフェイス
+ */
+public interface CommentListService {
+
+    /**
+     * 議論への直接のコメント、またはコメントへの返信を投稿順にキーセット方式で取得する
+     *
+     * @param discussionId 議論ID
+     * @param parentId     返信先のコメントID（nullの場合は議論への直接のコメントを取得する）
+     * @param after        前ページのnextCursor（nullの場合は先頭から取得する）
+     * @param size         1ページあたりの件数
+     * @return コメント一覧
+     */
+    CommentListResponse service(Long discussionId, Long parentId, Long after, Integer size);
+}
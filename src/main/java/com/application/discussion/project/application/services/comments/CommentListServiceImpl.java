@@ -0,0 +1,40 @@
+package com.application.discussion.project.application.services.comments;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.comments.CommentListResponse;
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.repositories.CommentRepository;
+
+/**
+ * 同じ階層のコメント一覧取得サービスの実装クラス
+ * 指定件数+1件を取得して次ページの有無を判定し、総件数は取得しない
+ */
+@Service
+public class CommentListServiceImpl implements CommentListService {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentListServiceImpl.class);
+
+    @Override
+    public CommentListResponse service(final Long discussionId, final Long parentId, final Long after, final Integer size) {
+        final List<Comment> comments = commentRepository.findReplies(discussionId, parentId, after, size + 1);
+        final boolean hasNext = comments.size() > size;
+        final List<Comment> page = hasNext ? comments.subList(0, size) : comments;
+        logger.debug("Found {} comments: discussionId {}, parentId {}, hasNext {}", page.size(), discussionId, parentId, hasNext);
+
+        return CommentListResponse.of(
+            page.stream().map(CommentResponse::of).toList(),
+            size,
+            hasNext ? page.get(page.size() - 1).getCommentId() : null
+        );
+    }
+}
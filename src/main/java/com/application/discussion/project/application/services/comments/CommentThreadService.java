@@ -0,0 +1,21 @@
+package com.application.discussion.project.application.services.comments;
+
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+
+/**
+ * コメントのスレッド取得サービスインターフェイス
+ */
+public interface CommentThreadService {
+
+    /**
+     * コメントと、その返信を階層ごとに先頭から指定件数ずつ取得する
+     * 続きの返信はreplyCountを参照し、返信一覧の取得で読み込む
+     *
+     * @param discussionId    議論ID
+     * @param commentId       起点のコメントID
+     * @param repliesPerLevel 返信先ごとに取得する返信の件数の上限
+     * @param depth           起点からの深さの上限
+     * @return 返信を階層のまま格納した起点のコメント
+     */
+    CommentResponse service(Long discussionId, Long commentId, Integer repliesPerLevel, Integer depth);
+}
@@ -0,0 +1,53 @@
+package com.application.discussion.project.application.services.comments;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.repositories.CommentRepository;
+
+/**
+ * コメントのスレッド取得サービスの実装クラス
+ * リポジトリから返信先が返信より前に並んだリストを取得し、1回の走査で木に組み立てる
+ */
+@Service
+public class CommentThreadServiceImpl implements CommentThreadService {
+
+    /**
+     * 1回のスレッドの取得で返すコメントの総数の上限
+     */
+    private static final int MAX_THREAD_SIZE = 500;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentThreadServiceImpl.class);
+
+    @Override
+    public CommentResponse service(
+        final Long discussionId,
+        final Long commentId,
+        final Integer repliesPerLevel,
+        final Integer depth
+    ) {
+        final List<Comment> comments = commentRepository.findThread(discussionId, commentId, repliesPerLevel, depth, MAX_THREAD_SIZE);
+        logger.debug("Found {} comments in thread: discussionId {}, commentId {}", comments.size(), discussionId, commentId);
+
+        final Map<Long, CommentResponse> responsesById = new HashMap<>();
+        final CommentResponse root = CommentResponse.of(comments.get(0));
+        responsesById.put(root.getCommentId(), root);
+        for (final Comment comment : comments.subList(1, comments.size())) {
+            final CommentResponse response = CommentResponse.of(comment);
+            responsesById.get(comment.getParentId()).addReply(response);
+            responsesById.put(response.getCommentId(), response);
+        }
+        return root;
+    }
+}
@@ -13,7 +13,9 @@ import com.application.discussion.project.application.dtos.exceptions.Applicatio
 import com.application.discussion.project.domain.entities.discussions.Discussion;
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
 import com.application.discussion.project.domain.repositories.MaintopicRepository;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
 import com.application.discussion.project.domain.services.topics.MaintopicDiscussionDuplicateDomainService;
 import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
 import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
@@ -29,6 +31,15 @@ public class DiscussionCreateServiceImpl implements DiscussionCreateService {
     @Autowired
     private DiscussionRepository discussionRepository;
 
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private DiscussionFeedHub discussionFeedHub;
+
     @Autowired
     private UserAuthenticationDomainService userAuthenticationDomainService;
 
@@ -40,7 +51,9 @@ public class DiscussionCreateServiceImpl implements DiscussionCreateService {
     /**
      * 指定されたメイントピックに対してディスカッションを作成する
      * リクエストから本文を取得してParagraphバリューオブジェクトに変換し、
-     * ディスカッションエンティティを生成してリポジトリに保存する
+     * ディスカッションエンティティを生成してリポジトリに保存し、検索対象に追加する
+     * メイントピックの参加者への通知は非同期に配信するため、配信の完了を待たない
+     * メイントピックのライブフィードの購読者にはコミット後に配信する
      * 
      * @param maintopicId 関連付けるメイントピックのID
      * @param discussionCreateRequest ディスカッション作成に必要な情報を含むリクエストDTO
@@ -70,6 +83,9 @@ public class DiscussionCreateServiceImpl implements DiscussionCreateService {
         
         final Discussion createdDiscussion = discussionRepository.createDiscussion(discussion);
         logger.info("Discussion created with ID: {}", createdDiscussion.getDiscussionId());
+        discussionSearchRepository.index(createdDiscussion);
+        notificationRepository.publishDiscussionCreated(createdDiscussion);
+        discussionFeedHub.publish(createdDiscussion);
         return new DiscussionCreateResponse(
             createdDiscussion.getDiscussionId(),
             createdDiscussion.getParagraph(),
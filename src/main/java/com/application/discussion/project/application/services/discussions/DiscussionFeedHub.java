@@ -0,0 +1,332 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * メイントピックごとに投稿された議論を購読者へ配信するブロードキャストハブ
+ * 購読者ごとに上限付きのバッファを持ち、投稿はバッファへの追加のみで完了するため、遅い購読者が投稿や他の購読者を待たせない
+ * バッファへ追加された購読者のみ仮想スレッドで送信するため、待機中の購読者はスレッドを占有しない
+ * バッファが満杯になった購読者は切断し、クライアントはLast-Event-IDを指定して再接続することで取りこぼした議論を取得する
+ * 購読はアクセストークンの有効期間に限り、ハートビートごとに有効期限の経過と失効を確認して、該当する購読者を切断する
+ *
+ * NOTE: 配信は同一プロセス内でのみ行うため、複数インスタンス構成では他のインスタンスで投稿された議論は配信されない
+ */
+@Component
+public class DiscussionFeedHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionFeedHub.class);
+
+    @Autowired
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @Autowired
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @Value("${springboot.app.discussions.feed.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${springboot.app.discussions.feed.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${springboot.app.discussions.feed.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${springboot.app.discussions.feed.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final ConcurrentHashMap<Long, Set<DiscussionFeedSubscription>> subscriptionsByMaintopicId = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    private ExecutorService deliveryExecutor;
+    private ScheduledFuture<?> scheduledHeartbeat;
+
+    @PostConstruct
+    public void initialize() {
+        deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        scheduledHeartbeat = backgroundTaskScheduler.scheduleWithFixedDelay(
+            "discussion-feed-heartbeat", this::sendHeartbeats, heartbeatIntervalMs, heartbeatIntervalMs
+        );
+        logger.info("Discussion feed buffer size {}", bufferSize);
+    }
+
+    /**
+     * 定期実行を停止し、全ての購読者を切断する
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(scheduledHeartbeat)) {
+            scheduledHeartbeat.cancel(false);
+        }
+        subscriptionsByMaintopicId.values().forEach(subscriptions -> subscriptions.forEach(this::cancel));
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * メイントピックの購読を開始する
+     * 購読は一時停止の状態で作成し、startを呼び出すまでの投稿はバッファに保持する
+     * 再接続時の取りこぼした議論の送信をstartの前に行うことで、送信の順序を保つ
+     *
+     * @param maintopicId    メイントピックID
+     * @param sink           送信先
+     * @param verifiedClaims 購読者のアクセストークンの検証済みクレーム
+     * @return 購読
+     * @throws ServiceUnavailableException 購読者数が上限に達している場合
+     */
+    public DiscussionFeedSubscription subscribe(
+        final Long maintopicId,
+        final DiscussionFeedSink sink,
+        final JWTVerifiedClaims verifiedClaims
+    ) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("購読者数が上限に達しています", retryAfterSeconds);
+        }
+        final DiscussionFeedSubscription subscription = new DiscussionFeedSubscription(
+            maintopicId,
+            sink,
+            UUID.fromString(verifiedClaims.getUserId()),
+            verifiedClaims.getIssuedAt(),
+            verifiedClaims.getExpiration()
+        );
+        subscriptionsByMaintopicId.computeIfAbsent(maintopicId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        logger.debug("Discussion feed subscribed: maintopicId {}, subscribers {}", maintopicId, subscriberCount.get());
+        return subscription;
+    }
+
+    /**
+     * 投稿された議論をメイントピックの購読者へ配信する
+     * トランザクション内の場合はコミット後に配信する
+     *
+     * @param discussion 投稿された議論
+     */
+    public void publish(final Discussion discussion) {
+        AfterCommit.run(() -> broadcast(discussion));
+    }
+
+    /**
+     * 購読を終了し、送信先の接続を終了する
+     *
+     * @param subscription 購読
+     */
+    public void cancel(final DiscussionFeedSubscription subscription) {
+        if (!subscription.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriptionsByMaintopicId.computeIfPresent(subscription.maintopicId, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        subscriberCount.decrementAndGet();
+        subscription.buffer.clear();
+        subscription.sink.complete();
+        logger.debug("Discussion feed unsubscribed: maintopicId {}, subscribers {}", subscription.maintopicId, subscriberCount.get());
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void broadcast(final Discussion discussion) {
+        final Collection<DiscussionFeedSubscription> subscriptions = subscriptionsByMaintopicId.get(discussion.getMaintopicId());
+        if (Objects.isNull(subscriptions)) {
+            return;
+        }
+        final FeedEvent event = new FeedEvent(discussion);
+        subscriptions.forEach(subscription -> enqueue(subscription, event));
+    }
+
+    /**
+     * 定期実行用のハートビート送信処理
+     * アクセストークンの有効期限を過ぎた購読者と、ログアウト等でトークンが失効した購読者は切断する
+     */
+    private void sendHeartbeats() {
+        final Instant now = Instant.now();
+        subscriptionsByMaintopicId.values().forEach(subscriptions -> subscriptions.forEach(subscription -> {
+            if (!isAuthenticated(subscription, now)) {
+                expiredCount.incrementAndGet();
+                logger.debug("Closing discussion feed subscriber with expired or revoked token: maintopicId {}", subscription.maintopicId);
+                cancel(subscription);
+                return;
+            }
+            if (subscription.buffer.isEmpty()) {
+                enqueue(subscription, FeedEvent.HEARTBEAT);
+            }
+        }));
+    }
+
+    private boolean isAuthenticated(final DiscussionFeedSubscription subscription, final Instant now) {
+        if (Objects.isNull(subscription.expiresAt) || !now.isBefore(subscription.expiresAt)) {
+            return false;
+        }
+        return !jwtRevocationDenylist.isRevoked(subscription.userId, subscription.issuedAt);
+    }
+
+    /**
+     * 購読者のバッファにイベントを追加し、送信中でなければ送信を開始する
+     * 議論のイベントでバッファが満杯の場合は、遅い購読者として切断する
+     */
+    private void enqueue(final DiscussionFeedSubscription subscription, final FeedEvent event) {
+        if (subscription.closed.get()) {
+            return;
+        }
+        if (!subscription.buffer.offer(event)) {
+            if (event != FeedEvent.HEARTBEAT) {
+                evictedCount.incrementAndGet();
+                logger.info("Evicting slow discussion feed subscriber: maintopicId {}", subscription.maintopicId);
+                cancel(subscription);
+            }
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(final DiscussionFeedSubscription subscription) {
+        if (subscription.started && !subscription.buffer.isEmpty() && subscription.draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * バッファのイベントを順に送信する
+     * 送信中に追加されたイベントを取りこぼさないよう、送信を終えた後にバッファを確認し直す
+     */
+    private void drain(final DiscussionFeedSubscription subscription) {
+        try {
+            FeedEvent event;
+            while (!subscription.closed.get() && Objects.nonNull(event = subscription.buffer.poll())) {
+                if (event == FeedEvent.HEARTBEAT) {
+                    subscription.sink.sendHeartbeat();
+                } else if (!subscription.replayedIds.contains(event.discussion.getDiscussionId())) {
+                    subscription.sink.sendDiscussion(event.discussion);
+                    deliveredCount.incrementAndGet();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Discussion feed subscriber disconnected: maintopicId {}, {}", subscription.maintopicId, e.getMessage());
+            cancel(subscription);
+        } finally {
+            subscription.draining.set(false);
+        }
+        scheduleDrain(subscription);
+    }
+
+    /**
+     * 1人の購読者の購読
+     * 送信は同時に1つの仮想スレッドのみが行う
+     */
+    public final class DiscussionFeedSubscription {
+
+        private final Long maintopicId;
+        private final DiscussionFeedSink sink;
+        private final UUID userId;
+        private final Instant issuedAt;
+        private final Instant expiresAt;
+        private final BlockingQueue<FeedEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 購読の開始前に送信した議論のID（バッファに保持した投稿と重複して送信しないために使用する）
+         */
+        private volatile Set<Long> replayedIds = Set.of();
+        private volatile boolean started;
+
+        private DiscussionFeedSubscription(
+            final Long maintopicId,
+            final DiscussionFeedSink sink,
+            final UUID userId,
+            final Instant issuedAt,
+            final Instant expiresAt
+        ) {
+            this.maintopicId = maintopicId;
+            this.sink = sink;
+            this.userId = userId;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * 一時停止中に保持した投稿の送信を開始する
+         *
+         * @param replayedIds 購読の開始前に送信した議論のID
+         */
+        public void start(final Set<Long> replayedIds) {
+            this.replayedIds = Set.copyOf(replayedIds);
+            this.started = true;
+            scheduleDrain(this);
+        }
+
+        public Long getMaintopicId() {
+            return maintopicId;
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+    }
+
+    /**
+     * バッファに保持するイベント（議論がnullの場合はハートビート）
+     */
+    private static final class FeedEvent {
+
+        private static final FeedEvent HEARTBEAT = new FeedEvent(null);
+
+        private final Discussion discussion;
+
+        private FeedEvent(final Discussion discussion) {
+            this.discussion = discussion;
+        }
+    }
+}
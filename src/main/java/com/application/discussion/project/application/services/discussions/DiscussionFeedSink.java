@@ -0,0 +1,42 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.io.IOException;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+
+/**
+ * 議論のライブフィードの送信先
+ * 配信方式（Server-Sent Eventsなど）はプレゼンテーション層で実装する
+ *
+ * NOTE: DiscussionFeedHubは1つの送信先に対して同時に複数のメソッドを呼び出さない
+ */
+public interface DiscussionFeedSink {
+
+    /**
+     * 投稿された議論を送信する
+     *
+     * @param discussion 議論
+     * @throws IOException 接続が切断されている場合
+     */
+    void sendDiscussion(Discussion discussion) throws IOException;
+
+    /**
+     * 接続を維持するための空のイベントを送信する
+     *
+     * @throws IOException 接続が切断されている場合
+     */
+    void sendHeartbeat() throws IOException;
+
+    /**
+     * 取りこぼした議論を再送できないことを通知する
+     * クライアントは一覧を取得し直してから購読し直す
+     *
+     * @throws IOException 接続が切断されている場合
+     */
+    void sendReset() throws IOException;
+
+    /**
+     * 接続を終了する
+     */
+    void complete();
+}
@@ -0,0 +1,24 @@
+package com.application.discussion.project.application.services.discussions;
+
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub.DiscussionFeedSubscription;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+
+/**
+ * メイントピックの議論のライブフィード購読サービスインターフェイス
+ */
+public interface DiscussionFeedSubscribeService {
+
+    /**
+     * メイントピックに投稿される議論の購読を開始する
+     * lastEventIdを指定した場合は、その議論より後に投稿された議論を送信してから配信を開始する
+     *
+     * 購読はアクセストークンの有効期限を過ぎるか、トークンが失効すると終了する
+     *
+     * @param maintopicId    メイントピックID
+     * @param lastEventId    最後に受信した議論ID（nullの場合は新しい投稿のみ配信する）
+     * @param sink           送信先
+     * @param verifiedClaims 購読者のアクセストークンの検証済みクレーム
+     * @return 購読
+     */
+    DiscussionFeedSubscription service(Long maintopicId, Long lastEventId, DiscussionFeedSink sink, JWTVerifiedClaims verifiedClaims);
+}
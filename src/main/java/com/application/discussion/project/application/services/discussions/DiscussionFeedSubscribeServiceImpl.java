@@ -0,0 +1,109 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub.DiscussionFeedSubscription;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.repositories.MaintopicRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
+
+/**
+ * 議論のライブフィード購読サービスの実装クラス
+ * 再接続時はLast-Event-IDの議論を起点に、作成日時とIDのキーセットで取りこぼした議論を取得して送信する
+ */
+@Service
+public class DiscussionFeedSubscribeServiceImpl implements DiscussionFeedSubscribeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionFeedSubscribeServiceImpl.class);
+
+    @Autowired
+    private DiscussionFeedHub discussionFeedHub;
+
+    @Autowired
+    private DiscussionRepository discussionRepository;
+
+    @Autowired
+    private MaintopicRepository maintopicRepository;
+
+    @Value("${springboot.app.discussions.feed.replay-limit:100}")
+    private int replayLimit;
+
+    /**
+     * 購読を一時停止の状態で開始してから取りこぼした議論を取得することで、取得とコミットが競合した議論も配信から漏れない
+     * 取得した議論と配信待ちの議論が重複する場合は、配信待ちの議論を送信しない
+     * 取りこぼした議論が上限を超える場合や起点の議論が存在しない場合は、再送せずにresetイベントを送信する
+     *
+     * @throws ApplicationLayerException メイントピックが存在しない場合
+     */
+    @Override
+    public DiscussionFeedSubscription service(
+        final Long maintopicId,
+        final Long lastEventId,
+        final DiscussionFeedSink sink,
+        final JWTVerifiedClaims verifiedClaims
+    ) {
+        if (!maintopicRepository.existsMaintopic(maintopicId)) {
+            logger.error("Maintopic with ID {} not found for discussion feed", maintopicId);
+            throw new ApplicationLayerException("メイントピックは存在しません", HttpStatus.NOT_FOUND, HttpStatusCode.valueOf(404));
+        }
+        final DiscussionFeedSubscription subscription = discussionFeedHub.subscribe(maintopicId, sink, verifiedClaims);
+        final Set<Long> replayedIds = new HashSet<>();
+        if (Objects.nonNull(lastEventId)) {
+            try {
+                replay(maintopicId, lastEventId, sink, replayedIds);
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Discussion feed replay aborted for maintopicId {}: {}", maintopicId, e.getMessage());
+                discussionFeedHub.cancel(subscription);
+                return subscription;
+            }
+        }
+        subscription.start(replayedIds);
+        return subscription;
+    }
+
+    private void replay(
+        final Long maintopicId,
+        final Long lastEventId,
+        final DiscussionFeedSink sink,
+        final Set<Long> replayedIds
+    ) throws IOException {
+        final Optional<Discussion> lastDiscussion = discussionRepository.findDiscussionById(lastEventId)
+            .filter(discussion -> maintopicId.equals(discussion.getMaintopicId()));
+        if (lastDiscussion.isEmpty()) {
+            logger.debug("Last-Event-ID {} is not a discussion of maintopicId {}", lastEventId, maintopicId);
+            sink.sendReset();
+            return;
+        }
+        final List<Discussion> missed = discussionRepository.findDiscussionsByCursor(
+            maintopicId,
+            DiscussionCursor.of(lastDiscussion.get().getCreatedAt(), lastEventId),
+            false,
+            replayLimit + 1
+        );
+        if (missed.size() > replayLimit) {
+            logger.debug("Too many missed discussions for maintopicId {}, sending reset", maintopicId);
+            sink.sendReset();
+            return;
+        }
+        for (final Discussion discussion : missed) {
+            sink.sendDiscussion(discussion);
+            replayedIds.add(discussion.getDiscussionId());
+        }
+    }
+}
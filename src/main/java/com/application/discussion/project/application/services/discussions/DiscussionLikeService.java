@@ -0,0 +1,18 @@
+package com.application.discussion.project.application.services.discussions;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionLikeResponse;
+
+/**
+ * 議論へのいいねサービスインターフェイス
+ */
+public interface DiscussionLikeService {
+
+    /**
+     * 認証済みユーザーとして議論にいいねする
+     * 既にいいね済みの場合は何もしない
+     *
+     * @param discussionId 議論ID
+     * @return いいね後の状態と件数
+     */
+    DiscussionLikeResponse service(Long discussionId);
+}
@@ -0,0 +1,39 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionLikeResponse;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.DiscussionLikeRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+
+/**
+ * 議論へのいいねサービスの実装クラス
+ * 同時のいいねによる一意制約違反をリポジトリで捕捉できるよう、トランザクションで囲まない
+ */
+@Service
+public class DiscussionLikeServiceImpl implements DiscussionLikeService {
+
+    @Autowired
+    private DiscussionLikeRepository discussionLikeRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionLikeServiceImpl.class);
+
+    @Override
+    public DiscussionLikeResponse service(final Long discussionId) {
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final boolean liked = discussionLikeRepository.like(authenticatedUser.getUserId(), discussionId);
+        logger.debug("User {} liked discussion {}: {}", authenticatedUser.getUserId(), discussionId, liked);
+
+        final Long likeCount = discussionLikeRepository.countLikes(List.of(discussionId)).get(discussionId);
+        return DiscussionLikeResponse.of(discussionId, true, likeCount);
+    }
+}
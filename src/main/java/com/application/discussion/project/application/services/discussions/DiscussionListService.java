@@ -2,6 +2,7 @@ package com.application.discussion.project.application.services.discussions;
 
 import com.application.discussion.project.application.dtos.discussions.DiscussionListResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * 議論リスト取得サービスのインターフェース
@@ -19,4 +20,23 @@ public interface DiscussionListService {
         Pageable pageable
     );
 
+    /**
+     * キーセット（カーソル）方式で議論のリストを取得する
+     * afterとbeforeがともに空の場合は先頭ページを取得する
+     * @param maintopicId メイントピックID
+     * @param after 次ページ取得用のカーソル（指定しない場合はnullまたは空文字）
+     * @param before 前ページ取得用のカーソル（指定しない場合はnullまたは空文字）
+     * @param size 1ページあたりの件数
+     * @param direction 作成日時の並び順
+     * @param includeTotal trueの場合のみ総件数を取得する
+     * @return 議論リストのレスポンス
+     */
+    DiscussionListResponse serviceByCursor(
+        Long maintopicId,
+        String after,
+        String before,
+        Integer size,
+        Sort.Direction direction,
+        Boolean includeTotal
+    );
 }
@@ -2,17 +2,25 @@ package com.application.discussion.project.application.services.discussions;
 
 import com.application.discussion.project.application.dtos.discussions.DiscussionListResponse;
 import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionLikeRepository;
 import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
 
 import com.application.discussion.project.application.dtos.discussions.DiscussionResponse;
 
@@ -26,10 +34,14 @@ public class DiscussionListServiceImpl implements DiscussionListService {
     @Autowired
     private DiscussionRepository discussionRepository;
 
+    @Autowired
+    private DiscussionLikeRepository discussionLikeRepository;
+
     private static final Logger logger = LoggerFactory.getLogger(DiscussionListServiceImpl.class); 
 
     /**
      * 議論のリストを取得する
+     * COUNTクエリを避けるためスライスで取得し、総件数はメイントピックごとの件数を参照する
      *
      * @param maintopicId メイントピックID
      * @param pageable ページネーション情報
@@ -37,50 +49,130 @@ public class DiscussionListServiceImpl implements DiscussionListService {
      */
     @Override
     public DiscussionListResponse service(Long maintopicId,Pageable pageable) {
-        logger.info("getting discussion list: {}, size: {}", 
+        logger.debug("getting discussion list: {}, size: {}", 
             pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Discussion> discussionPage = discussionRepository.findAllDiscussions(maintopicId,pageable);
+        Slice<Discussion> discussionSlice = discussionRepository.findDiscussionSlice(maintopicId, pageable);
+        long totalCount = discussionRepository.countDiscussions(maintopicId);
 
-        return buildDiscussionListResponse(discussionPage);
+        return buildDiscussionListResponse(discussionSlice, totalCount);
+    }
+
+    /**
+     * キーセット（カーソル）方式で議論のリストを取得する
+     * 1件多く取得して後続ページの有無を判定するため、OFFSETによる読み飛ばしと総件数の取得が不要になる
+     *
+     * @param maintopicId メイントピックID
+     * @param after 次ページ取得用のカーソル
+     * @param before 前ページ取得用のカーソル
+     * @param size 1ページあたりの件数
+     * @param direction 作成日時の並び順
+     * @param includeTotal trueの場合のみ総件数を取得する
+     * @return 議論リストのレスポンス
+     */
+    @Override
+    public DiscussionListResponse serviceByCursor(
+        final Long maintopicId,
+        final String after,
+        final String before,
+        final Integer size,
+        final Sort.Direction direction,
+        final Boolean includeTotal
+    ) {
+        logger.debug("getting discussion list by cursor: maintopicId {}, size {}, direction {}", maintopicId, size, direction);
+
+        final boolean isBackward = StringUtils.isNotBlank(before);
+        final DiscussionCursor cursor = isBackward
+            ? DiscussionCursor.decode(before)
+            : StringUtils.isNotBlank(after) ? DiscussionCursor.decode(after) : null;
+
+        // 降順の次ページ・昇順の前ページはカーソルより古いものを、それ以外は新しいものを取得する
+        final boolean isOlderThanCursor = direction.isDescending() != isBackward;
+        final List<Discussion> fetched = discussionRepository.findDiscussionsByCursor(maintopicId, cursor, isOlderThanCursor, size + 1);
+
+        final boolean hasMore = fetched.size() > size;
+        final List<Discussion> page = new ArrayList<>(hasMore ? fetched.subList(0, size) : fetched);
+        if (isBackward) {
+            Collections.reverse(page);
+        }
+
+        final boolean hasNext = isBackward || hasMore;
+        final boolean hasPrev = isBackward ? hasMore : cursor != null;
+        final String nextCursor = hasNext && !page.isEmpty() ? toCursor(page.get(page.size() - 1)) : null;
+        final String prevCursor = hasPrev && !page.isEmpty() ? toCursor(page.get(0)) : null;
+
+        final Integer totalCount = Boolean.TRUE.equals(includeTotal)
+            ? (int) discussionRepository.countDiscussions(maintopicId)
+            : null;
+
+        final List<DiscussionResponse> discussionDtos = convertToDtos(page);
+        return DiscussionListResponse.ofCursor(discussionDtos, totalCount, size, nextCursor, prevCursor);
     }
 
+    /**
+     * 議論エンティティからクライアントに返却するカーソル文字列を生成する
+     *
+     * @param discussion 議論エンティティ
+     * @return カーソル文字列
+     */
+    private String toCursor(Discussion discussion) {
+        return DiscussionCursor.of(discussion.getCreatedAt(), discussion.getDiscussionId()).encode();
+    }
 
     /**
-     * DiscussionエンティティのページからDiscussionListResponseを構築する
+     * Discussionエンティティのスライスとメイントピックのディスカッション件数からDiscussionListResponseを構築する
      *
-     * @param discussionPage 議論エンティティのページ
+     * @param discussionSlice 議論エンティティのスライス
+     * @param totalCount メイントピックのディスカッション件数
      * @return 議論リストのレスポンス
      */
-    private DiscussionListResponse buildDiscussionListResponse(Page<Discussion> discussionPage) {
+    private DiscussionListResponse buildDiscussionListResponse(Slice<Discussion> discussionSlice, long totalCount) {
 
-        logger.info("Building DiscussionListResponse from discussion page");
-        List<DiscussionResponse> discussionDtos = discussionPage.getContent().stream()
-            .map(this::convertToDto)
-            .toList();
-        Integer totalCount = (int) discussionPage.getTotalElements();
-        Integer currentPage = discussionPage.getNumber();
-        Integer pageSize = discussionPage.getSize();
-        Integer totalPages = discussionPage.getTotalPages();
+        logger.debug("Building DiscussionListResponse from discussion slice");
+        List<DiscussionResponse> discussionDtos = convertToDtos(discussionSlice.getContent());
+        Integer currentPage = discussionSlice.getNumber();
+        Integer pageSize = discussionSlice.getSize();
+        Integer totalPages = pageSize == 0 ? 1 : (int) Math.ceil((double) totalCount / (double) pageSize);
+
+        return DiscussionListResponse.of(discussionDtos, (int) totalCount, currentPage, pageSize, totalPages);
+    }
 
-        return DiscussionListResponse.of(discussionDtos, totalCount, currentPage, pageSize, totalPages);
+    /**
+     * ページ内のDiscussionエンティティをDiscussionDtoに変換する
+     * いいね件数は議論ごとの集計値からページ単位で1回だけ取得する
+     *
+     * @param discussions 議論エンティティのリスト
+     * @return 議論DTOのリスト
+     */
+    private List<DiscussionResponse> convertToDtos(List<Discussion> discussions) {
+        if (discussions.isEmpty()) {
+            return List.of();
+        }
+        final Map<Long, Long> likeCounts = discussionLikeRepository.countLikes(
+            discussions.stream().map(Discussion::getDiscussionId).toList()
+        );
+        return discussions.stream()
+            .map(discussion -> convertToDto(discussion, likeCounts.getOrDefault(discussion.getDiscussionId(), 0L)))
+            .toList();
     }
 
     /**
      * DiscussionエンティティをDiscussionDtoに変換する
      *
      * @param discussion 議論エンティティ
+     * @param likeCount いいね件数
      * @return 議論DTO
      */
-    private DiscussionResponse convertToDto(Discussion discussion) {
+    private DiscussionResponse convertToDto(Discussion discussion, Long likeCount) {
 
-        logger.info("Converting Discussion entity to DiscussionResponse DTO: id {}", discussion.getDiscussionId());
+        logger.trace("Converting Discussion entity to DiscussionResponse DTO: id {}", discussion.getDiscussionId());
         return DiscussionResponse.of(
             discussion.getDiscussionId(),
             discussion.getParagraph(),
             discussion.getMaintopicId(),
             discussion.getCreatedAt(),
-            discussion.getUpdatedAt()
+            discussion.getUpdatedAt(),
+            likeCount
         );
     }
 }
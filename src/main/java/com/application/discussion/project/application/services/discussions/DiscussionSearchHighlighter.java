@@ -0,0 +1,93 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 議論検索の結果に表示する本文の抜粋を作成するクラス
+ * 最初の一致箇所の少し前から一定の長さを切り出し、一致箇所を<mark>で囲む
+ * 本文はHTMLエスケープしてから<mark>を付与するため、抜粋をそのままHTMLとして表示できる
+ */
+public final class DiscussionSearchHighlighter {
+
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int LEADING_CONTEXT_LENGTH = 40;
+    private static final String ELLIPSIS = "…";
+    private static final String MARK_START = "<mark>";
+    private static final String MARK_END = "</mark>";
+
+    private DiscussionSearchHighlighter() {
+    }
+
+    /**
+     * 本文の抜粋を作成する
+     * 検索語は大文字・小文字を区別せずに照合し、重なり合う一致箇所は1つにまとめる
+     * 本文に一致箇所がない場合（メイントピックのタイトル・説明のみに一致した場合）は本文の先頭を抜粋する
+     *
+     * @param text  議論の本文
+     * @param terms 検索語のリスト
+     * @return HTMLエスケープ済みで一致箇所を<mark>で囲んだ抜粋
+     */
+    public static String highlight(final String text, final List<String> terms) {
+        final List<int[]> matches = findMatches(text, terms);
+        final int start = matches.isEmpty()
+            ? 0
+            : Math.max(0, Math.min(matches.get(0)[0] - LEADING_CONTEXT_LENGTH, text.length() - SNIPPET_LENGTH));
+        final int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        final StringBuilder snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append(ELLIPSIS);
+        }
+        int position = start;
+        for (final int[] match : matches) {
+            final int matchStart = Math.max(match[0], position);
+            final int matchEnd = Math.min(match[1], end);
+            if (matchStart >= matchEnd) {
+                continue;
+            }
+            snippet.append(HtmlUtils.htmlEscape(text.substring(position, matchStart)))
+                .append(MARK_START)
+                .append(HtmlUtils.htmlEscape(text.substring(matchStart, matchEnd)))
+                .append(MARK_END);
+            position = matchEnd;
+        }
+        snippet.append(HtmlUtils.htmlEscape(text.substring(position, end)));
+        if (end < text.length()) {
+            snippet.append(ELLIPSIS);
+        }
+        return snippet.toString();
+    }
+
+    /**
+     * 検索語の一致箇所を開始位置の昇順で取得し、重なり合う・隣接する区間をまとめる
+     */
+    private static List<int[]> findMatches(final String text, final List<String> terms) {
+        final List<int[]> intervals = new ArrayList<>();
+        for (final String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i + term.length() <= text.length(); i++) {
+                if (text.regionMatches(true, i, term, 0, term.length())) {
+                    intervals.add(new int[] { i, i + term.length() });
+                }
+            }
+        }
+        intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+
+        final List<int[]> merged = new ArrayList<>();
+        for (final int[] interval : intervals) {
+            final int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+}
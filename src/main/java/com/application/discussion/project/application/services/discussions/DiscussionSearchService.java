@@ -0,0 +1,24 @@
+package com.application.discussion.project.application.services.discussions;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResponse;
+
+/**
+ * 議論検索サービスのインターフェース
+ */
+public interface DiscussionSearchService {
+
+    /**
+     * キーワードに一致する議論を関連度の高い順に取得する
+     * @param query 検索キーワード（空白区切りで複数語のAND検索）
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor 次ページ取得用のカーソル（指定しない場合はnullまたは空文字）
+     * @param size 1ページあたりの件数
+     * @return 議論検索のレスポンス
+     */
+    DiscussionSearchResponse service(
+        String query,
+        Long maintopicId,
+        String cursor,
+        Integer size
+    );
+}
@@ -0,0 +1,74 @@
+package com.application.discussion.project.application.services.discussions;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResponse;
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResultResponse;
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+
+/**
+ * 議論検索サービスの実装クラス
+ */
+@Service
+@Transactional(readOnly = true)
+public class DiscussionSearchServiceImpl implements DiscussionSearchService {
+
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionSearchServiceImpl.class);
+
+    /**
+     * キーワードに一致する議論を関連度の高い順に取得する
+     * (スコア, ID)のキーセットで1件多く取得し、後続ページの有無と次ページのカーソルを判定する
+     *
+     * @param query 検索キーワード
+     * @param maintopicId 絞り込むメイントピックID
+     * @param cursor 次ページ取得用のカーソル
+     * @param size 1ページあたりの件数
+     * @return 議論検索のレスポンス
+     */
+    @Override
+    public DiscussionSearchResponse service(
+        final String query,
+        final Long maintopicId,
+        final String cursor,
+        final Integer size
+    ) {
+        final SearchKeyword keyword = SearchKeyword.of(query);
+        final DiscussionSearchCursor searchCursor = StringUtils.isBlank(cursor)
+            ? null
+            : DiscussionSearchCursor.decode(cursor);
+        logger.debug("searching discussions: terms {}, maintopicId {}, size {}", keyword.getTerms().size(), maintopicId, size);
+
+        final List<DiscussionSearchHit> hits = discussionSearchRepository.search(keyword, maintopicId, searchCursor, size + 1);
+        final boolean hasNext = hits.size() > size;
+        final List<DiscussionSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+
+        final List<DiscussionSearchResultResponse> results = page.stream()
+            .map(hit -> DiscussionSearchResultResponse.of(
+                hit.getDiscussionId(),
+                hit.getMaintopicId(),
+                hit.getMaintopicTitle(),
+                hit.getParagraph(),
+                DiscussionSearchHighlighter.highlight(hit.getParagraph(), keyword.getTerms()),
+                hit.getScore(),
+                hit.getCreatedAt()
+            ))
+            .toList();
+        final String nextCursor = hasNext
+            ? DiscussionSearchCursor.of(page.get(page.size() - 1).getScore(), page.get(page.size() - 1).getDiscussionId()).encode()
+            : null;
+        return DiscussionSearchResponse.of(results, size, nextCursor);
+    }
+}
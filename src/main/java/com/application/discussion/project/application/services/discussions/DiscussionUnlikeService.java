@@ -0,0 +1,18 @@
+package com.application.discussion.project.application.services.discussions;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionLikeResponse;
+
+/**
+ * 議論へのいいね取消サービスインターフェイス
+ */
+public interface DiscussionUnlikeService {
+
+    /**
+     * 認証済みユーザーとして議論へのいいねを取り消す
+     * いいねしていない場合は何もしない
+     *
+     * @param discussionId 議論ID
+     * @return いいね取消後の状態と件数
+     */
+    DiscussionLikeResponse service(Long discussionId);
+}
@@ -0,0 +1,19 @@
+package com.application.discussion.project.application.services.favorites;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteResponse;
+
+/**
+ * お気に入り追加サービスインターフェイス
+ */
+public interface FavoriteAddService {
+
+    /**
+     * 認証済みユーザーとして対象をお気に入りに追加する
+     * 既にお気に入りの場合は何もしない
+     *
+     * @param targetType 対象の種類（maintopicsまたはdiscussions）
+     * @param targetId   対象のID
+     * @return 追加後の状態
+     */
+    FavoriteResponse service(String targetType, Long targetId);
+}
@@ -0,0 +1,37 @@
+package com.application.discussion.project.application.services.favorites;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteResponse;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.FavoriteRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+
+/**
+ * お気に入り追加サービスの実装クラス
+ * 同時の追加による一意制約違反をリポジトリで捕捉できるよう、トランザクションで囲まない
+ */
+@Service
+public class FavoriteAddServiceImpl implements FavoriteAddService {
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(FavoriteAddServiceImpl.class);
+
+    @Override
+    public FavoriteResponse service(final String targetType, final Long targetId) {
+        final FavoriteTargetType type = FavoriteTargetType.fromPathSegment(targetType);
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final boolean added = favoriteRepository.favorite(authenticatedUser.getUserId(), type, targetId);
+        logger.debug("User {} favorited {} {}: {}", authenticatedUser.getUserId(), type, targetId, added);
+        return FavoriteResponse.of(type.getPathSegment(), targetId, true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.application.discussion.project.application.services.favorites;
+
+import java.util.List;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteMembershipResponse;
+
+/**
+ * お気に入り状態の一括判定サービスインターフェイス
+ */
+public interface FavoriteMembershipService {
+
+    /**
+     * 指定した対象のうち、認証済みユーザーがお気に入りにしているものを判定する
+     *
+     * @param targetType 対象の種類（maintopicsまたはdiscussions）
+     * @param targetIds  判定する対象のID
+     * @return お気に入りにしている対象のID
+     */
+    FavoriteMembershipResponse service(String targetType, List<Long> targetIds);
+}
@@ -0,0 +1,36 @@
+package com.application.discussion.project.application.services.favorites;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteMembershipResponse;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.FavoriteRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+
+/**
+ * お気に入り状態の一括判定サービスの実装クラス
+ * 一覧に表示する全ての項目を1回の呼び出しで判定する
+ */
+@Service
+public class FavoriteMembershipServiceImpl implements FavoriteMembershipService {
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    @Override
+    public FavoriteMembershipResponse service(final String targetType, final List<Long> targetIds) {
+        final FavoriteTargetType type = FavoriteTargetType.fromPathSegment(targetType);
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        return FavoriteMembershipResponse.of(
+            type.getPathSegment(),
+            List.copyOf(favoriteRepository.findFavoritedIds(authenticatedUser.getUserId(), type, targetIds))
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.application.discussion.project.application.services.favorites;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteResponse;
+
+/**
+ * お気に入り削除サービスインターフェイス
+ */
+public interface FavoriteRemoveService {
+
+    /**
+     * 認証済みユーザーとして対象をお気に入りから削除する
+     * お気に入りでない場合は何もしない
+     *
+     * @param targetType 対象の種類（maintopicsまたはdiscussions）
+     * @param targetId   対象のID
+     * @return 削除後の状態
+     */
+    FavoriteResponse service(String targetType, Long targetId);
+}
@@ -0,0 +1,37 @@
+package com.application.discussion.project.application.services.favorites;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.favorites.FavoriteResponse;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.FavoriteRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+
+/**
+ * お気に入り削除サービスの実装クラス
+ * お気に入りの削除はリポジトリのトランザクションで実行するため、トランザクションで囲まない
+ */
+@Service
+public class FavoriteRemoveServiceImpl implements FavoriteRemoveService {
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(FavoriteRemoveServiceImpl.class);
+
+    @Override
+    public FavoriteResponse service(final String targetType, final Long targetId) {
+        final FavoriteTargetType type = FavoriteTargetType.fromPathSegment(targetType);
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final boolean removed = favoriteRepository.unfavorite(authenticatedUser.getUserId(), type, targetId);
+        logger.debug("User {} unfavorited {} {}: {}", authenticatedUser.getUserId(), type, targetId, removed);
+        return FavoriteResponse.of(type.getPathSegment(), targetId, false);
+    }
+}
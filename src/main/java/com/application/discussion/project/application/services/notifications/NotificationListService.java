@@ -0,0 +1,18 @@
+package com.application.discussion.project.application.services.notifications;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationListResponse;
+
+/**
+ * 通知一覧取得サービスインターフェイス
+ */
+public interface NotificationListService {
+
+    /**
+     * 認証済みユーザーの通知を新しい順にキーセット方式で取得する
+     *
+     * @param before 前ページのnextCursor（nullの場合は最新から取得する）
+     * @param size   1ページあたりの件数
+     * @return 通知一覧と未読件数
+     */
+    NotificationListResponse service(Long before, Integer size);
+}
@@ -0,0 +1,49 @@
+package com.application.discussion.project.application.services.notifications;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationListResponse;
+import com.application.discussion.project.application.dtos.notifications.NotificationResponse;
+import com.application.discussion.project.domain.entities.notifications.Notification;
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+
+/**
+ * 通知一覧取得サービスの実装クラス
+ * 指定件数+1件を取得して次ページの有無を判定し、既読かどうかは受信箱の既読位置との比較で判定する
+ */
+@Service
+public class NotificationListServiceImpl implements NotificationListService {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationListServiceImpl.class);
+
+    @Override
+    public NotificationListResponse service(final Long before, final Integer size) {
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final NotificationInbox inbox = notificationRepository.findInbox(authenticatedUser.getUserId());
+        final List<Notification> notifications = notificationRepository.findNotifications(authenticatedUser.getUserId(), before, size + 1);
+        final boolean hasNext = notifications.size() > size;
+        final List<Notification> page = hasNext ? notifications.subList(0, size) : notifications;
+        logger.debug("Found {} notifications for user {}, hasNext {}", page.size(), authenticatedUser.getUserId(), hasNext);
+
+        return NotificationListResponse.of(
+            page.stream().map(notification -> NotificationResponse.of(notification, inbox.isRead(notification))).toList(),
+            inbox.getUnreadCount(),
+            inbox.getLastReadId(),
+            hasNext ? page.get(page.size() - 1).getNotificationId() : null
+        );
+    }
+}
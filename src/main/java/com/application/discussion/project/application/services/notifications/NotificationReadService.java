@@ -0,0 +1,18 @@
+package com.application.discussion.project.application.services.notifications;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationInboxResponse;
+import com.application.discussion.project.application.dtos.notifications.NotificationReadRequest;
+
+/**
+ * 通知の既読サービスインターフェイス
+ */
+public interface NotificationReadService {
+
+    /**
+     * 認証済みユーザーの指定した通知IDまでの通知をまとめて既読にする
+     *
+     * @param notificationReadRequest 既読にする最後の通知IDを含むリクエストDTO
+     * @return 更新後の未読件数と既読位置
+     */
+    NotificationInboxResponse service(NotificationReadRequest notificationReadRequest);
+}
@@ -0,0 +1,38 @@
+package com.application.discussion.project.application.services.notifications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationInboxResponse;
+import com.application.discussion.project.application.dtos.notifications.NotificationReadRequest;
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+
+/**
+ * 通知の既読サービスの実装クラス
+ * 通知ごとに更新せず、受信箱の既読位置を進める1回の更新で既読にする
+ */
+@Service
+public class NotificationReadServiceImpl implements NotificationReadService {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationReadServiceImpl.class);
+
+    @Override
+    public NotificationInboxResponse service(final NotificationReadRequest notificationReadRequest) {
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        final NotificationInbox inbox = notificationRepository.markRead(authenticatedUser.getUserId(), notificationReadRequest.getUpToId());
+        logger.debug("User {} read notifications up to {}, unread {}",
+            authenticatedUser.getUserId(), inbox.getLastReadId(), inbox.getUnreadCount());
+        return NotificationInboxResponse.of(inbox);
+    }
+}
@@ -0,0 +1,16 @@
+package com.application.discussion.project.application.services.notifications;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationInboxResponse;
+
+/**
+ * 未読件数取得サービスインターフェイス
+ */
+public interface NotificationUnreadCountService {
+
+    /**
+     * 認証済みユーザーの未読件数と既読位置を取得する
+     *
+     * @return 未読件数と既読位置
+     */
+    NotificationInboxResponse service();
+}
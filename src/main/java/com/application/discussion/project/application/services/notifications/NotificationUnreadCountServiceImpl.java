@@ -0,0 +1,29 @@
+package com.application.discussion.project.application.services.notifications;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationInboxResponse;
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
+import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
+
+/**
+ * 未読件数取得サービスの実装クラス
+ * 未読件数は配信時に加算される受信箱の集計行から取得し、通知の件数は数えない
+ */
+@Service
+public class NotificationUnreadCountServiceImpl implements NotificationUnreadCountService {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserAuthenticationDomainService userAuthenticationDomainService;
+
+    @Override
+    public NotificationInboxResponse service() {
+        final User authenticatedUser = userAuthenticationDomainService.getAuthenticatedUser();
+        return NotificationInboxResponse.of(notificationRepository.findInbox(authenticatedUser.getUserId()));
+    }
+}
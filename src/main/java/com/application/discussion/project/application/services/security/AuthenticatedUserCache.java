@@ -0,0 +1,215 @@
+package com.application.discussion.project.application.services.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.domain.entities.users.User;
+
+/**
+ * 認証済みユーザー情報のインメモリキャッシュ
+ * JWT認証フィルターとユーザー取得処理が毎リクエスト発行するユーザー・ロールの読み込みを削減する
+ * 件数上限を超えた場合は最も参照されていないエントリから削除し、TTLを過ぎたエントリは参照時に破棄する
+ *
+ * NOTE: ログアウト、リフレッシュトークンの全失効、ロール割り当ての変更時はinvalidateで該当ユーザーを破棄すること
+ * NOTE: Java 21の仮想スレッドはsynchronizedの競合待ちでキャリアスレッドを占有するため、排他にはReentrantLockを用いる
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticatedUserCache.class);
+
+    @Value("${springboot.app.authentication.user-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${springboot.app.authentication.user-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<String, CacheEntry<JWTAuthUserDetails>> userDetailsByEmailOrLoginId = createLruMap();
+    private final Map<UUID, CacheEntry<User>> usersByUserId = createLruMap();
+
+    private final ReentrantLock userDetailsLock = new ReentrantLock();
+    private final ReentrantLock usersLock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * メールアドレスまたはログインIDに対応する認証情報を取得する
+     *
+     * @param emailOrLoginId メールアドレスまたはログインID
+     * @return キャッシュされた認証情報、存在しないか期限切れの場合は空
+     */
+    public Optional<JWTAuthUserDetails> getUserDetails(final String emailOrLoginId) {
+        return get(userDetailsByEmailOrLoginId, userDetailsLock, emailOrLoginId);
+    }
+
+    /**
+     * メールアドレスまたはログインIDに対応する認証情報を保存する
+     *
+     * @param emailOrLoginId メールアドレスまたはログインID
+     * @param userDetails    認証情報
+     */
+    public void putUserDetails(final String emailOrLoginId, final JWTAuthUserDetails userDetails) {
+        put(userDetailsByEmailOrLoginId, userDetailsLock, emailOrLoginId, userDetails);
+    }
+
+    /**
+     * ユーザーIDに対応するユーザーエンティティを取得する
+     *
+     * @param userId ユーザーID
+     * @return キャッシュされたユーザーエンティティ、存在しないか期限切れの場合は空
+     */
+    public Optional<User> getUser(final UUID userId) {
+        return get(usersByUserId, usersLock, userId);
+    }
+
+    /**
+     * ユーザーエンティティをユーザーIDをキーとして保存する
+     *
+     * @param user ユーザーエンティティ
+     */
+    public void putUser(final User user) {
+        put(usersByUserId, usersLock, user.getUserId(), user);
+    }
+
+    /**
+     * 指定ユーザーに関する全てのエントリを破棄する
+     *
+     * @param userId 対象ユーザーのUUID
+     */
+    public void invalidate(final UUID userId) {
+        usersLock.lock();
+        try {
+            usersByUserId.remove(userId);
+        } finally {
+            usersLock.unlock();
+        }
+        userDetailsLock.lock();
+        try {
+            userDetailsByEmailOrLoginId.values().removeIf(entry -> userId.equals(entry.value().getUserId()));
+        } finally {
+            userDetailsLock.unlock();
+        }
+        logger.info("Authenticated user cache invalidated for userId: {}", userId);
+    }
+
+    /**
+     * 全てのエントリを破棄する
+     */
+    public void invalidateAll() {
+        usersLock.lock();
+        try {
+            usersByUserId.clear();
+        } finally {
+            usersLock.unlock();
+        }
+        userDetailsLock.lock();
+        try {
+            userDetailsByEmailOrLoginId.clear();
+        } finally {
+            userDetailsLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        usersLock.lock();
+        userDetailsLock.lock();
+        try {
+            return usersByUserId.size() + userDetailsByEmailOrLoginId.size();
+        } finally {
+            userDetailsLock.unlock();
+            usersLock.unlock();
+        }
+    }
+
+    private boolean isEnabled() {
+        return maxSize > 0 && ttlMs > 0;
+    }
+
+    private <K, V> Optional<V> get(final Map<K, CacheEntry<V>> map, final ReentrantLock lock, final K key) {
+        if (!isEnabled() || Objects.isNull(key)) {
+            return Optional.empty();
+        }
+        final long now = System.nanoTime();
+        lock.lock();
+        try {
+            final CacheEntry<V> entry = map.get(key);
+            if (Objects.nonNull(entry) && !entry.isExpired(now)) {
+                hitCount.incrementAndGet();
+                return Optional.of(entry.value());
+            }
+            if (Objects.nonNull(entry)) {
+                map.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        missCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private <K, V> void put(final Map<K, CacheEntry<V>> map, final ReentrantLock lock, final K key, final V value) {
+        if (!isEnabled() || Objects.isNull(key) || Objects.isNull(value)) {
+            return;
+        }
+        final CacheEntry<V> entry = new CacheEntry<>(value, System.nanoTime() + ttlMs * 1_000_000L);
+        lock.lock();
+        try {
+            map.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * アクセス順のLinkedHashMapで、件数上限を超えた場合に最も参照されていないエントリを削除する
+     */
+    private <K, V> Map<K, CacheEntry<V>> createLruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * キャッシュの値と有効期限（System.nanoTime基準）を保持する
+     */
+    private static final class CacheEntry<V> {
+
+        private final V value;
+        private final long expiresAtNanos;
+
+        private CacheEntry(final V value, final long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private V value() {
+            return value;
+        }
+
+        private boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
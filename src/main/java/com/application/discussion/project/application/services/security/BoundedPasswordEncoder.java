@@ -0,0 +1,56 @@
+package com.application.discussion.project.application.services.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics.PasswordHashingOperation;
+
+/**
+ * ハッシュ化と照合をPasswordHashingExecutor上で実行するPasswordEncoder
+ * DaoAuthenticationProviderによるログイン時の照合と、ユーザー登録時のハッシュ化の両方を同じ上限で制御する
+ * 処理時間はスレッドプール上で計測するため、待機時間を含まないBCryptの処理時間となる
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final AuthenticationMetrics authenticationMetrics;
+
+    /**
+     * コンストラクタ
+     *
+     * @param delegate 実際にハッシュ化・照合を行うPasswordEncoder
+     * @param passwordHashingExecutor ハッシュ化・照合を実行するスレッドプール
+     * @param authenticationMetrics 処理時間を記録するメトリクス
+     */
+    public BoundedPasswordEncoder(
+        final PasswordEncoder delegate,
+        final PasswordHashingExecutor passwordHashingExecutor,
+        final AuthenticationMetrics authenticationMetrics
+    ) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.authenticationMetrics = authenticationMetrics;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> authenticationMetrics.recordPasswordHashing(
+            PasswordHashingOperation.ENCODE,
+            () -> delegate.encode(rawPassword)
+        ));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> authenticationMetrics.recordPasswordHashing(
+            PasswordHashingOperation.MATCHES,
+            () -> delegate.matches(rawPassword, encodedPassword)
+        ));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
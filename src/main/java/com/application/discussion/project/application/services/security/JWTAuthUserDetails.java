@@ -103,6 +103,31 @@ public class JWTAuthUserDetails implements UserDetails {
         );
     }
 
+    /**
+     * 署名検証済みのJWTクレームのみからJWTAuthUserDetailsオブジェクトを構築する
+     * DBを参照しないため、パスワードはnull、アカウント状態は有効として扱う
+     * 削除・無効化されたユーザーのトークンはJWTRevocationDenylistで失効させること
+     *
+     * @param claims 署名検証済みのJWTクレーム
+     * @return 構築されたJWTAuthUserDetailsオブジェクト
+     */
+    public static JWTAuthUserDetails fromClaims(final JWTVerifiedClaims claims){
+        List<GrantedAuthority> authorities = claims.getRoles().stream()
+            .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+            .toList();
+
+        return new JWTAuthUserDetails(
+            UUID.fromString(claims.getUserId()),
+            claims.getUsername(),
+            claims.getEmail(),
+            null,
+            claims.getLoginId(),
+            false,
+            true,
+            authorities
+        );
+    }
+
     /**
      * ユーザーの権限情報を取得する
      * @return ユーザーの権限を含むコレクション
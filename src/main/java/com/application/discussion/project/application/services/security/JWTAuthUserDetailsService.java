@@ -1,5 +1,6 @@
 package com.application.discussion.project.application.services.security;
 
+import java.util.Optional;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -29,10 +30,14 @@ public class JWTAuthUserDetailsService implements UserDetailsService {
     @Autowired
     private RolesRepositoryInterface rolesRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     private static final Logger logger = LoggerFactory.getLogger(JWTAuthUserDetailsService.class);
 
     /**
      * メールアドレスまたはログインIDからユーザー詳細情報をロードする
+     * キャッシュに有効なエントリが存在する場合はDBを参照しない
      * 
      * @param emailOrLoginId メールアドレスまたはログインID
      * @return ユーザー詳細情報を含むUserDetailsオブジェクト
@@ -42,6 +47,12 @@ public class JWTAuthUserDetailsService implements UserDetailsService {
     @Transactional
     public UserDetails loadUserByUsername(String emailOrLoginId) {
         logger.info("Loading user details by email or login ID: {}", emailOrLoginId);
+        Optional<JWTAuthUserDetails> cachedUserDetails = authenticatedUserCache.getUserDetails(emailOrLoginId);
+        if (cachedUserDetails.isPresent()) {
+            logger.info("User details cache hit: {}", cachedUserDetails.get().getUserId());
+            return cachedUserDetails.get();
+        }
+
         Users user = usersRepository.findByEmailOrLoginId(emailOrLoginId)
             .orElseThrow(() -> new ApplicationLayerException(
                 "ユーザーが見つかりません", 
@@ -51,6 +62,8 @@ public class JWTAuthUserDetailsService implements UserDetailsService {
         
         Set<Role> roles = rolesRepository.findUserRolesById(user.getUserId());
         logger.info("User found: {}, Roles: {}", user.getUserId(), roles);
-        return JWTAuthUserDetails.build(user, roles);
+        JWTAuthUserDetails userDetails = JWTAuthUserDetails.build(user, roles);
+        authenticatedUserCache.putUserDetails(emailOrLoginId, userDetails);
+        return userDetails;
     }
 }
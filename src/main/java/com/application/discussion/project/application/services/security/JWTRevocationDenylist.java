@@ -0,0 +1,71 @@
+package com.application.discussion.project.application.services.security;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * アクセストークンの失効情報を保持するインメモリの拒否リスト
+ * ユーザーIDごとに「この時刻以前に発行されたトークンは無効」という時刻のみを保持するため、
+ * トークン単位で記録するよりも小さいメモリで失効を表現できる
+ *
+ * NOTE: JWTのiatは秒精度のため、失効時刻は秒単位に切り捨てて保持し、それより前の秒に発行されたトークンを無効として扱う
+ * 失効と同じ秒に再ログインして発行されたトークンを拒否しないため、同じ秒に失効前に発行されたトークンは有効期限まで有効のまま残る
+ */
+@Component
+public class JWTRevocationDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(JWTRevocationDenylist.class);
+
+    @Value("${springboot.app.authentication.jwt.token.expiration}")
+    private long jwtTokenExpirationMs;
+
+    private final Map<UUID, Instant> revokedBeforeByUserId = new ConcurrentHashMap<>();
+
+    /**
+     * 指定ユーザーに対して、指定時刻の秒より前に発行された全アクセストークンを失効させる
+     *
+     * @param userId    対象ユーザーのUUID
+     * @param revokedAt 失効時刻
+     */
+    public void revokeTokensIssuedBefore(final UUID userId, final Instant revokedAt) {
+        final Instant truncatedRevokedAt = revokedAt.truncatedTo(ChronoUnit.SECONDS);
+        revokedBeforeByUserId.merge(userId, truncatedRevokedAt, (current, next) -> next.isAfter(current) ? next : current);
+        logger.info("Access tokens revoked for userId: {} issued before: {}", userId, truncatedRevokedAt);
+        evictExpiredEntries(revokedAt);
+    }
+
+    /**
+     * トークンが失効済みかを判定する
+     *
+     * @param userId   トークンのユーザーID
+     * @param issuedAt トークンの発行日時
+     * @return 失効済みの場合true
+     */
+    public boolean isRevoked(final UUID userId, final Instant issuedAt) {
+        final Instant revokedBefore = revokedBeforeByUserId.get(userId);
+        if (Objects.isNull(revokedBefore)) {
+            return false;
+        }
+        return Objects.isNull(issuedAt) || issuedAt.isBefore(revokedBefore);
+    }
+
+    /**
+     * アクセストークンの有効期限を過ぎたエントリを削除する
+     * 失効時刻から有効期限以上経過していれば、その時刻以前に発行されたトークンは既に期限切れのため保持不要
+     *
+     * @param now 現在時刻
+     */
+    private void evictExpiredEntries(final Instant now) {
+        final Instant threshold = now.minusMillis(jwtTokenExpirationMs);
+        revokedBeforeByUserId.values().removeIf(revokedBefore -> revokedBefore.isBefore(threshold));
+    }
+}
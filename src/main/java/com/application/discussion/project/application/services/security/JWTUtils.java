@@ -7,7 +7,9 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HexFormat;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -18,11 +20,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -64,6 +69,30 @@ public class JWTUtils {
     @Value("${springboot.app.cookies.refresh.path:/v1/auth}")
     private String refreshCookiePath;
 
+    private volatile SigningMaterial accessTokenSigningMaterial;
+    private volatile SigningMaterial refreshTokenSigningMaterial;
+
+    /**
+     * 署名鍵と、その鍵で検証を行うパーサーの組
+     * 鍵の導出とパーサーの構築はリクエストごとに行うとコストが高いため、
+     * 秘密鍵の設定値が変わらない限りBeanの生存期間中は同じインスタンスを使い回す
+     */
+    private static final class SigningMaterial {
+        private final String secret;
+        private final SecretKey key;
+        private final JwtParser parser;
+
+        private SigningMaterial(final String secret, final SecretKey key) {
+            this.secret = secret;
+            this.key = key;
+            this.parser = Jwts.parser().verifyWith(key).build();
+        }
+
+        private boolean isBuiltFrom(final String currentSecret) {
+            return Objects.equals(secret, currentSecret);
+        }
+    }
+
     /**
      * HTTPリクエストのAuthorizationヘッダーからJWTトークンを抽出する
      * 
@@ -71,7 +100,7 @@ public class JWTUtils {
      * @return 抽出されたJWTトークン。ヘッダーが存在しないか不正な形式の場合はnull
      */
     public String getJwtFromHeader(HttpServletRequest httpServletRequest) {
-        logger.info("Extracting JWT from Authorization header");
+        logger.debug("Extracting JWT from Authorization header");
         
         String bearerToken = httpServletRequest.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -87,11 +116,13 @@ public class JWTUtils {
      * @return 抽出されたJWTトークン。Cookieが存在しない場合はnull
      */
     public String getJwtFromCookies(final HttpServletRequest httpServletRequest) {
-        logger.info("Extracting JWT from cookies");
+        logger.debug("Extracting JWT from cookies");
         
         Cookie[] cookies = httpServletRequest.getCookies();
 
-        logger.info("Cookies: {}",Arrays.toString(cookies));
+        if (logger.isDebugEnabled() && cookies != null) {
+            logger.debug("Cookie names: {}", Arrays.stream(cookies).map(Cookie::getName).toList());
+        }
         
         return Optional.ofNullable(cookies)
                 .stream()
@@ -104,23 +135,27 @@ public class JWTUtils {
 
     /**
      * ユーザー詳細情報からJWTトークンを生成する
-     * トークンにはユーザーID、ログインID、ユーザー名、発行日時、有効期限が含まれる
+     * トークンにはユーザーID、ログインID、ユーザー名、メールアドレス、ロール、発行日時、有効期限が含まれる
+     * ロールとユーザーIDを含めることで、DBを参照せずにトークンから認証情報を復元できる
      * 
      * @param userDetails JWT認証用のユーザー詳細情報
      * @return 生成されたJWTトークン文字列
      */
     public String generateToken(final JWTAuthUserDetails userDetails) {
         logger.info("Generating JWT token for user: {} {}", userDetails.getUsername(), userDetails.getEmail());
-        logger.info("create jwt token: user details={}", userDetails.toString());
         
         return Jwts.builder()
                 .subject(userDetails.getLoginId() != null ? userDetails.getLoginId() : userDetails.getEmail())
                 .id(userDetails.getUserId().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtTokenExpirationMs))
-                .signWith(getKey())
+                .signWith(getAccessTokenSigningMaterial().key)
                 .claim("username",userDetails.getUsername())
                 .claim("loginId", userDetails.getLoginId())
+                .claim("email", userDetails.getEmail())
+                .claim("roles", userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList())
                 .compact();
     }
     
@@ -131,13 +166,8 @@ public class JWTUtils {
      * @return トークンのsubjectに設定されているメールアドレスまたはログインID
      */
     public String getEmailOrLoginId(final String token){
-        logger.info("Extracting email or login ID from JWT token");
-        return Jwts.parser()
-                .verifyWith((SecretKey) getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        logger.debug("Extracting email or login ID from JWT token");
+        return parseAccessTokenClaims(token).getSubject();
     }
 
     /**
@@ -147,14 +177,9 @@ public class JWTUtils {
      * @return トークンに含まれるユーザーID
      */
     public String getUserIdFromToken(String token) {
-        logger.info("Extracting user ID from JWT token");
+        logger.debug("Extracting user ID from JWT token");
         
-        return Jwts.parser()
-                .verifyWith((SecretKey) getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getId();
+        return parseAccessTokenClaims(token).getId();
     }
 
     /**
@@ -166,14 +191,22 @@ public class JWTUtils {
      * @throws ApplicationLayerException トークンが不正な形式、期限切れ、サポート外の形式、空の場合
      */
     public Boolean validateJwtToken(String token) {
-        logger.info("Try validating JWT token");
-        
+        logger.debug("Try validating JWT token");
+        parseAndVerify(token);
+        return true;
+    }
+
+    /**
+     * JWTトークンを1回だけ解析・署名検証し、検証済みクレームを返す
+     * 認証フィルタなど、検証とクレーム取得を同時に行う箇所ではこのメソッドを使用する
+     *
+     * @param token 検証対象のJWTトークン文字列
+     * @return 署名検証済みのクレーム
+     * @throws ApplicationLayerException トークンが不正な形式、期限切れ、サポート外の形式、空の場合
+     */
+    public JWTVerifiedClaims parseAndVerify(final String token) {
         try {
-            Jwts.parser()
-                .verifyWith((SecretKey) getKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return JWTVerifiedClaims.from(parseAccessTokenClaims(token));
         } catch (MalformedJwtException malformedJwtException){
             logger.error("Malformed JWT Exception Invalid JWT token: {}", malformedJwtException.getMessage());
             throw new ApplicationLayerException("Invalid JWT token",HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
@@ -192,6 +225,18 @@ public class JWTUtils {
         }
     }
 
+    /**
+     * キャッシュ済みのパーサーでアクセストークンを解析し、署名検証済みのClaimsを返す
+     *
+     * @param token JWTトークン文字列
+     * @return 署名検証済みのClaims
+     */
+    private Claims parseAccessTokenClaims(final String token) {
+        return getAccessTokenSigningMaterial().parser
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     /**
      * ユーザー詳細情報からJWT Cookieを生成する
      * Cookieには HttpOnly、Secure、SameSite などのセキュリティ属性が設定される
@@ -219,16 +264,16 @@ public class JWTUtils {
      * @return HMAC-SHA アルゴリズム用の署名鍵
      */
     public Key getKey(){
-        logger.info("Retrieving signing key for JWT token");
+        logger.debug("Retrieving signing key for JWT token");
         byte[] keyBytes = Decoders.BASE64.decode(jwtTokenSecret);
-        logger.info("Decoded JWT token secret, length: {} bytes", keyBytes.length);
+        logger.debug("Decoded JWT token secret, length: {} bytes", keyBytes.length);
 
         if (keyBytes.length < TOKEN_SECRET_BYTE_LENGTH){
             logger.error("The JWT token secret must be at least {} bits long", TOKEN_SECRET_LENGTH);
             return Jwts.SIG.HS512.key().build();
         }
         Key key = Keys.hmacShaKeyFor(keyBytes);
-        logger.info("Generated signing key using algorithm: {}", key.getAlgorithm());
+        logger.debug("Generated signing key using algorithm: {}", key.getAlgorithm());
         return key;
     }
 
@@ -253,6 +298,7 @@ public class JWTUtils {
     /**
      * リフレッシュトークン用のJWTを生成する
      * アクセストークンとは異なる秘密鍵と有効期限を使用する
+     * 同一ユーザーが同じ秒に発行してもトークンハッシュが重複しないよう、ランダムな値を含める
      *
      * @param userDetails JWT認証用のユーザー詳細情報
      * @return 生成されたリフレッシュトークン文字列
@@ -265,8 +311,9 @@ public class JWTUtils {
                 .id(userDetails.getUserId().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtRefreshTokenExpirationMs))
-                .signWith(getRefreshTokenKey())
+                .signWith(getRefreshTokenSigningMaterial().key)
                 .claim("type", "refresh")
+                .claim("nonce", UUID.randomUUID().toString())
                 .compact();
     }
 
@@ -295,7 +342,7 @@ public class JWTUtils {
      * @return 抽出されたリフレッシュトークン。Cookieが存在しない場合はnull
      */
     public String getRefreshTokenFromCookies(final HttpServletRequest httpServletRequest) {
-        logger.info("Extracting refresh token from cookies");
+        logger.debug("Extracting refresh token from cookies");
 
         Cookie[] cookies = httpServletRequest.getCookies();
 
@@ -317,13 +364,10 @@ public class JWTUtils {
      * @throws ApplicationLayerException トークンが不正な形式、期限切れ、サポート外の形式、空の場合
      */
     public Boolean validateRefreshToken(final String token) {
-        logger.info("Try validating refresh token");
+        logger.debug("Try validating refresh token");
 
         try {
-            Jwts.parser()
-                .verifyWith((SecretKey) getRefreshTokenKey())
-                .build()
-                .parseSignedClaims(token);
+            parseRefreshTokenClaims(token);
             return true;
         } catch (MalformedJwtException malformedJwtException) {
             logger.error("Malformed refresh token: {}", malformedJwtException.getMessage());
@@ -347,14 +391,9 @@ public class JWTUtils {
      * @return トークンに含まれるユーザーID
      */
     public String getUserIdFromRefreshToken(final String token) {
-        logger.info("Extracting user ID from refresh token");
+        logger.debug("Extracting user ID from refresh token");
 
-        return Jwts.parser()
-                .verifyWith((SecretKey) getRefreshTokenKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getId();
+        return parseRefreshTokenClaims(token).getId();
     }
 
     /**
@@ -364,14 +403,9 @@ public class JWTUtils {
      * @return トークンのsubjectに設定されているメールアドレスまたはログインID
      */
     public String getEmailOrLoginIdFromRefreshToken(final String token) {
-        logger.info("Extracting email or login ID from refresh token");
+        logger.debug("Extracting email or login ID from refresh token");
 
-        return Jwts.parser()
-                .verifyWith((SecretKey) getRefreshTokenKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseRefreshTokenClaims(token).getSubject();
     }
 
     /**
@@ -380,7 +414,7 @@ public class JWTUtils {
      * @return HMAC-SHA アルゴリズム用の署名鍵
      */
     public Key getRefreshTokenKey() {
-        logger.info("Retrieving signing key for refresh token");
+        logger.debug("Retrieving signing key for refresh token");
         byte[] keyBytes = Decoders.BASE64.decode(jwtRefreshTokenSecret);
 
         if (keyBytes.length < TOKEN_SECRET_BYTE_LENGTH) {
@@ -390,6 +424,56 @@ public class JWTUtils {
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    /**
+     * キャッシュ済みのパーサーでリフレッシュトークンを解析し、署名検証済みのClaimsを返す
+     *
+     * @param token リフレッシュトークン文字列
+     * @return 署名検証済みのClaims
+     */
+    private Claims parseRefreshTokenClaims(final String token) {
+        return getRefreshTokenSigningMaterial().parser
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    /**
+     * アクセストークン用の署名鍵とパーサーを取得する
+     * 初回呼び出し時、または秘密鍵の設定値が変わった場合のみ再構築する
+     *
+     * @return アクセストークン用の署名鍵とパーサー
+     */
+    private SigningMaterial getAccessTokenSigningMaterial() {
+        SigningMaterial material = accessTokenSigningMaterial;
+        if (Objects.nonNull(material) && material.isBuiltFrom(jwtTokenSecret)) {
+            return material;
+        }
+        synchronized (this) {
+            if (Objects.isNull(accessTokenSigningMaterial) || !accessTokenSigningMaterial.isBuiltFrom(jwtTokenSecret)) {
+                accessTokenSigningMaterial = new SigningMaterial(jwtTokenSecret, (SecretKey) getKey());
+            }
+            return accessTokenSigningMaterial;
+        }
+    }
+
+    /**
+     * リフレッシュトークン用の署名鍵とパーサーを取得する
+     * 初回呼び出し時、または秘密鍵の設定値が変わった場合のみ再構築する
+     *
+     * @return リフレッシュトークン用の署名鍵とパーサー
+     */
+    private SigningMaterial getRefreshTokenSigningMaterial() {
+        SigningMaterial material = refreshTokenSigningMaterial;
+        if (Objects.nonNull(material) && material.isBuiltFrom(jwtRefreshTokenSecret)) {
+            return material;
+        }
+        synchronized (this) {
+            if (Objects.isNull(refreshTokenSigningMaterial) || !refreshTokenSigningMaterial.isBuiltFrom(jwtRefreshTokenSecret)) {
+                refreshTokenSigningMaterial = new SigningMaterial(jwtRefreshTokenSecret, (SecretKey) getRefreshTokenKey());
+            }
+            return refreshTokenSigningMaterial;
+        }
+    }
+
     /**
      * リフレッシュトークン用のCookieを削除する
      *
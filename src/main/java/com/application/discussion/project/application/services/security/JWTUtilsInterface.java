@@ -13,6 +13,7 @@ public interface JWTUtilsInterface {
     ResponseCookie generateJwtCookie(JWTAuthUserDetails userDetails);
     String getEmailOrLoginId(String token);
     Boolean validateJwtToken(String token);
+    JWTVerifiedClaims parseAndVerify(String token);
     String getUserIdFromToken(String token);
     String getJwtFromCookies(HttpServletRequest request);
     String getJwtFromHeader(HttpServletRequest request);
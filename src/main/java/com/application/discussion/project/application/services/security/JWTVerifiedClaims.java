@@ -0,0 +1,150 @@
+package com.application.discussion.project.application.services.security;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 署名検証済みのJWTクレームを保持する不変オブジェクト
+ * 1リクエストにつき1回だけトークンを解析し、その結果を使い回すために利用する
+ */
+public final class JWTVerifiedClaims {
+
+    private static final String CLAIM_USERNAME = "username";
+    private static final String CLAIM_LOGIN_ID = "loginId";
+    private static final String CLAIM_EMAIL = "email";
+    private static final String CLAIM_ROLES = "roles";
+
+    private final String userId;
+    private final String subject;
+    private final String username;
+    private final String loginId;
+    private final String email;
+    private final List<String> roles;
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    /**
+     * コンストラクタ
+     *
+     * @param userId     ユーザーID（jti）
+     * @param subject    メールアドレスまたはログインID（sub）
+     * @param username   ユーザー名
+     * @param loginId    ログインID
+     * @param email      メールアドレス
+     * @param roles      ロール名のリスト
+     * @param issuedAt   発行日時
+     * @param expiration 有効期限
+     */
+    private JWTVerifiedClaims(
+        final String userId,
+        final String subject,
+        final String username,
+        final String loginId,
+        final String email,
+        final List<String> roles,
+        final Instant issuedAt,
+        final Instant expiration
+    ) {
+        this.userId = userId;
+        this.subject = subject;
+        this.username = username;
+        this.loginId = loginId;
+        this.email = email;
+        this.roles = roles;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * 署名検証済みのClaimsから不変オブジェクトを生成する
+     *
+     * @param claims 署名検証済みのClaims
+     * @return 検証済みクレーム
+     */
+    public static JWTVerifiedClaims from(final Claims claims) {
+        return new JWTVerifiedClaims(
+            claims.getId(),
+            claims.getSubject(),
+            claims.get(CLAIM_USERNAME, String.class),
+            claims.get(CLAIM_LOGIN_ID, String.class),
+            claims.get(CLAIM_EMAIL, String.class),
+            toRoles(claims.get(CLAIM_ROLES)),
+            toInstant(claims.getIssuedAt()),
+            toInstant(claims.getExpiration())
+        );
+    }
+
+    /**
+     * rolesクレームをロール名のリストに変換する
+     * rolesクレームを含まない旧形式のトークンの場合は空のリストを返す
+     */
+    private static List<String> toRoles(final Object rolesClaim) {
+        if (!(rolesClaim instanceof Collection<?> roleCollection)) {
+            return List.of();
+        }
+        return roleCollection.stream()
+            .map(String::valueOf)
+            .toList();
+    }
+
+    private static Instant toInstant(final Date date) {
+        return Objects.isNull(date) ? null : date.toInstant();
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getLoginId() {
+        return loginId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * ロール情報をクレームに含むトークンかを判定する
+     * ステートレスな認証情報の復元が可能かどうかの判定に使用する
+     *
+     * @return ロールを1件以上含む場合true
+     */
+    public boolean hasRoles() {
+        return !roles.isEmpty();
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+
+    @Override
+    public String toString() {
+        return "JWTVerifiedClaims{" +
+            "userId=" + userId +
+            ", subject='" + subject + '\'' +
+            ", issuedAt=" + issuedAt +
+            ", expiration=" + expiration +
+            '}';
+    }
+}
@@ -0,0 +1,157 @@
+package com.application.discussion.project.application.services.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * パスワードのハッシュ化・照合専用の上限付きスレッドプール
+ * BCryptはCPUを占有するため、ログインや登録が集中しても他のリクエストが処理できるよう同時実行数と待機数を制限する
+ * 待機キューが満杯の場合、または待機時間の上限を超えた場合はServiceUnavailableException（503）で即座に拒否する
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+    private static final String REJECTED_MESSAGE = "現在リクエストが集中しています。しばらくしてから再度お試しください";
+
+    @Value("${springboot.app.authentication.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${springboot.app.authentication.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${springboot.app.authentication.password-hashing.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    @Value("${springboot.app.authentication.password-hashing.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    /**
+     * スレッドプールを生成する
+     * スレッド数が0以下の場合は、CPUコア数の半分（最低1）とし、残りのコアを他のリクエストに残す
+     */
+    @PostConstruct
+    public void initialize() {
+        final int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new PasswordHashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        logger.info("Password hashing executor initialized with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * パスワードのハッシュ化・照合処理をスレッドプールで実行し、結果を待機する
+     *
+     * @param task 実行する処理
+     * @return 処理結果
+     * @throws ServiceUnavailableException 待機キューが満杯の場合、または待機時間の上限を超えた場合
+     */
+    public <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            logger.warn("Password hashing rejected: queue is full (queued={}, active={})", getQueueDepth(), getActiveCount());
+            throw new ServiceUnavailableException(REJECTED_MESSAGE, retryAfterSeconds);
+        }
+        submittedCount.incrementAndGet();
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timeoutCount.incrementAndGet();
+            logger.warn("Password hashing timed out after {} ms (queued={}, active={})", waitTimeoutMs, getQueueDepth(), getActiveCount());
+            throw new ServiceUnavailableException(REJECTED_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(REJECTED_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * スレッド名に連番を付与し、スレッドダンプで識別できるようにする
+     */
+    private static final class PasswordHashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -22,6 +22,9 @@ public class MaintopicCreateServiceImpl implements MaintopicCreateService {
     @Autowired
     private MaintopicRepository maintopicRepository;
 
+    @Autowired
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
     @Autowired
     private UserAuthenticationDomainService userAuthenticationDomainService;
 
@@ -41,6 +44,7 @@ public class MaintopicCreateServiceImpl implements MaintopicCreateService {
             
             final Maintopic savedMaintopic = maintopicRepository.createMaintopic(maintopic, authenticatedUser.getUserId());
             logger.info("Maintopic created successfully with ID: {}", savedMaintopic.getMaintopicId());
+            maintopicListSnapshotCache.invalidate();
             return new MaintopicCreateResponse(
                 savedMaintopic.getMaintopicId(),
                 savedMaintopic.getTitle(),
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
 import com.application.discussion.project.application.dtos.topics.MaintopicDeleteResponse;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
 import com.application.discussion.project.domain.repositories.MaintopicRepository;
 
 @Service
@@ -17,6 +18,12 @@ public class MaintopicDeleteServiceImpl implements MaintopicDeleteService {
     @Autowired
     private MaintopicRepository maintopicRepository;
 
+    @Autowired
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
     private static final Logger logger = LoggerFactory.getLogger(MaintopicDeleteServiceImpl.class);
     
     /**
@@ -35,6 +42,8 @@ public class MaintopicDeleteServiceImpl implements MaintopicDeleteService {
             throw new ApplicationLayerException("メイントピックは存在しません", HttpStatus.NOT_FOUND, HttpStatusCode.valueOf(404));
         }
         maintopicRepository.deleteMaintopic(id);
+        maintopicListSnapshotCache.invalidate();
+        discussionSearchRepository.refreshMaintopic(id);
         return new MaintopicDeleteResponse();
     }
 
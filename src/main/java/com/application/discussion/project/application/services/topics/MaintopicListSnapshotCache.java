@@ -0,0 +1,107 @@
+package com.application.discussion.project.application.services.topics;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+
+/**
+ * メイントピックリストのバージョン付きインメモリスナップショット
+ * 一覧取得のたびに発行される全件読み込みとレスポンスの生成を、メイントピックが更新されるまで再利用する
+ * バージョンはETagの生成にも用いるため、プロセスの起動ごとに異なるエポックと組み合わせて返却する
+ *
+ * NOTE: メイントピックの作成・更新・削除時はinvalidateでスナップショットを破棄すること
+ * NOTE: 無効化は同一プロセス内でのみ伝播するため、複数インスタンス構成では他インスタンスの更新を検知できない
+ */
+@Component
+public class MaintopicListSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintopicListSnapshotCache.class);
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 現在のバージョンのスナップショットを取得し、存在しない場合は読み込んで保存する
+     * 読み込み中に無効化された場合、読み込んだリストは返却するが保存はしない
+     *
+     * @param loader スナップショットが存在しない場合にメイントピックリストを読み込む処理
+     * @return メイントピックリスト（変更不可）
+     */
+    public List<MaintopicListResponse> getOrLoad(final Supplier<List<MaintopicListResponse>> loader) {
+        final long currentVersion = version.get();
+        final Snapshot current = snapshot.get();
+        if (Objects.nonNull(current) && current.version() == currentVersion) {
+            return current.maintopics();
+        }
+
+        logger.info("Loading maintopic list snapshot for version: {}", currentVersion);
+        final List<MaintopicListResponse> loaded = List.copyOf(loader.get());
+        if (version.get() == currentVersion) {
+            snapshot.compareAndSet(current, new Snapshot(currentVersion, loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * スナップショットを破棄し、バージョンを進める
+     */
+    public void invalidate() {
+        final long invalidatedVersion = version.getAndIncrement();
+        snapshot.set(null);
+        logger.info("Maintopic list snapshot invalidated at version: {}", invalidatedVersion);
+    }
+
+    /**
+     * 現在のバージョンを表す強いETagを生成する
+     *
+     * @return ダブルクォートで囲まれたETag
+     */
+    public String currentEntityTag() {
+        return "\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * 現在のバージョンとリストの取得条件を表す強いETagを生成する
+     *
+     * @param variant ページ位置などリストの取得条件を表す文字列
+     * @return ダブルクォートで囲まれたETag
+     */
+    public String currentEntityTag(final String variant) {
+        return "\"" + epoch + "-" + version.get() + "-" + variant + "\"";
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * スナップショットのバージョンとメイントピックリストを保持する
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final List<MaintopicListResponse> maintopics;
+
+        private Snapshot(final long version, final List<MaintopicListResponse> maintopics) {
+            this.version = version;
+            this.maintopics = maintopics;
+        }
+
+        private long version() {
+            return version;
+        }
+
+        private List<MaintopicListResponse> maintopics() {
+            return maintopics;
+        }
+    }
+}
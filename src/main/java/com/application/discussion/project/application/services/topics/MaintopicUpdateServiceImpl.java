@@ -7,6 +7,7 @@ import com.application.discussion.project.application.dtos.exceptions.InternalSe
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateRequest;
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateResponse;
 import com.application.discussion.project.domain.entities.topics.Maintopic;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
 import com.application.discussion.project.domain.repositories.MaintopicRepository;
 import com.application.discussion.project.infrastructure.models.topics.Maintopics;
 
@@ -23,6 +24,12 @@ public class MaintopicUpdateServiceImpl implements MaintopicUpdateService {
     @Autowired
     private MaintopicRepository maintopicRepository;
 
+    @Autowired
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
     private static final Logger logger = LoggerFactory.getLogger(MaintopicUpdateServiceImpl.class);
 
     /**
@@ -48,6 +55,8 @@ public class MaintopicUpdateServiceImpl implements MaintopicUpdateService {
             maintopicEntity.setTitle(updateMaintopic.getTitle());
             maintopicEntity.setDescription(updateMaintopic.getDescription());
             Maintopic updatedMaintopic = maintopicRepository.updateMaintopic(maintopicEntity);
+            maintopicListSnapshotCache.invalidate();
+            discussionSearchRepository.refreshMaintopic(id);
 
             logger.info("Successfully updated maintopic with ID: {}", id);
             return new MaintopicUpdateResponse(
@@ -3,7 +3,14 @@ package com.application.discussion.project.application.services.topics;
 import java.util.List;
 
 import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+import com.application.discussion.project.application.dtos.topics.MaintopicPageResponse;
 
 public interface  MaintopicsListService {
     List<MaintopicListResponse> service();
+
+    MaintopicPageResponse serviceByCursor(Long after, Integer size);
+
+    String currentEntityTag();
+
+    String currentEntityTag(Long after, Integer size);
 }
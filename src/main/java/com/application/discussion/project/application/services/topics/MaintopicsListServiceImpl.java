@@ -1,6 +1,7 @@
 package com.application.discussion.project.application.services.topics;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -9,6 +10,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+import com.application.discussion.project.application.dtos.topics.MaintopicPageResponse;
+import com.application.discussion.project.domain.entities.topics.Maintopic;
 import com.application.discussion.project.domain.repositories.MaintopicRepository;
 
 @Service
@@ -17,25 +20,80 @@ public class MaintopicsListServiceImpl implements MaintopicsListService {
     @Autowired
     private MaintopicRepository maintopicRepository;
 
+    @Autowired
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
     private static final Logger logger = LoggerFactory.getLogger(MaintopicsListServiceImpl.class);
 
+    private static final long FIRST_PAGE_CURSOR = 0L;
 
+
+    /**
+     * メイントピックの全件リストを取得する
+     * メイントピックが更新されるまではスナップショットを返却し、データベースへの問い合わせを行わない
+     * @return メイントピックリスト
+     */
     @Override
     public List<MaintopicListResponse> service() {
         logger.info("Fetching list of maintopics");
-        List<MaintopicListResponse> maintopicList = maintopicRepository.findMaintopicList().stream()
-                .map(maintopic -> new MaintopicListResponse(
-                        maintopic.getMaintopicId(),
-                        maintopic.getTitle(),
-                        maintopic.getDescription(),
-                        maintopic.getCreatedAt(),
-                        maintopic.getUpdatedAt(),
-                        maintopic.getIsDeleted(),
-                        maintopic.getIsClosed()
-                ))
+        return maintopicListSnapshotCache.getOrLoad(() -> maintopicRepository.findMaintopicList().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * メイントピックIDをカーソルとしてページ単位のリストを取得する
+     * 指定件数+1件を取得して次ページの有無を判定する
+     * @param after 直前のページの最後のメイントピックID（先頭ページの場合はnull）
+     * @param size ページサイズ
+     * @return メイントピックリストのページ
+     */
+    @Override
+    public MaintopicPageResponse serviceByCursor(final Long after, final Integer size) {
+        final long afterMaintopicId = Objects.isNull(after) ? FIRST_PAGE_CURSOR : after;
+        logger.info("Fetching maintopic page after ID: {} with size: {}", afterMaintopicId, size);
+
+        final List<Maintopic> fetched = maintopicRepository.findMaintopicsAfter(afterMaintopicId, size + 1);
+        final boolean hasNext = fetched.size() > size;
+        final List<MaintopicListResponse> maintopics = fetched.stream()
+                .limit(size)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
-        
-        return maintopicList;
+
+        final Long nextCursor = hasNext ? maintopics.get(maintopics.size() - 1).getMaintopicId() : null;
+        return MaintopicPageResponse.of(maintopics, size, nextCursor);
     }
 
+    /**
+     * 全件リストの現在のバージョンを表すETagを取得する
+     * @return 強いETag
+     */
+    @Override
+    public String currentEntityTag() {
+        return maintopicListSnapshotCache.currentEntityTag();
+    }
+
+    /**
+     * ページ単位のリストの現在のバージョンを表すETagを取得する
+     * @param after 直前のページの最後のメイントピックID（先頭ページの場合はnull）
+     * @param size ページサイズ
+     * @return 強いETag
+     */
+    @Override
+    public String currentEntityTag(final Long after, final Integer size) {
+        final long afterMaintopicId = Objects.isNull(after) ? FIRST_PAGE_CURSOR : after;
+        return maintopicListSnapshotCache.currentEntityTag(afterMaintopicId + "-" + size);
+    }
+
+    private MaintopicListResponse toResponse(final Maintopic maintopic) {
+        return new MaintopicListResponse(
+                maintopic.getMaintopicId(),
+                maintopic.getTitle(),
+                maintopic.getDescription(),
+                maintopic.getCreatedAt(),
+                maintopic.getUpdatedAt(),
+                maintopic.getIsDeleted(),
+                maintopic.getIsClosed()
+        );
+    }
 }
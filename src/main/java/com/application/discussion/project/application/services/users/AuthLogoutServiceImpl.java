@@ -1,5 +1,6 @@
 package com.application.discussion.project.application.services.users;
 
+import java.time.Instant;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -16,9 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
 import com.application.discussion.project.application.dtos.users.LogoutResponse;
 import com.application.discussion.project.application.dtos.users.LogoutResponseDTO;
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
 import com.application.discussion.project.application.services.security.JWTUtils;
 import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
 
 /**
  * ログアウト処理を行うアプリケーションサービスの実装クラス
@@ -36,6 +40,12 @@ public class AuthLogoutServiceImpl implements AuthLogoutService {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     /**
      * ログアウト処理を実行する
      * 
@@ -85,6 +95,12 @@ public class AuthLogoutServiceImpl implements AuthLogoutService {
         refreshTokenRepository.revokeAllByUserId(userDetails.getUserId());
         logger.info("リフレッシュトークンを失効しました: ユーザー={}", username);
 
+        jwtRevocationDenylist.revokeTokensIssuedBefore(userDetails.getUserId(), Instant.now());
+        logger.info("アクセストークンを失効しました: ユーザー={}", username);
+
+        // コミット前に削除すると、コミットまでの間に別のリクエストが変更前の状態を読み込んでキャッシュするため、コミット後に削除する
+        AfterCommit.run(() -> authenticatedUserCache.invalidate(userDetails.getUserId()));
+
         SecurityContextHolder.clearContext();
         logger.info("セキュリティコンテキストをクリアしました: ユーザー={}", username);
         
@@ -3,10 +3,13 @@ package com.application.discussion.project.application.services.users;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseCookie;
@@ -20,6 +23,7 @@ import com.application.discussion.project.application.dtos.users.AuthRefreshToke
 import com.application.discussion.project.application.dtos.users.RefreshTokenResponse;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetailsService;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
 import com.application.discussion.project.application.services.security.JWTUtils;
 import com.application.discussion.project.domain.entities.users.RefreshToken;
 import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
@@ -45,8 +49,18 @@ public class AuthRefreshTokenServiceImpl implements AuthRefreshTokenService {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @Value("${springboot.app.authentication.refresh-token-reuse-grace-ms:5000}")
+    private long refreshTokenReuseGraceMs;
+
+    /**
+     * リフレッシュトークンを使用済みにして、アクセストークンとリフレッシュトークンを再発行する
+     * 再利用を検出した場合の全トークンの失効は、拒否の例外をスローしてもロールバックせずにコミットする
+     */
     @Override
-    @Transactional
+    @Transactional(noRollbackFor = ApplicationLayerException.class)
     public AuthRefreshTokenServiceResult service(final HttpServletRequest request) {
         logger.info("リフレッシュトークン処理を開始します");
 
@@ -64,37 +78,11 @@ public class AuthRefreshTokenServiceImpl implements AuthRefreshTokenService {
         jwtUtils.validateRefreshToken(refreshTokenStr);
 
         String tokenHash = jwtUtils.hashToken(refreshTokenStr);
-        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
-            .orElseThrow(() -> {
-                logger.error("リフレッシュトークンがDBに見つかりません");
-                return new ApplicationLayerException(
-                    INVALID_REFRESH_TOKEN_MESSAGE,
-                    HttpStatus.UNAUTHORIZED,
-                    HttpStatusCode.valueOf(401)
-                );
-            });
-
-        if (storedToken.isAlreadyUsed()) {
-            logger.warn("使用済みリフレッシュトークンの再利用を検出しました。userId: {}", storedToken.getUserId());
-            refreshTokenRepository.revokeAllByUserId(storedToken.getUserId());
-            throw new ApplicationLayerException(
-                INVALID_REFRESH_TOKEN_MESSAGE,
-                HttpStatus.UNAUTHORIZED,
-                HttpStatusCode.valueOf(401)
-            );
-        }
-
-        if (!storedToken.isValid()) {
-            logger.error("リフレッシュトークンが無効または失効しています。tokenId: {}", storedToken.getId());
-            throw new ApplicationLayerException(
-                INVALID_REFRESH_TOKEN_MESSAGE,
-                HttpStatus.UNAUTHORIZED,
-                HttpStatusCode.valueOf(401)
-            );
+        UUID userId = UUID.fromString(jwtUtils.getUserIdFromRefreshToken(refreshTokenStr));
+        if (!refreshTokenRepository.markAsUsedIfValid(tokenHash, userId)) {
+            throw rejectRefreshToken(tokenHash);
         }
 
-        refreshTokenRepository.markAsUsed(storedToken.getId());
-
         String emailOrLoginId = jwtUtils.getEmailOrLoginIdFromRefreshToken(refreshTokenStr);
         UserDetails userDetails = jwtAuthUserDetailsService.loadUserByUsername(emailOrLoginId);
         JWTAuthUserDetails jwtUserDetails = (JWTAuthUserDetails) userDetails;
@@ -122,4 +110,33 @@ public class AuthRefreshTokenServiceImpl implements AuthRefreshTokenService {
         RefreshTokenResponse response = RefreshTokenResponse.of(newAccessToken);
         return AuthRefreshTokenServiceResult.of(response, newRefreshCookie);
     }
+
+    /**
+     * 使用済みにできなかったリフレッシュトークンの状態を確認し、拒否するための例外を生成する
+     * 使用済みトークンの再利用を検出した場合は、該当ユーザーの全トークンを失効させる
+     * 猶予時間内に使用済みになったトークンは、同じトークンによる同時の再発行（複数タブなど）で敗れたものとして失効させない
+     *
+     * @param tokenHash SHA-256ハッシュ化されたトークン文字列
+     * @return 認証エラーの例外
+     */
+    private ApplicationLayerException rejectRefreshToken(final String tokenHash) {
+        Optional<RefreshToken> storedToken = refreshTokenRepository.findByTokenHash(tokenHash);
+        if (storedToken.isEmpty()) {
+            logger.error("リフレッシュトークンがDBに見つかりません");
+        } else if (storedToken.get().isAlreadyUsed()
+            && refreshTokenRepository.isUsedSince(tokenHash, LocalDateTime.now().minusNanos(refreshTokenReuseGraceMs * 1_000_000L))) {
+            logger.info("同時の再発行で使用済みになったリフレッシュトークンを拒否します。userId: {}", storedToken.get().getUserId());
+        } else if (storedToken.get().isAlreadyUsed()) {
+            logger.warn("使用済みリフレッシュトークンの再利用を検出しました。userId: {}", storedToken.get().getUserId());
+            refreshTokenRepository.revokeAllByUserId(storedToken.get().getUserId());
+            jwtRevocationDenylist.revokeTokensIssuedBefore(storedToken.get().getUserId(), Instant.now());
+        } else {
+            logger.error("リフレッシュトークンが無効または失効しています。tokenId: {}", storedToken.get().getId());
+        }
+        return new ApplicationLayerException(
+            INVALID_REFRESH_TOKEN_MESSAGE,
+            HttpStatus.UNAUTHORIZED,
+            HttpStatusCode.valueOf(401)
+        );
+    }
 }
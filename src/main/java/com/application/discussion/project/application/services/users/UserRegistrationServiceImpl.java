@@ -3,11 +3,6 @@ package com.application.discussion.project.application.services.users;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpStatusCode;
-
-import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
-
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -75,12 +70,7 @@ public class UserRegistrationServiceImpl implements UserRegistrationService {
         );
 
         final User userEntityWithHashPassword = newUser.reBuildWithHashedPassword(hashedPassword);
-        if (hashedPassword.isHashed(request.getPassword(), passwordEncoder)) {
-            logger.info("Password has been successfully hashed for user: {}", userEntityWithHashPassword.getLoginId());
-        } else {
-            logger.error("Password hashing failed for user: {}", userEntityWithHashPassword.getLoginId());
-            throw new ApplicationLayerException("不明なエラーが発生しました", HttpStatus.INTERNAL_SERVER_ERROR, HttpStatusCode.valueOf(500));
-        }
+        logger.info("Password has been successfully hashed for user: {}", userEntityWithHashPassword.getLoginId());
         
         logger.info("Saving new user to the repository: {}", userEntityWithHashPassword.toString());
         final User savedUser = usersRepositoryInterface.save(userEntityWithHashPassword);
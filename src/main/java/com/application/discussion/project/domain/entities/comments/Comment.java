@@ -0,0 +1,164 @@
+package com.application.discussion.project.domain.entities.comments;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+
+/**
+ * コメントエンティティ
+ * 議論に対するコメントと、コメントへの返信の階層を表すドメインモデル
+ * 議論への直接のコメントの深さを0とし、返信ごとに1ずつ深くなる
+ *
+ * NOTE: 深さはMAX_DEPTH未満に制限し、最も深いコメントへの返信は作成しない。返信先を付け替えると返信の文脈が変わるため、別の返信先への返信として扱わない
+ */
+public class Comment {
+
+    /**
+     * コメントの階層の数の上限
+     */
+    public static final int MAX_DEPTH = 32;
+
+    private final Long commentId;
+    private final Long discussionId;
+    private final Long parentId;
+    private final UUID userId;
+    private final Paragraph paragraph;
+    private final int depth;
+    private final int replyCount;
+    private final LocalDateTime createdAt;
+
+    private Comment(
+        final Long commentId,
+        final Long discussionId,
+        final Long parentId,
+        final UUID userId,
+        final Paragraph paragraph,
+        final int depth,
+        final int replyCount,
+        final LocalDateTime createdAt
+    ) {
+        if (Objects.isNull(discussionId)) {
+            throw new DomainLayerErrorException(
+                "DiscussionId must not be null when creating a Comment.",
+                HttpStatus.BAD_REQUEST,
+                HttpStatusCode.valueOf(400)
+            );
+        }
+        if (Objects.isNull(userId)) {
+            throw new DomainLayerErrorException("不正な操作です", HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        this.commentId = commentId;
+        this.discussionId = discussionId;
+        this.parentId = parentId;
+        this.userId = userId;
+        this.paragraph = paragraph;
+        this.depth = depth;
+        this.replyCount = replyCount;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * データベースから取得したデータを元にコメントエンティティを復元するファクトリメソッド
+     *
+     * @param commentId    コメントID
+     * @param discussionId 議論ID
+     * @param parentId     返信先のコメントID（議論への直接のコメントの場合はnull）
+     * @param userId       投稿したユーザーのID
+     * @param paragraph    本文
+     * @param depth        深さ
+     * @param replyCount   直接の返信の件数
+     * @param createdAt    作成日時
+     * @return 復元されたコメントエンティティ
+     */
+    public static Comment of(
+        final Long commentId,
+        final Long discussionId,
+        final Long parentId,
+        final UUID userId,
+        final String paragraph,
+        final int depth,
+        final int replyCount,
+        final LocalDateTime createdAt
+    ) {
+        return new Comment(commentId, discussionId, parentId, userId, Paragraph.of(paragraph), depth, replyCount, createdAt);
+    }
+
+    /**
+     * 議論への直接のコメントを作成するファクトリメソッド
+     *
+     * @param paragraph    本文
+     * @param discussionId 議論ID
+     * @param userId       投稿するユーザーのID
+     * @return 新規作成されたコメントエンティティ
+     */
+    public static Comment create(final Paragraph paragraph, final Long discussionId, final UUID userId) {
+        return new Comment(null, discussionId, null, userId, paragraph, 0, 0, null);
+    }
+
+    /**
+     * コメントへの返信を作成するファクトリメソッド
+     *
+     * @param paragraph 本文
+     * @param parent    返信先のコメント
+     * @param userId    投稿するユーザーのID
+     * @return 新規作成されたコメントエンティティ
+     * @throws DomainLayerErrorException 返信先が最も深い階層のコメントの場合
+     */
+    public static Comment createReply(final Paragraph paragraph, final Comment parent, final UUID userId) {
+        if (!parent.acceptsReplies()) {
+            throw new DomainLayerErrorException(
+                "コメントの階層の上限に達しているため、このコメントには返信できません",
+                HttpStatus.BAD_REQUEST,
+                HttpStatusCode.valueOf(400)
+            );
+        }
+        return new Comment(null, parent.discussionId, parent.commentId, userId, paragraph, parent.depth + 1, 0, null);
+    }
+
+    /**
+     * 返信できるコメントかを判定する
+     *
+     * @return 返信の深さがMAX_DEPTH未満になる場合true
+     */
+    public boolean acceptsReplies() {
+        return depth + 1 < MAX_DEPTH;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getParagraph() {
+        return paragraph.getValue();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getReplyCount() {
+        return replyCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
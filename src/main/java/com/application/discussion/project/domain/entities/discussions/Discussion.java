@@ -57,7 +57,7 @@ public class Discussion {
         LocalDateTime deletedAt
         
     ) {
-        logger.info("Initializing Discussion entity with discussionId: {}, maintopicId: {}, userId: {}", discussionId, maintopicId, userId);
+        logger.debug("Initializing Discussion entity with discussionId: {}, maintopicId: {}, userId: {}", discussionId, maintopicId, userId);
         if (paragraph == null){
             throw new DomainLayerErrorException(
                 "Paragraph must not be null when creating a Discussion.",
@@ -82,7 +82,7 @@ public class Discussion {
                 HttpStatusCode.valueOf(400)
             );
         }
-        logger.info("All required fields are valid. Proceeding with Discussion entity creation.");
+        logger.debug("All required fields are valid. Proceeding with Discussion entity creation.");
 
         this.discussionId = discussionId;
         this.paragraph = paragraph;
@@ -92,7 +92,7 @@ public class Discussion {
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
 
-        logger.info("Discussion entity created successfully with ID: {}", this.discussionId);
+        logger.debug("Discussion entity created successfully with ID: {}", this.discussionId);
     }
 
     /**
@@ -139,7 +139,7 @@ public class Discussion {
         final Long maintopicId,
         final UUID userId
     ){  
-        logger.info("Creating new Discussion with paragraph: {} user: {}", paragraph, userId);
+        logger.debug("Creating new Discussion with paragraph: {} user: {}", paragraph, userId);
         
         return new Discussion(
             Long.valueOf(0),
@@ -0,0 +1,79 @@
+package com.application.discussion.project.domain.entities.discussions;
+
+import java.time.LocalDateTime;
+
+/**
+ * 議論検索でヒットした議論を表現する読み取り専用のエンティティ
+ * 検索結果の表示に必要なメイントピックのタイトルと、並び順のキーとなる検索スコアを合わせて保持する
+ */
+public class DiscussionSearchHit {
+
+    private final Long discussionId;
+    private final String paragraph;
+    private final Long maintopicId;
+    private final String maintopicTitle;
+    private final LocalDateTime createdAt;
+    private final double score;
+
+    private DiscussionSearchHit(
+        final Long discussionId,
+        final String paragraph,
+        final Long maintopicId,
+        final String maintopicTitle,
+        final LocalDateTime createdAt,
+        final double score
+    ) {
+        this.discussionId = discussionId;
+        this.paragraph = paragraph;
+        this.maintopicId = maintopicId;
+        this.maintopicTitle = maintopicTitle;
+        this.createdAt = createdAt;
+        this.score = score;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param discussionId   議論ID
+     * @param paragraph      議論の本文
+     * @param maintopicId    メイントピックID
+     * @param maintopicTitle メイントピックのタイトル
+     * @param createdAt      作成日時
+     * @param score          検索スコア（大きいほど関連度が高い）
+     * @return 検索結果
+     */
+    public static DiscussionSearchHit of(
+        final Long discussionId,
+        final String paragraph,
+        final Long maintopicId,
+        final String maintopicTitle,
+        final LocalDateTime createdAt,
+        final double score
+    ) {
+        return new DiscussionSearchHit(discussionId, paragraph, maintopicId, maintopicTitle, createdAt, score);
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public String getParagraph() {
+        return paragraph;
+    }
+
+    public Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    public String getMaintopicTitle() {
+        return maintopicTitle;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
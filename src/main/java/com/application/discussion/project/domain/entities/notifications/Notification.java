@@ -0,0 +1,92 @@
+package com.application.discussion.project.domain.entities.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.valueobjects.notifications.NotificationType;
+
+/**
+ * 通知エンティティ
+ * ユーザーごとの受信箱に配信された1件の通知を表すドメインモデル
+ * 既読かどうかは通知ごとに保持せず、受信箱の既読位置（NotificationInbox）との比較で判定する
+ */
+public class Notification {
+
+    private final Long notificationId;
+    private final UUID userId;
+    private final NotificationType type;
+    private final Long maintopicId;
+    private final Long discussionId;
+    private final UUID actorUserId;
+    private final LocalDateTime createdAt;
+
+    private Notification(
+        final Long notificationId,
+        final UUID userId,
+        final NotificationType type,
+        final Long maintopicId,
+        final Long discussionId,
+        final UUID actorUserId,
+        final LocalDateTime createdAt
+    ) {
+        this.notificationId = notificationId;
+        this.userId = userId;
+        this.type = type;
+        this.maintopicId = maintopicId;
+        this.discussionId = discussionId;
+        this.actorUserId = actorUserId;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * データベースから取得したデータを元に通知エンティティを復元するファクトリメソッド
+     *
+     * @param notificationId 通知ID
+     * @param userId         通知を受け取るユーザーのID
+     * @param type           通知の種類
+     * @param maintopicId    メイントピックID
+     * @param discussionId   議論ID
+     * @param actorUserId    通知のきっかけとなる操作をしたユーザーのID
+     * @param createdAt      作成日時
+     * @return 復元された通知エンティティ
+     */
+    public static Notification of(
+        final Long notificationId,
+        final UUID userId,
+        final NotificationType type,
+        final Long maintopicId,
+        final Long discussionId,
+        final UUID actorUserId,
+        final LocalDateTime createdAt
+    ) {
+        return new Notification(notificationId, userId, type, maintopicId, discussionId, actorUserId, createdAt);
+    }
+
+    public Long getNotificationId() {
+        return notificationId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,55 @@
+package com.application.discussion.project.domain.entities.notifications;
+
+/**
+ * 通知の受信箱エンティティ
+ * ユーザーごとの未読件数と既読位置を表すドメインモデル
+ * 既読位置以下のIDの通知を既読とし、既読位置はまとめて進めるのみで戻さない
+ */
+public class NotificationInbox {
+
+    private final long unreadCount;
+    private final long lastReadId;
+
+    private NotificationInbox(final long unreadCount, final long lastReadId) {
+        this.unreadCount = unreadCount;
+        this.lastReadId = lastReadId;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param unreadCount 未読件数
+     * @param lastReadId  既読位置（既読の通知がない場合は0）
+     * @return 受信箱エンティティ
+     */
+    public static NotificationInbox of(final long unreadCount, final long lastReadId) {
+        return new NotificationInbox(unreadCount, lastReadId);
+    }
+
+    /**
+     * 通知を受け取ったことがないユーザーの受信箱
+     *
+     * @return 未読件数0、既読位置0の受信箱エンティティ
+     */
+    public static NotificationInbox empty() {
+        return new NotificationInbox(0L, 0L);
+    }
+
+    /**
+     * 通知が既読かを判定する
+     *
+     * @param notification 通知
+     * @return 既読位置以下の場合true
+     */
+    public boolean isRead(final Notification notification) {
+        return notification.getNotificationId() <= lastReadId;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public long getLastReadId() {
+        return lastReadId;
+    }
+}
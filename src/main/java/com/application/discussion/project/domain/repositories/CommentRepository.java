@@ -0,0 +1,55 @@
+package com.application.discussion.project.domain.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.application.discussion.project.domain.entities.comments.Comment;
+
+/**
+ * コメントリポジトリインターフェイス
+ * コメントの階層は、コメントごとに祖先のIDを並べたパス（マテリアライズドパス）で保持し、
+ * 同じ階層の返信の取得と、部分木全体の取得をそれぞれ1回の範囲検索で行う
+ */
+public interface CommentRepository {
+
+    /**
+     * コメントを取得する
+     *
+     * @param commentId コメントID
+     * @return コメント（存在しない場合は空）
+     */
+    Optional<Comment> findById(Long commentId);
+
+    /**
+     * コメントを作成する
+     * 返信の場合は、同一トランザクション内で返信先の返信件数を1件増やす
+     *
+     * @param comment 作成するコメント
+     * @return 保存されたコメント（IDと作成日時が設定済み）
+     */
+    Comment createComment(Comment comment);
+
+    /**
+     * 同じ階層のコメントをコメントIDの昇順（投稿順）にキーセット方式で取得する
+     *
+     * @param discussionId 議論ID
+     * @param parentId     返信先のコメントID（nullの場合は議論への直接のコメントを取得する）
+     * @param afterId      このコメントIDより後のコメントを取得する（nullの場合は先頭から取得する）
+     * @param limit        取得件数の上限
+     * @return コメントのリスト
+     */
+    List<Comment> findReplies(Long discussionId, Long parentId, Long afterId, int limit);
+
+    /**
+     * コメントと、その返信を階層ごとに先頭から指定件数ずつ取得する
+     * 返信先が含まれない返信は取得しないため、結果は常に1つの木になる
+     *
+     * @param discussionId    議論ID
+     * @param commentId       起点のコメントID
+     * @param repliesPerLevel 返信先ごとに取得する返信の件数の上限
+     * @param maxDepth        起点からの深さの上限
+     * @param limit           取得するコメントの総数の上限（起点を含む）
+     * @return 起点のコメントを先頭とし、返信先が返信より前に並ぶコメントのリスト
+     */
+    List<Comment> findThread(Long discussionId, Long commentId, int repliesPerLevel, int maxDepth, int limit);
+}
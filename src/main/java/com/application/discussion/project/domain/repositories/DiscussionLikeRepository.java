@@ -0,0 +1,40 @@
+package com.application.discussion.project.domain.repositories;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 議論へのいいねリポジトリインターフェイス
+ * いいねの有無はユーザーと議論の組ごとに1件の行で管理し、件数は議論ごとの集計値から取得する
+ *
+ * NOTE: 件数の集計値への反映は非同期で行うため、件数の取得はデータベースへ未反映の増減を含めて返すこと
+ */
+public interface DiscussionLikeRepository {
+
+    /**
+     * 議論にいいねする
+     *
+     * @param userId       いいねするユーザーのID
+     * @param discussionId 議論ID
+     * @return いいねを新たに登録した場合true（既にいいね済みの場合false）
+     */
+    boolean like(UUID userId, Long discussionId);
+
+    /**
+     * 議論へのいいねを取り消す
+     *
+     * @param userId       いいねを取り消すユーザーのID
+     * @param discussionId 議論ID
+     * @return いいねを取り消した場合true（いいねしていない場合false）
+     */
+    boolean unlike(UUID userId, Long discussionId);
+
+    /**
+     * 議論ごとのいいね件数を取得する
+     *
+     * @param discussionIds 議論IDのコレクション
+     * @return 議論IDといいね件数の組（いいねのない議論は0）
+     */
+    Map<Long, Long> countLikes(Collection<Long> discussionIds);
+}
@@ -1,8 +1,10 @@
 package com.application.discussion.project.domain.repositories;
 
 import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,15 @@ public interface DiscussionRepository {
      * @return 保存されたディスカッションエンティティ（IDや日時が設定済み）
      */
     Discussion createDiscussion(Discussion discussion);
+
+    /**
+     * 複数のディスカッションを一括で新規作成してデータストアに保存する
+     * メイントピックのディスカッション件数もメイントピックごとにまとめて増やす
+     *
+     * @param discussions 保存するディスカッションエンティティのリスト
+     * @return 保存されたディスカッションエンティティのリスト（引数と同じ順序で、IDや日時が設定済み）
+     */
+    List<Discussion> createDiscussions(List<Discussion> discussions);
     
     /**
      * 指定されたIDのディスカッションを取得する
@@ -43,4 +54,43 @@ public interface DiscussionRepository {
      * @return ページング情報を含むディスカッションエンティティのリスト
      */
     Page<Discussion> findAllDiscussions(Long maintopicId, Pageable pageable);
+
+    /**
+     * 総件数を取得せずにページネーション対応でディスカッションを取得する
+     * 指定件数+1件を取得して次ページの有無のみを判定する
+     *
+     * @param maintopicId メイントピックID
+     * @param pageable ページネーション情報
+     * @return 次ページの有無を含むディスカッションエンティティのスライス
+     */
+    Slice<Discussion> findDiscussionSlice(Long maintopicId, Pageable pageable);
+
+    /**
+     * 指定されたIDのディスカッションを削除する
+     * メイントピックのディスカッション件数も合わせて減らす
+     *
+     * @param discussionId 削除対象のディスカッションID
+     */
+    void deleteDiscussion(Long discussionId);
+
+    /**
+     * キーセット方式でカーソルの前後にあるディスカッションを取得する
+     * OFFSETによる読み飛ばしと総件数の取得を行わない
+     *
+     * @param maintopicId メイントピックID
+     * @param cursor 起点となるカーソル（nullの場合は先頭から取得）
+     * @param isOlderThanCursor trueの場合はカーソルより古いものを作成日時降順で、falseの場合は新しいものを昇順で取得する
+     * @param limit 取得件数の上限
+     * @return ディスカッションエンティティのリスト
+     */
+    List<Discussion> findDiscussionsByCursor(Long maintopicId, DiscussionCursor cursor, boolean isOlderThanCursor, int limit);
+
+    /**
+     * メイントピックに紐づくディスカッション件数を取得する
+     * 作成・削除時に増減させている件数を参照するため、ディスカッションテーブルの集計は行わない
+     *
+     * @param maintopicId メイントピックID
+     * @return ディスカッション件数
+     */
+    long countDiscussions(Long maintopicId);
 }
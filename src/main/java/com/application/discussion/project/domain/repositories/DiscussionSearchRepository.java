@@ -0,0 +1,67 @@
+package com.application.discussion.project.domain.repositories;
+
+import java.util.List;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+
+/**
+ * 議論検索リポジトリインターフェイス
+ * 議論の本文と、議論が属するメイントピックのタイトル・説明を対象に全文検索を行う
+ * 実装はインフラストラクチャ層で行われ、springboot.app.search.engineの設定で切り替える
+ *
+ * NOTE: 検索用のインデックスをアプリケーション内に持つ実装のため、議論・メイントピックの変更時は
+ * 対応する通知メソッドを呼び出すこと。データベースで検索する実装では何もしない
+ */
+public interface DiscussionSearchRepository {
+
+    /**
+     * キーワードに一致する議論をスコアの降順（同スコアは議論IDの降順）で取得する
+     *
+     * @param keyword     検索キーワード
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor      起点となるカーソル（nullの場合は先頭から取得）
+     * @param limit       取得件数の上限
+     * @return 検索結果のリスト
+     */
+    List<DiscussionSearchHit> search(SearchKeyword keyword, Long maintopicId, DiscussionSearchCursor cursor, int limit);
+
+    /**
+     * 作成された議論を検索対象に追加する
+     * トランザクション内で呼び出した場合はコミット後に反映する
+     *
+     * @param discussion 作成された議論
+     */
+    default void index(final Discussion discussion) {
+    }
+
+    /**
+     * 一括で作成された議論を検索対象に追加する
+     * トランザクション内で呼び出した場合はコミット後に反映する
+     *
+     * @param discussions 作成された議論のリスト
+     */
+    default void indexAll(final List<Discussion> discussions) {
+        discussions.forEach(this::index);
+    }
+
+    /**
+     * 削除された議論を検索対象から除外する
+     * トランザクション内で呼び出した場合はコミット後に反映する
+     *
+     * @param discussionId 削除された議論ID
+     */
+    default void remove(final Long discussionId) {
+    }
+
+    /**
+     * 更新・削除されたメイントピックのタイトルと削除状態を検索結果に反映する
+     * トランザクション内で呼び出した場合はコミット後に反映する
+     *
+     * @param maintopicId 更新・削除されたメイントピックID
+     */
+    default void refreshMaintopic(final Long maintopicId) {
+    }
+}
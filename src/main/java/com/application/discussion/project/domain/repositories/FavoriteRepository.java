@@ -0,0 +1,45 @@
+package com.application.discussion.project.domain.repositories;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+
+/**
+ * お気に入りリポジトリインターフェイス
+ * メイントピック・議論のお気に入りを、ユーザーと対象の組ごとに1件の行で管理する
+ */
+public interface FavoriteRepository {
+
+    /**
+     * 対象をお気に入りに追加する
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetId   対象のID
+     * @return 新たに追加した場合true（既にお気に入りの場合false）
+     */
+    boolean favorite(UUID userId, FavoriteTargetType targetType, Long targetId);
+
+    /**
+     * 対象をお気に入りから削除する
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetId   対象のID
+     * @return 削除した場合true（お気に入りでない場合false）
+     */
+    boolean unfavorite(UUID userId, FavoriteTargetType targetType, Long targetId);
+
+    /**
+     * 指定した対象のうち、ユーザーがお気に入りにしているものを取得する
+     * 一覧の各項目のお気に入り状態を1回の呼び出しで判定するために使用する
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetIds  判定する対象のIDのコレクション
+     * @return お気に入りにしている対象のID（引数の順序を保持する）
+     */
+    Set<Long> findFavoritedIds(UUID userId, FavoriteTargetType targetType, Collection<Long> targetIds);
+}
@@ -10,6 +10,15 @@ import com.application.discussion.project.infrastructure.models.topics.Maintopic
 public interface MaintopicRepository {
     List<Maintopic> findMaintopicList();
 
+    /**
+     * 指定IDより後ろのメイントピックをID昇順で指定件数まで取得する
+     *
+     * @param afterMaintopicId 直前のページの最後のメイントピックID（先頭ページの場合は0）
+     * @param limit 取得件数
+     * @return メイントピックのリスト
+     */
+    List<Maintopic> findMaintopicsAfter(Long afterMaintopicId, int limit);
+
     Maintopic findMaintopicById(Long maintopicId);
 
     Maintopic createMaintopic(Maintopic maintopic, UUID userId);
@@ -0,0 +1,52 @@
+package com.application.discussion.project.domain.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.notifications.Notification;
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+
+/**
+ * 通知リポジトリインターフェイス
+ * 通知のきっかけとなる操作は非同期に受け付け、受信者ごとの受信箱への配信はまとめて行う
+ */
+public interface NotificationRepository {
+
+    /**
+     * 議論の投稿による通知を受け付ける
+     * 配信は非同期に行うため、呼び出し元は配信の完了を待たない
+     * トランザクション内の場合はコミット後に受け付ける
+     *
+     * @param discussion 投稿された議論
+     */
+    void publishDiscussionCreated(Discussion discussion);
+
+    /**
+     * ユーザーの通知をIDの降順（新しい順）にキーセット方式で取得する
+     *
+     * @param userId   ユーザーID
+     * @param beforeId この通知IDより前の通知を取得する（nullの場合は最新から取得する）
+     * @param limit    取得件数の上限
+     * @return 通知のリスト
+     */
+    List<Notification> findNotifications(UUID userId, Long beforeId, int limit);
+
+    /**
+     * ユーザーの受信箱を取得する
+     *
+     * @param userId ユーザーID
+     * @return 受信箱（通知を受け取ったことがない場合は空の受信箱）
+     */
+    NotificationInbox findInbox(UUID userId);
+
+    /**
+     * 指定した通知IDまでの通知をまとめて既読にする
+     * 既読位置を進めるのみのため、現在の既読位置以下を指定した場合は何もしない
+     *
+     * @param userId ユーザーID
+     * @param upToId 既読にする最後の通知ID
+     * @return 更新後の受信箱
+     */
+    NotificationInbox markRead(UUID userId, Long upToId);
+}
@@ -1,5 +1,6 @@
 package com.application.discussion.project.domain.repositories.users;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,9 +35,22 @@ public interface RefreshTokenRepository {
     void revokeAllByUserId(UUID userId);
 
     /**
-     * リフレッシュトークンを使用済みにする
+     * 未使用・未失効・有効期限内のリフレッシュトークンを使用済みにする
+     * 判定と更新は不可分に行われ、同じトークンで同時に呼び出しても成功するのは1回のみとなる
      *
-     * @param tokenId リフレッシュトークンのUUID
+     * @param tokenHash SHA-256ハッシュ化されたトークン文字列
+     * @param userId    トークンの所有者のUUID
+     * @return 使用済みにした場合true、該当するトークンがないか既に無効な場合false
+     */
+    boolean markAsUsedIfValid(String tokenHash, UUID userId);
+
+    /**
+     * リフレッシュトークンが指定日時以降に使用済みになったかを判定する
+     * 同じトークンによる同時の再発行で敗れたリクエストを、盗用されたトークンの再利用と区別するために使用する
+     *
+     * @param tokenHash SHA-256ハッシュ化されたトークン文字列
+     * @param usedSince 判定の起点となる日時
+     * @return 起点以降に使用済みになった場合true
      */
-    void markAsUsed(UUID tokenId);
+    boolean isUsedSince(String tokenHash, LocalDateTime usedSince);
 }
@@ -1,5 +1,6 @@
 package com.application.discussion.project.domain.services.users;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -11,6 +12,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
@@ -22,6 +24,9 @@ public class UserAuthenticationDomainServiceImpl implements UserAuthenticationDo
     @Autowired
     private UsersRepositoryInterface usersRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     private static final Logger logger = LoggerFactory.getLogger(UserAuthenticationDomainServiceImpl.class);
 
     @Override
@@ -36,11 +41,17 @@ public class UserAuthenticationDomainServiceImpl implements UserAuthenticationDo
 
         JWTAuthUserDetails userDetails = (JWTAuthUserDetails) authentication.getPrincipal();
         UUID userId = userDetails.getUserId();
+        Optional<User> cachedUser = authenticatedUserCache.getUser(userId);
+        if (cachedUser.isPresent()) {
+            logger.info("Authenticated user cache hit: {}", userId);
+            return cachedUser.get();
+        }
         User user = usersRepository.findById(userId)
             .orElseThrow(() -> {
                 logger.error("Authenticated user with ID {} not found in repository", userId);
                 return new DomainLayerErrorException("認証されたユーザーが見つかりません", HttpStatus.UNAUTHORIZED, HttpStatusCode.valueOf(401));
             });
+        authenticatedUserCache.putUser(user);
         logger.info("Authenticated user retrieved successfully: {}", user.getLoginId());
         return user;
     }
@@ -0,0 +1,105 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+/**
+ * 議論リストのキーセットページネーションに用いるカーソルを表現する値オブジェクト
+ * 並び順のキーである(作成日時, 議論ID)の組を保持し、クライアントには不透明な文字列として受け渡す
+ */
+public class DiscussionCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "カーソルの形式が不正です";
+
+    private final LocalDateTime createdAt;
+    private final Long discussionId;
+
+    private DiscussionCursor(final LocalDateTime createdAt, final Long discussionId) {
+        this.createdAt = createdAt;
+        this.discussionId = discussionId;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param createdAt    議論の作成日時
+     * @param discussionId 議論ID
+     * @return カーソル
+     */
+    public static DiscussionCursor of(final LocalDateTime createdAt, final Long discussionId) {
+        if (Objects.isNull(createdAt) || Objects.isNull(discussionId)) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        return new DiscussionCursor(createdAt, discussionId);
+    }
+
+    /**
+     * クライアントから受け取ったカーソル文字列を復元する
+     *
+     * @param encodedCursor encodeで生成されたカーソル文字列
+     * @return カーソル
+     * @throws DomainLayerErrorException カーソルの形式が不正な場合
+     */
+    public static DiscussionCursor decode(final String encodedCursor) {
+        if (StringUtils.isBlank(encodedCursor)) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+            }
+            return of(
+                LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                Long.valueOf(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+    }
+
+    /**
+     * クライアントに返却する不透明なカーソル文字列に変換する
+     *
+     * @return URLセーフなBase64文字列
+     */
+    public String encode() {
+        final String raw = createdAt.toString() + SEPARATOR + discussionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DiscussionCursor other)) {
+            return false;
+        }
+        return createdAt.equals(other.createdAt) && discussionId.equals(other.discussionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, discussionId);
+    }
+}
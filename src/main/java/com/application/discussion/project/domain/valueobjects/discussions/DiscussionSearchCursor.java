@@ -0,0 +1,116 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+/**
+ * 議論検索結果のキーセットページネーションに用いるカーソルを表現する値オブジェクト
+ * 並び順のキーである(スコア, 議論ID)の組を保持し、クライアントには不透明な文字列として受け渡す
+ */
+public class DiscussionSearchCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "カーソルの形式が不正です";
+
+    private final double score;
+    private final Long discussionId;
+
+    private DiscussionSearchCursor(final double score, final Long discussionId) {
+        this.score = score;
+        this.discussionId = discussionId;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param score        検索スコア
+     * @param discussionId 議論ID
+     * @return カーソル
+     */
+    public static DiscussionSearchCursor of(final double score, final Long discussionId) {
+        if (Objects.isNull(discussionId) || !Double.isFinite(score)) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        return new DiscussionSearchCursor(score, discussionId);
+    }
+
+    /**
+     * クライアントから受け取ったカーソル文字列を復元する
+     *
+     * @param encodedCursor encodeで生成されたカーソル文字列
+     * @return カーソル
+     * @throws DomainLayerErrorException カーソルの形式が不正な場合
+     */
+    public static DiscussionSearchCursor decode(final String encodedCursor) {
+        if (StringUtils.isBlank(encodedCursor)) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+            }
+            return of(
+                Double.parseDouble(decoded.substring(0, separatorIndex)),
+                Long.valueOf(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new DomainLayerErrorException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+    }
+
+    /**
+     * クライアントに返却する不透明なカーソル文字列に変換する
+     * スコアはDouble.toStringで出力するため、復元時に同じ値に戻る
+     *
+     * @return URLセーフなBase64文字列
+     */
+    public String encode() {
+        final String raw = Double.toString(score) + SEPARATOR + discussionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 指定したスコアと議論IDの組が、並び順（スコア降順、議論ID降順）でこのカーソルより後にあるかを判定する
+     *
+     * @param otherScore        判定対象のスコア
+     * @param otherDiscussionId 判定対象の議論ID
+     * @return カーソルより後にある場合true
+     */
+    public boolean isFollowedBy(final double otherScore, final long otherDiscussionId) {
+        final int scoreComparison = Double.compare(otherScore, score);
+        return scoreComparison < 0 || (scoreComparison == 0 && otherDiscussionId < discussionId);
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DiscussionSearchCursor other)) {
+            return false;
+        }
+        return Double.compare(score, other.score) == 0 && discussionId.equals(other.discussionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(score, discussionId);
+    }
+}
@@ -65,7 +65,7 @@ public class Paragraph {
      * @throws DomainLayerErrorException 検証に失敗した場合
      */
     private String validateAndNormalize(String input) {
-        logger.info("Validating and normalizing paragraph: {}", input);
+        logger.debug("Validating and normalizing paragraph: {}", input);
         validateNotNull(input);
 
         String normalized = normalizeText(input);
@@ -73,7 +73,7 @@ public class Paragraph {
         validateLength(normalized);
         validateContent(normalized);
 
-        logger.info("Paragraph validated and normalized: {}", normalized);
+        logger.debug("Paragraph validated and normalized: {}", normalized);
 
         return normalized;
     }
@@ -0,0 +1,94 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+/**
+ * 議論検索のキーワードを表現する値オブジェクト
+ * 入力を小文字化して空白で語に分割し、全ての語を含む議論を検索対象とする
+ */
+public class SearchKeyword {
+
+    private static final int MAX_LENGTH = 100;
+    private static final int MAX_TERMS = 5;
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("[\\s\\u3000]+");
+
+    private final String value;
+    private final List<String> terms;
+
+    private SearchKeyword(final String value, final List<String> terms) {
+        this.value = value;
+        this.terms = terms;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param input 検索キーワード（全角空白を含む空白で区切ると複数語のAND検索となる）
+     * @return 検索キーワード
+     * @throws DomainLayerErrorException キーワードが空、長すぎる、または語が多すぎる場合
+     */
+    public static SearchKeyword of(final String input) {
+        if (StringUtils.isBlank(input)) {
+            throw new DomainLayerErrorException("検索キーワードは必須です", HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        final String normalized = WHITESPACE_PATTERN.matcher(input.strip().toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+        if (normalized.isEmpty()) {
+            throw new DomainLayerErrorException("検索キーワードは必須です", HttpStatus.BAD_REQUEST, HttpStatusCode.valueOf(400));
+        }
+        if (normalized.length() > MAX_LENGTH) {
+            throw new DomainLayerErrorException(
+                String.format("検索キーワードは%d文字以内で入力してください", MAX_LENGTH),
+                HttpStatus.BAD_REQUEST,
+                HttpStatusCode.valueOf(400)
+            );
+        }
+        final List<String> terms = Arrays.stream(normalized.split(" ")).distinct().toList();
+        if (terms.size() > MAX_TERMS) {
+            throw new DomainLayerErrorException(
+                String.format("検索キーワードは%d語以内で入力してください", MAX_TERMS),
+                HttpStatus.BAD_REQUEST,
+                HttpStatusCode.valueOf(400)
+            );
+        }
+        return new SearchKeyword(normalized, terms);
+    }
+
+    /**
+     * 正規化したキーワード全体（語を半角空白1つで連結したもの）
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 重複を除いた検索語のリスト
+     */
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SearchKeyword other)) {
+            return false;
+        }
+        return value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
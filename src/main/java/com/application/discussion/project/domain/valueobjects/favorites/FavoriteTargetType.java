@@ -0,0 +1,52 @@
+package com.application.discussion.project.domain.valueobjects.favorites;
+
+import java.util.Arrays;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+/**
+ * お気に入りの対象の種類
+ */
+public enum FavoriteTargetType {
+
+    /**
+     * メイントピック
+     */
+    MAINTOPIC("maintopics"),
+
+    /**
+     * 議論
+     */
+    DISCUSSION("discussions");
+
+    private final String pathSegment;
+
+    FavoriteTargetType(final String pathSegment) {
+        this.pathSegment = pathSegment;
+    }
+
+    /**
+     * URLのパスに使用する対象の種類の名前から生成する
+     *
+     * @param pathSegment 対象の種類の名前（maintopicsまたはdiscussions）
+     * @return お気に入りの対象の種類
+     * @throws DomainLayerErrorException 対象の種類の名前が不正な場合
+     */
+    public static FavoriteTargetType fromPathSegment(final String pathSegment) {
+        return Arrays.stream(values())
+            .filter(type -> type.pathSegment.equals(pathSegment))
+            .findFirst()
+            .orElseThrow(() -> new DomainLayerErrorException(
+                "お気に入りの対象の種類が不正です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatusCode.valueOf(400)
+            ));
+    }
+
+    public String getPathSegment() {
+        return pathSegment;
+    }
+}
@@ -0,0 +1,13 @@
+package com.application.discussion.project.domain.valueobjects.notifications;
+
+/**
+ * 通知の種類を表す列挙型
+ */
+public enum NotificationType {
+
+    /**
+     * 参加しているメイントピックに議論が投稿された
+     * メイントピックの作成者と、メイントピックに議論を投稿したユーザーを参加者とする
+     */
+    NEW_DISCUSSION
+}
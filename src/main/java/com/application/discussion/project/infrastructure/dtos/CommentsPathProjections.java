@@ -0,0 +1,10 @@
+package com.application.discussion.project.infrastructure.dtos;
+
+/**
+ * CommentsPathProjectionsインターフェースは、コメントの部分木の絞り込みに必要なIDとパスのみを取得するためのプロジェクションを定義します。
+ * 本文を読み込まずに範囲検索で部分木を走査し、返却するコメントのみを後から本文付きで取得します。
+ */
+public interface CommentsPathProjections {
+    Long getCommentId();
+    String getParentPath();
+}
@@ -0,0 +1,18 @@
+package com.application.discussion.project.infrastructure.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DiscussionsProjectionsインターフェースは、ディスカッション一覧の表示に必要なカラムのみを取得するためのプロジェクションを定義します。
+ * メイントピックやユーザーはIDのみを参照するため、関連エンティティの読み込みは発生しません。
+ */
+public interface DiscussionsProjections {
+    Long getDiscussionId();
+    String getParagraph();
+    Long getMaintopicId();
+    UUID getUserId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    LocalDateTime getDeletedAt();
+}
@@ -0,0 +1,19 @@
+package com.application.discussion.project.infrastructure.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * MaintopicsProjectionsインターフェースは、メイントピック一覧の表示に必要なカラムのみを取得するためのプロジェクションを定義します。
+ * 作成ユーザーはIDのみを参照するため、ユーザーエンティティの読み込みは発生しません。
+ */
+public interface MaintopicsProjections {
+    Long getMaintopicId();
+    String getTitle();
+    String getDescription();
+    UUID getUserId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Boolean getIsDeleted();
+    Boolean getIsClosed();
+}
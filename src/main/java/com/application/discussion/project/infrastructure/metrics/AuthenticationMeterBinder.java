@@ -0,0 +1,88 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
+import com.application.discussion.project.application.services.security.PasswordHashingExecutor;
+import com.application.discussion.project.infrastructure.repositories.users.RefreshTokenPurger;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 認証処理で使用するキャッシュとスレッドプール、リフレッシュトークンの定期削除の状態をメトリクスとして公開するクラス
+ * 各クラスが保持している件数を参照するのみで、リクエストの処理には影響しない
+ */
+@Component
+public class AuthenticationMeterBinder implements MeterBinder {
+
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("app.auth.user.cache.requests", authenticatedUserCache, AuthenticatedUserCache::getHitCount)
+            .description("認証済みユーザー情報キャッシュの参照件数")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.user.cache.requests", authenticatedUserCache, AuthenticatedUserCache::getMissCount)
+            .description("認証済みユーザー情報キャッシュの参照件数")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("app.auth.user.cache.size", authenticatedUserCache, AuthenticatedUserCache::size)
+            .description("認証済みユーザー情報キャッシュのエントリ数")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("app.auth.password.hashing.tasks", passwordHashingExecutor, PasswordHashingExecutor::getSubmittedCount)
+            .description("パスワードのハッシュ化・照合の受付件数")
+            .tag("result", "submitted")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.password.hashing.tasks", passwordHashingExecutor, PasswordHashingExecutor::getRejectedCount)
+            .description("パスワードのハッシュ化・照合の受付件数")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.password.hashing.tasks", passwordHashingExecutor, PasswordHashingExecutor::getTimeoutCount)
+            .description("パスワードのハッシュ化・照合の受付件数")
+            .tag("result", "timeout")
+            .register(meterRegistry);
+        Gauge.builder("app.auth.password.hashing.active", passwordHashingExecutor, PasswordHashingExecutor::getActiveCount)
+            .description("実行中のパスワードのハッシュ化・照合の件数")
+            .register(meterRegistry);
+        Gauge.builder("app.auth.password.hashing.queued", passwordHashingExecutor, PasswordHashingExecutor::getQueueDepth)
+            .description("待機中のパスワードのハッシュ化・照合の件数")
+            .register(meterRegistry);
+        Gauge.builder("app.auth.password.hashing.pool.size", passwordHashingExecutor, PasswordHashingExecutor::getPoolSize)
+            .description("パスワードのハッシュ化・照合を実行するスレッド数")
+            .register(meterRegistry);
+
+        FunctionCounter.builder("app.auth.refresh.token.purge.deleted", refreshTokenPurger, RefreshTokenPurger::getDeletedCount)
+            .description("定期削除で削除したリフレッシュトークンの行数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.refresh.token.purge.partitions.dropped", refreshTokenPurger, RefreshTokenPurger::getDroppedPartitionCount)
+            .description("定期削除で削除したリフレッシュトークンのパーティション数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.refresh.token.purge.runs", refreshTokenPurger, RefreshTokenPurger::getSucceededRunCount)
+            .description("リフレッシュトークンの定期削除の実行回数")
+            .tag("result", "success")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.auth.refresh.token.purge.runs", refreshTokenPurger, RefreshTokenPurger::getFailedRunCount)
+            .description("リフレッシュトークンの定期削除の実行回数")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        TimeGauge.builder("app.auth.refresh.token.purge.last.duration", refreshTokenPurger, TimeUnit.MILLISECONDS, RefreshTokenPurger::getLastRunDurationMs)
+            .description("直近のリフレッシュトークンの定期削除の処理時間")
+            .register(meterRegistry);
+    }
+}
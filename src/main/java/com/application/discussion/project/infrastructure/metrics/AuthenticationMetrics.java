@@ -0,0 +1,93 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 認証処理のメトリクスを記録するクラス
+ * JWT検証の結果ごとの件数と、BCryptによるハッシュ化・照合の処理時間を記録する
+ * 全リクエストで呼び出されるため、メーターは初期化時に登録しておき、記録時には登録済みのメーターのみを使用する
+ */
+@Component
+public class AuthenticationMetrics {
+
+    public static final String JWT_VALIDATION_METRIC_NAME = "app.auth.jwt.validation";
+    public static final String PASSWORD_HASHING_METRIC_NAME = "app.auth.password.hashing";
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationMetrics.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<JwtValidationOutcome, Counter> jwtValidationCounters = new EnumMap<>(JwtValidationOutcome.class);
+    private final Map<PasswordHashingOperation, Timer> passwordHashingTimers = new EnumMap<>(PasswordHashingOperation.class);
+
+    /**
+     * JWT検証の結果
+     */
+    public enum JwtValidationOutcome {
+        VALID,
+        MISSING,
+        INVALID,
+        REVOKED
+    }
+
+    /**
+     * パスワードのハッシュ化・照合の種別
+     */
+    public enum PasswordHashingOperation {
+        ENCODE,
+        MATCHES
+    }
+
+    /**
+     * 記録に使用するメーターを登録する
+     */
+    @PostConstruct
+    public void initialize() {
+        for (final JwtValidationOutcome outcome : JwtValidationOutcome.values()) {
+            jwtValidationCounters.put(outcome, Counter.builder(JWT_VALIDATION_METRIC_NAME)
+                .description("JWT認証フィルターでのアクセストークンの検証結果")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        for (final PasswordHashingOperation operation : PasswordHashingOperation.values()) {
+            passwordHashingTimers.put(operation, Timer.builder(PASSWORD_HASHING_METRIC_NAME)
+                .description("BCryptによるパスワードのハッシュ化・照合の処理時間（待機時間を除く）")
+                .tag("operation", operation.name().toLowerCase())
+                .register(meterRegistry));
+        }
+        logger.info("Authentication metrics registered");
+    }
+
+    /**
+     * JWT検証の結果を記録する
+     *
+     * @param outcome 検証結果
+     */
+    public void recordJwtValidation(final JwtValidationOutcome outcome) {
+        jwtValidationCounters.get(outcome).increment();
+    }
+
+    /**
+     * パスワードのハッシュ化・照合を実行し、処理時間を記録する
+     *
+     * @param operation 処理の種別
+     * @param hashing   ハッシュ化・照合処理
+     * @return 処理結果
+     */
+    public <T> T recordPasswordHashing(final PasswordHashingOperation operation, final Supplier<T> hashing) {
+        return passwordHashingTimers.get(operation).record(hashing);
+    }
+}
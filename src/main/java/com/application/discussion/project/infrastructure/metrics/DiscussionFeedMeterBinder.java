@@ -0,0 +1,43 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 議論のライブフィードの購読と配信の状態をメトリクスとして公開するクラス
+ */
+@Component
+public class DiscussionFeedMeterBinder implements MeterBinder {
+
+    @Autowired
+    private DiscussionFeedHub discussionFeedHub;
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        Gauge.builder("app.discussions.feed.subscribers", discussionFeedHub, DiscussionFeedHub::getSubscriberCount)
+            .description("ライブフィードの購読者数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.discussions.feed.delivered", discussionFeedHub, DiscussionFeedHub::getDeliveredCount)
+            .description("購読者へ配信した議論の件数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.discussions.feed.disconnects", discussionFeedHub, DiscussionFeedHub::getEvictedCount)
+            .description("サーバーから切断した購読の件数")
+            .tag("reason", "slow_consumer")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.discussions.feed.disconnects", discussionFeedHub, DiscussionFeedHub::getRejectedCount)
+            .description("サーバーから切断した購読の件数")
+            .tag("reason", "capacity")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.discussions.feed.disconnects", discussionFeedHub, DiscussionFeedHub::getExpiredCount)
+            .description("サーバーから切断した購読の件数")
+            .tag("reason", "token_expired")
+            .register(meterRegistry);
+    }
+}
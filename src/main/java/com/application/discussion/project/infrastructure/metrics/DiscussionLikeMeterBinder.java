@@ -0,0 +1,30 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.infrastructure.repositories.discussions.likes.DiscussionLikeCountAggregator;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * いいね件数の非同期反映の状態をメトリクスとして公開するクラス
+ */
+@Component
+public class DiscussionLikeMeterBinder implements MeterBinder {
+
+    @Autowired
+    private DiscussionLikeCountAggregator discussionLikeCountAggregator;
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("app.likes.count.flushed", discussionLikeCountAggregator, DiscussionLikeCountAggregator::getFlushedRowCount)
+            .description("いいね件数の集計行へ反映した議論の件数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.likes.count.flush.failures", discussionLikeCountAggregator, DiscussionLikeCountAggregator::getFailedFlushCount)
+            .description("いいね件数の反映に失敗した回数")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,101 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * アプリケーションサービスとドメインリポジトリの呼び出し時間を計測するアスペクト
+ * クラス名・メソッド名・結果（successまたは例外クラス名）ごとのタイマーとしてPrometheus形式で公開する
+ * パーセンタイルはmanagement.metrics.distribution.percentiles-histogramで有効にしたヒストグラムから算出する
+ */
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    public static final String SERVICE_METRIC_NAME = "app.service";
+    public static final String REPOSITORY_METRIC_NAME = "app.repository";
+
+    /**
+     * アプリケーションサービス（@Service）のserviceで始まるメソッド
+     * AuthLoginServiceのようにImplの接尾辞を持たないサービスも対象とする
+     */
+    static final String SERVICE_POINTCUT = "execution(* com.application.discussion.project.application.services..*.service*(..))"
+        + " && @within(org.springframework.stereotype.Service)";
+
+    static final String REPOSITORY_POINTCUT = "execution(* com.application.discussion.project.domain.repositories..*.*(..))";
+
+    private static final String OUTCOME_SUCCESS = "success";
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodMetricsAspect.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 登録済みのタイマー（呼び出しごとにタイマーの登録・検索を行わないよう、メトリクス名・クラス・メソッド・結果ごとに保持する）
+     */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 各サービスのserviceで始まるメソッドの処理時間を計測する
+     *
+     * @param proceedingJoinPoint 計測対象のメソッド呼び出し
+     * @return 計測対象のメソッドの戻り値
+     * @throws Throwable 計測対象のメソッドがスローした例外
+     */
+    @Around(SERVICE_POINTCUT)
+    public Object recordServiceCall(final ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return record(SERVICE_METRIC_NAME, proceedingJoinPoint);
+    }
+
+    /**
+     * ドメイン層のリポジトリインターフェースで定義されたメソッドの処理時間を計測する
+     *
+     * @param proceedingJoinPoint 計測対象のメソッド呼び出し
+     * @return 計測対象のメソッドの戻り値
+     * @throws Throwable 計測対象のメソッドがスローした例外
+     */
+    @Around(REPOSITORY_POINTCUT)
+    public Object recordRepositoryCall(final ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return record(REPOSITORY_METRIC_NAME, proceedingJoinPoint);
+    }
+
+    private Object record(final String metricName, final ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_SUCCESS;
+        try {
+            return proceedingJoinPoint.proceed();
+        } catch (Throwable throwable) {
+            outcome = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            final String className = ClassUtils.getUserClass(proceedingJoinPoint.getTarget()).getSimpleName();
+            final String methodName = proceedingJoinPoint.getSignature().getName();
+            final long durationNanos = sample.stop(getTimer(new TimerKey(metricName, className, methodName, outcome)));
+            logger.trace("{} {}.{} completed in {} ns with outcome {}", metricName, className, methodName, durationNanos, outcome);
+        }
+    }
+
+    private Timer getTimer(final TimerKey timerKey) {
+        return timers.computeIfAbsent(timerKey, key -> Timer.builder(key.metricName())
+            .tag("class", key.className())
+            .tag("method", key.methodName())
+            .tag("outcome", key.outcome())
+            .register(meterRegistry));
+    }
+
+    private record TimerKey(String metricName, String className, String methodName, String outcome) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.infrastructure.repositories.notifications.NotificationDispatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 通知の受け付けと非同期配信の状態をメトリクスとして公開するクラス
+ */
+@Component
+public class NotificationMeterBinder implements MeterBinder {
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("app.notifications.events", notificationDispatcher, NotificationDispatcher::getEnqueuedCount)
+            .description("通知のきっかけとなる操作の受け付け件数")
+            .tag("result", "enqueued")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.notifications.events", notificationDispatcher, NotificationDispatcher::getDroppedCount)
+            .description("通知のきっかけとなる操作の受け付け件数")
+            .tag("result", "dropped")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.notifications.delivered", notificationDispatcher, NotificationDispatcher::getDeliveredCount)
+            .description("受信箱へ配信した通知の件数")
+            .register(meterRegistry);
+        FunctionCounter.builder("app.notifications.dispatch.failures", notificationDispatcher, NotificationDispatcher::getFailedBatchCount)
+            .description("通知の配信に失敗した回数")
+            .register(meterRegistry);
+        Gauge.builder("app.notifications.queued", notificationDispatcher, NotificationDispatcher::getQueueDepth)
+            .description("配信待ちの操作の件数")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.util.Objects;
+
+import org.hibernate.SessionEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 実行時間が閾値を超えたSQLをログに出力するHibernateのSessionEventListener
+ * SQLはSqlStatementCountingInspectorが直前に受け取ったものを使用し、リテラルを伏せ字にして出力する
+ * JDBCのステートメントを文字列化しないため、バインドパラメーターの値がログに出力されることはない
+ *
+ * NOTE: 実行開始時刻を保持するため、SqlSlowQueryListenerRegistrarがセッションごとに生成して登録する
+ */
+public class SqlSlowQueryListener implements SessionEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlSlowQueryListener.class);
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    private final long thresholdMs;
+
+    private long executeStartNanos;
+
+    /**
+     * @param thresholdMs スロークエリとする実行時間の閾値のミリ秒（0以下の場合は出力しない）
+     */
+    public SqlSlowQueryListener(final long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    /**
+     * 現在のスレッドで実行されるSQLを保持する
+     * 保持したSQLはステートメントの実行後に破棄する
+     *
+     * @param sql 発行されるSQL
+     */
+    static void prepare(final String sql) {
+        LAST_SQL.set(sql);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        logIfSlow(System.nanoTime() - executeStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        logIfSlow(System.nanoTime() - executeStartNanos);
+    }
+
+    /**
+     * 実行時間が閾値以上の場合に直前のSQLを出力する
+     *
+     * @param elapsedNanos 実行時間のナノ秒
+     */
+    void logIfSlow(final long elapsedNanos) {
+        final String sql = LAST_SQL.get();
+        LAST_SQL.remove();
+        if (thresholdMs <= 0) {
+            return;
+        }
+        final long elapsedMs = elapsedNanos / 1_000_000L;
+        if (elapsedMs >= thresholdMs && Objects.nonNull(sql)) {
+            logger.warn("Slow SQL ({} ms): {}", elapsedMs, SqlStatementRecorder.redact(sql));
+        }
+    }
+}
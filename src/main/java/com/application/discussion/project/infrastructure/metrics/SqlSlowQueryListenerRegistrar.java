@@ -0,0 +1,28 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * EntityManagerの生成ごとに、設定した閾値のSqlSlowQueryListenerをHibernateのセッションに登録する
+ * Hibernateの設定でリスナーのクラス名を指定すると引数なしのコンストラクターで生成されるため、
+ * EntityManagerFactoryのEntityManager初期化処理から登録して閾値をインスタンスに渡す
+ */
+@Component
+public class SqlSlowQueryListenerRegistrar implements BeanPostProcessor {
+
+    @Value("${springboot.app.sql.slow-query-threshold-ms:200}")
+    private long slowQueryThresholdMs;
+
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+            entityManagerFactoryBean.setEntityManagerInitializer(entityManager ->
+                entityManager.unwrap(Session.class).addEventListeners(new SqlSlowQueryListener(slowQueryThresholdMs)));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,18 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernateが発行する全てのSQLをSqlStatementRecorderに記録するStatementInspector
+ * スロークエリの出力に使用するため、SqlSlowQueryListenerにも渡す
+ * SQLは変更せずにそのまま返す
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        SqlStatementRecorder.record(sql);
+        SqlSlowQueryListener.prepare(sql);
+        return sql;
+    }
+}
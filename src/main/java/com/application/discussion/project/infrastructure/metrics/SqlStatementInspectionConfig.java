@@ -0,0 +1,20 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernateが発行するSQLの計測設定
+ * 全てのSQLをSqlStatementCountingInspectorで記録し、実行時間が閾値を超えたSQLはSqlSlowQueryListenerRegistrarが登録するSqlSlowQueryListenerで出力する
+ * HibernateのLOG_SLOW_QUERYはJDBCドライバーによってはバインドパラメーターの値を含めて出力するため使用しない
+ */
+@Configuration
+public class SqlStatementInspectionConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspectionCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+    }
+}
@@ -0,0 +1,109 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTPリクエストごとに発行されたSQLの件数を計測するフィルター
+ * 件数をエンドポイントごとのメトリクスとして記録し、同じSQLが閾値以上発行された場合はN+1問題の疑いとして警告する
+ * 相関IDが付与されたログに出力するため、RequestCorrelationIdFilterの後に実行する
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC_NAME = "app.sql.statements";
+    public static final String N_PLUS_ONE_METRIC_NAME = "app.sql.n.plus.one";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${springboot.app.sql.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    /**
+     * 登録済みのメトリクス（リクエストごとにメトリクスの登録・検索を行わないよう、HTTPメソッドとURIのパターンごとに保持する）
+     */
+    private final Map<EndpointKey, DistributionSummary> statementSummaries = new ConcurrentHashMap<>();
+    private final Map<EndpointKey, Counter> nPlusOneCounters = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest httpServletRequest,
+            final HttpServletResponse httpServletResponse,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+        } finally {
+            record(httpServletRequest, SqlStatementRecorder.stop());
+        }
+    }
+
+    private void record(final HttpServletRequest httpServletRequest, final SqlStatementRecorder.Recording recording) {
+        final EndpointKey endpointKey = new EndpointKey(httpServletRequest.getMethod(), resolveUriPattern(httpServletRequest));
+        getStatementSummary(endpointKey).record(recording.getStatementCount());
+
+        final Map<String, Integer> repeatedStatements = recording.getRepeatedStatements(nPlusOneThreshold);
+        if (repeatedStatements.isEmpty()) {
+            return;
+        }
+        getNPlusOneCounter(endpointKey).increment();
+        repeatedStatements.forEach((sql, count) -> logger.warn(
+            "Possible N+1 query: {} {} issued the same statement {} times: {}",
+            endpointKey.method(), endpointKey.uri(), count, SqlStatementRecorder.redact(sql)
+        ));
+    }
+
+    private DistributionSummary getStatementSummary(final EndpointKey endpointKey) {
+        return statementSummaries.computeIfAbsent(endpointKey, key -> DistributionSummary.builder(STATEMENTS_METRIC_NAME)
+            .description("1リクエストあたりに発行されたSQLの件数")
+            .tag("method", key.method())
+            .tag("uri", key.uri())
+            .register(meterRegistry));
+    }
+
+    private Counter getNPlusOneCounter(final EndpointKey endpointKey) {
+        return nPlusOneCounters.computeIfAbsent(endpointKey, key -> Counter.builder(N_PLUS_ONE_METRIC_NAME)
+            .description("同じSQLが閾値以上発行されたリクエストの件数")
+            .tag("method", key.method())
+            .tag("uri", key.uri())
+            .register(meterRegistry));
+    }
+
+    /**
+     * タグの種類が増えすぎないよう、パス変数を含まないリクエストマッピングのパターンを使用する
+     */
+    private String resolveUriPattern(final HttpServletRequest httpServletRequest) {
+        final Object pattern = httpServletRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.nonNull(pattern) ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    private record EndpointKey(String method, String uri) {
+    }
+}
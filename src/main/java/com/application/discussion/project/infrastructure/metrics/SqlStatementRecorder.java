@@ -0,0 +1,106 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 現在のスレッドで発行されたSQLを記録するクラス
+ * HTTPリクエストやテストの開始時にstartし、終了時にstopで記録結果を取得する
+ * 記録していないスレッドでのSQLは無視するため、スケジューラーなどリクエスト外の処理には影響しない
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT_RECORDING = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private SqlStatementRecorder() {
+    }
+
+    /**
+     * 現在のスレッドでSQLの記録を開始する
+     */
+    public static void start() {
+        CURRENT_RECORDING.set(new Recording());
+    }
+
+    /**
+     * 現在のスレッドでのSQLの記録を終了する
+     *
+     * @return 記録結果。記録を開始していない場合は空の記録結果
+     */
+    public static Recording stop() {
+        final Recording recording = CURRENT_RECORDING.get();
+        CURRENT_RECORDING.remove();
+        return Objects.nonNull(recording) ? recording : new Recording();
+    }
+
+    /**
+     * 発行されたSQLを記録する。記録を開始していないスレッドでは何もしない
+     *
+     * @param sql 発行されたSQL
+     */
+    public static void record(final String sql) {
+        final Recording recording = CURRENT_RECORDING.get();
+        if (Objects.nonNull(recording)) {
+            recording.add(sql);
+        }
+    }
+
+    /**
+     * ログに出力するため、SQLに含まれる文字列・数値のリテラルを伏せ字にする
+     * バインドパラメーターはプレースホルダーのまま記録されるため、値がログに出力されることはない
+     *
+     * @param sql SQL
+     * @return リテラルを?に置き換えたSQL
+     */
+    public static String redact(final String sql) {
+        final String withoutStrings = STRING_LITERAL.matcher(sql).replaceAll("?");
+        return NUMERIC_LITERAL.matcher(withoutStrings).replaceAll("?");
+    }
+
+    /**
+     * SQLの記録結果
+     */
+    public static final class Recording {
+
+        private long statementCount;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+
+        private Recording() {
+        }
+
+        private void add(final String sql) {
+            statementCount++;
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+
+        /**
+         * @return 発行されたSQLの件数
+         */
+        public long getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * 同じSQLが指定回数以上発行されたものを取得する
+         * ループ内での関連エンティティの読み込みなど、N+1問題の検出に使用する
+         *
+         * @param threshold 回数の閾値
+         * @return SQLと発行回数。発行回数の多い順
+         */
+        public Map<String, Integer> getRepeatedStatements(final int threshold) {
+            final Map<String, Integer> repeated = new LinkedHashMap<>();
+            countsBySql.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return Collections.unmodifiableMap(repeated);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.application.discussion.project.infrastructure.models.comments;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * コメントテーブルのJPAエンティティクラス
+ * データベースのcommentsテーブルとのマッピングを定義し、コメントの階層をマテリアライズドパスで保持する
+ *
+ * parent_pathは祖先のコメントIDを根から順に固定長の36進数で連結した文字列で、自身のIDは含まない（議論への直接のコメントは空文字列）
+ * (discussion_id, parent_path, id)インデックスにより、同じ返信先の返信は1つの範囲に、
+ * あるコメントの子孫はすべて「返信先のパス + 自身のID」で始まる連続した範囲に並ぶ
+ *
+ * NOTE: パスに自身のIDを含めないことで、IDの採番前にパスが確定し、1回のINSERTで保存できる
+ */
+@Entity
+@Table(
+    name="comments",
+    indexes = {
+        @Index(name="idx_comments_discussion_id_parent_path_id", columnList="discussion_id, parent_path, id")
+    }
+)
+public class Comments {
+
+    @Id
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="comments_id_generator")
+    @SequenceGenerator(name="comments_id_generator", sequenceName="comments_seq", allocationSize=50)
+    @Column(name="id", nullable=false, updatable=false)
+    private Long id;
+
+    @Column(name="discussion_id", nullable=false, updatable=false)
+    private Long discussionId;
+
+    @Column(name="parent_id", nullable=true, updatable=false)
+    private Long parentId;
+
+    @Column(name="parent_path", nullable=false, updatable=false, length=512)
+    private String parentPath;
+
+    @Column(name="user_id", nullable=false, updatable=false)
+    private UUID userId;
+
+    @Column(name="paragraph", nullable=false, length=2000)
+    private String paragraph;
+
+    @Column(name="reply_count", nullable=false)
+    private int replyCount;
+
+    @Column(name="created_at", nullable=false, updatable=false)
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    /**
+     * デフォルトコンストラクタ
+     * JPAの要件により必要
+     */
+    public Comments() {}
+
+    /**
+     * 新規作成用のコンストラクタ
+     *
+     * @param discussionId 議論ID
+     * @param parentId     返信先のコメントID（議論への直接のコメントの場合はnull）
+     * @param parentPath   祖先のコメントIDのパス
+     * @param userId       投稿したユーザーのID
+     * @param paragraph    本文
+     */
+    public Comments(
+        final Long discussionId,
+        final Long parentId,
+        final String parentPath,
+        final UUID userId,
+        final String paragraph
+    ) {
+        this.discussionId = discussionId;
+        this.parentId = parentId;
+        this.parentPath = parentPath;
+        this.userId = userId;
+        this.paragraph = paragraph;
+        this.replyCount = 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public String getParentPath() {
+        return parentPath;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getParagraph() {
+        return paragraph;
+    }
+
+    public int getReplyCount() {
+        return replyCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,48 @@
+package com.application.discussion.project.infrastructure.models.discussions;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 議論ごとのいいね件数の集計テーブルのJPAエンティティクラス
+ * いいね・取り消しのたびに更新せず、アプリケーション内で集計した増減をまとめて加算する
+ */
+@Entity
+@Table(name = "discussion_like_counts")
+public class DiscussionLikeCounts {
+
+    @Id
+    @Column(name = "discussion_id", nullable = false, updatable = false)
+    private Long discussionId;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public DiscussionLikeCounts() {
+    }
+
+    public DiscussionLikeCounts(final Long discussionId, final Long likeCount, final LocalDateTime updatedAt) {
+        this.discussionId = discussionId;
+        this.likeCount = likeCount;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
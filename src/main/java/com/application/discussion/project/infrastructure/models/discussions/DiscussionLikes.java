@@ -0,0 +1,46 @@
+package com.application.discussion.project.infrastructure.models.discussions;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * いいねテーブルのJPAエンティティクラス
+ * ユーザーが議論にいいねしていることを1行で表す
+ * いいねの件数は行数を集計せず、discussion_like_countsテーブルの集計値を参照する
+ */
+@Entity
+@Table(
+    name = "discussion_likes",
+    indexes = {
+        @Index(name = "idx_discussion_likes_discussion_id", columnList = "discussion_id")
+    }
+)
+public class DiscussionLikes {
+
+    @EmbeddedId
+    private DiscussionLikesId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public DiscussionLikes() {
+    }
+
+    public DiscussionLikes(final DiscussionLikesId id, final LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    public DiscussionLikesId getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.application.discussion.project.infrastructure.models.discussions;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * いいねテーブルの複合主キー
+ * 1人のユーザーが1つの議論にいいねできるのは1回のみのため、ユーザーIDと議論IDの組を主キーとする
+ */
+@Embeddable
+public class DiscussionLikesId implements Serializable {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "discussion_id", nullable = false, updatable = false)
+    private Long discussionId;
+
+    public DiscussionLikesId() {
+    }
+
+    public DiscussionLikesId(final UUID userId, final Long discussionId) {
+        this.userId = userId;
+        this.discussionId = discussionId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DiscussionLikesId that)) {
+            return false;
+        }
+        return Objects.equals(userId, that.userId) && Objects.equals(discussionId, that.discussionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, discussionId);
+    }
+}
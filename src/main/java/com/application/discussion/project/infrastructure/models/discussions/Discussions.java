@@ -14,8 +14,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Builder;
 
@@ -25,19 +27,25 @@ import lombok.Builder;
  * ディスカッション情報の永続化を担当する
  */
 @Entity
-@Table(name="discussions")
+@Table(
+    name="discussions",
+    indexes = {
+        @Index(name="idx_discussions_maintopic_created_at_id", columnList="maintopic_id, created_at, id")
+    }
+)
 @Builder
 public class Discussions {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="discussions_id_generator")
+    @SequenceGenerator(name="discussions_id_generator", sequenceName="discussions_seq", allocationSize=50)
     @Column(name="id", nullable=false, updatable=false)
     private Long id;
 
     @Column(name="paragraph", nullable=false, length=1000)
     private String paragraph;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="maintopic_id", nullable=false)
     private Maintopics maintopic;
 
@@ -0,0 +1,46 @@
+package com.application.discussion.project.infrastructure.models.favorites;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * お気に入りテーブルのJPAエンティティクラス
+ * ユーザーがメイントピック・議論をお気に入りにしていることを1行で表す
+ * ユーザーごとのお気に入りはまとめて読み込むため、ユーザーIDを先頭とするインデックスを作成する
+ */
+@Entity
+@Table(
+    name = "favorites",
+    indexes = {
+        @Index(name = "idx_favorites_user_id_target_type", columnList = "user_id, target_type")
+    }
+)
+public class Favorites {
+
+    @EmbeddedId
+    private FavoritesId id;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public Favorites() {
+    }
+
+    public Favorites(final FavoritesId id, final LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    public FavoritesId getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
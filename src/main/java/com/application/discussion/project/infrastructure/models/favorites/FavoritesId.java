@@ -0,0 +1,69 @@
+package com.application.discussion.project.infrastructure.models.favorites;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * お気に入りテーブルの複合主キー
+ * 1人のユーザーが同じ対象をお気に入りにできるのは1回のみのため、ユーザーID・対象の種類・対象のIDの組を主キーとする
+ */
+@Embeddable
+public class FavoritesId implements Serializable {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, updatable = false, length = 16)
+    private FavoriteTargetType targetType;
+
+    @Column(name = "target_id", nullable = false, updatable = false)
+    private Long targetId;
+
+    public FavoritesId() {
+    }
+
+    public FavoritesId(final UUID userId, final FavoriteTargetType targetType, final Long targetId) {
+        this.userId = userId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public FavoriteTargetType getTargetType() {
+        return targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof FavoritesId that)) {
+            return false;
+        }
+        return Objects.equals(userId, that.userId)
+            && targetType == that.targetType
+            && Objects.equals(targetId, that.targetId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, targetType, targetId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.application.discussion.project.infrastructure.models.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * ユーザーごとの通知の受信箱テーブルのJPAエンティティクラス
+ * 未読件数は通知の配信時に加算して保持し、通知の件数を数えずに取得する
+ * 既読は通知ごとに保持せず、既読位置（last_read_id）以下のIDの通知を既読とする
+ */
+@Entity
+@Table(name = "notification_inboxes")
+public class NotificationInboxes {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+
+    @Column(name = "last_read_id", nullable = false)
+    private Long lastReadId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public NotificationInboxes() {
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Long getUnreadCount() {
+        return unreadCount;
+    }
+
+    public Long getLastReadId() {
+        return lastReadId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
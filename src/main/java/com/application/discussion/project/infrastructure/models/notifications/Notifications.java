@@ -0,0 +1,86 @@
+package com.application.discussion.project.infrastructure.models.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.valueobjects.notifications.NotificationType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 通知テーブルのJPAエンティティクラス
+ * 受信者ごとに1行を保持し（ファンアウトオンライト）、受信箱の取得は(user_id, id)インデックスの範囲検索で行う
+ * 行の登録はNotificationDispatcherの複数行INSERTで行うため、IDはデータベースで採番する
+ */
+@Entity
+@Table(
+    name = "notifications",
+    indexes = {
+        @Index(name = "idx_notifications_user_id_id", columnList = "user_id, id")
+    }
+)
+public class Notifications {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false, length = 32)
+    private NotificationType type;
+
+    @Column(name = "maintopic_id", nullable = true, updatable = false)
+    private Long maintopicId;
+
+    @Column(name = "discussion_id", nullable = true, updatable = false)
+    private Long discussionId;
+
+    @Column(name = "actor_user_id", nullable = true, updatable = false)
+    private UUID actorUserId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public Notifications() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    public Long getDiscussionId() {
+        return discussionId;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
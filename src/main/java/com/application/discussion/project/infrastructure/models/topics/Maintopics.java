@@ -15,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Builder;
 
@@ -25,7 +26,8 @@ import lombok.Builder;
 @Builder
 public class Maintopics {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "maintopics_id_generator")
+    @SequenceGenerator(name = "maintopics_id_generator", sequenceName = "maintopics_seq", allocationSize = 50)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
@@ -53,6 +55,13 @@ public class Maintopics {
     @Column(name = "is_closed", nullable = false, columnDefinition = "boolean default false")
     private Boolean isClosed;
 
+    /**
+     * メイントピックに紐づくディスカッション件数
+     * 議論の作成・削除時にJpaMaintopicsRepositoryの更新クエリでのみ増減させるため、エンティティ経由では書き込まない
+     */
+    @Column(name = "discussion_count", nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long discussionCount;
+
     public Maintopics() {
     }
 
@@ -147,4 +156,8 @@ public class Maintopics {
     public void setIsClosed(Boolean isClosed) {
         this.isClosed = isClosed;
     }
+
+    public long getDiscussionCount() {
+        return this.discussionCount;
+    }
 }
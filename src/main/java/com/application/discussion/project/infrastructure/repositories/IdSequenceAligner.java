@@ -0,0 +1,73 @@
+package com.application.discussion.project.infrastructure.repositories;
+
+import java.util.Map;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * ID採番用シーケンスを既存データの最大IDと整合させるクラス
+ * IDENTITY列で登録済みのテーブルにシーケンス採番へ切り替えた際、新規作成されたシーケンスが
+ * 既存IDと重複した値を払い出さないよう、起動時にシーケンスを最大ID以上へ進める
+ *
+ * NOTE: シーケンスは減らさないため、他のインスタンスが先行して確保した採番範囲とは重複しない
+ * NOTE: テスト・開発用のH2はスキーマを毎回作り直すため、PostgreSQLの場合のみ実行する
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdSequenceAligner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    /**
+     * シーケンス名と採番対象テーブル名の対応
+     */
+    private static final Map<String, String> TABLE_NAMES_BY_SEQUENCE = Map.of(
+        "discussions_seq", "discussions",
+        "maintopics_seq", "maintopics"
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${springboot.app.sequences.align-on-startup:true}")
+    private boolean isAlignOnStartupEnabled;
+
+    @Override
+    @Transactional
+    public void run(final ApplicationArguments args) {
+        if (!isAlignOnStartupEnabled || !isPostgreSQL()) {
+            logger.debug("Skipping id sequence alignment on startup");
+            return;
+        }
+        TABLE_NAMES_BY_SEQUENCE.forEach(this::align);
+    }
+
+    private void align(final String sequenceName, final String tableName) {
+        final Object value = entityManager.createNativeQuery(
+            "select setval('" + sequenceName + "', greatest("
+                + "(select coalesce(max(id), 0) from " + tableName + "), "
+                + "(select last_value from " + sequenceName + ")))"
+        ).getSingleResult();
+        logger.info("Id sequence {} aligned with table {} at {}", sequenceName, tableName, value);
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect() instanceof PostgreSQLDialect;
+    }
+}
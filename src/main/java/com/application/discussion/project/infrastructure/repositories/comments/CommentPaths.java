@@ -0,0 +1,69 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import java.util.Arrays;
+
+/**
+ * コメントのマテリアライズドパスを組み立てるユーティリティ
+ * パスは祖先のコメントIDを根から順に、SEGMENT_LENGTH桁にゼロ埋めした小文字の36進数で連結した文字列とする
+ * 固定長のため文字列の大小がIDの大小と一致し、深さはパスの長さから求められる
+ *
+ * NOTE: 使用する文字は[0-9a-z]のみのため、データベースの照合順序によらず文字列の順序が保たれる
+ */
+final class CommentPaths {
+
+    /**
+     * 1階層あたりの桁数（Long.MAX_VALUEの36進数表記の桁数）
+     */
+    static final int SEGMENT_LENGTH = 13;
+
+    static final String ROOT = "";
+
+    private CommentPaths() {}
+
+    /**
+     * コメントIDを固定長の36進数に変換する
+     *
+     * @param commentId コメントID
+     * @return パスの1階層分の文字列
+     */
+    static String segment(final long commentId) {
+        final String digits = Long.toString(commentId, 36);
+        final char[] padded = new char[SEGMENT_LENGTH];
+        Arrays.fill(padded, 0, SEGMENT_LENGTH - digits.length(), '0');
+        digits.getChars(0, digits.length(), padded, SEGMENT_LENGTH - digits.length());
+        return new String(padded);
+    }
+
+    /**
+     * コメントの返信が持つパス（返信先のパス + 返信先のID）を組み立てる
+     *
+     * @param parentPath コメントのパス
+     * @param commentId  コメントID
+     * @return 返信のパス
+     */
+    static String childPath(final String parentPath, final long commentId) {
+        return parentPath + segment(commentId);
+    }
+
+    /**
+     * コメントの子孫が持つパスの上限（この値を含まない）を組み立てる
+     * 子孫のパスはすべてchildPath以上、この値未満の範囲に含まれる
+     *
+     * @param parentPath コメントのパス
+     * @param commentId  コメントID
+     * @return 子孫のパスの上限
+     */
+    static String descendantUpperBound(final String parentPath, final long commentId) {
+        return parentPath + segment(commentId + 1);
+    }
+
+    /**
+     * パスを持つコメントの深さ（議論への直接のコメントを0とする）を求める
+     *
+     * @param parentPath コメントのパス
+     * @return 深さ
+     */
+    static int depth(final String parentPath) {
+        return parentPath.length() / SEGMENT_LENGTH;
+    }
+}
@@ -0,0 +1,212 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.repositories.CommentRepository;
+import com.application.discussion.project.infrastructure.dtos.CommentsPathProjections;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.models.comments.Comments;
+
+/**
+ * コメントリポジトリの実装クラス
+ * コメントの階層をマテリアライズドパス（CommentPaths）で保持し、再帰クエリを用いずに
+ * 同じ階層の返信のページと、部分木をそれぞれ(discussion_id, parent_path, id)インデックスの1回の範囲検索で取得する
+ */
+@Repository
+public class CommentRepositoryImpl implements CommentRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentRepositoryImpl.class);
+
+    @Autowired
+    private JpaCommentsRepository jpaCommentsRepository;
+
+    @Value("${springboot.app.comments.thread.max-scanned-rows:10000}")
+    private int maxScannedRows;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Comment> findById(final Long commentId) {
+        return jpaCommentsRepository.findById(commentId).map(this::mapToDomainEntity);
+    }
+
+    /**
+     * コメントを作成する
+     * 返信先のパスに返信先のIDを連結したパスで保存し、同一トランザクション内で返信先の返信件数を1件増やす
+     *
+     * @throws ResourceNotFoundException 議論が存在しないか削除されている場合、または返信先が同じ議論に存在しない場合
+     */
+    @Override
+    @Transactional
+    public Comment createComment(final Comment comment) {
+        if (!jpaCommentsRepository.existsActiveDiscussion(comment.getDiscussionId())) {
+            throw new ResourceNotFoundException("議論は存在しません", "Not_Found");
+        }
+        final String parentPath = Objects.isNull(comment.getParentId())
+            ? CommentPaths.ROOT
+            : childPathOf(comment.getDiscussionId(), comment.getParentId());
+        final Comments saved = jpaCommentsRepository.save(new Comments(
+            comment.getDiscussionId(),
+            comment.getParentId(),
+            parentPath,
+            comment.getUserId(),
+            comment.getParagraph()
+        ));
+        if (Objects.nonNull(comment.getParentId())) {
+            jpaCommentsRepository.incrementReplyCount(comment.getParentId());
+        }
+        logger.info("Comment created with ID: {}, discussion ID: {}, parent ID: {}",
+            saved.getId(), saved.getDiscussionId(), saved.getParentId());
+        return mapToDomainEntity(saved);
+    }
+
+    /**
+     * 同じ階層のコメントをキーセット方式で取得する
+     *
+     * @throws ResourceNotFoundException 議論が存在しないか削除されている場合、または返信先が同じ議論に存在しない場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Comment> findReplies(final Long discussionId, final Long parentId, final Long afterId, final int limit) {
+        final String parentPath;
+        if (Objects.isNull(parentId)) {
+            if (!jpaCommentsRepository.existsActiveDiscussion(discussionId)) {
+                throw new ResourceNotFoundException("議論は存在しません", "Not_Found");
+            }
+            parentPath = CommentPaths.ROOT;
+        } else {
+            parentPath = childPathOf(discussionId, parentId);
+        }
+        final List<Comments> entities = jpaCommentsRepository.findPageByParentPath(
+            discussionId,
+            parentPath,
+            Objects.isNull(afterId) ? 0L : afterId,
+            PageRequest.of(0, limit)
+        );
+        logger.debug("Found {} comments: discussionId {}, parentId {}, afterId {}", entities.size(), discussionId, parentId, afterId);
+        return entities.stream().map(this::mapToDomainEntity).toList();
+    }
+
+    /**
+     * コメントと、その返信を階層ごとに先頭から指定件数ずつ取得する
+     * 子孫のIDとパスのみを1回の範囲検索でパス・ID昇順に走査し、返信先ごとの件数と深さで絞り込んだ後、
+     * 返却するコメントのみを本文付きで取得する
+     *
+     * NOTE: パス・ID昇順では返信先が返信より前に並ぶため、返信先が選ばれているかを走査中に判定できる。
+     * 走査は深さの上限までのパスに限り、さらに行数の上限で打ち切るため、大きなスレッドでも読む行数は上限を超えない。
+     * 打ち切った場合は、パス順で先に並ぶ返信の部分木までを返す
+     *
+     * @throws ResourceNotFoundException 起点のコメントが同じ議論に存在しない場合
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Comment> findThread(
+        final Long discussionId,
+        final Long commentId,
+        final int repliesPerLevel,
+        final int maxDepth,
+        final int limit
+    ) {
+        final Comments root = findInDiscussion(discussionId, commentId);
+        final List<Long> selectedIds = new ArrayList<>();
+        selectedIds.add(root.getId());
+        if (maxDepth > 0 && repliesPerLevel > 0) {
+            selectDescendants(root, repliesPerLevel, maxDepth, limit, selectedIds);
+        }
+        final Map<Long, Comments> entitiesById = jpaCommentsRepository.findAllById(selectedIds).stream()
+            .collect(Collectors.toMap(Comments::getId, Function.identity()));
+        logger.debug("Found {} comments in thread: discussionId {}, commentId {}", selectedIds.size(), discussionId, commentId);
+        return selectedIds.stream()
+            .map(entitiesById::get)
+            .filter(Objects::nonNull)
+            .map(this::mapToDomainEntity)
+            .toList();
+    }
+
+    /**
+     * 起点のコメントの子孫を走査し、返信先が選ばれていて、返信先ごとの件数が上限に達していないものを選ぶ
+     * キーは選んだコメントの返信が持つパス、値はそのパスで選んだ返信の件数とする
+     */
+    private void selectDescendants(
+        final Comments root,
+        final int repliesPerLevel,
+        final int maxDepth,
+        final int limit,
+        final List<Long> selectedIds
+    ) {
+        final Map<String, Integer> selectedReplyCounts = new HashMap<>();
+        selectedReplyCounts.put(CommentPaths.childPath(root.getParentPath(), root.getId()), 0);
+        final int maxPathLength = root.getParentPath().length() + maxDepth * CommentPaths.SEGMENT_LENGTH;
+        try (Stream<CommentsPathProjections> paths = jpaCommentsRepository.streamDescendantPaths(
+            root.getDiscussionId(),
+            CommentPaths.childPath(root.getParentPath(), root.getId()),
+            CommentPaths.descendantUpperBound(root.getParentPath(), root.getId()),
+            maxPathLength,
+            PageRequest.of(0, maxScannedRows)
+        )) {
+            final Iterator<CommentsPathProjections> iterator = paths.iterator();
+            while (iterator.hasNext() && selectedIds.size() < limit) {
+                final CommentsPathProjections path = iterator.next();
+                final Integer selectedReplyCount = selectedReplyCounts.get(path.getParentPath());
+                if (Objects.isNull(selectedReplyCount) || selectedReplyCount >= repliesPerLevel) {
+                    continue;
+                }
+                selectedReplyCounts.put(path.getParentPath(), selectedReplyCount + 1);
+                selectedIds.add(path.getCommentId());
+                if (path.getParentPath().length() < maxPathLength) {
+                    selectedReplyCounts.put(CommentPaths.childPath(path.getParentPath(), path.getCommentId()), 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * 指定した議論のコメントの返信が持つパスを取得する
+     */
+    private String childPathOf(final Long discussionId, final Long commentId) {
+        final Comments parent = findInDiscussion(discussionId, commentId);
+        return CommentPaths.childPath(parent.getParentPath(), parent.getId());
+    }
+
+    private Comments findInDiscussion(final Long discussionId, final Long commentId) {
+        return jpaCommentsRepository.findById(commentId)
+            .filter(entity -> entity.getDiscussionId().equals(discussionId))
+            .orElseThrow(() -> new ResourceNotFoundException("コメントは存在しません", "Not_Found"));
+    }
+
+    /**
+     * コメントのJPAエンティティをドメインエンティティに変換する
+     *
+     * @param entity コメントのJPAエンティティ
+     * @return コメントドメインエンティティ
+     */
+    private Comment mapToDomainEntity(final Comments entity) {
+        return Comment.of(
+            entity.getId(),
+            entity.getDiscussionId(),
+            entity.getParentId(),
+            entity.getUserId(),
+            entity.getParagraph(),
+            CommentPaths.depth(entity.getParentPath()),
+            entity.getReplyCount(),
+            entity.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.application.discussion.project.infrastructure.dtos.CommentsPathProjections;
+import com.application.discussion.project.infrastructure.models.comments.Comments;
+
+import jakarta.persistence.QueryHint;
+
+public interface JpaCommentsRepository extends JpaRepository<Comments, Long> {
+
+    /**
+     * 同じパスを持つコメント（同じ返信先への返信）をカーソルより後からID昇順で取得する
+     * (discussion_id, parent_path, id)インデックスの1つの範囲を先頭から読むため、OFFSETを用いない
+     *
+     * @param discussionId 議論ID
+     * @param parentPath   返信のパス（議論への直接のコメントの場合は空文字列）
+     * @param afterId      カーソルのコメントID（先頭から取得する場合は0）
+     * @param pageable     取得件数のみを指定したページ情報
+     * @return コメントのリスト
+     */
+    @Query("select c from Comments c where c.discussionId = :discussionId and c.parentPath = :parentPath "
+        + "and c.id > :afterId order by c.id asc")
+    List<Comments> findPageByParentPath(
+        @Param("discussionId") Long discussionId,
+        @Param("parentPath") String parentPath,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * コメントの子孫のIDとパスを、パス・ID昇順で逐次取得する
+     * 子孫のパスは[lowerPath, upperPath)の連続した範囲に含まれるため、1回の範囲検索で走査する
+     * パス・ID昇順では、返信先が常に返信より前に並ぶ
+     *
+     * NOTE: 読み取り専用のトランザクション内で呼び出し、使用後はStreamをクローズすること
+     *
+     * @param discussionId  議論ID
+     * @param lowerPath     子孫のパスの下限（この値を含む）
+     * @param upperPath     子孫のパスの上限（この値を含まない）
+     * @param maxPathLength 取得するパスの長さの上限（深さの上限）
+     * @param pageable      走査する行数の上限
+     * @return コメントのIDとパスのStream
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c.id as commentId, c.parentPath as parentPath from Comments c "
+        + "where c.discussionId = :discussionId and c.parentPath >= :lowerPath and c.parentPath < :upperPath "
+        + "and length(c.parentPath) <= :maxPathLength order by c.parentPath asc, c.id asc")
+    Stream<CommentsPathProjections> streamDescendantPaths(
+        @Param("discussionId") Long discussionId,
+        @Param("lowerPath") String lowerPath,
+        @Param("upperPath") String upperPath,
+        @Param("maxPathLength") int maxPathLength,
+        Pageable pageable
+    );
+
+    /**
+     * コメントの返信件数を1件増やす
+     *
+     * @param commentId コメントID
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Comments c set c.replyCount = c.replyCount + 1 where c.id = :commentId")
+    int incrementReplyCount(@Param("commentId") Long commentId);
+
+    /**
+     * 削除されていない議論が存在するかを判定する
+     *
+     * @param discussionId 議論ID
+     * @return 存在する場合true
+     */
+    @Query("select count(d) > 0 from Discussions d where d.id = :discussionId and d.deletedAt is null")
+    boolean existsActiveDiscussion(@Param("discussionId") Long discussionId);
+}
@@ -3,21 +3,36 @@ package com.application.discussion.project.infrastructure.repositories.discussio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.application.discussion.project.domain.entities.discussions.Discussion;
 import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
+import com.application.discussion.project.infrastructure.dtos.DiscussionsProjections;
 import com.application.discussion.project.infrastructure.models.discussions.Discussions;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.infrastructure.models.topics.Maintopics;
 import com.application.discussion.project.infrastructure.models.users.Users;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 /**
  * ディスカッションリポジトリの実装クラス
  * ドメイン層のDiscussionRepositoryインターフェイスを実装し、
@@ -29,6 +44,18 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
     @Autowired
     private JpaDiscussionsRepository jpaDiscussionsRepository;
 
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
     private static final Logger logger = LoggerFactory.getLogger(DiscussionsRepositoryImpl.class);
     /**
      * FIXME: このメソッドには、例外処理を追加する必要があります。
@@ -40,13 +67,15 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
      * ディスカッションを新規作成してデータベースに保存する
      * ドメインエンティティをインフラストラクチャ層のエンティティに変換し、
      * 保存後に再度ドメインエンティティとして返却する
+     * 同一トランザクション内でメイントピックのディスカッション件数を1件増やす
      * 
      * @param discussions 作成するディスカッションインフラストラクチャエンティティ
      * @return 保存されたディスカッションドメインエンティティ（IDや日時が設定済み）
      */
     @Override
+    @Transactional
     public Discussion createDiscussion(final Discussion discussion) {
-        logger.info("Creating discussion with paragraph: {}", discussion.getParagraph());
+        logger.debug("Creating discussion with paragraph: {}", discussion.getParagraph());
         
         Discussions entity = new Discussions();
         entity.setParagraph(discussion.getParagraph());
@@ -57,9 +86,10 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
         maintopic.setId(discussion.getMaintopicId());
         entity.setMaintopic(maintopic);
         
-        logger.info("Saving discussion entity to database for maintopicId: {}", discussion.getMaintopicId());
+        logger.debug("Saving discussion entity to database for maintopicId: {}", discussion.getMaintopicId());
 
         final Discussions savedEntity = jpaDiscussionsRepository.save(entity);
+        jpaMaintopicsRepository.incrementDiscussionCount(discussion.getMaintopicId());
 
         logger.info("Discussion created with ID: {}", savedEntity.getId());
         return Discussion.of(
@@ -73,6 +103,53 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
         );
     }
 
+    /**
+     * 複数のディスカッションを一括で新規作成してデータベースに保存する
+     * JDBCバッチのサイズごとにフラッシュして永続化コンテキストをクリアし、
+     * 大量件数でも1件ずつの往復や管理エンティティの蓄積が発生しないようにする
+     * メイントピックのディスカッション件数はメイントピックごとに1回の更新でまとめて増やす
+     * 1件ずつの作成と同様に、コミット後に検索対象へまとめて追加する
+     *
+     * NOTE: 一括登録はシーダーや移行などの投入に用いるため、通知とライブフィードへの配信は行わない
+     * NOTE: 永続化コンテキストをクリアするため、同一トランザクションで読み込み済みのエンティティは切り離される
+     *
+     * @param discussions 作成するディスカッションドメインエンティティのリスト
+     * @return 保存されたディスカッションドメインエンティティのリスト（引数と同じ順序で、IDや日時が設定済み）
+     */
+    @Override
+    @Transactional
+    public List<Discussion> createDiscussions(final List<Discussion> discussions) {
+        if (discussions.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Creating {} discussions in batches of {}", discussions.size(), batchSize);
+
+        final List<Discussion> createdDiscussions = new ArrayList<>(discussions.size());
+        final List<Discussions> pendingEntities = new ArrayList<>(batchSize);
+        for (final Discussion discussion : discussions) {
+            final Discussions entity = new Discussions();
+            entity.setParagraph(discussion.getParagraph());
+            entity.setUser(entityManager.getReference(Users.class, discussion.getUserId()));
+            entity.setMaintopic(entityManager.getReference(Maintopics.class, discussion.getMaintopicId()));
+            entityManager.persist(entity);
+            pendingEntities.add(entity);
+
+            if (pendingEntities.size() >= batchSize) {
+                flushAndClear(pendingEntities, createdDiscussions);
+            }
+        }
+        flushAndClear(pendingEntities, createdDiscussions);
+
+        final Map<Long, Long> countsByMaintopicId = discussions.stream()
+            .collect(Collectors.groupingBy(Discussion::getMaintopicId, Collectors.counting()));
+        countsByMaintopicId.forEach(jpaMaintopicsRepository::incrementDiscussionCountBy);
+
+        discussionSearchRepository.indexAll(createdDiscussions);
+
+        logger.info("{} discussions created across {} maintopics", createdDiscussions.size(), countsByMaintopicId.size());
+        return createdDiscussions;
+    }
+
     /**
      * 指定されたIDのディスカッションを取得する
      * データベースから該当するディスカッションを検索し、
@@ -83,10 +160,10 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
      */
     @Override
     public Optional<Discussion> findDiscussionById(final Long discussionId) {
-        logger.info("Finding discussion with ID: {}", discussionId);
+        logger.debug("Finding discussion with ID: {}", discussionId);
         return jpaDiscussionsRepository.findById(discussionId)
             .map(entity -> {
-                logger.info("Discussion found with ID: {}", entity.getId());
+                logger.debug("Discussion found with ID: {}", entity.getId());
                 return Discussion.of(
                     entity.getId(),
                     entity.getParagraph(),
@@ -109,9 +186,9 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
      */
     @Override
     public List<Discussion> findAllDiscussions(final Long maintopicId) {
-        logger.info("Finding all discussions for maintopic ID: {}", maintopicId);
+        logger.debug("Finding all discussions for maintopic ID: {}", maintopicId);
         final List<Discussions> entities = jpaDiscussionsRepository.findByMaintopicId(maintopicId);
-        logger.info("Found {} discussions for maintopic ID: {}", entities.size(), maintopicId);
+        logger.debug("Found {} discussions for maintopic ID: {}", entities.size(), maintopicId);
         return entities.stream()
             .map(entity -> Discussion.of(
                 entity.getId(),
@@ -135,11 +212,108 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
      */
     @Override
     public Page<Discussion> findAllDiscussions(final Long maintopicId,final Pageable pageable) {
-        logger.info("Finding all discussions with pagination: page {}, size {}", 
+        logger.debug("Finding all discussions with pagination: page {}, size {}", 
             pageable.getPageNumber(), pageable.getPageSize());
-        final Page<Discussions> entitiesPage = jpaDiscussionsRepository.findByMaintopicId(maintopicId,pageable);
-        logger.info("Found {} discussions in total", entitiesPage.getTotalElements());
-        return entitiesPage.map(entity -> Discussion.of(
+        final Page<DiscussionsProjections> projectionsPage = jpaDiscussionsRepository.findPageByMaintopicId(maintopicId, pageable);
+        logger.debug("Found {} discussions in total", projectionsPage.getTotalElements());
+        return projectionsPage.map(this::mapToDomainEntity);
+    }
+
+    /**
+     * キーセット方式でカーソルの前後にあるディスカッションを取得する
+     * (maintopic_id, created_at, id)の複合インデックスをシークするため、ページ位置に依存せず一定のコストで取得できる
+     *
+     * @param maintopicId メイントピックID
+     * @param cursor 起点となるカーソル（nullの場合は先頭から取得）
+     * @param isOlderThanCursor trueの場合はカーソルより古いものを作成日時降順で、falseの場合は新しいものを昇順で取得する
+     * @param limit 取得件数の上限
+     * @return ディスカッションドメインエンティティのリスト
+     */
+    @Override
+    public List<Discussion> findDiscussionsByCursor(
+        final Long maintopicId,
+        final DiscussionCursor cursor,
+        final boolean isOlderThanCursor,
+        final int limit
+    ) {
+        logger.debug("Finding discussions by cursor: maintopicId {}, cursor {}, older {}, limit {}",
+            maintopicId, Objects.isNull(cursor) ? null : cursor.getDiscussionId(), isOlderThanCursor, limit);
+        final Pageable limitOnly = PageRequest.of(0, limit);
+        final List<DiscussionsProjections> projections;
+        if (Objects.isNull(cursor)) {
+            projections = isOlderThanCursor
+                ? jpaDiscussionsRepository.findFirstPageNewestFirst(maintopicId, limitOnly)
+                : jpaDiscussionsRepository.findFirstPageOldestFirst(maintopicId, limitOnly);
+        } else {
+            projections = isOlderThanCursor
+                ? jpaDiscussionsRepository.findOlderThanCursor(maintopicId, cursor.getCreatedAt(), cursor.getDiscussionId(), limitOnly)
+                : jpaDiscussionsRepository.findNewerThanCursor(maintopicId, cursor.getCreatedAt(), cursor.getDiscussionId(), limitOnly);
+        }
+        logger.debug("Found {} discussions by cursor", projections.size());
+        return projections.stream()
+            .map(this::mapToDomainEntity)
+            .toList();
+    }
+
+    /**
+     * メイントピックに紐づくディスカッション件数を取得する
+     *
+     * @param maintopicId メイントピックID
+     * @return ディスカッション件数
+     */
+    @Override
+    public long countDiscussions(final Long maintopicId) {
+        logger.debug("Reading discussion count for maintopic ID: {}", maintopicId);
+        return jpaMaintopicsRepository.findDiscussionCountById(maintopicId).orElse(0L);
+    }
+
+    /**
+     * 総件数を取得せずにページネーション対応でディスカッションを取得する
+     * COUNTクエリを発行せず、指定件数+1件の取得で次ページの有無を判定する
+     *
+     * @param maintopicId メイントピックID
+     * @param pageable ページネーション情報（ページ番号、ページサイズ、ソート条件など）
+     * @return 次ページの有無を含むディスカッションドメインエンティティのスライス
+     */
+    @Override
+    public Slice<Discussion> findDiscussionSlice(final Long maintopicId, final Pageable pageable) {
+        logger.debug("Finding discussion slice: page {}, size {}", pageable.getPageNumber(), pageable.getPageSize());
+        final Slice<DiscussionsProjections> projectionsSlice = jpaDiscussionsRepository.findSliceByMaintopicId(maintopicId, pageable);
+        logger.debug("Found {} discussions in slice, hasNext {}", projectionsSlice.getNumberOfElements(), projectionsSlice.hasNext());
+        return projectionsSlice.map(this::mapToDomainEntity);
+    }
+
+    /**
+     * 指定されたIDのディスカッションを削除する
+     * 同一トランザクション内でメイントピックのディスカッション件数を1件減らし、コミット後に検索対象から除外する
+     *
+     * @param discussionId 削除対象のディスカッションID
+     */
+    @Override
+    @Transactional
+    public void deleteDiscussion(final Long discussionId) {
+        logger.debug("Deleting discussion with ID: {}", discussionId);
+        jpaDiscussionsRepository.findById(discussionId).ifPresent(entity -> {
+            final Long maintopicId = entity.getMaintopic().getId();
+            jpaDiscussionsRepository.delete(entity);
+            jpaMaintopicsRepository.decrementDiscussionCount(maintopicId);
+            discussionSearchRepository.remove(discussionId);
+            logger.info("Discussion deleted with ID: {}, maintopic ID: {}", discussionId, maintopicId);
+        });
+    }
+
+    /**
+     * 保留中のエンティティをフラッシュしてドメインエンティティに変換し、永続化コンテキストをクリアする
+     *
+     * @param pendingEntities    フラッシュ対象のエンティティ（処理後に空になる）
+     * @param createdDiscussions 変換したドメインエンティティの追加先
+     */
+    private void flushAndClear(final List<Discussions> pendingEntities, final List<Discussion> createdDiscussions) {
+        if (pendingEntities.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        pendingEntities.forEach(entity -> createdDiscussions.add(Discussion.of(
             entity.getId(),
             entity.getParagraph(),
             entity.getMaintopic().getId(),
@@ -147,6 +321,26 @@ public class DiscussionsRepositoryImpl implements DiscussionRepository {
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
             entity.getDeletedAt()
-        ));
+        )));
+        pendingEntities.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * 一覧表示用プロジェクションをドメインエンティティに変換する
+     *
+     * @param projection ディスカッションのプロジェクション
+     * @return ディスカッションドメインエンティティ
+     */
+    private Discussion mapToDomainEntity(final DiscussionsProjections projection) {
+        return Discussion.of(
+            projection.getDiscussionId(),
+            projection.getParagraph(),
+            projection.getMaintopicId(),
+            projection.getUserId(),
+            projection.getCreatedAt(),
+            projection.getUpdatedAt(),
+            projection.getDeletedAt()
+        );
     }
 }
@@ -1,12 +1,23 @@
 package com.application.discussion.project.infrastructure.repositories.discussions;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.application.discussion.project.infrastructure.dtos.DiscussionsProjections;
 import com.application.discussion.project.infrastructure.models.discussions.Discussions;
 
+import jakarta.persistence.QueryHint;
+
 public interface JpaDiscussionsRepository extends JpaRepository<Discussions, Long> {
 
     /**
@@ -23,12 +34,111 @@ public interface JpaDiscussionsRepository extends JpaRepository<Discussions, Lon
      */
     List<Discussions> findByMaintopicId(Long maintopicId);
 
+    /**
+     * 一覧表示用プロジェクションのSELECT句
+     * メイントピック・ユーザーは外部キーのみを参照し、関連エンティティのJOINと読み込みを行わない
+     * 別名をソート項目名と一致させることで、Pageableのソート指定が別名に対して適用される
+     */
+    String DISCUSSION_PROJECTION_SELECT = "select d.id as discussionId, d.paragraph as paragraph, "
+        + "d.maintopic.id as maintopicId, d.user.userId as userId, "
+        + "d.createdAt as createdAt, d.updatedAt as updatedAt, d.deletedAt as deletedAt "
+        + "from Discussions d ";
+
     /**
      * メイントピックIDで関連するディスカッションをページング付きで取得する
      *
      * @param maintopicId メイントピックID
      * @param pageable ページネーション情報
-     * @return 議論エンティティのページ
+     * @return 議論プロジェクションのページ
+     */
+    @Query(
+        value = DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId",
+        countQuery = "select count(d) from Discussions d where d.maintopic.id = :maintopicId"
+    )
+    Page<DiscussionsProjections> findPageByMaintopicId(@Param("maintopicId") Long maintopicId, Pageable pageable);
+
+    /**
+     * メイントピックIDで関連するディスカッションを件数取得なしでページング取得する
+     * 指定件数+1件を取得して次ページの有無のみを判定する
+     *
+     * @param maintopicId メイントピックID
+     * @param pageable ページネーション情報
+     * @return 議論プロジェクションのスライス
+     */
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId")
+    Slice<DiscussionsProjections> findSliceByMaintopicId(@Param("maintopicId") Long maintopicId, Pageable pageable);
+
+    /**
+     * メイントピックの先頭ページを作成日時・ID降順で取得する
+     * (maintopic_id, created_at, id)インデックスを利用し、OFFSETと件数取得を行わない
+     *
+     * @param maintopicId メイントピックID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 議論プロジェクションのリスト
+     */
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId order by d.createdAt desc, d.id desc")
+    List<DiscussionsProjections> findFirstPageNewestFirst(@Param("maintopicId") Long maintopicId, Pageable pageable);
+
+    /**
+     * メイントピックの先頭ページを作成日時・ID昇順で取得する
+     *
+     * @param maintopicId メイントピックID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 議論プロジェクションのリスト
+     */
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId order by d.createdAt asc, d.id asc")
+    List<DiscussionsProjections> findFirstPageOldestFirst(@Param("maintopicId") Long maintopicId, Pageable pageable);
+
+    /**
+     * カーソルより古いディスカッションを作成日時・ID降順で取得する
+     *
+     * @param maintopicId メイントピックID
+     * @param createdAt カーソルの作成日時
+     * @param id カーソルの議論ID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 議論プロジェクションのリスト
+     */
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId "
+        + "and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.id < :id)) "
+        + "order by d.createdAt desc, d.id desc")
+    List<DiscussionsProjections> findOlderThanCursor(
+        @Param("maintopicId") Long maintopicId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * カーソルより新しいディスカッションを作成日時・ID昇順で取得する
+     *
+     * @param maintopicId メイントピックID
+     * @param createdAt カーソルの作成日時
+     * @param id カーソルの議論ID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 議論プロジェクションのリスト
+     */
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.maintopic.id = :maintopicId "
+        + "and (d.createdAt > :createdAt or (d.createdAt = :createdAt and d.id > :id)) "
+        + "order by d.createdAt asc, d.id asc")
+    List<DiscussionsProjections> findNewerThanCursor(
+        @Param("maintopicId") Long maintopicId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * 削除されていない全ディスカッションをID昇順で逐次取得する
+     * 全件をリストに読み込まず、フェッチサイズ単位でカーソルから読み進めるため、件数によらずメモリ使用量は一定となる
+     *
+     * NOTE: 読み取り専用のトランザクション内で呼び出し、使用後はStreamをクローズすること
+     *
+     * @return 議論プロジェクションのStream
      */
-    Page<Discussions> findByMaintopicId(Long maintopicId, Pageable pageable);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DISCUSSION_PROJECTION_SELECT + "where d.deletedAt is null order by d.id asc")
+    Stream<DiscussionsProjections> streamAllNotDeleted();
 }
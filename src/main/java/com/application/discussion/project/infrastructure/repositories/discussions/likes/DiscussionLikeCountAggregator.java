@@ -0,0 +1,246 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.likes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 議論ごとのいいね件数の増減をアプリケーション内で集計し、定期的にまとめてデータベースへ反映するクラス
+ * 件数の増減は議論ごとのLongAdderに加算するため、同じ議論へのいいねが集中しても1つの行や変数で競合しない
+ * 反映は議論IDの昇順に並べた加算のUPDATE文をバッチで実行し、集計行が存在しない議論のみINSERTする
+ *
+ * NOTE: 反映は増減の加算のため、複数インスタンスがそれぞれ反映しても件数は正しく合算される
+ * NOTE: 反映に失敗した増減は次回の反映に持ち越す。プロセスが異常終了した場合は未反映の増減が失われる
+ * NOTE: 一度いいねされた議論のLongAdderは、加算中の増減を失わないよう削除せずに保持する
+ */
+@Component
+public class DiscussionLikeCountAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionLikeCountAggregator.class);
+
+    private static final String UPDATE_STATEMENT =
+        "UPDATE discussion_like_counts SET like_count = like_count + ?, updated_at = ? WHERE discussion_id = ?";
+    private static final String INSERT_STATEMENT =
+        "INSERT INTO discussion_like_counts (discussion_id, like_count, updated_at) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @Value("${springboot.app.likes.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${springboot.app.likes.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong flushedRowCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    private ScheduledFuture<?> scheduledFlush;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        scheduledFlush = backgroundTaskScheduler.scheduleWithFixedDelay(
+            "like-count-flush", this::runScheduledFlush, flushIntervalMs, flushIntervalMs
+        );
+    }
+
+    /**
+     * 定期実行を停止し、未反映の増減を反映する
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(scheduledFlush)) {
+            scheduledFlush.cancel(false);
+        }
+        flush();
+    }
+
+    /**
+     * 議論のいいね件数の増減を加算する
+     *
+     * @param discussionId 議論ID
+     * @param delta        増減
+     */
+    public void add(final long discussionId, final long delta) {
+        LongAdder adder = pendingDeltas.get(discussionId);
+        if (Objects.isNull(adder)) {
+            adder = pendingDeltas.computeIfAbsent(discussionId, id -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    /**
+     * 指定した議論の未反映の増減を取得する
+     *
+     * @param discussionIds 議論IDのコレクション
+     * @return 議論IDと未反映の増減の組（増減のない議論は含まない）
+     */
+    public Map<Long, Long> getPendingDeltas(final Collection<Long> discussionIds) {
+        final Map<Long, Long> deltas = new HashMap<>();
+        for (final Long discussionId : discussionIds) {
+            final LongAdder adder = pendingDeltas.get(discussionId);
+            if (Objects.nonNull(adder)) {
+                final long delta = adder.sum();
+                if (delta != 0) {
+                    deltas.put(discussionId, delta);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 未反映の増減をデータベースへ反映する
+     * 全ての増減を1つのトランザクションで反映し、失敗した場合は増減を戻して次回に持ち越す
+     *
+     * @return 反映した議論の件数
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            final List<PendingDelta> deltas = drainPendingDeltas();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(deltas));
+            } catch (DataAccessException e) {
+                deltas.forEach(pending -> add(pending.discussionId, pending.delta));
+                failedFlushCount.incrementAndGet();
+                logger.error("Failed to flush like counts for {} discussions: {}", deltas.size(), e.getMessage(), e);
+                return 0;
+            }
+            flushedRowCount.addAndGet(deltas.size());
+            logger.debug("Flushed like counts for {} discussions", deltas.size());
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 定期実行用の反映処理
+     * 想定外の例外も反映の失敗として件数に含めるため、全ての例外をここで記録する
+     */
+    private void runScheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            failedFlushCount.incrementAndGet();
+            logger.error("Unexpected error in like count flush: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 全ての議論の増減を取り出して0に戻す
+     * 取り出した後に加算された増減は次回の反映に含まれる
+     * 複数インスタンスでの行ロックの順序を揃えるため、議論IDの昇順に並べる
+     */
+    private List<PendingDelta> drainPendingDeltas() {
+        final List<PendingDelta> deltas = new ArrayList<>();
+        pendingDeltas.forEach((discussionId, adder) -> {
+            final long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.add(new PendingDelta(discussionId, delta));
+            }
+        });
+        deltas.sort(Comparator.comparingLong(pending -> pending.discussionId));
+        return deltas;
+    }
+
+    private void write(final List<PendingDelta> deltas) {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final int[][] updateCounts = jdbcTemplate.batchUpdate(
+            UPDATE_STATEMENT,
+            deltas,
+            flushBatchSize,
+            (statement, pending) -> {
+                statement.setLong(1, pending.delta);
+                statement.setTimestamp(2, now);
+                statement.setLong(3, pending.discussionId);
+            }
+        );
+
+        final List<PendingDelta> missing = new ArrayList<>();
+        int index = 0;
+        for (final int[] batch : updateCounts) {
+            for (final int updated : batch) {
+                if (updated == 0) {
+                    missing.add(deltas.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            INSERT_STATEMENT,
+            missing,
+            flushBatchSize,
+            (statement, pending) -> {
+                statement.setLong(1, pending.discussionId);
+                statement.setLong(2, pending.delta);
+                statement.setTimestamp(3, now);
+            }
+        );
+    }
+
+    public long getFlushedRowCount() {
+        return flushedRowCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    /**
+     * 反映待ちの議論1件分の増減
+     */
+    private static final class PendingDelta {
+
+        private final long discussionId;
+        private final long delta;
+
+        private PendingDelta(final long discussionId, final long delta) {
+            this.discussionId = discussionId;
+            this.delta = delta;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.likes;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.domain.repositories.DiscussionLikeRepository;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
+
+/**
+ * 議論へのいいねリポジトリの実装クラス
+ * いいねの行はリクエストごとに登録・削除し、件数の増減はDiscussionLikeCountAggregatorで集計して非同期に反映する
+ * いいねの登録・取消で議論ごとの集計行を更新しないため、同じ議論へのいいねが集中しても行ロックで待機しない
+ */
+@Repository
+public class DiscussionLikeRepositoryImpl implements DiscussionLikeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionLikeRepositoryImpl.class);
+
+    @Autowired
+    private JpaDiscussionLikesRepository jpaDiscussionLikesRepository;
+
+    @Autowired
+    private JpaDiscussionLikeCountsRepository jpaDiscussionLikeCountsRepository;
+
+    @Autowired
+    private DiscussionLikeCountAggregator discussionLikeCountAggregator;
+
+    /**
+     * 議論にいいねする
+     * 同じユーザーによる同時のいいねは主キーの一意制約で1件のみ登録される
+     * 一意制約違反を捕捉して続行できるよう、トランザクション外から呼び出すこと
+     *
+     * @throws ResourceNotFoundException 議論が存在しないか削除されている場合
+     */
+    @Override
+    public boolean like(final UUID userId, final Long discussionId) {
+        final int inserted;
+        try {
+            inserted = jpaDiscussionLikesRepository.insertIfAbsent(userId, discussionId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Discussion {} was already liked by user {} concurrently", discussionId, userId);
+            return false;
+        }
+        if (inserted == 0) {
+            if (!jpaDiscussionLikesRepository.existsActiveDiscussion(discussionId)) {
+                throw new ResourceNotFoundException("議論は存在しません", "Not_Found");
+            }
+            return false;
+        }
+        AfterCommit.run(() -> discussionLikeCountAggregator.add(discussionId, 1L));
+        return true;
+    }
+
+    @Override
+    public boolean unlike(final UUID userId, final Long discussionId) {
+        if (jpaDiscussionLikesRepository.deleteByUserIdAndDiscussionId(userId, discussionId) == 0) {
+            return false;
+        }
+        AfterCommit.run(() -> discussionLikeCountAggregator.add(discussionId, -1L));
+        return true;
+    }
+
+    /**
+     * 議論ごとのいいね件数を集計値と未反映の増減から取得する
+     * いいねの行を数えないため、議論の件数に比例した1回の主キー検索のみを発行する
+     */
+    @Override
+    public Map<Long, Long> countLikes(final Collection<Long> discussionIds) {
+        final Map<Long, Long> counts = new HashMap<>();
+        if (discussionIds.isEmpty()) {
+            return counts;
+        }
+        discussionIds.forEach(discussionId -> counts.put(discussionId, 0L));
+        jpaDiscussionLikeCountsRepository.findAllById(discussionIds)
+            .forEach(count -> counts.put(count.getDiscussionId(), count.getLikeCount()));
+        discussionLikeCountAggregator.getPendingDeltas(discussionIds)
+            .forEach((discussionId, delta) -> counts.merge(discussionId, delta, Long::sum));
+        // 反映の途中に取得した場合の一時的な負数を表示しない
+        counts.replaceAll((discussionId, count) -> Math.max(count, 0L));
+        return counts;
+    }
+}
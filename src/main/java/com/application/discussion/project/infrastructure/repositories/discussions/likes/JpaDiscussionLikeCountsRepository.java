@@ -0,0 +1,13 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.likes;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.infrastructure.models.discussions.DiscussionLikeCounts;
+
+/**
+ * 議論ごとのいいね件数の集計値のSpring Data JPAリポジトリ
+ */
+@Repository
+public interface JpaDiscussionLikeCountsRepository extends JpaRepository<DiscussionLikeCounts, Long> {
+}
@@ -0,0 +1,71 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.likes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.infrastructure.models.discussions.DiscussionLikes;
+import com.application.discussion.project.infrastructure.models.discussions.DiscussionLikesId;
+
+/**
+ * いいねのSpring Data JPAリポジトリ
+ * 同時のいいねによる一意制約違反が呼び出し側のトランザクションを巻き込まないよう、更新系のメソッドはそれぞれのトランザクションで実行する
+ */
+@Repository
+public interface JpaDiscussionLikesRepository extends JpaRepository<DiscussionLikes, DiscussionLikesId> {
+
+    /**
+     * 削除されていない議論に、まだいいねしていない場合のみいいねを登録する
+     * 議論の存在確認と重複確認を1つのINSERT文で行い、事前の読み込みを発行しない
+     *
+     * @param userId       ユーザーID
+     * @param discussionId 議論ID
+     * @param now          登録日時
+     * @return 登録した件数（議論が存在しないか既にいいね済みの場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = "INSERT INTO discussion_likes (user_id, discussion_id, created_at)"
+            + " SELECT :userId, d.id, :now FROM discussions d"
+            + " WHERE d.id = :discussionId AND d.deleted_at IS NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM discussion_likes l"
+            + " WHERE l.user_id = :userId AND l.discussion_id = :discussionId)",
+        nativeQuery = true
+    )
+    int insertIfAbsent(
+        @Param("userId") UUID userId,
+        @Param("discussionId") Long discussionId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * いいねを取り消す
+     *
+     * @param userId       ユーザーID
+     * @param discussionId 議論ID
+     * @return 削除した件数（いいねしていない場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = "DELETE FROM discussion_likes WHERE user_id = :userId AND discussion_id = :discussionId",
+        nativeQuery = true
+    )
+    int deleteByUserIdAndDiscussionId(@Param("userId") UUID userId, @Param("discussionId") Long discussionId);
+
+    /**
+     * 削除されていない議論が存在するかを判定する
+     *
+     * @param discussionId 議論ID
+     * @return 存在する場合true
+     */
+    @Query("select count(d) > 0 from Discussions d where d.id = :discussionId and d.deletedAt is null")
+    boolean existsActiveDiscussion(@Param("discussionId") Long discussionId);
+}
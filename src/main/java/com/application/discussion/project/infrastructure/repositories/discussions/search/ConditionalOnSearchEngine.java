@@ -0,0 +1,25 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Conditional;
+
+/**
+ * 議論検索の方式（springboot.app.search.engine）が指定した値の場合のみBeanを登録する
+ * 方式を指定しない場合は、データソースがPostgreSQLであればpostgres、それ以外はdatabaseとして扱う
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(OnSearchEngineCondition.class)
+public @interface ConditionalOnSearchEngine {
+
+    /**
+     * 検索方式（database、postgres、memory）
+     */
+    String value();
+}
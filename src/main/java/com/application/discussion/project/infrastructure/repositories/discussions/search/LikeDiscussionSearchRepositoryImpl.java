@@ -0,0 +1,135 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+
+/**
+ * LIKEによる部分一致で議論を検索するリポジトリの実装クラス
+ * PostgreSQLの全文検索を使用できない環境（testプロファイルのH2など）向けのフォールバックで、
+ * 全ての検索語を含む候補を取得した上で、出現回数によるスコア付けと並べ替えをアプリケーション内で行う
+ *
+ * NOTE: 候補の取得にインデックスを使用できないため、大量データでは使用しないこと
+ */
+@Repository
+@ConditionalOnSearchEngine("database")
+public class LikeDiscussionSearchRepositoryImpl implements DiscussionSearchRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeDiscussionSearchRepositoryImpl.class);
+
+    private static final double TITLE_WEIGHT = 0.5;
+    private static final double DESCRIPTION_WEIGHT = 0.25;
+
+    private static final Comparator<DiscussionSearchHit> RANKING_ORDER = Comparator
+        .comparingDouble(DiscussionSearchHit::getScore).reversed()
+        .thenComparing(DiscussionSearchHit::getDiscussionId, Comparator.reverseOrder());
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${springboot.app.search.fallback.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * キーワードの全ての語を本文・メイントピックのタイトル・説明のいずれかに含む議論を検索する
+     * スコアは語ごとの出現回数を本文1、タイトル0.5、説明0.25で重み付けした合計とする
+     *
+     * @param keyword     検索キーワード
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor      起点となるカーソル（nullの場合は先頭から取得）
+     * @param limit       取得件数の上限
+     * @return 検索結果のリスト
+     */
+    @Override
+    public List<DiscussionSearchHit> search(
+        final SearchKeyword keyword,
+        final Long maintopicId,
+        final DiscussionSearchCursor cursor,
+        final int limit
+    ) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("maxCandidates", maxCandidates);
+        final StringBuilder sql = new StringBuilder()
+            .append("select d.id, d.paragraph, d.maintopic_id, d.created_at, m.name, m.description")
+            .append(" from discussions d join maintopics m on m.id = d.maintopic_id")
+            .append(" where d.deleted_at is null and m.is_deleted = false");
+        if (Objects.nonNull(maintopicId)) {
+            sql.append(" and d.maintopic_id = :maintopicId");
+            parameters.addValue("maintopicId", maintopicId);
+        }
+        final List<String> terms = keyword.getTerms();
+        for (int i = 0; i < terms.size(); i++) {
+            final String parameterName = "term" + i;
+            sql.append(" and (lower(d.paragraph) like :").append(parameterName).append(SearchLikePatterns.ESCAPE_CLAUSE)
+                .append(" or lower(m.name) like :").append(parameterName).append(SearchLikePatterns.ESCAPE_CLAUSE)
+                .append(" or lower(coalesce(m.description, '')) like :").append(parameterName).append(SearchLikePatterns.ESCAPE_CLAUSE)
+                .append(")");
+            parameters.addValue(parameterName, SearchLikePatterns.contains(terms.get(i)));
+        }
+        sql.append(" order by d.id desc limit :maxCandidates");
+
+        final List<DiscussionSearchHit> candidates = namedParameterJdbcTemplate.query(
+            sql.toString(),
+            parameters,
+            (resultSet, rowNum) -> {
+                final String paragraph = resultSet.getString("paragraph");
+                final String title = resultSet.getString("name");
+                return DiscussionSearchHit.of(
+                    resultSet.getLong("id"),
+                    paragraph,
+                    resultSet.getLong("maintopic_id"),
+                    title,
+                    resultSet.getObject("created_at", LocalDateTime.class),
+                    score(terms, paragraph, title, resultSet.getString("description"))
+                );
+            }
+        );
+        if (candidates.size() >= maxCandidates) {
+            logger.warn("Search candidates reached the limit of {}. Results may be incomplete.", maxCandidates);
+        }
+        logger.debug("Found {} search candidates for {} terms", candidates.size(), terms.size());
+
+        return candidates.stream()
+            .filter(hit -> Objects.isNull(cursor) || cursor.isFollowedBy(hit.getScore(), hit.getDiscussionId()))
+            .sorted(RANKING_ORDER)
+            .limit(limit)
+            .toList();
+    }
+
+    private double score(final List<String> terms, final String paragraph, final String title, final String description) {
+        final String lowerParagraph = paragraph.toLowerCase(Locale.ROOT);
+        final String lowerTitle = Objects.toString(title, "").toLowerCase(Locale.ROOT);
+        final String lowerDescription = Objects.toString(description, "").toLowerCase(Locale.ROOT);
+        double score = 0;
+        for (final String term : terms) {
+            score += countOccurrences(lowerParagraph, term)
+                + TITLE_WEIGHT * countOccurrences(lowerTitle, term)
+                + DESCRIPTION_WEIGHT * countOccurrences(lowerDescription, term);
+        }
+        return score;
+    }
+
+    private int countOccurrences(final String text, final String term) {
+        int count = 0;
+        int index = text.indexOf(term);
+        while (index >= 0) {
+            count++;
+            index = text.indexOf(term, index + term.length());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * ConditionalOnSearchEngineの判定を行うクラス
+ * 方式を指定しない場合の既定値をデータソースのURLから決めることで、PostgreSQLの環境ではインデックスを使用する方式、
+ * H2のテスト・開発環境ではLIKEによる方式となる
+ */
+class OnSearchEngineCondition extends SpringBootCondition {
+
+    static final String ENGINE_PROPERTY = "springboot.app.search.engine";
+    static final String POSTGRES_ENGINE = "postgres";
+    static final String DATABASE_ENGINE = "database";
+
+    private static final String DATASOURCE_URL_PROPERTY = "spring.datasource.url";
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(final ConditionContext context, final AnnotatedTypeMetadata metadata) {
+        final Map<String, Object> attributes = metadata.getAnnotationAttributes(ConditionalOnSearchEngine.class.getName());
+        final String required = Objects.requireNonNull(attributes).get("value").toString();
+        final String engine = resolveEngine(context.getEnvironment());
+        if (required.equals(engine)) {
+            return ConditionOutcome.match("search engine is " + engine);
+        }
+        return ConditionOutcome.noMatch("search engine is " + engine + ", not " + required);
+    }
+
+    /**
+     * 議論検索の方式を求める
+     *
+     * @param environment 環境
+     * @return 指定した方式。指定しない場合はデータソースがPostgreSQLであればpostgres、それ以外はdatabase
+     */
+    static String resolveEngine(final Environment environment) {
+        final String engine = environment.getProperty(ENGINE_PROPERTY);
+        if (Objects.nonNull(engine) && !engine.isBlank()) {
+            return engine.trim();
+        }
+        final String datasourceUrl = environment.getProperty(DATASOURCE_URL_PROPERTY, "");
+        return datasourceUrl.startsWith(POSTGRES_URL_PREFIX) ? POSTGRES_ENGINE : DATABASE_ENGINE;
+    }
+}
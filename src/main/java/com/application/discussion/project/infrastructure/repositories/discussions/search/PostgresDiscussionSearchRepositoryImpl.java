@@ -0,0 +1,119 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+
+/**
+ * PostgreSQLの全文検索・N-gramインデックスで議論を検索するリポジトリの実装クラス
+ * 本文に一致する議論と、タイトル・説明に一致するメイントピックの議論をそれぞれインデックスで絞り込んで結合し、
+ * データベース側でスコア付け・並べ替え・キーセットページネーションを行う
+ */
+@Repository
+@ConditionalOnSearchEngine("postgres")
+public class PostgresDiscussionSearchRepositoryImpl implements DiscussionSearchRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresDiscussionSearchRepositoryImpl.class);
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Value("${springboot.app.search.postgres.mode:trigram}")
+    private PostgresSearchMode searchMode;
+
+    @Value("${springboot.app.search.postgres.text-search-config:simple}")
+    private String textSearchConfig;
+
+    @Value("${springboot.app.search.postgres.max-candidates:10000}")
+    private int maxCandidates;
+
+    /**
+     * キーワードに一致する議論をスコアの降順（同スコアは議論IDの降順）で取得する
+     * スコアはdouble precisionに変換し、カーソルのスコアとの比較で端数の誤差が生じないようにする
+     * 本文に一致する議論と、タイトル・説明に一致するメイントピックの議論は、それぞれ新しい順にmax-candidates件までを候補とする
+     * 議論の多いメイントピックに一致した場合も、スコア付けする行数が上限を超えない
+     *
+     * @param keyword     検索キーワード
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor      起点となるカーソル（nullの場合は先頭から取得）
+     * @param limit       取得件数の上限
+     * @return 検索結果のリスト
+     */
+    @Override
+    public List<DiscussionSearchHit> search(
+        final SearchKeyword keyword,
+        final Long maintopicId,
+        final DiscussionSearchCursor cursor,
+        final int limit
+    ) {
+        final List<String> terms = keyword.getTerms();
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("keyword", keyword.getValue())
+            .addValue("textSearchConfig", textSearchConfig)
+            .addValue("limit", limit)
+            .addValue("maxCandidates", maxCandidates);
+        for (int i = 0; i < terms.size(); i++) {
+            parameters.addValue("term" + i, SearchLikePatterns.contains(terms.get(i)));
+        }
+        final String maintopicFilter;
+        if (Objects.nonNull(maintopicId)) {
+            maintopicFilter = " and d.maintopic_id = :maintopicId";
+            parameters.addValue("maintopicId", maintopicId);
+        } else {
+            maintopicFilter = "";
+        }
+
+        final StringBuilder sql = new StringBuilder()
+            .append("with candidates as (")
+            .append(" (select d.id from discussions d")
+            .append(" where ").append(searchMode.discussionCondition(terms.size())).append(maintopicFilter)
+            .append(" order by d.id desc limit :maxCandidates)")
+            .append(" union")
+            .append(" (select d.id from maintopics m join discussions d on d.maintopic_id = m.id")
+            .append(" where ").append(searchMode.maintopicCondition(terms.size())).append(maintopicFilter)
+            .append(" order by d.id desc limit :maxCandidates)")
+            .append("), ranked as (")
+            .append(" select d.id, d.paragraph, d.maintopic_id, m.name, d.created_at,")
+            .append(" cast(").append(searchMode.scoreExpression()).append(" as double precision) as score")
+            .append(" from candidates c")
+            .append(" join discussions d on d.id = c.id")
+            .append(" join maintopics m on m.id = d.maintopic_id")
+            .append(" where d.deleted_at is null and m.is_deleted = false")
+            .append(")")
+            .append(" select id, paragraph, maintopic_id, name, created_at, score from ranked");
+        if (Objects.nonNull(cursor)) {
+            sql.append(" where score < :cursorScore or (score = :cursorScore and id < :cursorId)");
+            parameters.addValue("cursorScore", cursor.getScore());
+            parameters.addValue("cursorId", cursor.getDiscussionId());
+        }
+        sql.append(" order by score desc, id desc limit :limit");
+
+        final List<DiscussionSearchHit> hits = namedParameterJdbcTemplate.query(
+            sql.toString(),
+            parameters,
+            (resultSet, rowNum) -> DiscussionSearchHit.of(
+                resultSet.getLong("id"),
+                resultSet.getString("paragraph"),
+                resultSet.getLong("maintopic_id"),
+                resultSet.getString("name"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getDouble("score")
+            )
+        );
+        logger.debug("Found {} search hits with {} mode", hits.size(), searchMode);
+        return hits;
+    }
+}
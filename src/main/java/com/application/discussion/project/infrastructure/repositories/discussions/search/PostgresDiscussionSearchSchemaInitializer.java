@@ -0,0 +1,67 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.infrastructure.exceptions.InfrastructureLayerErrorException;
+
+/**
+ * PostgreSQLの議論検索に必要なカラム・インデックス・拡張機能を起動時に作成するクラス
+ * DDLは全て冪等なため、複数インスタンスが同時に起動しても既存のインデックスは再作成されない
+ *
+ * NOTE: 大量データのテーブルにインデックスを初めて作成する場合はテーブルがロックされるため、
+ * 本番環境ではinitialize-schemaをfalseにしてメンテナンス時間帯に同じDDLを手動で実行すること
+ */
+@Component
+@ConditionalOnSearchEngine("postgres")
+public class PostgresDiscussionSearchSchemaInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresDiscussionSearchSchemaInitializer.class);
+
+    /**
+     * DDLに埋め込む全文検索の設定名の形式（SQLインジェクションを防ぐため識別子のみ許可する）
+     */
+    private static final Pattern TEXT_SEARCH_CONFIG_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${springboot.app.search.postgres.mode:trigram}")
+    private PostgresSearchMode searchMode;
+
+    @Value("${springboot.app.search.postgres.text-search-config:simple}")
+    private String textSearchConfig;
+
+    @Value("${springboot.app.search.postgres.initialize-schema:true}")
+    private boolean isInitializeSchemaEnabled;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!TEXT_SEARCH_CONFIG_PATTERN.matcher(textSearchConfig).matches()) {
+            throw new InfrastructureLayerErrorException(
+                "全文検索の設定名が不正です: " + textSearchConfig,
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                HttpStatusCode.valueOf(500)
+            );
+        }
+        if (!isInitializeSchemaEnabled) {
+            logger.debug("Skipping search schema initialization on startup");
+            return;
+        }
+        for (final String statement : searchMode.schemaStatements(textSearchConfig)) {
+            logger.debug("Executing search schema statement: {}", statement);
+            jdbcTemplate.execute(statement);
+        }
+        logger.info("Search schema initialized with {} mode", searchMode);
+    }
+}
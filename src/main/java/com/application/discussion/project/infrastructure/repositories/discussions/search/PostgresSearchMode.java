@@ -0,0 +1,141 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * PostgreSQLでの議論検索の方式
+ * 方式ごとに、検索用のカラム・インデックスを作成するDDLと、一致条件・スコアのSQL片を定義する
+ * SQL片中の:keywordは正規化したキーワード全体、:termNは各検索語の部分一致パターン、:textSearchConfigは全文検索の設定名を表す
+ */
+public enum PostgresSearchMode {
+
+    /**
+     * 生成列のtsvectorとGINインデックスによる全文検索
+     * 語の区切りを空白で判定するため、日本語はtextSearchConfigに形態素解析の設定（pgroongaなど）を指定した場合のみ有効
+     */
+    TSVECTOR {
+        @Override
+        List<String> schemaStatements(final String textSearchConfig) {
+            final String config = "'" + textSearchConfig + "'::regconfig";
+            return List.of(
+                "alter table discussions add column if not exists search_vector tsvector"
+                    + " generated always as (to_tsvector(" + config + ", coalesce(paragraph, ''))) stored",
+                "alter table maintopics add column if not exists search_vector tsvector"
+                    + " generated always as (setweight(to_tsvector(" + config + ", coalesce(name, '')), 'A')"
+                    + " || setweight(to_tsvector(" + config + ", coalesce(description, '')), 'B')) stored",
+                "create index if not exists idx_discussions_search_vector on discussions using gin (search_vector)",
+                "create index if not exists idx_maintopics_search_vector on maintopics using gin (search_vector)"
+            );
+        }
+
+        @Override
+        String discussionCondition(final int termCount) {
+            return "d.search_vector @@ " + QUERY;
+        }
+
+        @Override
+        String maintopicCondition(final int termCount) {
+            return "m.search_vector @@ " + QUERY;
+        }
+
+        @Override
+        String scoreExpression() {
+            return "ts_rank(d.search_vector, " + QUERY + ") + 0.5 * ts_rank(m.search_vector, " + QUERY + ")";
+        }
+    },
+
+    /**
+     * pg_trgmの3-gramインデックスによる部分一致検索
+     * 分かち書きが不要なため日本語に対応する。ただし3文字未満の検索語ではインデックスを使用できない
+     */
+    TRIGRAM {
+        @Override
+        List<String> schemaStatements(final String textSearchConfig) {
+            return ngramSchemaStatements("pg_trgm", "gin_trgm_ops", "trgm");
+        }
+
+        @Override
+        String scoreExpression() {
+            return ngramScoreExpression("word_similarity");
+        }
+    },
+
+    /**
+     * pg_bigmの2-gramインデックスによる部分一致検索
+     * 1・2文字の検索語でもインデックスを使用できるため、日本語の短い語の検索に適する
+     */
+    BIGRAM {
+        @Override
+        List<String> schemaStatements(final String textSearchConfig) {
+            return ngramSchemaStatements("pg_bigm", "gin_bigm_ops", "bigm");
+        }
+
+        @Override
+        String scoreExpression() {
+            return ngramScoreExpression("bigm_similarity");
+        }
+    };
+
+    private static final String QUERY = "websearch_to_tsquery(cast(:textSearchConfig as regconfig), :keyword)";
+
+    /**
+     * 検索用のカラム・インデックス・拡張機能を作成するDDLを返す
+     *
+     * @param textSearchConfig 全文検索の設定名（tsvector方式のみ使用）
+     * @return 冪等に実行できるDDLのリスト
+     */
+    abstract List<String> schemaStatements(String textSearchConfig);
+
+    /**
+     * 議論の本文が検索語に一致する条件を返す
+     *
+     * @param termCount 検索語の数
+     * @return WHERE句のSQL片
+     */
+    String discussionCondition(final int termCount) {
+        return allTermsMatch(termCount, "d.paragraph");
+    }
+
+    /**
+     * メイントピックのタイトル・説明が検索語に一致する条件を返す
+     *
+     * @param termCount 検索語の数
+     * @return WHERE句のSQL片
+     */
+    String maintopicCondition(final int termCount) {
+        return IntStream.range(0, termCount)
+            .mapToObj(i -> "(m.name ilike :term" + i + SearchLikePatterns.ESCAPE_CLAUSE
+                + " or m.description ilike :term" + i + SearchLikePatterns.ESCAPE_CLAUSE + ")")
+            .collect(Collectors.joining(" and "));
+    }
+
+    /**
+     * 検索スコアの式を返す（大きいほど関連度が高い）
+     *
+     * @return SELECT句のSQL片
+     */
+    abstract String scoreExpression();
+
+    private static String allTermsMatch(final int termCount, final String column) {
+        return IntStream.range(0, termCount)
+            .mapToObj(i -> column + " ilike :term" + i + SearchLikePatterns.ESCAPE_CLAUSE)
+            .collect(Collectors.joining(" and "));
+    }
+
+    private static List<String> ngramSchemaStatements(final String extension, final String operatorClass, final String suffix) {
+        return List.of(
+            "create extension if not exists " + extension,
+            "create index if not exists idx_discussions_paragraph_" + suffix + " on discussions using gin (paragraph " + operatorClass + ")",
+            "create index if not exists idx_maintopics_name_" + suffix + " on maintopics using gin (name " + operatorClass + ")",
+            "create index if not exists idx_maintopics_description_" + suffix + " on maintopics using gin (description " + operatorClass + ")"
+        );
+    }
+
+    private static String ngramScoreExpression(final String similarityFunction) {
+        return similarityFunction + "(:keyword, d.paragraph)"
+            + " + 0.5 * " + similarityFunction + "(:keyword, m.name)"
+            + " + 0.25 * " + similarityFunction + "(:keyword, coalesce(m.description, ''))";
+    }
+}
@@ -0,0 +1,33 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+/**
+ * LIKE検索のパターンを生成するクラス
+ * 検索語に含まれる%・_・\をエスケープし、ESCAPE句と組み合わせて部分一致検索に用いる
+ */
+final class SearchLikePatterns {
+
+    /**
+     * LIKE句のESCAPEに指定するSQL片
+     */
+    static final String ESCAPE_CLAUSE = " escape '\\'";
+
+    private SearchLikePatterns() {
+    }
+
+    /**
+     * 検索語を部分一致のパターンに変換する
+     *
+     * @param term 検索語
+     * @return 前後に%を付けたエスケープ済みのパターン
+     */
+    static String contains(final String term) {
+        final StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (final char character : term.toCharArray()) {
+            if (character == '%' || character == '_' || character == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(character);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+/**
+ * 議論IDから文書番号を引くオープンアドレス法のハッシュ表
+ * 議論IDは1以上のため、0を空きスロットの印として使用する
+ *
+ * NOTE: スレッドセーフではないため、同期は呼び出し側で行う
+ */
+final class DiscussionIdTable {
+
+    /**
+     * 登録されていない議論IDに対してgetが返す値
+     */
+    static final int ABSENT = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] discussionIds = new long[INITIAL_CAPACITY];
+    private int[] documents = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 議論IDに対応する値を取得する
+     *
+     * @param discussionId 議論ID
+     * @return 登録された値（登録されていない場合はABSENT）
+     */
+    int get(final long discussionId) {
+        final int mask = discussionIds.length - 1;
+        for (int slot = hash(discussionId) & mask; discussionIds[slot] != 0; slot = (slot + 1) & mask) {
+            if (discussionIds[slot] == discussionId) {
+                return documents[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * 議論IDに対応する値を登録する（登録済みの場合は上書きする）
+     *
+     * @param discussionId 議論ID（1以上）
+     * @param document     値
+     */
+    void put(final long discussionId, final int document) {
+        final int mask = discussionIds.length - 1;
+        int slot = hash(discussionId) & mask;
+        for (; discussionIds[slot] != 0; slot = (slot + 1) & mask) {
+            if (discussionIds[slot] == discussionId) {
+                documents[slot] = document;
+                return;
+            }
+        }
+        discussionIds[slot] = discussionId;
+        documents[slot] = document;
+        if (++size * 2 > discussionIds.length) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        final long[] oldDiscussionIds = discussionIds;
+        final int[] oldDocuments = documents;
+        discussionIds = new long[oldDiscussionIds.length * 2];
+        documents = new int[oldDiscussionIds.length * 2];
+        final int mask = discussionIds.length - 1;
+        for (int i = 0; i < oldDiscussionIds.length; i++) {
+            if (oldDiscussionIds[i] == 0) {
+                continue;
+            }
+            int slot = hash(oldDiscussionIds[i]) & mask;
+            while (discussionIds[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            discussionIds[slot] = oldDiscussionIds[i];
+            documents[slot] = oldDocuments[i];
+        }
+    }
+
+    private static int hash(final long discussionId) {
+        final long mixed = discussionId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,408 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+
+/**
+ * 議論の本文に対するアプリケーション内の転置インデックス
+ * 議論を追加順の文書番号で管理し、索引語ごとのポスティングリストの積集合で全ての検索語を含む議論を求める
+ * 積集合は文書番号の降順（概ね議論IDの降順）に求めるため、同スコアの後続の候補が上位の候補を入れ替えることは少ない
+ * 文書の属性（議論ID・メイントピックID・作成日時・文字数）はプリミティブ型の配列で保持し、検索中にオブジェクトを生成しない
+ *
+ * スコアは検索語ごとの出現回数を文書の長さで補正したBM25形式の値で、インデックスの内容によらず文書ごとに一定となる
+ * 3文字以上の検索語の出現回数はbigramの出現回数の最小値で近似し、上位に残る候補のみ本文で一致を確認する
+ *
+ * NOTE: 削除した議論は削除済みの印を付けるのみで、ポスティングリストからは取り除かない。削除済みの割合に応じた再構築で解放される
+ * NOTE: 追加・削除は書き込みロック、検索は読み込みロックの下で行う
+ */
+final class DiscussionInvertedIndex {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double REFERENCE_LENGTH = 200;
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+    private static final int MICROS_PER_SECOND = 1_000_000;
+
+    /**
+     * 追加前に削除された議論IDに割り当てる文書番号（後から追加されても索引しない）
+     */
+    private static final int REMOVED_BEFORE_ADD = -1;
+
+    private static final Comparator<Candidate> WORST_FIRST = Comparator
+        .comparingDouble((Candidate candidate) -> candidate.score)
+        .thenComparingLong(candidate -> candidate.discussionId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final GramPostingTable postings = new GramPostingTable();
+    private final DiscussionIdTable documentsByDiscussionId = new DiscussionIdTable();
+    private final BitSet removedDocuments = new BitSet();
+
+    private long[] discussionIds = new long[INITIAL_CAPACITY];
+    private long[] maintopicIds = new long[INITIAL_CAPACITY];
+    private long[] createdAtMicros = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private String[] paragraphs = new String[INITIAL_CAPACITY];
+    private int documentCount;
+    private int liveDocumentCount;
+
+    /**
+     * 議論を追加する
+     * 追加済みの議論、または追加前に削除された議論は追加しない
+     *
+     * @param discussionId 議論ID
+     * @param maintopicId  メイントピックID
+     * @param createdAt    作成日時
+     * @param paragraph    議論の本文
+     * @return 追加した場合true
+     */
+    boolean add(final long discussionId, final long maintopicId, final LocalDateTime createdAt, final String paragraph) {
+        final NgramTokenizer.Grams grams = NgramTokenizer.tokenizeDocument(paragraph);
+        lock.writeLock().lock();
+        try {
+            if (documentsByDiscussionId.get(discussionId) != DiscussionIdTable.ABSENT) {
+                return false;
+            }
+            ensureCapacity();
+            final int document = documentCount++;
+            discussionIds[document] = discussionId;
+            maintopicIds[document] = maintopicId;
+            createdAtMicros[document] = toMicros(createdAt);
+            lengths[document] = paragraph.length();
+            paragraphs[document] = paragraph;
+            documentsByDiscussionId.put(discussionId, document);
+            for (int i = 0; i < grams.size(); i++) {
+                postings.getOrCreate(grams.gram(i)).add(document, grams.frequency(i));
+            }
+            liveDocumentCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 議論を削除する
+     * 未追加の議論IDは削除済みとして記録し、後から追加されても索引しない
+     *
+     * @param discussionId 議論ID
+     * @return 索引済みの議論を削除した場合true
+     */
+    boolean remove(final long discussionId) {
+        lock.writeLock().lock();
+        try {
+            final int document = documentsByDiscussionId.get(discussionId);
+            if (document == DiscussionIdTable.ABSENT) {
+                documentsByDiscussionId.put(discussionId, REMOVED_BEFORE_ADD);
+                return false;
+            }
+            if (document == REMOVED_BEFORE_ADD || removedDocuments.get(document)) {
+                return false;
+            }
+            removedDocuments.set(document);
+            paragraphs[document] = null;
+            liveDocumentCount--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 削除されていない議論の件数
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocumentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 削除済みの印を付けたまま保持している議論の件数
+     */
+    int removedSize() {
+        lock.readLock().lock();
+        try {
+            return documentCount - liveDocumentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 索引語の種類数
+     */
+    int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全ての検索語を本文に含む議論をスコアの降順（同スコアは議論IDの降順）で取得する
+     *
+     * @param terms           小文字化済みの検索語のリスト
+     * @param maintopicId     絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor          起点となるカーソル（nullの場合は先頭から取得）
+     * @param limit           取得件数の上限
+     * @param maintopicTitles メイントピックIDからタイトルを引く関数（削除済みのメイントピックはnullを返す）
+     * @return 検索結果のリスト
+     */
+    List<DiscussionSearchHit> search(
+        final List<String> terms,
+        final Long maintopicId,
+        final DiscussionSearchCursor cursor,
+        final int limit,
+        final LongFunction<String> maintopicTitles
+    ) {
+        final int[][] termGrams = terms.stream().map(NgramTokenizer::tokenizeTerm).toArray(int[][]::new);
+        final boolean isVerificationRequired = terms.stream().anyMatch(term -> term.length() > 2);
+
+        lock.readLock().lock();
+        try {
+            final Matcher matcher = Matcher.of(postings, termGrams);
+            if (Objects.isNull(matcher)) {
+                return List.of();
+            }
+            final PriorityQueue<Candidate> topCandidates = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            while (matcher.next()) {
+                final int document = matcher.document();
+                if (removedDocuments.get(document)
+                    || (Objects.nonNull(maintopicId) && maintopicIds[document] != maintopicId)) {
+                    continue;
+                }
+                final double score = score(matcher.termFrequencies(), lengths[document]);
+                final long discussionId = discussionIds[document];
+                if (Objects.nonNull(cursor) && !cursor.isFollowedBy(score, discussionId)) {
+                    continue;
+                }
+                if (topCandidates.size() == limit && !ranksBefore(score, discussionId, topCandidates.peek())) {
+                    continue;
+                }
+                final String maintopicTitle = maintopicTitles.apply(maintopicIds[document]);
+                if (Objects.isNull(maintopicTitle)
+                    || (isVerificationRequired && !containsAll(paragraphs[document], terms))) {
+                    continue;
+                }
+                topCandidates.add(new Candidate(document, score, discussionId, maintopicTitle));
+                if (topCandidates.size() > limit) {
+                    topCandidates.poll();
+                }
+            }
+
+            final Candidate[] ranked = topCandidates.toArray(new Candidate[0]);
+            Arrays.sort(ranked, WORST_FIRST.reversed());
+            final List<DiscussionSearchHit> hits = new ArrayList<>(ranked.length);
+            for (final Candidate candidate : ranked) {
+                final int document = candidate.document;
+                hits.add(DiscussionSearchHit.of(
+                    candidate.discussionId,
+                    paragraphs[document],
+                    maintopicIds[document],
+                    candidate.maintopicTitle,
+                    fromMicros(createdAtMicros[document]),
+                    candidate.score
+                ));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity() {
+        if (documentCount < discussionIds.length) {
+            return;
+        }
+        final int capacity = discussionIds.length * 2;
+        discussionIds = Arrays.copyOf(discussionIds, capacity);
+        maintopicIds = Arrays.copyOf(maintopicIds, capacity);
+        createdAtMicros = Arrays.copyOf(createdAtMicros, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        paragraphs = Arrays.copyOf(paragraphs, capacity);
+    }
+
+    private static double score(final int[] termFrequencies, final int length) {
+        final double lengthNormalization = K1 * (1 - B + B * length / REFERENCE_LENGTH);
+        double score = 0;
+        for (final int termFrequency : termFrequencies) {
+            score += termFrequency * (K1 + 1) / (termFrequency + lengthNormalization);
+        }
+        return score;
+    }
+
+    private static boolean ranksBefore(final double score, final long discussionId, final Candidate other) {
+        final int scoreComparison = Double.compare(score, other.score);
+        return scoreComparison > 0 || (scoreComparison == 0 && discussionId > other.discussionId);
+    }
+
+    private static boolean containsAll(final String paragraph, final List<String> terms) {
+        for (final String term : terms) {
+            if (term.length() > 2 && !containsIgnoreCase(paragraph, term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsIgnoreCase(final String text, final String term) {
+        for (int i = 0; i + term.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toMicros(final LocalDateTime dateTime) {
+        if (Objects.isNull(dateTime)) {
+            return NO_CREATED_AT;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(final long micros) {
+        if (micros == NO_CREATED_AT) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, MICROS_PER_SECOND),
+            (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000,
+            ZoneOffset.UTC
+        );
+    }
+
+    /**
+     * 上位の候補として保持する議論
+     */
+    private static final class Candidate {
+
+        private final int document;
+        private final double score;
+        private final long discussionId;
+        private final String maintopicTitle;
+
+        private Candidate(final int document, final double score, final long discussionId, final String maintopicTitle) {
+            this.document = document;
+            this.score = score;
+            this.discussionId = discussionId;
+            this.maintopicTitle = maintopicTitle;
+        }
+    }
+
+    /**
+     * 全ての索引語を含む文書を文書番号の降順に列挙するクラス
+     * 件数の少ないポスティングリストを起点に、他のリストを指数探索で読み飛ばす
+     */
+    private static final class Matcher {
+
+        private final PostingList.Reader[] readers;
+        private final int[] readerTerms;
+        private final int[] termFrequencies;
+        private int document;
+
+        private Matcher(final PostingList.Reader[] readers, final int[] readerTerms, final int termCount) {
+            this.readers = readers;
+            this.readerTerms = readerTerms;
+            this.termFrequencies = new int[termCount];
+        }
+
+        /**
+         * 索引語のポスティングリストを件数の昇順に並べて生成する
+         *
+         * @return 含まれない索引語がある場合はnull
+         */
+        private static Matcher of(final GramPostingTable postings, final int[][] termGrams) {
+            final int gramCount = Arrays.stream(termGrams).mapToInt(grams -> grams.length).sum();
+            final PostingList[] lists = new PostingList[gramCount];
+            final int[] listTerms = new int[gramCount];
+            int size = 0;
+            for (int term = 0; term < termGrams.length; term++) {
+                for (final int gram : termGrams[term]) {
+                    final PostingList list = postings.get(gram);
+                    if (Objects.isNull(list)) {
+                        return null;
+                    }
+                    int position = size++;
+                    while (position > 0 && lists[position - 1].size() > list.size()) {
+                        lists[position] = lists[position - 1];
+                        listTerms[position] = listTerms[position - 1];
+                        position--;
+                    }
+                    lists[position] = list;
+                    listTerms[position] = term;
+                }
+            }
+            final PostingList.Reader[] readers = new PostingList.Reader[gramCount];
+            for (int i = 0; i < gramCount; i++) {
+                readers[i] = lists[i].reader();
+            }
+            return new Matcher(readers, listTerms, termGrams.length);
+        }
+
+        /**
+         * 全ての索引語を含む次の文書（文書番号の小さい側）に進む
+         *
+         * @return 該当する文書が存在する場合true
+         */
+        private boolean next() {
+            final PostingList.Reader driver = readers[0];
+            if (!driver.previous()) {
+                return false;
+            }
+            int candidate = driver.document();
+            int matched = 1;
+            while (matched < readers.length) {
+                final PostingList.Reader reader = readers[matched];
+                if (!reader.retreat(candidate)) {
+                    return false;
+                }
+                if (reader.document() == candidate) {
+                    matched++;
+                    continue;
+                }
+                if (!driver.retreat(reader.document())) {
+                    return false;
+                }
+                candidate = driver.document();
+                matched = 1;
+            }
+            document = candidate;
+            for (int term = 0; term < termFrequencies.length; term++) {
+                termFrequencies[term] = Integer.MAX_VALUE;
+            }
+            for (int i = 0; i < readers.length; i++) {
+                final int term = readerTerms[i];
+                termFrequencies[term] = Math.min(termFrequencies[term], readers[i].frequency());
+            }
+            return true;
+        }
+
+        private int document() {
+            return document;
+        }
+
+        private int[] termFrequencies() {
+            return termFrequencies;
+        }
+    }
+}
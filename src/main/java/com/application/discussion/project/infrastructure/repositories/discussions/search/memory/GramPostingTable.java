@@ -0,0 +1,86 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+/**
+ * 索引語からポスティングリストを引くオープンアドレス法のハッシュ表
+ * 索引語をint配列のまま保持し、キーのボクシングとエントリオブジェクトの生成を行わない
+ *
+ * NOTE: スレッドセーフではないため、同期は呼び出し側で行う
+ */
+final class GramPostingTable {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private int[] grams = new int[INITIAL_CAPACITY];
+    private PostingList[] postings = new PostingList[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 索引語のポスティングリストを取得する
+     *
+     * @param gram 索引語
+     * @return ポスティングリスト（索引語を含む文書がない場合はnull）
+     */
+    PostingList get(final int gram) {
+        final int mask = grams.length - 1;
+        for (int slot = hash(gram) & mask; postings[slot] != null; slot = (slot + 1) & mask) {
+            if (grams[slot] == gram) {
+                return postings[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 索引語のポスティングリストを取得し、存在しない場合は空のリストを登録する
+     *
+     * @param gram 索引語
+     * @return ポスティングリスト
+     */
+    PostingList getOrCreate(final int gram) {
+        final int mask = grams.length - 1;
+        int slot = hash(gram) & mask;
+        for (; postings[slot] != null; slot = (slot + 1) & mask) {
+            if (grams[slot] == gram) {
+                return postings[slot];
+            }
+        }
+        final PostingList created = new PostingList();
+        grams[slot] = gram;
+        postings[slot] = created;
+        if (++size * 2 > grams.length) {
+            resize();
+        }
+        return created;
+    }
+
+    /**
+     * 登録された索引語の数
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        final int[] oldGrams = grams;
+        final PostingList[] oldPostings = postings;
+        grams = new int[oldGrams.length * 2];
+        postings = new PostingList[oldGrams.length * 2];
+        final int mask = grams.length - 1;
+        for (int i = 0; i < oldGrams.length; i++) {
+            if (oldPostings[i] == null) {
+                continue;
+            }
+            int slot = hash(oldGrams[i]) & mask;
+            while (postings[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            grams[slot] = oldGrams[i];
+            postings[slot] = oldPostings[i];
+        }
+    }
+
+    private static int hash(final int gram) {
+        final int mixed = gram * 0x9E3779B9;
+        return mixed ^ (mixed >>> 16);
+    }
+}
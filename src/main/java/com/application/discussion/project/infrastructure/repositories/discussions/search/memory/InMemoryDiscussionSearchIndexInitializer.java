@@ -0,0 +1,27 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.infrastructure.repositories.discussions.search.ConditionalOnSearchEngine;
+
+/**
+ * 起動時にアプリケーション内の議論検索インデックスを構築するクラス
+ * シーダーなどApplicationRunner・CommandLineRunnerで投入したデータも検索対象とするため、起動処理の完了後に構築する
+ *
+ * NOTE: 構築が完了するまでの検索リクエストには503（Retry-After付き）を返す
+ */
+@Component
+@ConditionalOnSearchEngine("memory")
+public class InMemoryDiscussionSearchIndexInitializer {
+
+    @Autowired
+    private InMemoryDiscussionSearchRepositoryImpl inMemoryDiscussionSearchRepositoryImpl;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        inMemoryDiscussionSearchRepositoryImpl.rebuild();
+    }
+}
@@ -0,0 +1,282 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+import com.application.discussion.project.infrastructure.dtos.DiscussionsProjections;
+import com.application.discussion.project.infrastructure.repositories.discussions.JpaDiscussionsRepository;
+import com.application.discussion.project.infrastructure.repositories.discussions.search.ConditionalOnSearchEngine;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * アプリケーション内の転置インデックスで議論を検索するリポジトリの実装クラス
+ * 検索時にデータベースへ問い合わせないため、単一インスタンス構成で検索の応答時間を最小にする場合に使用する
+ * インデックスは起動時にデータベースの全議論から構築し、以降は議論の作成・削除の通知で差分を反映する
+ *
+ * 検索対象は議論の本文のみで、メイントピックのタイトル・説明は検索結果の表示と削除済みの判定にのみ使用する
+ *
+ * NOTE: 変更の通知は同一プロセス内でのみ伝播するため、複数インスタンス構成や
+ * 起動後にデータベースを直接更新する処理の変更は再起動まで反映されない
+ * NOTE: 本文をメモリ上に保持するため、議論の件数に応じたヒープサイズを確保すること
+ * NOTE: 削除した議論はインデックスに削除済みの印を付けて保持するため、削除済みの割合がcompaction.removed-ratioを超えた場合は
+ * 検索を継続したままデータベースから再構築して解放する
+ */
+@Repository
+@ConditionalOnSearchEngine("memory")
+public class InMemoryDiscussionSearchRepositoryImpl implements DiscussionSearchRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryDiscussionSearchRepositoryImpl.class);
+
+    private static final int REBUILD_PROGRESS_INTERVAL = 100_000;
+
+    @Autowired
+    private JpaDiscussionsRepository jpaDiscussionsRepository;
+
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @Value("${springboot.app.search.memory.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    @Value("${springboot.app.search.memory.compaction.check-interval-ms:600000}")
+    private long compactionCheckIntervalMs;
+
+    @Value("${springboot.app.search.memory.compaction.removed-ratio:0.2}")
+    private double compactionRemovedRatio;
+
+    @Value("${springboot.app.search.memory.compaction.min-removed:10000}")
+    private int compactionMinRemoved;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private ScheduledFuture<?> scheduledCompaction;
+
+    /**
+     * 削除されていないメイントピックのタイトル
+     */
+    private final Map<Long, String> maintopicTitles = new ConcurrentHashMap<>();
+
+    /**
+     * 検索に使用するインデックス（構築が完了するまではnull）
+     */
+    private volatile DiscussionInvertedIndex index;
+
+    /**
+     * 構築中のインデックス（構築中以外はnull）
+     * 構築中に通知された変更は、構築中のインデックスにも反映する
+     */
+    private volatile DiscussionInvertedIndex building;
+
+    @PostConstruct
+    public void initialize() {
+        scheduledCompaction = backgroundTaskScheduler.scheduleWithFixedDelay(
+            "search-index-compaction", this::compactIfNeeded, compactionCheckIntervalMs, compactionCheckIntervalMs
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(scheduledCompaction)) {
+            scheduledCompaction.cancel(false);
+        }
+    }
+
+    /**
+     * キーワードの全ての語を本文に含む議論を検索する
+     *
+     * @param keyword     検索キーワード
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は全メイントピックが対象）
+     * @param cursor      起点となるカーソル（nullの場合は先頭から取得）
+     * @param limit       取得件数の上限
+     * @return 検索結果のリスト
+     * @throws ServiceUnavailableException インデックスの構築が完了していない場合
+     */
+    @Override
+    public List<DiscussionSearchHit> search(
+        final SearchKeyword keyword,
+        final Long maintopicId,
+        final DiscussionSearchCursor cursor,
+        final int limit
+    ) {
+        final DiscussionInvertedIndex current = index;
+        if (Objects.isNull(current)) {
+            throw new ServiceUnavailableException("検索インデックスを構築中です", retryAfterSeconds);
+        }
+        return current.search(keyword.getTerms(), maintopicId, cursor, limit, maintopicTitles::get);
+    }
+
+    @Override
+    public void index(final Discussion discussion) {
+        AfterCommit.run(() -> {
+            if (!maintopicTitles.containsKey(discussion.getMaintopicId())) {
+                loadMaintopicTitle(discussion.getMaintopicId());
+            }
+            forEachIndex(target -> target.add(
+                discussion.getDiscussionId(),
+                discussion.getMaintopicId(),
+                discussion.getCreatedAt(),
+                discussion.getParagraph()
+            ));
+            logger.debug("Discussion {} added to search index", discussion.getDiscussionId());
+        });
+    }
+
+    /**
+     * 一括で作成された議論を、コミット後にまとめて検索対象に追加する
+     */
+    @Override
+    public void indexAll(final List<Discussion> discussions) {
+        AfterCommit.run(() -> {
+            discussions.stream()
+                .map(Discussion::getMaintopicId)
+                .distinct()
+                .filter(maintopicId -> !maintopicTitles.containsKey(maintopicId))
+                .forEach(this::loadMaintopicTitle);
+            forEachIndex(target -> discussions.forEach(discussion -> target.add(
+                discussion.getDiscussionId(),
+                discussion.getMaintopicId(),
+                discussion.getCreatedAt(),
+                discussion.getParagraph()
+            )));
+            logger.debug("{} discussions added to search index", discussions.size());
+        });
+    }
+
+    @Override
+    public void remove(final Long discussionId) {
+        AfterCommit.run(() -> {
+            forEachIndex(target -> target.remove(discussionId));
+            logger.debug("Discussion {} removed from search index", discussionId);
+        });
+    }
+
+    @Override
+    public void refreshMaintopic(final Long maintopicId) {
+        AfterCommit.run(() -> loadMaintopicTitle(maintopicId));
+    }
+
+    /**
+     * データベースの全議論からインデックスを構築し、完了後に検索対象を切り替える
+     * 議論は読み取り専用トランザクション内でID順に逐次読み込み、全件をリストに保持しない
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 削除済みの議論の件数がmin-removed以上かつ全体のremoved-ratio以上の場合に、インデックスを再構築して解放する
+     * 再構築中も切り替えまでは現在のインデックスで検索する
+     */
+    void compactIfNeeded() {
+        final DiscussionInvertedIndex current = index;
+        if (Objects.isNull(current) || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            final int removed = current.removedSize();
+            final int total = removed + current.size();
+            if (removed < compactionMinRemoved || removed < total * compactionRemovedRatio) {
+                return;
+            }
+            logger.info("Compacting search index with {} removed of {} discussions", removed, total);
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        final long startedAt = System.nanoTime();
+        final DiscussionInvertedIndex rebuilt = new DiscussionInvertedIndex();
+        building = rebuilt;
+
+        jpaMaintopicsRepository.findAllProjections().stream()
+            .filter(maintopic -> !Boolean.TRUE.equals(maintopic.getIsDeleted()))
+            .forEach(maintopic -> maintopicTitles.put(maintopic.getMaintopicId(), maintopic.getTitle()));
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<DiscussionsProjections> rows = jpaDiscussionsRepository.streamAllNotDeleted()) {
+                final Iterator<DiscussionsProjections> iterator = rows.iterator();
+                long loaded = 0;
+                while (iterator.hasNext()) {
+                    final DiscussionsProjections row = iterator.next();
+                    rebuilt.add(row.getDiscussionId(), row.getMaintopicId(), row.getCreatedAt(), row.getParagraph());
+                    if (++loaded % REBUILD_PROGRESS_INTERVAL == 0) {
+                        logger.info("Search index rebuild in progress: {} discussions", loaded);
+                    }
+                }
+            }
+        });
+
+        index = rebuilt;
+        building = null;
+        logger.info(
+            "Search index rebuilt with {} discussions and {} grams in {} ms",
+            rebuilt.size(),
+            rebuilt.gramCount(),
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    private void loadMaintopicTitle(final Long maintopicId) {
+        jpaMaintopicsRepository.findById(maintopicId)
+            .filter(maintopic -> !Boolean.TRUE.equals(maintopic.getIsDeleted()))
+            .ifPresentOrElse(
+                maintopic -> maintopicTitles.put(maintopicId, maintopic.getTitle()),
+                () -> maintopicTitles.remove(maintopicId)
+            );
+    }
+
+    /**
+     * 構築中と検索中のインデックスの両方に変更を反映する
+     * 構築完了時は検索対象を切り替えてから構築中の参照を外すため、構築中を先に参照すればどちらにも反映されない変更は生じない
+     */
+    private void forEachIndex(final Consumer<DiscussionInvertedIndex> action) {
+        final DiscussionInvertedIndex currentBuilding = building;
+        final DiscussionInvertedIndex current = index;
+        if (Objects.nonNull(currentBuilding)) {
+            action.accept(currentBuilding);
+        }
+        if (Objects.nonNull(current) && current != currentBuilding) {
+            action.accept(current);
+        }
+    }
+}
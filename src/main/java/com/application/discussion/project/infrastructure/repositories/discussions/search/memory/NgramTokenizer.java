@@ -0,0 +1,112 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import java.util.Arrays;
+
+/**
+ * 転置インデックスの索引語（N-gram）を生成するクラス
+ * 日本語は分かち書きせずに扱えるよう、小文字化した文字列の1文字（unigram）と連続する2文字（bigram）を索引語とする
+ * 索引語は2つのcharをintに詰めて表現し、文字列オブジェクトを生成しない
+ *
+ * NOTE: unigramは(文字, U+FFFF)として表現する。U+FFFFはUnicodeの非文字のため、実際の文字列のbigramとは衝突しない
+ */
+final class NgramTokenizer {
+
+    private static final int UNIGRAM_MARKER = 0xFFFF;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 文書の索引語と出現回数を生成する
+     *
+     * @param text 文書の本文
+     * @return 索引語の昇順に並べた索引語と出現回数の組
+     */
+    static Grams tokenizeDocument(final String text) {
+        final int length = text.length();
+        if (length == 0) {
+            return new Grams(new int[0], new int[0], 0);
+        }
+        final int[] all = new int[length * 2 - 1];
+        int size = 0;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            final char current = Character.toLowerCase(text.charAt(i));
+            all[size++] = unigram(current);
+            if (i > 0) {
+                all[size++] = bigram(previous, current);
+            }
+            previous = current;
+        }
+        Arrays.sort(all, 0, size);
+
+        final int[] grams = new int[size];
+        final int[] frequencies = new int[size];
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct > 0 && grams[distinct - 1] == all[i]) {
+                frequencies[distinct - 1]++;
+            } else {
+                grams[distinct] = all[i];
+                frequencies[distinct] = 1;
+                distinct++;
+            }
+        }
+        return new Grams(grams, frequencies, distinct);
+    }
+
+    /**
+     * 検索語の索引語を生成する
+     * 1文字の検索語はunigram、2文字以上の検索語は重複を除いたbigramの列とする
+     *
+     * @param term 小文字化済みの検索語
+     * @return 重複を除いた索引語の配列
+     */
+    static int[] tokenizeTerm(final String term) {
+        if (term.length() == 1) {
+            return new int[] { unigram(term.charAt(0)) };
+        }
+        final int[] grams = new int[term.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = bigram(Character.toLowerCase(term.charAt(i)), Character.toLowerCase(term.charAt(i + 1)));
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    private static int unigram(final char c) {
+        return (c << 16) | UNIGRAM_MARKER;
+    }
+
+    private static int bigram(final char first, final char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 文書の索引語と出現回数の組
+     * 配列の先頭size件のみが有効
+     */
+    static final class Grams {
+
+        private final int[] grams;
+        private final int[] frequencies;
+        private final int size;
+
+        private Grams(final int[] grams, final int[] frequencies, final int size) {
+            this.grams = grams;
+            this.frequencies = frequencies;
+            this.size = size;
+        }
+
+        int gram(final int index) {
+            return grams[index];
+        }
+
+        int frequency(final int index) {
+            return frequencies[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import java.util.Arrays;
+
+/**
+ * 1つの索引語を含む文書の一覧（ポスティングリスト）
+ * 文書番号の昇順にint配列で、出現回数をbyte配列（Byte.MAX_VALUEで飽和）で保持し、要素ごとのオブジェクトを生成しない
+ * 読み出しは文書番号の降順に行い、目的の文書番号へは指数探索と二分探索で移動する
+ *
+ * NOTE: 文書番号は昇順に追加すること。スレッドセーフではないため、同期は呼び出し側で行う
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] documents = new int[INITIAL_CAPACITY];
+    private byte[] frequencies = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 文書を末尾に追加する
+     *
+     * @param document  文書番号（直前に追加した文書番号より大きいこと）
+     * @param frequency 文書内の出現回数
+     */
+    void add(final int document, final int frequency) {
+        if (size == documents.length) {
+            final int capacity = size + (size >> 1) + 1;
+            documents = Arrays.copyOf(documents, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        documents[size] = document;
+        frequencies[size] = (byte) Math.min(frequency, Byte.MAX_VALUE);
+        size++;
+    }
+
+    /**
+     * 含まれる文書の件数
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 末尾から読み出すリーダーを生成する
+     */
+    Reader reader() {
+        return new Reader(documents, frequencies, size);
+    }
+
+    /**
+     * ポスティングリストを文書番号の降順に読み出すリーダー
+     * 生成時点の件数までを読み出し対象とする
+     */
+    static final class Reader {
+
+        private final int[] documents;
+        private final byte[] frequencies;
+        private final int limit;
+        private int position;
+
+        private Reader(final int[] documents, final byte[] frequencies, final int limit) {
+            this.documents = documents;
+            this.frequencies = frequencies;
+            this.limit = limit;
+            this.position = limit;
+        }
+
+        /**
+         * 1つ前（文書番号の小さい側）の文書に戻る
+         *
+         * @return 前の文書が存在する場合true
+         */
+        boolean previous() {
+            return --position >= 0;
+        }
+
+        /**
+         * 指定した文書番号以下の最後の文書に戻る
+         * 現在の文書が既に指定した文書番号以下の場合は移動しない
+         *
+         * @param target 目的の文書番号
+         * @return 該当する文書が存在する場合true
+         */
+        boolean retreat(final int target) {
+            if (position < limit && position >= 0 && documents[position] <= target) {
+                return true;
+            }
+            int high = position - 1;
+            if (high < 0) {
+                position = -1;
+                return false;
+            }
+            if (documents[high] <= target) {
+                position = high;
+                return true;
+            }
+            int step = 1;
+            int low = high - step;
+            while (low >= 0 && documents[low] > target) {
+                high = low;
+                step <<= 1;
+                low = high - step;
+            }
+            low = Math.max(low, -1);
+            while (high - low > 1) {
+                final int middle = (low + high) >>> 1;
+                if (documents[middle] <= target) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+            position = low;
+            return low >= 0;
+        }
+
+        /**
+         * 現在の文書番号
+         */
+        int document() {
+            return documents[position];
+        }
+
+        /**
+         * 現在の文書での出現回数
+         */
+        int frequency() {
+            return frequencies[position];
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import java.util.Arrays;
+
+/**
+ * IDの集合を省メモリに保持するビットマップ（Roaring Bitmapと同じ構成）
+ * IDの上位48ビットごとにコンテナを分け、コンテナ内の下位16ビットは件数が少ない間はソート済みのchar配列で、
+ * ARRAY_CONTAINER_MAX_SIZE件を超えると8KiBの固定長ビットマップで保持する
+ * お気に入りのように疎なIDの集合はchar配列となるため、1件あたりおよそ2バイトで保持できる
+ *
+ * NOTE: スレッドセーフではないため、同期は呼び出し側で行う
+ */
+final class CompactIdBitmap {
+
+    private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Container[] containers = new Container[INITIAL_CAPACITY];
+    private int size;
+    private long cardinality;
+
+    /**
+     * IDを追加する
+     *
+     * @param id 追加するID
+     * @return 新たに追加した場合true
+     */
+    boolean add(final long id) {
+        final long key = id >>> 16;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        containers[index] = container.add(low(id));
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * IDを削除する
+     *
+     * @param id 削除するID
+     * @return 削除した場合true
+     */
+    boolean remove(final long id) {
+        final int index = Arrays.binarySearch(keys, 0, size, id >>> 16);
+        if (index < 0) {
+            return false;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container removed = container.remove(low(id));
+        if (removed.cardinality() == before) {
+            return false;
+        }
+        cardinality--;
+        if (removed.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = removed;
+        }
+        return true;
+    }
+
+    /**
+     * IDが含まれるかを判定する
+     *
+     * @param id 判定するID
+     * @return 含まれる場合true
+     */
+    boolean contains(final long id) {
+        final int index = Arrays.binarySearch(keys, 0, size, id >>> 16);
+        return index >= 0 && containers[index].contains(low(id));
+    }
+
+    /**
+     * 含まれるIDの件数
+     */
+    long cardinality() {
+        return cardinality;
+    }
+
+    private static int low(final long id) {
+        return (int) (id & 0xFFFF);
+    }
+
+    private void insertContainer(final int index, final long key, final Container container) {
+        if (size == keys.length) {
+            final int capacity = size + (size >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(final int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    /**
+     * 上位48ビットが同じIDの下位16ビットを保持するコンテナ
+     * 追加・削除で表現を切り替える場合は新しいコンテナを返す
+     */
+    private interface Container {
+
+        boolean contains(int low);
+
+        int cardinality();
+
+        Container add(int low);
+
+        Container remove(int low);
+    }
+
+    /**
+     * 下位16ビットをソート済みのchar配列で保持するコンテナ
+     */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[INITIAL_CAPACITY];
+        private int size;
+
+        @Override
+        public boolean contains(final int low) {
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Container add(final int low) {
+            int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size + (size >> 1) + 1, ARRAY_CONTAINER_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = (char) low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(final int low) {
+            final int index = Arrays.binarySearch(values, 0, size, (char) low);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return this;
+        }
+
+        private BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * 下位16ビットを65536ビットの固定長ビットマップで保持するコンテナ
+     */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        public boolean contains(final int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container add(final int low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(final int low) {
+            if (!contains(low)) {
+                return this;
+            }
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAX_SIZE ? toArray() : this;
+        }
+
+        private ArrayContainer toArray() {
+            final ArrayContainer array = new ArrayContainer();
+            array.values = new char[cardinality];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.size++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
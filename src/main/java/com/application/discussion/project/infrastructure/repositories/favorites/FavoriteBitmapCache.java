@@ -0,0 +1,218 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+import com.application.discussion.project.infrastructure.models.favorites.FavoritesId;
+
+/**
+ * ユーザーごとのお気に入りを対象の種類ごとのCompactIdBitmapで保持するインメモリキャッシュ
+ * 一覧の各項目のお気に入り状態を、項目ごとのクエリを発行せずにメモリ上で判定する
+ * ユーザーのお気に入りは最初の参照時にまとめて読み込み、追加・削除はコミット後にapplyで反映する
+ * 件数上限を超えた場合は最も参照されていないユーザーから削除し、TTLを過ぎたユーザーは参照時に読み込み直す
+ *
+ * NOTE: 読み込みと追加・削除の反映はユーザーごとのロックで直列化し、反映は追加・削除の結果の状態を設定するため、
+ * 読み込みの途中にコミットされた変更も反映後の状態に含まれる
+ * NOTE: 反映は同一プロセス内でのみ行うため、複数インスタンス構成では他のインスタンスの変更はTTLが過ぎるまで反映されない
+ * NOTE: ユーザーごとのロックはお気に入りを読み込むクエリの実行中も保持するため、待機中の仮想スレッドがキャリアスレッドを占有しないReentrantLockを用いる
+ */
+@Component
+public class FavoriteBitmapCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FavoriteBitmapCache.class);
+
+    @Autowired
+    private JpaFavoritesRepository jpaFavoritesRepository;
+
+    @Value("${springboot.app.favorites.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${springboot.app.favorites.cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    private final Map<UUID, UserFavorites> favoritesByUserId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<UUID, UserFavorites> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * キャッシュが有効かを判定する
+     */
+    public boolean isEnabled() {
+        return maxUsers > 0 && ttlMs > 0;
+    }
+
+    /**
+     * 指定した対象のうち、ユーザーがお気に入りにしているものを取得する
+     * ユーザーのお気に入りが読み込まれていない場合は読み込む
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetIds  判定する対象のIDのコレクション
+     * @return お気に入りにしている対象のID（引数の順序を保持する）
+     */
+    public Set<Long> findFavoritedIds(final UUID userId, final FavoriteTargetType targetType, final Collection<Long> targetIds) {
+        final UserFavorites favorites = getOrCreate(userId);
+        favorites.lock.lock();
+        try {
+            if (Objects.isNull(favorites.bitmaps)) {
+                missCount.incrementAndGet();
+                favorites.bitmaps = load(userId);
+            } else {
+                hitCount.incrementAndGet();
+            }
+            final CompactIdBitmap bitmap = favorites.bitmaps.get(targetType);
+            final Set<Long> favorited = new LinkedHashSet<>();
+            for (final Long targetId : targetIds) {
+                if (Objects.nonNull(targetId) && bitmap.contains(targetId)) {
+                    favorited.add(targetId);
+                }
+            }
+            return favorited;
+        } finally {
+            favorites.lock.unlock();
+        }
+    }
+
+    /**
+     * コミットされたお気に入りの追加・削除を反映する
+     * ユーザーのお気に入りが読み込まれていない場合は、次の読み込みで反映されるため何もしない
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetId   対象のID
+     * @param favorited  追加した場合true、削除した場合false
+     */
+    public void apply(final UUID userId, final FavoriteTargetType targetType, final Long targetId, final boolean favorited) {
+        final UserFavorites favorites;
+        lock.lock();
+        try {
+            favorites = favoritesByUserId.get(userId);
+        } finally {
+            lock.unlock();
+        }
+        if (Objects.isNull(favorites)) {
+            return;
+        }
+        favorites.lock.lock();
+        try {
+            if (Objects.isNull(favorites.bitmaps)) {
+                return;
+            }
+            if (favorited) {
+                favorites.bitmaps.get(targetType).add(targetId);
+            } else {
+                favorites.bitmaps.get(targetType).remove(targetId);
+            }
+        } finally {
+            favorites.lock.unlock();
+        }
+    }
+
+    /**
+     * 指定ユーザーのお気に入りを破棄する
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidate(final UUID userId) {
+        lock.lock();
+        try {
+            favoritesByUserId.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return favoritesByUserId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * ユーザーのエントリを取得し、存在しないか期限切れの場合は未読み込みのエントリを作成する
+     * 読み込みはエントリのロックで行い、キャッシュ全体のロックを保持したままデータベースに問い合わせない
+     */
+    private UserFavorites getOrCreate(final UUID userId) {
+        final long now = System.nanoTime();
+        lock.lock();
+        try {
+            final UserFavorites favorites = favoritesByUserId.get(userId);
+            if (Objects.nonNull(favorites) && !favorites.isExpired(now)) {
+                return favorites;
+            }
+            final UserFavorites created = new UserFavorites(now + ttlMs * 1_000_000L);
+            favoritesByUserId.put(userId, created);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<FavoriteTargetType, CompactIdBitmap> load(final UUID userId) {
+        final Map<FavoriteTargetType, CompactIdBitmap> bitmaps = new EnumMap<>(FavoriteTargetType.class);
+        for (final FavoriteTargetType targetType : FavoriteTargetType.values()) {
+            bitmaps.put(targetType, new CompactIdBitmap());
+        }
+        for (final FavoritesId id : jpaFavoritesRepository.findIdsByUserId(userId)) {
+            bitmaps.get(id.getTargetType()).add(id.getTargetId());
+        }
+        logger.debug("Favorites loaded for userId: {}", userId);
+        return bitmaps;
+    }
+
+    /**
+     * ユーザー1人分のお気に入りと有効期限（System.nanoTime基準）を保持する
+     */
+    private static final class UserFavorites {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long expiresAtNanos;
+
+        /**
+         * 対象の種類ごとのお気に入り（読み込むまではnull）
+         */
+        private Map<FavoriteTargetType, CompactIdBitmap> bitmaps;
+
+        private UserFavorites(final long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
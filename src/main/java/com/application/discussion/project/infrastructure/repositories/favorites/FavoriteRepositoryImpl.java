@@ -0,0 +1,109 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.domain.repositories.FavoriteRepository;
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
+
+/**
+ * お気に入りリポジトリの実装クラス
+ * お気に入りはテーブルに永続化し、お気に入り状態の判定はFavoriteBitmapCacheのユーザーごとのビットマップで行う
+ * キャッシュが無効の場合は、判定する対象をまとめて1回のクエリで取得する
+ */
+@Repository
+public class FavoriteRepositoryImpl implements FavoriteRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(FavoriteRepositoryImpl.class);
+
+    @Autowired
+    private JpaFavoritesRepository jpaFavoritesRepository;
+
+    @Autowired
+    private FavoriteBitmapCache favoriteBitmapCache;
+
+    /**
+     * 対象をお気に入りに追加する
+     * 同じユーザーによる同時の追加は主キーの一意制約で1件のみ登録される
+     * 一意制約違反を捕捉して続行できるよう、トランザクション外から呼び出すこと
+     *
+     * @throws ResourceNotFoundException 対象が存在しないか削除されている場合
+     */
+    @Override
+    public boolean favorite(final UUID userId, final FavoriteTargetType targetType, final Long targetId) {
+        int inserted;
+        try {
+            inserted = switch (targetType) {
+                case MAINTOPIC -> jpaFavoritesRepository.insertMaintopicIfAbsent(userId, targetId, LocalDateTime.now());
+                case DISCUSSION -> jpaFavoritesRepository.insertDiscussionIfAbsent(userId, targetId, LocalDateTime.now());
+            };
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Favorite {} {} was already added by user {} concurrently", targetType, targetId, userId);
+            inserted = 0;
+        }
+        if (inserted == 0 && !existsTarget(targetType, targetId)) {
+            throw new ResourceNotFoundException(
+                targetType == FavoriteTargetType.MAINTOPIC ? "メイントピックは存在しません" : "議論は存在しません",
+                "Not_Found"
+            );
+        }
+        applyAfterCommit(userId, targetType, targetId, true);
+        return inserted > 0;
+    }
+
+    @Override
+    public boolean unfavorite(final UUID userId, final FavoriteTargetType targetType, final Long targetId) {
+        final int deleted = jpaFavoritesRepository.deleteByKey(userId, targetType, targetId);
+        applyAfterCommit(userId, targetType, targetId, false);
+        return deleted > 0;
+    }
+
+    @Override
+    public Set<Long> findFavoritedIds(final UUID userId, final FavoriteTargetType targetType, final Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+        if (favoriteBitmapCache.isEnabled()) {
+            return favoriteBitmapCache.findFavoritedIds(userId, targetType, targetIds);
+        }
+        final Set<Long> found = new LinkedHashSet<>(jpaFavoritesRepository.findTargetIdsIn(userId, targetType, targetIds));
+        final Set<Long> favorited = new LinkedHashSet<>();
+        for (final Long targetId : targetIds) {
+            if (found.contains(targetId)) {
+                favorited.add(targetId);
+            }
+        }
+        return favorited;
+    }
+
+    private boolean existsTarget(final FavoriteTargetType targetType, final Long targetId) {
+        return switch (targetType) {
+            case MAINTOPIC -> jpaFavoritesRepository.existsActiveMaintopic(targetId);
+            case DISCUSSION -> jpaFavoritesRepository.existsActiveDiscussion(targetId);
+        };
+    }
+
+    /**
+     * トランザクション内の場合はコミット後に、それ以外の場合は即座にキャッシュへ反映する
+     * 追加・削除の件数に関わらず結果の状態を反映し、キャッシュがデータベースと異なっていた場合も一致させる
+     */
+    private void applyAfterCommit(
+        final UUID userId,
+        final FavoriteTargetType targetType,
+        final Long targetId,
+        final boolean favorited
+    ) {
+        AfterCommit.run(() -> favoriteBitmapCache.apply(userId, targetType, targetId, favorited));
+    }
+}
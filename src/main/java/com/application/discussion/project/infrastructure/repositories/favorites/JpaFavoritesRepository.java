@@ -0,0 +1,138 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+import com.application.discussion.project.infrastructure.models.favorites.Favorites;
+import com.application.discussion.project.infrastructure.models.favorites.FavoritesId;
+
+/**
+ * お気に入りのSpring Data JPAリポジトリ
+ * 同時の追加による一意制約違反が呼び出し側のトランザクションを巻き込まないよう、更新系のメソッドはそれぞれのトランザクションで実行する
+ */
+@Repository
+public interface JpaFavoritesRepository extends JpaRepository<Favorites, FavoritesId> {
+
+    /**
+     * 削除されていないメイントピックを、まだお気に入りにしていない場合のみ追加する
+     *
+     * @param userId      ユーザーID
+     * @param maintopicId メイントピックID
+     * @param now         登録日時
+     * @return 登録した件数（メイントピックが存在しないか既にお気に入りの場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = "INSERT INTO favorites (user_id, target_type, target_id, created_at)"
+            + " SELECT :userId, 'MAINTOPIC', m.id, :now FROM maintopics m"
+            + " WHERE m.id = :maintopicId AND m.is_deleted = false"
+            + " AND NOT EXISTS (SELECT 1 FROM favorites f"
+            + " WHERE f.user_id = :userId AND f.target_type = 'MAINTOPIC' AND f.target_id = :maintopicId)",
+        nativeQuery = true
+    )
+    int insertMaintopicIfAbsent(
+        @Param("userId") UUID userId,
+        @Param("maintopicId") Long maintopicId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 削除されていない議論を、まだお気に入りにしていない場合のみ追加する
+     *
+     * @param userId       ユーザーID
+     * @param discussionId 議論ID
+     * @param now          登録日時
+     * @return 登録した件数（議論が存在しないか既にお気に入りの場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = "INSERT INTO favorites (user_id, target_type, target_id, created_at)"
+            + " SELECT :userId, 'DISCUSSION', d.id, :now FROM discussions d"
+            + " WHERE d.id = :discussionId AND d.deleted_at IS NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM favorites f"
+            + " WHERE f.user_id = :userId AND f.target_type = 'DISCUSSION' AND f.target_id = :discussionId)",
+        nativeQuery = true
+    )
+    int insertDiscussionIfAbsent(
+        @Param("userId") UUID userId,
+        @Param("discussionId") Long discussionId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * お気に入りを削除する
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetId   対象のID
+     * @return 削除した件数（お気に入りでない場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        "delete from Favorites f"
+            + " where f.id.userId = :userId and f.id.targetType = :targetType and f.id.targetId = :targetId"
+    )
+    int deleteByKey(
+        @Param("userId") UUID userId,
+        @Param("targetType") FavoriteTargetType targetType,
+        @Param("targetId") Long targetId
+    );
+
+    /**
+     * ユーザーの全てのお気に入りの主キーを取得する
+     *
+     * @param userId ユーザーID
+     * @return お気に入りの主キーのリスト
+     */
+    @Query("select f.id from Favorites f where f.id.userId = :userId")
+    List<FavoritesId> findIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 指定した対象のうち、ユーザーがお気に入りにしている対象のIDを取得する
+     *
+     * @param userId     ユーザーID
+     * @param targetType 対象の種類
+     * @param targetIds  対象のIDのコレクション
+     * @return お気に入りにしている対象のID
+     */
+    @Query(
+        "select f.id.targetId from Favorites f"
+            + " where f.id.userId = :userId and f.id.targetType = :targetType and f.id.targetId in :targetIds"
+    )
+    List<Long> findTargetIdsIn(
+        @Param("userId") UUID userId,
+        @Param("targetType") FavoriteTargetType targetType,
+        @Param("targetIds") Collection<Long> targetIds
+    );
+
+    /**
+     * 削除されていないメイントピックが存在するかを判定する
+     *
+     * @param maintopicId メイントピックID
+     * @return 存在する場合true
+     */
+    @Query("select count(m) > 0 from Maintopics m where m.id = :maintopicId and m.isDeleted = false")
+    boolean existsActiveMaintopic(@Param("maintopicId") Long maintopicId);
+
+    /**
+     * 削除されていない議論が存在するかを判定する
+     *
+     * @param discussionId 議論ID
+     * @return 存在する場合true
+     */
+    @Query("select count(d) > 0 from Discussions d where d.id = :discussionId and d.deletedAt is null")
+    boolean existsActiveDiscussion(@Param("discussionId") Long discussionId);
+}
@@ -0,0 +1,37 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.infrastructure.models.notifications.NotificationInboxes;
+
+public interface JpaNotificationInboxesRepository extends JpaRepository<NotificationInboxes, UUID> {
+
+    /**
+     * 既読位置を指定した通知IDまで進め、その間の通知の件数を未読件数から減らす
+     * 通知ごとの行は更新せず、受信箱の1行のみを更新する
+     * 未読件数は加算・減算で更新するため、同時に配信された通知の加算と打ち消し合わない
+     *
+     * @param userId ユーザーID
+     * @param upToId 既読にする最後の通知ID
+     * @param now    更新日時
+     * @return 更新件数（既読位置が既に指定した通知ID以上の場合は0）
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        value = "UPDATE notification_inboxes SET "
+            + "unread_count = GREATEST(unread_count - (SELECT COUNT(*) FROM notifications n "
+            + "WHERE n.user_id = :userId AND n.id > notification_inboxes.last_read_id AND n.id <= :upToId), 0), "
+            + "last_read_id = :upToId, updated_at = :now "
+            + "WHERE user_id = :userId AND last_read_id < :upToId",
+        nativeQuery = true
+    )
+    int markReadUpTo(@Param("userId") UUID userId, @Param("upToId") Long upToId, @Param("now") LocalDateTime now);
+}
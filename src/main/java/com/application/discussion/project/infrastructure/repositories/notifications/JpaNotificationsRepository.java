@@ -0,0 +1,47 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.application.discussion.project.infrastructure.models.notifications.Notifications;
+
+public interface JpaNotificationsRepository extends JpaRepository<Notifications, Long> {
+
+    /**
+     * ユーザーの最新の通知をID降順で取得する
+     *
+     * @param userId   ユーザーID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 通知のリスト
+     */
+    @Query("select n from Notifications n where n.userId = :userId order by n.id desc")
+    List<Notifications> findLatest(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * カーソルより前のユーザーの通知をID降順で取得する
+     *
+     * @param userId   ユーザーID
+     * @param beforeId カーソルの通知ID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return 通知のリスト
+     */
+    @Query("select n from Notifications n where n.userId = :userId and n.id < :beforeId order by n.id desc")
+    List<Notifications> findBefore(@Param("userId") UUID userId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    /**
+     * 指定した通知ID以下のユーザーの通知のうち、最大のIDを取得する
+     * 既読位置をユーザーに配信済みの通知IDに揃えるために使用する
+     *
+     * @param userId ユーザーID
+     * @param upToId 通知ID
+     * @return 最大の通知ID（該当する通知がない場合は空）
+     */
+    @Query("select max(n.id) from Notifications n where n.userId = :userId and n.id <= :upToId")
+    Optional<Long> findMaxIdUpTo(@Param("userId") UUID userId, @Param("upToId") Long upToId);
+}
@@ -0,0 +1,321 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 通知のきっかけとなる操作を上限付きのキューで受け付け、定期的にまとめて受信者ごとの受信箱へ配信するクラス
+ * 受け付けはキューへの追加のみのため、操作を行ったリクエストは配信の完了を待たない
+ * 配信はbatch-size件の操作ごとに受信者をメイントピックごとに1回のクエリで求め、展開した通知の行を
+ * rows-per-transaction行ごとに1つのトランザクションで登録する。通知の行は複数行INSERTで、
+ * 未読件数は受信者ごとの加算のUPDATE文のバッチで登録する
+ *
+ * NOTE: キューが満杯の場合は操作を破棄し、リクエストを待たせない。配信に失敗した操作も破棄し、件数をメトリクスで公開する
+ * NOTE: キューはプロセス内のため、プロセスが異常終了した場合は未配信の操作が失われる
+ * NOTE: 配信はロックにより同時に1つのみ行うため、同一インスタンス内では通知IDはコミット順に採番される
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final int MAX_BIND_PARAMETERS = 30_000;
+    private static final List<String> NOTIFICATION_COLUMNS =
+        List.of("user_id", "type", "maintopic_id", "discussion_id", "actor_user_id", "created_at");
+
+    private static final String RECIPIENTS_QUERY =
+        "SELECT user_id FROM maintopics WHERE id = ? AND is_deleted = false "
+            + "UNION SELECT user_id FROM discussions WHERE maintopic_id = ? AND deleted_at IS NULL";
+    private static final String UPDATE_INBOX_STATEMENT =
+        "UPDATE notification_inboxes SET unread_count = unread_count + ?, updated_at = ? WHERE user_id = ?";
+    private static final String INSERT_INBOX_STATEMENT =
+        "INSERT INTO notification_inboxes (user_id, unread_count, last_read_id, updated_at) VALUES (?, ?, 0, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @Value("${springboot.app.notifications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${springboot.app.notifications.dispatch-interval-ms:200}")
+    private long dispatchIntervalMs;
+
+    @Value("${springboot.app.notifications.batch-size:500}")
+    private int batchSize;
+
+    @Value("${springboot.app.notifications.rows-per-statement:500}")
+    private int rowsPerStatement;
+
+    @Value("${springboot.app.notifications.rows-per-transaction:5000}")
+    private int rowsPerTransaction;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedBatchCount = new AtomicLong();
+
+    private BlockingQueue<NotificationEvent> queue;
+    private ScheduledFuture<?> scheduledDispatch;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        scheduledDispatch = backgroundTaskScheduler.scheduleWithFixedDelay(
+            "notification-dispatch", this::runScheduledDispatch, dispatchIntervalMs, dispatchIntervalMs
+        );
+        logger.info("Notification dispatch queue capacity {}", queueCapacity);
+    }
+
+    /**
+     * 定期実行を停止し、キューに残っている操作を配信する
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(scheduledDispatch)) {
+            scheduledDispatch.cancel(false);
+        }
+        dispatch();
+    }
+
+    /**
+     * 通知のきっかけとなる操作を受け付ける
+     * キューが満杯の場合は待たずに破棄する
+     *
+     * @param event 操作
+     * @return 受け付けた場合true
+     */
+    boolean offer(final NotificationEvent event) {
+        if (queue.offer(event)) {
+            enqueuedCount.incrementAndGet();
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        logger.warn("Notification queue is full, dropped {} event for discussion {}", event.getType(), event.getDiscussionId());
+        return false;
+    }
+
+    /**
+     * キューに残っている全ての操作をbatch-size件ずつ配信する
+     *
+     * @return 登録した通知の件数
+     */
+    public long dispatch() {
+        dispatchLock.lock();
+        try {
+            long delivered = 0;
+            final List<NotificationEvent> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                delivered += deliverBatch(batch);
+                batch.clear();
+            }
+            return delivered;
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    /**
+     * 定期実行用の配信処理
+     * 想定外の例外も配信の失敗として件数に含めるため、全ての例外をここで記録する
+     */
+    private void runScheduledDispatch() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            failedBatchCount.incrementAndGet();
+            logger.error("Unexpected error in notification dispatch: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 操作のまとまりを受信者ごとの通知の行に展開し、rows-per-transaction行ごとに配信する
+     * 受信者の多いメイントピックでも1つのトランザクションで登録する行数とロックする受信箱の数が上限を超えないよう、
+     * 1つの操作の受信者も途中で分割する
+     */
+    private long deliverBatch(final List<NotificationEvent> batch) {
+        final Map<Long, List<UUID>> recipientsByMaintopicId = new HashMap<>();
+        final int rowsPerChunk = Math.max(1, rowsPerTransaction);
+        final Map<UUID, Long> unreadDeltas = new TreeMap<>();
+        final List<Object[]> rows = new ArrayList<>();
+        long delivered = 0;
+        for (final NotificationEvent event : batch) {
+            final List<UUID> recipients = recipientsByMaintopicId.computeIfAbsent(event.getMaintopicId(), this::findRecipients);
+            final Timestamp createdAt = Timestamp.valueOf(event.getCreatedAt());
+            for (final UUID recipient : recipients) {
+                if (recipient.equals(event.getActorUserId())) {
+                    continue;
+                }
+                rows.add(new Object[] {
+                    recipient, event.getType().name(), event.getMaintopicId(), event.getDiscussionId(), event.getActorUserId(), createdAt
+                });
+                unreadDeltas.merge(recipient, 1L, Long::sum);
+                if (rows.size() >= rowsPerChunk) {
+                    delivered += deliverChunk(rows, unreadDeltas);
+                    rows.clear();
+                    unreadDeltas.clear();
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            delivered += deliverChunk(rows, unreadDeltas);
+        }
+        logger.debug("Delivered {} notifications for {} events", delivered, batch.size());
+        return delivered;
+    }
+
+    /**
+     * 通知の行のまとまりを1つのトランザクションで登録する
+     * 他のインスタンスと同時に同じユーザーの受信箱を作成して一意制約に違反した場合は、
+     * 受信箱が作成済みとなるため1回のみ再実行する
+     */
+    private long deliverChunk(final List<Object[]> rows, final Map<UUID, Long> unreadDeltas) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    insertNotifications(rows);
+                    incrementUnreadCounts(unreadDeltas);
+                });
+                deliveredCount.addAndGet(rows.size());
+                return rows.size();
+            } catch (DuplicateKeyException e) {
+                if (attempt > 1) {
+                    return fail(rows, e);
+                }
+                logger.debug("Notification inbox was created concurrently, retrying chunk of {} notifications", rows.size());
+            } catch (DataAccessException e) {
+                return fail(rows, e);
+            }
+        }
+    }
+
+    private long fail(final List<Object[]> rows, final DataAccessException e) {
+        failedBatchCount.incrementAndGet();
+        logger.error("Failed to deliver {} notifications: {}", rows.size(), e.getMessage(), e);
+        return 0;
+    }
+
+    private List<UUID> findRecipients(final Long maintopicId) {
+        return jdbcTemplate.query(RECIPIENTS_QUERY, (resultSet, rowNum) -> resultSet.getObject(1, UUID.class), maintopicId, maintopicId);
+    }
+
+    /**
+     * 通知の行を複数行INSERTで登録する
+     * 1文あたりの行数はrows-per-statementとバインドパラメーター数の上限のうち小さい方に従う
+     */
+    private void insertNotifications(final List<Object[]> rows) {
+        final int rowsPerChunk = Math.max(1, Math.min(rowsPerStatement, MAX_BIND_PARAMETERS / NOTIFICATION_COLUMNS.size()));
+        for (int from = 0; from < rows.size(); from += rowsPerChunk) {
+            final List<Object[]> chunk = rows.subList(from, Math.min(from + rowsPerChunk, rows.size()));
+            final List<Object> parameters = new ArrayList<>(chunk.size() * NOTIFICATION_COLUMNS.size());
+            chunk.forEach(row -> Collections.addAll(parameters, row));
+            jdbcTemplate.update(buildInsertSql(chunk.size()), parameters.toArray());
+        }
+    }
+
+    /**
+     * 受信者ごとの未読件数を加算し、受信箱が存在しない受信者のみ受信箱を作成する
+     * 複数インスタンスでの行ロックの順序を揃えるため、ユーザーIDの順に更新する
+     */
+    private void incrementUnreadCounts(final Map<UUID, Long> unreadDeltas) {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final List<Map.Entry<UUID, Long>> deltas = new ArrayList<>(unreadDeltas.entrySet());
+        final int[][] updateCounts = jdbcTemplate.batchUpdate(
+            UPDATE_INBOX_STATEMENT,
+            deltas,
+            rowsPerStatement,
+            (statement, delta) -> {
+                statement.setLong(1, delta.getValue());
+                statement.setTimestamp(2, now);
+                statement.setObject(3, delta.getKey());
+            }
+        );
+
+        final List<Map.Entry<UUID, Long>> missing = new ArrayList<>();
+        int index = 0;
+        for (final int[] batch : updateCounts) {
+            for (final int updated : batch) {
+                if (updated == 0) {
+                    missing.add(deltas.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            INSERT_INBOX_STATEMENT,
+            missing,
+            rowsPerStatement,
+            (statement, delta) -> {
+                statement.setObject(1, delta.getKey());
+                statement.setLong(2, delta.getValue());
+                statement.setTimestamp(3, now);
+            }
+        );
+    }
+
+    private String buildInsertSql(final int rows) {
+        final String placeholders = "(" + String.join(", ", Collections.nCopies(NOTIFICATION_COLUMNS.size(), "?")) + ")";
+        return "INSERT INTO notifications (" + String.join(", ", NOTIFICATION_COLUMNS) + ") VALUES "
+            + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    public int getQueueDepth() {
+        return Objects.isNull(queue) ? 0 : queue.size();
+    }
+}
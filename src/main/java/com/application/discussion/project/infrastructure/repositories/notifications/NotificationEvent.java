@@ -0,0 +1,53 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.application.discussion.project.domain.valueobjects.notifications.NotificationType;
+
+/**
+ * 配信待ちの通知のきっかけとなる操作
+ * 受信者は配信時に決定するため、受信者ごとの通知ではなく操作1件につき1つ作成する
+ */
+final class NotificationEvent {
+
+    private final NotificationType type;
+    private final Long maintopicId;
+    private final Long discussionId;
+    private final UUID actorUserId;
+    private final LocalDateTime createdAt;
+
+    NotificationEvent(
+        final NotificationType type,
+        final Long maintopicId,
+        final Long discussionId,
+        final UUID actorUserId,
+        final LocalDateTime createdAt
+    ) {
+        this.type = type;
+        this.maintopicId = maintopicId;
+        this.discussionId = discussionId;
+        this.actorUserId = actorUserId;
+        this.createdAt = createdAt;
+    }
+
+    NotificationType getType() {
+        return type;
+    }
+
+    Long getMaintopicId() {
+        return maintopicId;
+    }
+
+    Long getDiscussionId() {
+        return discussionId;
+    }
+
+    UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,103 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.notifications.Notification;
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
+import com.application.discussion.project.domain.valueobjects.notifications.NotificationType;
+import com.application.discussion.project.infrastructure.models.notifications.Notifications;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
+
+/**
+ * 通知リポジトリの実装クラス
+ * 通知のきっかけとなる操作はNotificationDispatcherのキューに追加し、受信者ごとの通知の登録は非同期にまとめて行う
+ * 未読件数は受信箱の集計行から取得し、既読は受信箱の既読位置を進める1回の更新で行う
+ */
+@Repository
+public class NotificationRepositoryImpl implements NotificationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRepositoryImpl.class);
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private JpaNotificationsRepository jpaNotificationsRepository;
+
+    @Autowired
+    private JpaNotificationInboxesRepository jpaNotificationInboxesRepository;
+
+    @Override
+    public void publishDiscussionCreated(final Discussion discussion) {
+        final NotificationEvent event = new NotificationEvent(
+            NotificationType.NEW_DISCUSSION,
+            discussion.getMaintopicId(),
+            discussion.getDiscussionId(),
+            discussion.getUserId(),
+            Objects.isNull(discussion.getCreatedAt()) ? LocalDateTime.now() : discussion.getCreatedAt()
+        );
+        AfterCommit.run(() -> notificationDispatcher.offer(event));
+    }
+
+    @Override
+    public List<Notification> findNotifications(final UUID userId, final Long beforeId, final int limit) {
+        final Pageable limitOnly = PageRequest.of(0, limit);
+        final List<Notifications> entities = Objects.isNull(beforeId)
+            ? jpaNotificationsRepository.findLatest(userId, limitOnly)
+            : jpaNotificationsRepository.findBefore(userId, beforeId, limitOnly);
+        logger.debug("Found {} notifications for user {} before {}", entities.size(), userId, beforeId);
+        return entities.stream().map(this::mapToDomainEntity).toList();
+    }
+
+    @Override
+    public NotificationInbox findInbox(final UUID userId) {
+        return jpaNotificationInboxesRepository.findById(userId)
+            .map(inbox -> NotificationInbox.of(inbox.getUnreadCount(), inbox.getLastReadId()))
+            .orElseGet(NotificationInbox::empty);
+    }
+
+    /**
+     * 指定した通知IDまでの通知をまとめて既読にする
+     * 未配信のIDまで既読位置が進まないよう、指定した通知ID以下のユーザーの最大の通知IDまで進める
+     */
+    @Override
+    public NotificationInbox markRead(final UUID userId, final Long upToId) {
+        final Optional<Long> lastDeliveredId = jpaNotificationsRepository.findMaxIdUpTo(userId, upToId);
+        if (lastDeliveredId.isPresent()) {
+            final int updated = jpaNotificationInboxesRepository.markReadUpTo(userId, lastDeliveredId.get(), LocalDateTime.now());
+            logger.debug("Marked notifications read for user {} up to {}: {}", userId, lastDeliveredId.get(), updated);
+        }
+        return findInbox(userId);
+    }
+
+    /**
+     * 通知のJPAエンティティをドメインエンティティに変換する
+     *
+     * @param entity 通知のJPAエンティティ
+     * @return 通知ドメインエンティティ
+     */
+    private Notification mapToDomainEntity(final Notifications entity) {
+        return Notification.of(
+            entity.getId(),
+            entity.getUserId(),
+            entity.getType(),
+            entity.getMaintopicId(),
+            entity.getDiscussionId(),
+            entity.getActorUserId(),
+            entity.getCreatedAt()
+        );
+    }
+}
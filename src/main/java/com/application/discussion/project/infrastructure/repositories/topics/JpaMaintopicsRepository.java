@@ -1,13 +1,106 @@
 package com.application.discussion.project.infrastructure.repositories.topics;
 
+import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.application.discussion.project.infrastructure.dtos.MaintopicsProjections;
 import com.application.discussion.project.infrastructure.models.topics.Maintopics;
 
 @Repository
 public interface JpaMaintopicsRepository extends JpaRepository<Maintopics, Long> {
     // カスタムクエリメソッドを必要に応じて追加できます
     Boolean existsByTitle(String title);
+
+    String MAINTOPIC_PROJECTION_SELECT = "select m.id as maintopicId, m.title as title, m.description as description, "
+        + "m.users.userId as userId, m.createdAt as createdAt, m.updatedAt as updatedAt, "
+        + "m.isDeleted as isDeleted, m.isClosed as isClosed "
+        + "from Maintopics m ";
+
+    /**
+     * 全メイントピックをID昇順で取得する
+     *
+     * @return メイントピックプロジェクションのリスト
+     */
+    @Query(MAINTOPIC_PROJECTION_SELECT + "order by m.id asc")
+    List<MaintopicsProjections> findAllProjections();
+
+    /**
+     * 指定IDより後ろのメイントピックをID昇順で取得する
+     * 主キーでシークするため、OFFSETと件数取得を行わない
+     *
+     * @param afterMaintopicId 直前のページの最後のメイントピックID
+     * @param pageable 取得件数のみを指定したページ情報
+     * @return メイントピックプロジェクションのリスト
+     */
+    @Query(MAINTOPIC_PROJECTION_SELECT + "where m.id > :afterMaintopicId order by m.id asc")
+    List<MaintopicsProjections> findPageAfterId(@Param("afterMaintopicId") Long afterMaintopicId, Pageable pageable);
+
+    /**
+     * メイントピックのディスカッション件数を取得する
+     *
+     * @param maintopicId メイントピックID
+     * @return ディスカッション件数（メイントピックが存在しない場合は空）
+     */
+    @Query("select m.discussionCount from Maintopics m where m.id = :maintopicId")
+    Optional<Long> findDiscussionCountById(@Param("maintopicId") Long maintopicId);
+
+    /**
+     * メイントピックのディスカッション件数を1件増やす
+     *
+     * @param maintopicId メイントピックID
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Maintopics m set m.discussionCount = m.discussionCount + 1 where m.id = :maintopicId")
+    int incrementDiscussionCount(@Param("maintopicId") Long maintopicId);
+
+    /**
+     * メイントピックのディスカッション件数を指定件数分増やす
+     * 一括登録時にメイントピックごとに1回だけ更新するために使用する
+     *
+     * @param maintopicId メイントピックID
+     * @param amount      増やす件数
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Maintopics m set m.discussionCount = m.discussionCount + :amount where m.id = :maintopicId")
+    int incrementDiscussionCountBy(@Param("maintopicId") Long maintopicId, @Param("amount") long amount);
+
+    /**
+     * メイントピックのディスカッション件数を1件減らす（0未満にはしない）
+     *
+     * @param maintopicId メイントピックID
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Maintopics m set m.discussionCount = m.discussionCount - 1 where m.id = :maintopicId and m.discussionCount > 0")
+    int decrementDiscussionCount(@Param("maintopicId") Long maintopicId);
+
+    /**
+     * 全メイントピックのディスカッション件数を実際の件数で再計算する
+     * 件数カラム追加前のデータや、リポジトリを経由せずに投入したデータとの整合を取るために使用する
+     *
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Maintopics m set m.discussionCount = (select count(d) from Discussions d where d.maintopic.id = m.id)")
+    int recalculateDiscussionCounts();
+
+    /**
+     * 件数が未初期化（0）のままディスカッションを持つメイントピックに限り、ディスカッション件数を実際の件数で埋める
+     * 件数カラム追加前から存在するデータを起動時に補正するために使用し、補正済みの行は対象外となるため繰り返し実行しても安全
+     *
+     * @return 更新件数
+     */
+    @Modifying
+    @Query("update Maintopics m set m.discussionCount = (select count(d) from Discussions d where d.maintopic.id = m.id) "
+        + "where m.discussionCount = 0 and exists (select 1 from Discussions d2 where d2.maintopic.id = m.id)")
+    int backfillUninitializedDiscussionCounts();
 }
@@ -0,0 +1,60 @@
+package com.application.discussion.project.infrastructure.repositories.topics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * メイントピックのディスカッション件数を実際の件数と整合させるクラス
+ * 件数カラムの追加前に登録済みのデータや、シーダーなどリポジトリを経由せずに投入したデータの件数を補正する
+ *
+ * NOTE: 再計算は全メイントピックの件数を1回のUPDATEで集計し直し、ディスカッションの件数に比例して起動が遅くなるため、
+ * 起動時の実行は既定で無効とする。無効時も件数が未初期化（0）のままディスカッションを持つメイントピックだけは起動時に補正し、
+ * 件数カラム追加前の既存データで件数が0と表示されないようにする。シーダーは投入後にreconcileを呼び出す
+ */
+@Component
+public class MaintopicDiscussionCountReconciler implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintopicDiscussionCountReconciler.class);
+
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Value("${springboot.app.discussions.reconcile-count-on-startup:false}")
+    private boolean isReconcileOnStartupEnabled;
+
+    @Override
+    @Transactional
+    public void run(final ApplicationArguments args) {
+        if (!isReconcileOnStartupEnabled) {
+            backfillUninitialized();
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * 件数が未初期化のメイントピックに限りディスカッション件数を補正する
+     */
+    @Transactional
+    public void backfillUninitialized() {
+        logger.info("Backfilling uninitialized discussion counts");
+        final int updated = jpaMaintopicsRepository.backfillUninitializedDiscussionCounts();
+        logger.info("Discussion counts backfilled for {} maintopics", updated);
+    }
+
+    /**
+     * 全メイントピックのディスカッション件数を再計算する
+     */
+    @Transactional
+    public void reconcile() {
+        logger.info("Reconciling discussion counts for all maintopics");
+        final int updated = jpaMaintopicsRepository.recalculateDiscussionCounts();
+        logger.info("Discussion counts reconciled for {} maintopics", updated);
+    }
+}
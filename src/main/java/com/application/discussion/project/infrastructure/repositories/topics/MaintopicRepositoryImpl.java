@@ -7,10 +7,12 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.application.discussion.project.domain.entities.topics.Maintopic;
 import com.application.discussion.project.domain.repositories.MaintopicRepository;
+import com.application.discussion.project.infrastructure.dtos.MaintopicsProjections;
 import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
 import com.application.discussion.project.infrastructure.models.topics.Maintopics;
 import com.application.discussion.project.infrastructure.models.users.Users;
@@ -48,7 +50,7 @@ public class MaintopicRepositoryImpl implements MaintopicRepository {
 
     @Override
     public List<Maintopic> findMaintopicList() {
-        List<Maintopics> maintopics = jpaMaintopicsRepository.findAll();
+        List<MaintopicsProjections> maintopics = jpaMaintopicsRepository.findAllProjections();
         logger.info("Retrieved {} maintopics from the database", maintopics.size());
         if (maintopics.isEmpty()) {
             logger.warn("No maintopics found in the database");
@@ -56,16 +58,21 @@ public class MaintopicRepositoryImpl implements MaintopicRepository {
             // Return an empty list if no topics are found
         }
         return maintopics.stream()
-                .map(entity -> new Maintopic(
-                        entity.getId(),
-                        entity.getTitle(),
-                        entity.getDescription(),
-                        entity.getUsers().getUserId(),
-                        entity.getCreatedAt(),
-                        entity.getUpdatedAt(),
-                        entity.getIsDeleted(),
-                        entity.getIsClosed()
-                ))
+                .map(this::mapToDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 指定IDより後ろのメイントピックをID昇順で指定件数まで取得する
+     * @param afterMaintopicId 直前のページの最後のメイントピックID（先頭ページの場合は0）
+     * @param limit 取得件数
+     * @return メイントピックのリスト（該当がない場合は空）
+     */
+    @Override
+    public List<Maintopic> findMaintopicsAfter(final Long afterMaintopicId, final int limit) {
+        logger.info("Finding maintopics after ID: {} with limit: {}", afterMaintopicId, limit);
+        return jpaMaintopicsRepository.findPageAfterId(afterMaintopicId, PageRequest.of(0, limit)).stream()
+                .map(this::mapToDomainEntity)
                 .collect(Collectors.toList());
     }
 
@@ -157,4 +164,22 @@ public class MaintopicRepositoryImpl implements MaintopicRepository {
         jpaMaintopicsRepository.deleteById(maintopicId);
         logger.info("Maintopic with ID: {} deleted successfully", maintopicId);
     }
+
+    /**
+     * プロジェクションをドメインエンティティに変換する
+     * @param projection メイントピックプロジェクション
+     * @return メイントピックドメインエンティティ
+     */
+    private Maintopic mapToDomainEntity(final MaintopicsProjections projection) {
+        return new Maintopic(
+            projection.getMaintopicId(),
+            projection.getTitle(),
+            projection.getDescription(),
+            projection.getUserId(),
+            projection.getCreatedAt(),
+            projection.getUpdatedAt(),
+            projection.getIsDeleted(),
+            projection.getIsClosed()
+        );
+    }
 }
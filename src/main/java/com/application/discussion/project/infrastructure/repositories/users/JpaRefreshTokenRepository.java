@@ -1,5 +1,6 @@
 package com.application.discussion.project.infrastructure.repositories.users;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +35,17 @@ public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokens,
      */
     List<RefreshTokens> findAllByUserUserIdAndIsRevokedFalse(UUID userId);
 
+    /**
+     * リフレッシュトークンが指定日時以降に使用済みになったかを判定する
+     * 使用済みにする更新でupdated_atに使用日時を設定している
+     *
+     * @param tokenHash SHA-256ハッシュ化されたトークン文字列
+     * @param usedSince 判定の起点となる日時
+     * @return 起点以降に使用済みになった場合true
+     */
+    @Query("SELECT COUNT(t) > 0 FROM RefreshTokens t WHERE t.tokenHash = :tokenHash AND t.isUsed = true AND t.updatedAt >= :usedSince")
+    boolean existsUsedSince(@Param("tokenHash") String tokenHash, @Param("usedSince") LocalDateTime usedSince);
+
     /**
      * 指定ユーザーの全リフレッシュトークンを失効させる
      *
@@ -44,11 +56,60 @@ public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokens,
     void revokeAllByUserId(@Param("userId") UUID userId);
 
     /**
-     * リフレッシュトークンを使用済みにする
+     * 未使用・未失効・有効期限内のリフレッシュトークンを使用済みにする
+     * 条件の判定と更新を1つのUPDATE文で行うため、同じトークンで同時に更新しても成功するのは1件のみとなる
+     *
+     * @param tokenHash SHA-256ハッシュ化されたトークン文字列
+     * @param userId    トークンの所有者のユーザーID
+     * @param now       有効期限の判定に用いる現在日時
+     * @return 更新した件数（0または1）
+     */
+    @Modifying
+    @Query(
+        value = "UPDATE refresh_tokens SET is_used = true, updated_at = :now"
+            + " WHERE token_hash = :tokenHash AND user_id = :userId"
+            + " AND is_used = false AND is_revoked = false AND expires_at > :now",
+        nativeQuery = true
+    )
+    int markAsUsedIfValid(
+        @Param("tokenHash") String tokenHash,
+        @Param("userId") UUID userId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 有効期限が指定日時より前のリフレッシュトークンを件数上限まで削除する
+     * 1回の削除量を制限するため、削除対象のIDを副問い合わせで上限件数だけ選択する
+     *
+     * @param expiredBefore 削除対象とする有効期限の上限（この日時を含まない）
+     * @param batchSize     1回で削除する最大件数
+     * @return 削除した件数
+     */
+    @Modifying
+    @Query(
+        value = "DELETE FROM refresh_tokens WHERE id IN"
+            + " (SELECT id FROM refresh_tokens WHERE expires_at < :expiredBefore LIMIT :batchSize)",
+        nativeQuery = true
+    )
+    int deleteExpiredBefore(
+        @Param("expiredBefore") LocalDateTime expiredBefore,
+        @Param("batchSize") int batchSize
+    );
+
+    /**
+     * 失効済みで未使用のリフレッシュトークンを件数上限まで削除する
+     * 失効済みのトークンは再発行に使用できず、未使用のものは再利用の検出にも使用しないため、有効期限を待たずに削除する
+     *
+     * NOTE: 失効の有無にはインデックスがないため、削除対象がなくなった最後の1回はテーブル全体を走査する
      *
-     * @param tokenId リフレッシュトークンID
+     * @param batchSize 1回で削除する最大件数
+     * @return 削除した件数
      */
     @Modifying
-    @Query(value = "UPDATE refresh_tokens SET is_used = true WHERE id = :tokenId", nativeQuery = true)
-    void markAsUsed(@Param("tokenId") UUID tokenId);
+    @Query(
+        value = "DELETE FROM refresh_tokens WHERE id IN"
+            + " (SELECT id FROM refresh_tokens WHERE is_revoked = true AND is_used = false LIMIT :batchSize)",
+        nativeQuery = true
+    )
+    int deleteRevokedUnused(@Param("batchSize") int batchSize);
 }
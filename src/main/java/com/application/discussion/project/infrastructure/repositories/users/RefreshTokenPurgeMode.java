@@ -0,0 +1,18 @@
+package com.application.discussion.project.infrastructure.repositories.users;
+
+/**
+ * 期限切れのリフレッシュトークンを削除する方式
+ */
+public enum RefreshTokenPurgeMode {
+
+    /**
+     * 期限切れの行を件数上限付きのDELETE文で繰り返し削除する（全データベース共通）
+     */
+    DELETE,
+
+    /**
+     * PostgreSQLで有効期限の日付ごとに分割したテーブルを前提に、期限切れのパーティションを削除する
+     * パーティションに振り分けられなかった行は、DELETEと同じ方式で削除する
+     */
+    PARTITION
+}
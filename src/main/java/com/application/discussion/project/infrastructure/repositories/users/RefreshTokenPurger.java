@@ -0,0 +1,279 @@
+package com.application.discussion.project.infrastructure.repositories.users;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.application.discussion.project.infrastructure.exceptions.InfrastructureLayerErrorException;
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 期限切れと失効済みのリフレッシュトークンを定期的に削除するクラス
+ * ログインとトークンの再発行のたびに行が追加されるため、保持期間を過ぎた行を削除してテーブルとインデックスの肥大化を防ぐ
+ * 削除は件数上限付きのDELETE文を1件ずつ別のトランザクションで繰り返し、ロックの保持時間と1回の書き込み量を抑える
+ *
+ * NOTE: 使用済みのトークンは再利用の検出に使用するため、失効済みでも有効期限を過ぎるまで削除しない
+ * NOTE: 失効済みで未使用のトークンは再発行にも再利用の検出にも使用しないため、有効期限を待たずに削除する
+ * NOTE: 複数インスタンスで同時に実行しても、同じ行を重複して削除することはない
+ */
+@Component
+public class RefreshTokenPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenPurger.class);
+
+    private static final String TABLE_NAME = "refresh_tokens";
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile(TABLE_NAME + "_p(\\d{8})");
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.enabled:true}")
+    private boolean isEnabled;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.mode:delete}")
+    private RefreshTokenPurgeMode mode;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.initial-delay-ms:60000}")
+    private long initialDelayMs;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.interval-ms:3600000}")
+    private long intervalMs;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.retention-ms:86400000}")
+    private long retentionMs;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Value("${springboot.app.authentication.refresh-token-purge.partition.premake-days:14}")
+    private int premakeDays;
+
+    private ScheduledFuture<?> scheduledPurge;
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong droppedPartitionCount = new AtomicLong();
+    private final AtomicLong succeededRunCount = new AtomicLong();
+    private final AtomicLong failedRunCount = new AtomicLong();
+    private volatile long lastRunDurationMs;
+
+    /**
+     * 削除処理の定期実行を開始する
+     * 無効化されている場合は定期実行せず、メトリクスのみ0のまま公開する
+     */
+    @PostConstruct
+    public void initialize() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!isEnabled) {
+            logger.info("Refresh token purge is disabled");
+            return;
+        }
+        if (mode == RefreshTokenPurgeMode.PARTITION) {
+            verifyPartitionedTable();
+        }
+        scheduledPurge = backgroundTaskScheduler.scheduleWithFixedDelay(
+            "refresh-token-purge", this::runScheduledPurge, initialDelayMs, intervalMs
+        );
+        logger.info(
+            "Refresh token purge scheduled with {} mode every {} ms (retention={} ms, batch size={})",
+            mode, intervalMs, retentionMs, batchSize
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (Objects.nonNull(scheduledPurge)) {
+            scheduledPurge.cancel(true);
+        }
+    }
+
+    /**
+     * 保持期間を過ぎたリフレッシュトークンを削除する
+     *
+     * @return 削除した行数（パーティションの削除で消えた行は含まない）
+     */
+    public long purge() {
+        final long startedAt = System.nanoTime();
+        final LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+        try {
+            if (mode == RefreshTokenPurgeMode.PARTITION) {
+                createUpcomingPartitions(LocalDate.now());
+                dropExpiredPartitions(cutoff);
+            }
+            final long expired = deleteInBatches(() -> jpaRefreshTokenRepository.deleteExpiredBefore(cutoff, batchSize));
+            final long revoked = deleteInBatches(() -> jpaRefreshTokenRepository.deleteRevokedUnused(batchSize));
+            succeededRunCount.incrementAndGet();
+            logger.info("Refresh token purge completed: {} expired rows before {} and {} revoked rows deleted", expired, cutoff, revoked);
+            return expired + revoked;
+        } catch (DataAccessException e) {
+            failedRunCount.incrementAndGet();
+            logger.error("Refresh token purge failed: {}", e.getMessage(), e);
+            return 0;
+        } finally {
+            lastRunDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 定期実行用の削除処理
+     * 想定外の例外も削除の失敗として件数に含めるため、全ての例外をここで記録する
+     */
+    private void runScheduledPurge() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            failedRunCount.incrementAndGet();
+            logger.error("Unexpected error in refresh token purge: {}", e.getMessage(), e);
+        }
+    }
+
+    private long deleteInBatches(final IntSupplier deleteBatch) {
+        long deleted = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            final Integer batchDeleted = transactionTemplate.execute(status -> deleteBatch.getAsInt());
+            final int count = batchDeleted == null ? 0 : batchDeleted;
+            deleted += count;
+            deletedCount.addAndGet(count);
+            if (count < batchSize) {
+                break;
+            }
+            logger.debug("Refresh token purge batch deleted {} rows", count);
+            pauseBetweenBatches();
+        }
+        return deleted;
+    }
+
+    private void pauseBetweenBatches() {
+        if (batchPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 本日から作成日数分先までの日付のパーティションを作成する
+     * 既存のパーティションは作成しない。作成に失敗した日付は警告を記録して次の日付に進む
+     */
+    private void createUpcomingPartitions(final LocalDate today) {
+        for (int day = 0; day <= premakeDays; day++) {
+            final LocalDate from = today.plusDays(day);
+            final String statement = "CREATE TABLE IF NOT EXISTS " + partitionName(from)
+                + " PARTITION OF " + TABLE_NAME
+                + " FOR VALUES FROM ('" + from + "') TO ('" + from.plusDays(1) + "')";
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                logger.warn("Failed to create refresh token partition for {}: {}", from, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 全ての行の有効期限が削除基準日時より前となるパーティションを削除する
+     */
+    private void dropExpiredPartitions(final LocalDateTime cutoff) {
+        final List<String> partitionNames = jdbcTemplate.queryForList(
+            "SELECT child.relname FROM pg_inherits inheritance"
+                + " JOIN pg_class child ON child.oid = inheritance.inhrelid"
+                + " JOIN pg_class parent ON parent.oid = inheritance.inhparent"
+                + " WHERE parent.relname = ?",
+            String.class,
+            TABLE_NAME
+        );
+        for (final String partitionName : partitionNames) {
+            final Matcher matcher = PARTITION_NAME_PATTERN.matcher(partitionName);
+            if (!matcher.matches()) {
+                continue;
+            }
+            final LocalDate from = LocalDate.parse(matcher.group(1), PARTITION_SUFFIX_FORMATTER);
+            if (from.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+            droppedPartitionCount.incrementAndGet();
+            logger.info("Dropped expired refresh token partition: {}", partitionName);
+        }
+    }
+
+    private void verifyPartitionedTable() {
+        final Integer partitionedTables = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table partitioned"
+                + " JOIN pg_class class ON class.oid = partitioned.partrelid"
+                + " WHERE class.relname = ?",
+            Integer.class,
+            TABLE_NAME
+        );
+        if (partitionedTables == null || partitionedTables == 0) {
+            throw new InfrastructureLayerErrorException(
+                "refresh_tokensテーブルがパーティション分割されていません",
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                HttpStatusCode.valueOf(500)
+            );
+        }
+    }
+
+    private static String partitionName(final LocalDate from) {
+        return TABLE_NAME + "_p" + from.format(PARTITION_SUFFIX_FORMATTER);
+    }
+
+    public long getDeletedCount() {
+        return deletedCount.get();
+    }
+
+    public long getDroppedPartitionCount() {
+        return droppedPartitionCount.get();
+    }
+
+    public long getSucceededRunCount() {
+        return succeededRunCount.get();
+    }
+
+    public long getFailedRunCount() {
+        return failedRunCount.get();
+    }
+
+    public long getLastRunDurationMs() {
+        return lastRunDurationMs;
+    }
+}
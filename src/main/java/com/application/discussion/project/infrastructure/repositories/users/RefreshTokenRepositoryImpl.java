@@ -1,5 +1,6 @@
 package com.application.discussion.project.infrastructure.repositories.users;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,10 +10,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.domain.entities.users.RefreshToken;
 import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
 import com.application.discussion.project.infrastructure.models.users.RefreshTokens;
 import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
 
 /**
  * リフレッシュトークンリポジトリの実装クラス
@@ -25,6 +28,9 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
     @Autowired
     private JpaRefreshTokenRepository jpaRefreshTokenRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     @Override
     public Optional<RefreshToken> findByTokenHash(final String tokenHash) {
         logger.info("Searching refresh token by hash");
@@ -47,15 +53,22 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
     public void revokeAllByUserId(final UUID userId) {
         logger.info("Revoking all refresh tokens for userId: {}", userId);
         jpaRefreshTokenRepository.revokeAllByUserId(userId);
+        AfterCommit.run(() -> authenticatedUserCache.invalidate(userId));
         logger.info("All refresh tokens revoked for userId: {}", userId);
     }
 
     @Override
     @Transactional
-    public void markAsUsed(final UUID tokenId) {
-        logger.info("Marking refresh token as used: {}", tokenId);
-        jpaRefreshTokenRepository.markAsUsed(tokenId);
-        logger.info("Refresh token marked as used: {}", tokenId);
+    public boolean markAsUsedIfValid(final String tokenHash, final UUID userId) {
+        logger.info("Marking refresh token as used for userId: {}", userId);
+        final boolean isMarked = jpaRefreshTokenRepository.markAsUsedIfValid(tokenHash, userId, LocalDateTime.now()) == 1;
+        logger.info("Refresh token marked as used: {} for userId: {}", isMarked, userId);
+        return isMarked;
+    }
+
+    @Override
+    public boolean isUsedSince(final String tokenHash, final LocalDateTime usedSince) {
+        return jpaRefreshTokenRepository.existsUsedSince(tokenHash, usedSince);
     }
 
     /**
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.domain.entities.users.Role;
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.domain.repositories.users.RolesRepositoryInterface;
@@ -19,6 +20,7 @@ import com.application.discussion.project.infrastructure.dtos.UsersRolesProjecti
 import com.application.discussion.project.infrastructure.models.users.Roles;
 import com.application.discussion.project.infrastructure.models.users.Users;
 import com.application.discussion.project.infrastructure.models.users.UsersRoles;
+import com.application.discussion.project.infrastructure.transactions.AfterCommit;
 
 @Repository
 public class RolesRepositoryImpl implements RolesRepositoryInterface {
@@ -29,14 +31,17 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
     @Autowired
     private JpaRolesRepository jpaRolesRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
     private static final Logger logger = LoggerFactory.getLogger(RolesRepositoryImpl.class);
 
     @Override
     public Set<Role> findUserRolesById(UUID userId) {
-        logger.info("Fetching roles for user ID: {}", userId);
+        logger.debug("Fetching roles for user ID: {}", userId);
         List<UsersRolesProjections> roles = jpaUsersRolesRepository.findUserRolesByUUID(userId);
 
-        logger.info("Roles fetched: {}", roles);
+        logger.debug("Roles fetched: {}", roles);
         /**
          * ! ここでエラーの原因になっている。Roleインスタンス生成時にRoleTypeがnullになっているため、RoleクラスのコンストラクタでNullPointerExceptionが発生している。
          * ! これを解決するためには、RoleクラスのコンストラクタでRoleTypeがnullの場合の処理を追加するか、ここでRoleTypeを適切に設定する必要がある。
@@ -61,9 +66,9 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
      */
     @Override
     public Boolean existsByRoleName(RoleType roleType) {
-        logger.info("Checking existence of role: {}", roleType.getRoleValue());
+        logger.debug("Checking existence of role: {}", roleType.getRoleValue());
         Boolean exists = jpaRolesRepository.existsByRoleName(roleType.getRoleValue());
-        logger.info("Existence check result for role {}: {}", roleType.getRoleValue(), exists);
+        logger.debug("Existence check result for role {}: {}", roleType.getRoleValue(), exists);
         return exists;
     }
 
@@ -73,7 +78,9 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
      */
     @Override
     public Boolean existsByUserAndRoleBoolean(User user, Role role) {
-        logger.info("Checking existence of user_role user:{} roles: {}",user.toString(), role.toString());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Checking existence of user_role user:{} roles: {}", user.toString(), role.toString());
+        }
         Users userModel = new Users();
         userModel.setUserId(user.getUserId());
         userModel.setLoginId(user.getLoginId().value());
@@ -84,7 +91,7 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
         roleModel.setRoleName(role.getRoleNameValue());
         
         Boolean exists = jpaUsersRolesRepository.existsByUsersAndRoles(userModel, roleModel);
-        logger.info("Existence check result for roles {}", exists);
+        logger.debug("Existence check result for roles {}", exists);
         return exists;
     }
 
@@ -119,9 +126,9 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
      */
     @Override
     public Role findByRoleName(final RoleType roleType) {
-        logger.info("Fetching role by name: {}", roleType.getRoleValue());
+        logger.debug("Fetching role by name: {}", roleType.getRoleValue());
         Roles roleEntity = jpaRolesRepository.findByRoleName(roleType.getRoleValue());
-        logger.info("Role fetched: {}", roleEntity.getRoleName());
+        logger.debug("Role fetched: {}", roleEntity.getRoleName());
         return Role.of(
             roleEntity.getRoleId(),
             roleEntity.getRoleName(),
@@ -149,6 +156,7 @@ public class RolesRepositoryImpl implements RolesRepositoryInterface {
         userRoleMapping.setUsers(userModel);
         userRoleMapping.setRoles(roleModel);
         jpaUsersRolesRepository.save(userRoleMapping);
+        AfterCommit.run(() -> authenticatedUserCache.invalidate(user.getUserId()));
         logger.info("User-role mapping saved successfully for userId={}, roleId={}", user.getUserId(), role.getRoleId());
     }
 }
@@ -0,0 +1,80 @@
+package com.application.discussion.project.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 集計の反映・通知の配信・定期削除などのバックグラウンド処理を定期実行する共通のスケジューラー
+ * 処理ごとにスレッドを生成せず、上限付きのスレッドプールで実行する
+ * 処理がスローした例外はログに出力し、以降の定期実行は継続する
+ *
+ * NOTE: 長時間の処理が他の処理の実行を遅らせないよう、スレッド数は定期実行する処理の数まで自動で増やす。
+ * pool-sizeはスレッド数の下限とし、定期実行の停止ではスレッド数を減らさない
+ */
+@Component
+public class BackgroundTaskScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundTaskScheduler.class);
+
+    @Value("${springboot.app.scheduling.pool-size:1}")
+    private int poolSize;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    private final AtomicInteger scheduledTaskCount = new AtomicInteger();
+
+    @PostConstruct
+    public void initialize() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("background-task-");
+        scheduler.setDaemon(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setErrorHandler(throwable -> logger.error("Unexpected error in background task: {}", throwable.getMessage(), throwable));
+        scheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 処理を前回の完了から一定間隔で定期実行する
+     *
+     * @param taskName       ログに出力する処理名
+     * @param task           処理
+     * @param initialDelayMs 初回実行までの待機時間（ミリ秒）
+     * @param delayMs        前回の完了から次回の実行までの間隔（ミリ秒）
+     * @return 定期実行の停止に使用するScheduledFuture
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+        final String taskName,
+        final Runnable task,
+        final long initialDelayMs,
+        final long delayMs
+    ) {
+        final int taskCount = scheduledTaskCount.incrementAndGet();
+        if (taskCount > poolSize) {
+            scheduler.setPoolSize(taskCount);
+        }
+        final ScheduledFuture<?> future = scheduler.scheduleWithFixedDelay(
+            task,
+            Instant.now().plusMillis(initialDelayMs),
+            Duration.ofMillis(delayMs)
+        );
+        logger.info("Background task {} scheduled every {} ms", taskName, delayMs);
+        return future;
+    }
+}
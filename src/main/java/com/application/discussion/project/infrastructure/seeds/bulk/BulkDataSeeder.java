@@ -0,0 +1,356 @@
+package com.application.discussion.project.infrastructure.seeds.bulk;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.application.discussion.project.infrastructure.exceptions.InfrastructureLayerErrorException;
+import com.application.discussion.project.infrastructure.repositories.topics.MaintopicDiscussionCountReconciler;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 性能試験用の大量データを投入するシーダークラス
+ * ユーザー・メイントピック・ディスカッションを件数を指定して生成し、複数行INSERTでまとめて投入する
+ * 投稿先のメイントピックと投稿者はZipf分布で抽選し、人気トピックへの集中と一部ユーザーによる大量投稿を再現する
+ * 同じシードからは同じ内容のデータが生成される（ディスカッションとメイントピックのIDはシーケンスで採番するため除く）
+ *
+ * NOTE: パスワードのハッシュは1回だけ計算し、全ユーザーで共有する
+ * NOTE: 投入済みの場合は何もしない。再投入する場合はデータベースを作り直すこと
+ * NOTE: 各INSERTは個別にコミットされるため、途中で終了した場合は一部のみが残る。件数の再計算を最後に行い、
+ * ユーザー・メイントピックの件数とメイントピックのディスカッション件数の合計が指定に満たない場合は投入が完了していないものとして起動を中止する
+ */
+@Component
+@Profile("bulk-seed")
+public class BulkDataSeeder implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDataSeeder.class);
+
+    private static final String LOGIN_ID_PREFIX = "bulkuser";
+    private static final String MAINTOPIC_NAME_PREFIX = "性能試験用トピック";
+    private static final String NORMAL_ROLE = "NORMAL";
+    private static final long PROGRESS_LOG_INTERVAL = 100_000L;
+
+    /**
+     * エンティティの@SequenceGeneratorと同じ採番単位。シーケンスの1回の払い出しで確保するIDの件数
+     */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * 1文のバインドパラメーター数の上限（PostgreSQLの上限65535に余裕を持たせた値）
+     */
+    private static final int MAX_BIND_PARAMETERS = 30_000;
+
+    private static final String[] PARAGRAPH_TEMPLATES = {
+        "このトピックについて、まず基本的な考え方を整理する必要があると思う。",
+        "前の意見に賛成。さらに具体的な実装方法について検討したい。",
+        "別の視点として、歴史的な経緯も踏まえて議論したい。",
+        "実際にやってみた経験から言うと、この方法が効果的だった。",
+        "理論的には理解できるけど、実践的にはどうなんだろう。",
+        "長期的な視点で考えると、別のアプローチも必要かもしれない。",
+        "コストと効果のバランスを考慮に入れる必要がある。",
+        "ユーザー目線で考えると、この点が重要だと感じる。"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MaintopicDiscussionCountReconciler maintopicDiscussionCountReconciler;
+
+    @Value("${springboot.app.seeds.bulk.users:100000}")
+    private int userCount;
+
+    @Value("${springboot.app.seeds.bulk.maintopics:1000}")
+    private int maintopicCount;
+
+    @Value("${springboot.app.seeds.bulk.discussions:1000000}")
+    private long discussionCount;
+
+    @Value("${springboot.app.seeds.bulk.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${springboot.app.seeds.bulk.maintopic-skew:1.1}")
+    private double maintopicSkew;
+
+    @Value("${springboot.app.seeds.bulk.user-skew:1.2}")
+    private double userSkew;
+
+    @Value("${springboot.app.seeds.bulk.rows-per-statement:1000}")
+    private int rowsPerStatement;
+
+    @Value("${springboot.app.seeds.bulk.password:pAssworD12345}")
+    private String rawPassword;
+
+    @Value("${springboot.app.seeds.bulk.base-time:2026-01-01T00:00:00}")
+    private String baseTimeText;
+
+    @Value("${springboot.app.seeds.bulk.created-at-window-days:365}")
+    private long createdAtWindowDays;
+
+    private LocalDateTime baseTime;
+
+    @Override
+    public void run(final String... args) {
+        if (userCount < 1 || maintopicCount < 1 || discussionCount < 0) {
+            throw new InfrastructureLayerErrorException(
+                "大量データの件数指定が不正です",
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                HttpStatusCode.valueOf(500)
+            );
+        }
+        if (isAlreadySeeded()) {
+            verifySeedingCompleted();
+            logger.warn("Bulk data already exists. Skipping bulk seeding.");
+            return;
+        }
+        baseTime = LocalDateTime.parse(baseTimeText);
+        logger.info("Bulk seeding started. users: {}, maintopics: {}, discussions: {}, seed: {}",
+            userCount, maintopicCount, discussionCount, randomSeed);
+        final long startedAt = System.nanoTime();
+
+        final SplittableRandom random = new SplittableRandom(randomSeed);
+        final ZipfSampler userSampler = ZipfSampler.of(userCount, userSkew);
+        final ZipfSampler maintopicSampler = ZipfSampler.of(maintopicCount, maintopicSkew);
+
+        seedUsers(random, passwordEncoder.encode(rawPassword));
+        seedUserRoles();
+        final long[] maintopicIds = seedMaintopics(random, userSampler);
+        seedDiscussions(random, userSampler, maintopicSampler, maintopicIds);
+        maintopicDiscussionCountReconciler.reconcile();
+
+        logger.info("Bulk seeding completed in {} ms", (System.nanoTime() - startedAt) / 1_000_000L);
+    }
+
+    private boolean isAlreadySeeded() {
+        final Long count = jdbcTemplate.queryForObject(
+            "select count(*) from users where login_id = ?", Long.class, LOGIN_ID_PREFIX + 0
+        );
+        return count != null && count > 0;
+    }
+
+    /**
+     * 投入済みのデータが指定した件数に達していることを確認する
+     * ディスカッションの件数は、投入の最後に再計算するメイントピックの件数の合計で確認するため、再計算の前に終了した場合も検出できる
+     *
+     * NOTE: 投入後にアプリケーションから追加した行は件数に含まれてよいため、指定以上であれば完了とみなす
+     *
+     * @throws InfrastructureLayerErrorException 投入が途中で終了している場合
+     */
+    private void verifySeedingCompleted() {
+        final Long users = jdbcTemplate.queryForObject(
+            "select count(*) from users where login_id like ?", Long.class, LOGIN_ID_PREFIX + "%"
+        );
+        final Long maintopics = jdbcTemplate.queryForObject(
+            "select count(*) from maintopics where name like ?", Long.class, MAINTOPIC_NAME_PREFIX + "%"
+        );
+        final Long discussions = jdbcTemplate.queryForObject(
+            "select coalesce(sum(discussion_count), 0) from maintopics where name like ?", Long.class, MAINTOPIC_NAME_PREFIX + "%"
+        );
+        if (users < userCount || maintopics < maintopicCount || discussions < discussionCount) {
+            logger.error("Bulk seeding is incomplete. users: {}/{}, maintopics: {}/{}, discussions: {}/{}",
+                users, userCount, maintopics, maintopicCount, discussions, discussionCount);
+            throw new InfrastructureLayerErrorException(
+                "大量データの投入が途中で終了しています。データベースを作り直してから再投入してください",
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                HttpStatusCode.valueOf(500)
+            );
+        }
+    }
+
+    private void seedUsers(final SplittableRandom random, final String passwordHash) {
+        insertRows(
+            "users",
+            List.of("user_id", "username", "email", "password", "login_id", "created_at", "is_active", "is_deleted"),
+            userCount,
+            index -> new Object[] {
+                userIdOf(index),
+                LOGIN_ID_PREFIX + index,
+                LOGIN_ID_PREFIX + index + "@example.com",
+                passwordHash,
+                LOGIN_ID_PREFIX + index,
+                randomCreatedAt(random),
+                true,
+                false
+            }
+        );
+    }
+
+    private void seedUserRoles() {
+        final List<Integer> roleIds = jdbcTemplate.queryForList(
+            "select role_id from roles where role_name = ?", Integer.class, NORMAL_ROLE
+        );
+        if (roleIds.isEmpty()) {
+            logger.warn("{} role not found. Skipping role assignment for bulk users.", NORMAL_ROLE);
+            return;
+        }
+        final Integer roleId = roleIds.get(0);
+        final LocalDateTime createdAt = baseTime;
+        insertRows(
+            "users_roles",
+            List.of("user_id", "role_id", "created_at"),
+            userCount,
+            index -> new Object[] {userIdOf(index), roleId, createdAt}
+        );
+    }
+
+    private long[] seedMaintopics(final SplittableRandom random, final ZipfSampler userSampler) {
+        final SequenceIdAllocator idAllocator = createIdAllocator("maintopics_seq");
+        final long[] maintopicIds = new long[maintopicCount];
+        insertRows(
+            "maintopics",
+            List.of("id", "name", "description", "user_id", "created_at", "is_deleted", "is_closed", "discussion_count"),
+            maintopicCount,
+            index -> {
+                maintopicIds[(int) index] = idAllocator.nextId();
+                return new Object[] {
+                    maintopicIds[(int) index],
+                    MAINTOPIC_NAME_PREFIX + index,
+                    "大量データ投入で生成したメイントピック" + index,
+                    userIdOf(userSampler.sample(random)),
+                    randomCreatedAt(random),
+                    false,
+                    false,
+                    0L
+                };
+            }
+        );
+        return maintopicIds;
+    }
+
+    private void seedDiscussions(
+        final SplittableRandom random,
+        final ZipfSampler userSampler,
+        final ZipfSampler maintopicSampler,
+        final long[] maintopicIds
+    ) {
+        final SequenceIdAllocator idAllocator = createIdAllocator("discussions_seq");
+        insertRows(
+            "discussions",
+            List.of("id", "paragraph", "maintopic_id", "user_id", "created_at"),
+            discussionCount,
+            index -> new Object[] {
+                idAllocator.nextId(),
+                PARAGRAPH_TEMPLATES[random.nextInt(PARAGRAPH_TEMPLATES.length)],
+                maintopicIds[maintopicSampler.sample(random)],
+                userIdOf(userSampler.sample(random)),
+                randomCreatedAt(random)
+            }
+        );
+    }
+
+    /**
+     * 行を生成しながら複数行INSERTで投入する
+     * 1文あたりの行数はrows-per-statementとバインドパラメーター数の上限のうち小さい方に従う
+     *
+     * @param tableName  投入先のテーブル名
+     * @param columns    投入するカラム名
+     * @param rowCount   投入する行数
+     * @param rowFactory 0始まりの行番号からカラムの値を生成する関数
+     */
+    private void insertRows(
+        final String tableName,
+        final List<String> columns,
+        final long rowCount,
+        final LongFunction<Object[]> rowFactory
+    ) {
+        final int rowsPerChunk = Math.max(1, Math.min(rowsPerStatement, MAX_BIND_PARAMETERS / columns.size()));
+        final String chunkSql = buildInsertSql(tableName, columns, rowsPerChunk);
+        final List<Object> parameters = new ArrayList<>(rowsPerChunk * columns.size());
+        int rowsInChunk = 0;
+
+        for (long index = 0; index < rowCount; index++) {
+            Collections.addAll(parameters, rowFactory.apply(index));
+            rowsInChunk++;
+            if (rowsInChunk == rowsPerChunk) {
+                jdbcTemplate.update(chunkSql, parameters.toArray());
+                parameters.clear();
+                rowsInChunk = 0;
+            }
+            if ((index + 1) % PROGRESS_LOG_INTERVAL == 0) {
+                logger.info("Inserted {} / {} rows into {}", index + 1, rowCount, tableName);
+            }
+        }
+        if (rowsInChunk > 0) {
+            jdbcTemplate.update(buildInsertSql(tableName, columns, rowsInChunk), parameters.toArray());
+        }
+        logger.info("Inserted {} rows into {}", rowCount, tableName);
+    }
+
+    private String buildInsertSql(final String tableName, final List<String> columns, final int rows) {
+        final String placeholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        return "insert into " + tableName + " (" + String.join(", ", columns) + ") values "
+            + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
+    /**
+     * 行番号とシードから決まるユーザーIDを返す
+     * ユーザーIDを保持せずに、ディスカッションなどの投稿者を行番号から復元するために使用する
+     */
+    private UUID userIdOf(final long index) {
+        return UUID.nameUUIDFromBytes(("bulk-seed:" + randomSeed + ":" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LocalDateTime randomCreatedAt(final SplittableRandom random) {
+        return baseTime.minusSeconds(random.nextLong(Math.max(1L, createdAtWindowDays * 24 * 60 * 60)));
+    }
+
+    private SequenceIdAllocator createIdAllocator(final String sequenceName) {
+        final String nextValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect()
+            .getSequenceSupport()
+            .getSequenceNextValString(sequenceName);
+        return new SequenceIdAllocator(jdbcTemplate, nextValueSql);
+    }
+
+    /**
+     * アプリケーションのID採番と重複しないよう、シーケンスから採番範囲を確保してIDを払い出すクラス
+     * Hibernateのpooledオプティマイザーと同じく、シーケンスの値vに対して(v - 採番単位, v]の範囲を確保する
+     */
+    private static final class SequenceIdAllocator {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String nextValueSql;
+        private long nextId = 1;
+        private long maxId = 0;
+
+        private SequenceIdAllocator(final JdbcTemplate jdbcTemplate, final String nextValueSql) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.nextValueSql = nextValueSql;
+        }
+
+        private long nextId() {
+            if (nextId > maxId) {
+                final Long sequenceValue = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+                maxId = sequenceValue;
+                nextId = Math.max(1L, sequenceValue - ID_ALLOCATION_SIZE + 1);
+            }
+            return nextId++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.application.discussion.project.infrastructure.seeds.bulk;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf分布に従って0からsize-1までの順位を抽選するクラス
+ * 順位kが選ばれる確率は1/(k+1)^exponentに比例し、先頭の順位ほど選ばれやすい
+ * 人気トピックへの投稿集中や、一部のユーザーによる大量投稿の再現に用いる
+ *
+ * NOTE: 累積分布をsize要素の配列で保持するため、100万要素で約8MBを使用する
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulativeProbabilities;
+
+    private ZipfSampler(final double[] cumulativeProbabilities) {
+        this.cumulativeProbabilities = cumulativeProbabilities;
+    }
+
+    /**
+     * ファクトリメソッド
+     *
+     * @param size     順位の数
+     * @param exponent 偏りの強さ。0の場合は一様分布になり、大きいほど先頭に集中する
+     * @return 抽選器
+     * @throws IllegalArgumentException sizeが1未満、またはexponentが負の場合
+     */
+    public static ZipfSampler of(final int size, final double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative: " + exponent);
+        }
+        final double[] cumulativeProbabilities = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulativeProbabilities[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulativeProbabilities[rank] /= total;
+        }
+        cumulativeProbabilities[size - 1] = 1.0;
+        return new ZipfSampler(cumulativeProbabilities);
+    }
+
+    /**
+     * 順位を1つ抽選する
+     *
+     * @param random 乱数生成器。同じシードの乱数生成器からは同じ順位の列が得られる
+     * @return 0からsize-1までの順位
+     */
+    public int sample(final RandomGenerator random) {
+        final int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public int size() {
+        return cumulativeProbabilities.length;
+    }
+}
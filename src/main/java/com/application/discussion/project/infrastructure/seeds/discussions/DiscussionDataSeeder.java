@@ -15,6 +15,7 @@ import com.application.discussion.project.infrastructure.models.topics.Maintopic
 import com.application.discussion.project.infrastructure.models.users.Users;
 import com.application.discussion.project.infrastructure.repositories.discussions.JpaDiscussionsRepository;
 import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+import com.application.discussion.project.infrastructure.repositories.topics.MaintopicDiscussionCountReconciler;
 import com.application.discussion.project.infrastructure.repositories.users.JpaUsersRepository;
 
 /**
@@ -38,6 +39,9 @@ public class DiscussionDataSeeder {
     @Autowired
     private JpaUsersRepository jpaUsersRepository;
 
+    @Autowired
+    private MaintopicDiscussionCountReconciler maintopicDiscussionCountReconciler;
+
     private final Random random = new Random();
 
     private static final String[] DISCUSSION_TEMPLATES = {
@@ -81,6 +85,8 @@ public class DiscussionDataSeeder {
         maintopics.stream()
             .limit(MAINTOPIC_LIMIT)
             .forEach(maintopic -> createDiscussionsForMaintopic(maintopic, activeUsers));
+
+        maintopicDiscussionCountReconciler.reconcile();
         
         logger.info("Discussions seeded successfully.");
     }
@@ -104,7 +110,7 @@ public class DiscussionDataSeeder {
             );
         }
 
-        discussionsSeedList.forEach(jpaDiscussionsRepository::save);
+        jpaDiscussionsRepository.saveAll(discussionsSeedList);
         
         logger.info("Created {} discussions for maintopic: {}", 
             discussionsSeedList.size(), maintopic.getTitle());
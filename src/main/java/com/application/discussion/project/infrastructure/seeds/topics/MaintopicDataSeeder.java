@@ -67,15 +67,13 @@ public class MaintopicDataSeeder {
             throw new InfrastructureLayerErrorException("ユーザが存在しないため、エラーが発生しました", HttpStatus.INTERNAL_SERVER_ERROR, HttpStatusCode.valueOf(500));
         }
         
-        maintopicsSeedList.stream()
+        final List<Maintopics> newMaintopics = maintopicsSeedList.stream()
             .filter(maintopic -> !jpaMaintopicsRepository.existsByTitle(maintopic.getTitle()))
-            .forEach(maintopic -> {
-                maintopic.setUsers(getRandomUser(users));
-                jpaMaintopicsRepository.save(maintopic);
-                logger.info("Seeded maintopic: {}", maintopic.getTitle());
-            });
+            .toList();
+        newMaintopics.forEach(maintopic -> maintopic.setUsers(getRandomUser(users)));
+        jpaMaintopicsRepository.saveAll(newMaintopics);
         
-        logger.info("Maintopics seeded successfully.");
+        logger.info("Maintopics seeded successfully. count: {}", newMaintopics.size());
     }
 
     private Users getRandomUser(final List<Users> users) {
@@ -0,0 +1,48 @@
+package com.application.discussion.project.infrastructure.transactions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * トランザクションのコミット後に処理を実行するクラス
+ * ロールバックされた変更をキャッシュ・キュー・配信などのメモリ上の状態へ反映しないために用いる
+ */
+public final class AfterCommit {
+
+    private static final Logger logger = LoggerFactory.getLogger(AfterCommit.class);
+
+    private AfterCommit() {
+    }
+
+    /**
+     * トランザクション内の場合はコミット後に、それ以外の場合は即座に処理を実行する
+     *
+     * NOTE: ロールバックされた場合は実行しない
+     * NOTE: SpringはafterCommitで発生した例外をコミットの呼び出し元へ伝えるため、コミット済みの操作がエラーとならないよう、
+     * 処理で発生した例外はここで記録して呼び出し元へは伝えない
+     *
+     * @param action 実行する処理
+     */
+    public static void run(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runLogged(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runLogged(action);
+            }
+        });
+    }
+
+    private static void runLogged(final Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.error("After-commit action failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.application.discussion.project.presentation.config;
 
+import java.util.Objects;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,9 +19,13 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.application.discussion.project.application.services.security.BoundedPasswordEncoder;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetailsService;
+import com.application.discussion.project.application.services.security.PasswordHashingExecutor;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics;
 import com.application.discussion.project.presentation.security.JWTAuthEntryPoint;
 import com.application.discussion.project.presentation.security.JWTAuthenticationFilter;
+import com.application.discussion.project.presentation.security.PublicPathMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -37,6 +44,21 @@ public class WebSecurityConfig {
     @Autowired
     private CorsConfigurationSource corsConfigurationSource;
 
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private AuthenticationMetrics authenticationMetrics;
+
+    @Value("${springboot.app.authentication.password-hashing.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    /**
+     * Actuatorを公開する管理用ポート（未設定または空の場合はnullとなり、Actuatorはアプリケーションのポートで認証付きで公開する）
+     */
+    @Value("${management.server.port:}")
+    private Integer managementServerPort;
+
 
     @Bean
     public DaoAuthenticationProvider daoAuthenticationProvider(){
@@ -47,9 +69,17 @@ public class WebSecurityConfig {
         return daoAuthenticationProvider;
     }
 
+    /**
+     * BCryptのハッシュ化・照合を上限付きのスレッドプールで実行するPasswordEncoder
+     * コストファクターを変更しても、既存のハッシュはハッシュ内に記録されたコストで照合される
+     */
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(bcryptStrength),
+            passwordHashingExecutor,
+            authenticationMetrics
+        );
     }
 
     @Bean
@@ -64,19 +94,11 @@ public class WebSecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(
             (authorize) -> authorize.requestMatchers(
-                "/v3/api-docs/**",
-                "/swagger-ui/**",
-                "/swagger-ui/index.html",
-                "/swagger-ui.html",
-                "/swagger-ui.html/**",
-                "/swagger-resources/**",
-                "/configuration/**",
-                "/webjars/**",
-                "/api-docs/**",
-                "/v1/auth/login",
-                "/v1/auth/refresh",
-                "/v1/users/signup"
+                PublicPathMatcher.getPermitAllPatterns()
             ).permitAll()
+            // NOTE: 管理用ポートは外部に公開しない前提のため、Prometheusのスクレイプとヘルスチェックを認証不要とする
+            .requestMatchers(request -> Objects.nonNull(managementServerPort) && managementServerPort > 0
+                && request.getLocalPort() == managementServerPort).permitAll()
             .anyRequest().authenticated()
             );
         httpSecurity.formLogin(form -> form.disable());
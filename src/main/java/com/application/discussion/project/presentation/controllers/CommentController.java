@@ -1,29 +1,87 @@
 package com.application.discussion.project.presentation.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.application.discussion.project.application.dtos.comments.CommentCreateRequest;
+import com.application.discussion.project.application.dtos.comments.CommentListResponse;
+import com.application.discussion.project.application.dtos.comments.CommentResponse;
+import com.application.discussion.project.application.services.comments.CommentCreateService;
+import com.application.discussion.project.application.services.comments.CommentListService;
+import com.application.discussion.project.application.services.comments.CommentThreadService;
+import com.application.discussion.project.presentation.validations.CommentRequestValidation;
+import com.application.discussion.project.presentation.validations.DiscussionIdRequestValidation;
+
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 
 @RestController
-@RequestMapping("/comments")
+@RequestMapping("/v1/discussions/{discussionId}/comments")
 @Tag(name = "Comment Management", description = "API for managing comments")
 public class CommentController {
 
-    @Operation(summary = "Create a new comment", description = "Posts a new comment to the platform")
+    @Autowired
+    private CommentCreateService commentCreateService;
+
+    @Autowired
+    private CommentListService commentListService;
+
+    @Autowired
+    private CommentThreadService commentThreadService;
+
+    @Operation(
+        summary = "コメントを投稿する",
+        description = "認証済みユーザーとして議論にコメントする。parentIdを指定した場合はそのコメントへの返信として投稿する。" +
+                    "最も深い階層のコメントには返信できない。"
+    )
     @ApiResponses({
-        @ApiResponse(responseCode = "201", description = "Comment successfully created"),
-        @ApiResponse(responseCode = "400", description = "Invalid input data")
+        @ApiResponse(
+            responseCode = "201",
+            description = "コメントが投稿された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CommentResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "入力値が不正、または返信先が最も深い階層のコメント",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定された議論または返信先のコメントが存在しない",
+            content = @Content(mediaType = "application/json")
+        )
     })
     @PostMapping
-    public void createComment(){}
+    public ResponseEntity<CommentResponse> createComment(
+        @Parameter(description = "議論ID", required = true, example = "1")
+        @PathVariable Long discussionId,
+        @RequestBody CommentCreateRequest commentCreateRequest
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        CommentRequestValidation.validateCreate(commentCreateRequest);
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+            commentCreateService.service(discussionId, commentCreateRequest)
+        );
+    }
 
 
     @Operation(summary = "Update comment information", description = "Edits the information of an existing comment")
@@ -31,28 +89,136 @@ public class CommentController {
         @ApiResponse(responseCode = "200", description = "Comment information successfully updated"),
         @ApiResponse(responseCode = "404", description = "Comment with the specified ID not found")
     })
-    @PutMapping("/{id}")
+    @PutMapping("/{commentId}")
     public void updateComment(){}
 
-    @Operation(summary = "Get all comments", description = "Retrieves a list of all comments")
-    @ApiResponse(responseCode = "200", description = "All comments retrieved successfully")
+    @Operation(
+        summary = "議論への直接のコメント一覧を取得する",
+        description = "議論への直接のコメントを投稿順に取得する。次ページはレスポンスのnextCursorをafterに指定して取得する。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "コメント一覧が取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CommentListResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "ページ指定が不正",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定された議論が存在しない",
+            content = @Content(mediaType = "application/json")
+        )
+    })
     @GetMapping
-    public void getComments(){}
-    
-    @Operation(summary = "Get comment information", description = "Retrieves the details of a comment by ID")
+    public ResponseEntity<CommentListResponse> getComments(
+        @Parameter(description = "議論ID", required = true, example = "1")
+        @PathVariable Long discussionId,
+        @Parameter(description = "前ページのnextCursor（省略時は先頭から取得）", example = "42")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "1ページあたりの件数（1〜100）", example = "20")
+        @RequestParam(defaultValue = "20") Integer size
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        CommentRequestValidation.validatePage(after, size);
+        return ResponseEntity.ok(commentListService.service(discussionId, null, after, size));
+    }
+
+    @Operation(
+        summary = "コメントのスレッドを取得する",
+        description = "コメントと、その返信を返信先ごとに先頭からrepliesPerLevel件ずつ、depthの深さまで階層のまま取得する。" +
+                    "続きの返信はreplyCountを参照し、返信一覧の取得で読み込む。"
+    )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Comment information retrieved successfully"),
-        @ApiResponse(responseCode = "404", description = "Comment with the specified ID not found")
+        @ApiResponse(
+            responseCode = "200",
+            description = "スレッドが取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CommentResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "件数または深さの指定が不正",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定されたコメントが議論に存在しない",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/{commentId}")
+    public ResponseEntity<CommentResponse> retrieveComments(
+        @Parameter(description = "議論ID", required = true, example = "1")
+        @PathVariable Long discussionId,
+        @Parameter(description = "コメントID", required = true, example = "1")
+        @PathVariable Long commentId,
+        @Parameter(description = "返信先ごとに取得する返信の件数（1〜20）", example = "3")
+        @RequestParam(defaultValue = "3") Integer repliesPerLevel,
+        @Parameter(description = "起点からの深さ（1〜10）", example = "3")
+        @RequestParam(defaultValue = "3") Integer depth
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        CommentRequestValidation.validateCommentId(commentId);
+        CommentRequestValidation.validateThread(repliesPerLevel, depth);
+        return ResponseEntity.ok(commentThreadService.service(discussionId, commentId, repliesPerLevel, depth));
+    }
+
+    @Operation(
+        summary = "コメントへの返信一覧を取得する",
+        description = "コメントへの直接の返信を投稿順に取得する。次ページはレスポンスのnextCursorをafterに指定して取得する。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "返信一覧が取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CommentListResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "ページ指定が不正",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定されたコメントが議論に存在しない",
+            content = @Content(mediaType = "application/json")
+        )
     })
-    @GetMapping("/{id}")
-    public void retrieveComments(){}
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentListResponse> getReplies(
+        @Parameter(description = "議論ID", required = true, example = "1")
+        @PathVariable Long discussionId,
+        @Parameter(description = "コメントID", required = true, example = "1")
+        @PathVariable Long commentId,
+        @Parameter(description = "前ページのnextCursor（省略時は先頭から取得）", example = "42")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "1ページあたりの件数（1〜100）", example = "20")
+        @RequestParam(defaultValue = "20") Integer size
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        CommentRequestValidation.validateCommentId(commentId);
+        CommentRequestValidation.validatePage(after, size);
+        return ResponseEntity.ok(commentListService.service(discussionId, commentId, after, size));
+    }
 
     @Operation(summary = "Delete a comment", description = "Deletes a comment by marking it as deleted")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Comment successfully deleted"),
         @ApiResponse(responseCode = "404", description = "Comment with the specified ID not found")
     })
-    @DeleteMapping("/{id}")
+    @DeleteMapping("/{commentId}")
     public void deleteComment(){}
 
     @Operation(summary = "Search Comments", description = "Searches comments based on the title or content")
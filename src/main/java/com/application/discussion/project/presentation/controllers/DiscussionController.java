@@ -7,24 +7,38 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.application.discussion.project.application.dtos.discussions.DiscussionCreateRequest;
 import com.application.discussion.project.application.dtos.discussions.DiscussionCreateResponse;
 import com.application.discussion.project.application.dtos.discussions.DiscussionListResponse;
 import com.application.discussion.project.application.services.discussions.DiscussionCreateService;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub.DiscussionFeedSubscription;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedSubscribeService;
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResponse;
 import com.application.discussion.project.application.services.discussions.DiscussionListService;
+import com.application.discussion.project.application.services.discussions.DiscussionSearchService;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.presentation.security.JWTAuthenticationFilter;
+import com.application.discussion.project.presentation.streams.SseDiscussionFeedSink;
 import com.application.discussion.project.presentation.validations.DiscussionCreateRequestValidation;
+import com.application.discussion.project.presentation.validations.DiscussionFeedRequestValidation;
 import com.application.discussion.project.presentation.validations.DiscussionListRequestValidation;
+import com.application.discussion.project.presentation.validations.DiscussionSearchRequestValidation;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,6 +59,15 @@ public class DiscussionController {
     @Autowired
     private DiscussionListService discussionListService;
 
+    @Autowired
+    private DiscussionSearchService discussionSearchService;
+
+    @Autowired
+    private DiscussionFeedSubscribeService discussionFeedSubscribeService;
+
+    @Autowired
+    private DiscussionFeedHub discussionFeedHub;
+
     private static final Logger logger = LoggerFactory.getLogger(DiscussionController.class);
 
     @Operation(
@@ -108,7 +131,9 @@ public class DiscussionController {
     @Operation(
         summary = "議論リストを取得する", 
         description = "指定されたメイントピックに関連する議論のリストをページング形式で取得する。" +
-                    "ページ番号、ページサイズ、ソート順を指定できる。"
+                    "ページ番号、ページサイズ、ソート順を指定できる。" +
+                    "afterまたはbeforeを指定した場合はカーソル方式となり、レスポンスのnextCursor/prevCursorで前後のページを取得する。" +
+                    "カーソル方式の先頭ページはafterを空で指定する。"
     )
     @ApiResponses({
         @ApiResponse(
@@ -152,7 +177,22 @@ public class DiscussionController {
             description = "ソート順（asc: 昇順, desc: 降順）", 
             example = "desc"
         )
-        @RequestParam(defaultValue = "desc") String direction
+        @RequestParam(defaultValue = "desc") String direction,
+        @Parameter(
+            description = "カーソル方式で次ページを取得する際のカーソル（空で先頭ページ）",
+            example = "MjAyNi0wMS0wMVQwMDowMHw0Mg"
+        )
+        @RequestParam(required = false) String after,
+        @Parameter(
+            description = "カーソル方式で前ページを取得する際のカーソル",
+            example = "MjAyNi0wMS0wMVQwMDowMHw1MQ"
+        )
+        @RequestParam(required = false) String before,
+        @Parameter(
+            description = "カーソル方式で総件数を取得するか（件数取得のクエリが追加で発行される）",
+            example = "false"
+        )
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         logger.info("Fetching discussions for maintopicId: {}, page: {}, size: {}", maintopicId, page, size);
         
@@ -161,6 +201,20 @@ public class DiscussionController {
         final Sort.Direction sortDirection = direction.equalsIgnoreCase("asc") 
             ? Sort.Direction.ASC 
             : Sort.Direction.DESC;
+
+        if (after != null || before != null) {
+            DiscussionListRequestValidation.validateCursor(after, before, sortBy);
+            final DiscussionListResponse cursorResponse = discussionListService.serviceByCursor(
+                maintopicId,
+                after,
+                before,
+                size,
+                sortDirection,
+                includeTotal
+            );
+            logger.info("Successfully fetched {} discussions by cursor", cursorResponse.getDiscussions().size());
+            return ResponseEntity.ok(cursorResponse);
+        }
         final Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
         final DiscussionListResponse response = discussionListService.service(
@@ -188,11 +242,110 @@ public class DiscussionController {
     @DeleteMapping("/{id}")
     public void deleteDiscussion(){}
 
-    @Operation(summary = "Search discussions", description = "Searches discussions based on the title or content")
+    @Operation(
+        summary = "メイントピック内の議論を検索する",
+        description = "指定されたメイントピックの議論を、本文とメイントピックのタイトル・説明を対象にキーワードで検索する。" +
+                    "結果は関連度の高い順に返し、一致箇所を<mark>で囲んだ抜粋を含む。" +
+                    "次ページはレスポンスのnextCursorをcursorに指定して取得する。"
+    )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Discussions retrieved based on search criteria"),
-        @ApiResponse(responseCode = "400", description = "Invalid search query")
+        @ApiResponse(
+            responseCode = "200",
+            description = "検索結果が正常に取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DiscussionSearchResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "検索キーワードが空・長すぎる、またはカーソル・ページサイズが不正",
+            content = @Content(mediaType = "application/json")
+        )
     })
     @GetMapping("/search")
-    public void searchDiscussions(){}
+    public ResponseEntity<DiscussionSearchResponse> searchDiscussions(
+        @Parameter(
+            description = "議論を検索するメイントピックのID",
+            required = true,
+            example = "1"
+        )
+        @PathVariable Long maintopicId,
+        @Parameter(
+            description = "検索キーワード（空白区切りで複数語のAND検索）",
+            required = true,
+            example = "リモートワーク"
+        )
+        @RequestParam String q,
+        @Parameter(
+            description = "次ページ取得用のカーソル",
+            example = "MS41fDQy"
+        )
+        @RequestParam(required = false) String cursor,
+        @Parameter(
+            description = "1ページあたりの件数",
+            example = "10"
+        )
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        logger.debug("Searching discussions for maintopicId: {}, size: {}", maintopicId, size);
+        DiscussionSearchRequestValidation.validate(maintopicId, size);
+        return ResponseEntity.ok(discussionSearchService.service(q, maintopicId, cursor, size));
+    }
+
+    @Operation(
+        summary = "メイントピックに投稿される議論をライブ配信する",
+        description = "指定されたメイントピックに新しく投稿された議論をServer-Sent Eventsで配信する。" +
+                    "議論はdiscussionイベントで送信し、イベントIDは議論IDとなる。" +
+                    "再接続時にLast-Event-IDを指定すると、その議論より後に投稿された議論を送信してから配信を再開する。" +
+                    "再送できない場合はresetイベントを送信するため、一覧を取得し直すこと。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "配信を開始した",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定されたメイントピックIDが存在しない",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "購読者数が上限に達している",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDiscussions(
+        @Parameter(
+            description = "議論を配信するメイントピックのID",
+            required = true,
+            example = "1"
+        )
+        @PathVariable Long maintopicId,
+        @Parameter(
+            description = "最後に受信した議論ID（再接続時にブラウザが自動で送信する）",
+            example = "42"
+        )
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+        @Parameter(hidden = true)
+        @RequestAttribute(JWTAuthenticationFilter.VERIFIED_CLAIMS_ATTRIBUTE) JWTVerifiedClaims verifiedClaims
+    ) {
+        logger.debug("Streaming discussions for maintopicId: {}, lastEventId: {}", maintopicId, lastEventId);
+        DiscussionFeedRequestValidation.validate(maintopicId, lastEventId);
+        // NOTE: タイムアウトを設けず、切断はハートビートの送信失敗、遅い購読者の切断、トークンの有効期限と失効の確認で行う
+        final SseEmitter emitter = new SseEmitter(0L);
+        final DiscussionFeedSubscription subscription = discussionFeedSubscribeService.service(
+            maintopicId,
+            lastEventId,
+            SseDiscussionFeedSink.of(emitter),
+            verifiedClaims
+        );
+        emitter.onCompletion(() -> discussionFeedHub.cancel(subscription));
+        emitter.onTimeout(() -> discussionFeedHub.cancel(subscription));
+        emitter.onError(error -> discussionFeedHub.cancel(subscription));
+        return emitter;
+    }
 }
@@ -0,0 +1,83 @@
+package com.application.discussion.project.presentation.controllers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResponse;
+import com.application.discussion.project.application.services.discussions.DiscussionSearchService;
+import com.application.discussion.project.presentation.validations.DiscussionSearchRequestValidation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/v1/discussions")
+@Tag(name = "Discussion Search", description = "API for searching discussions across maintopics")
+public class DiscussionSearchController {
+
+    @Autowired
+    private DiscussionSearchService discussionSearchService;
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscussionSearchController.class);
+
+    @Operation(
+        summary = "議論を横断検索する",
+        description = "全メイントピックの議論を、本文とメイントピックのタイトル・説明を対象にキーワードで検索する。" +
+                    "maintopicIdを指定した場合はそのメイントピックの議論に絞り込む。" +
+                    "結果は関連度の高い順に返し、次ページはレスポンスのnextCursorをcursorに指定して取得する。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "検索結果が正常に取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DiscussionSearchResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "検索キーワードが空・長すぎる、またはカーソル・ページサイズが不正",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<DiscussionSearchResponse> searchDiscussions(
+        @Parameter(
+            description = "検索キーワード（空白区切りで複数語のAND検索）",
+            required = true,
+            example = "リモートワーク"
+        )
+        @RequestParam String q,
+        @Parameter(
+            description = "絞り込むメイントピックのID",
+            example = "1"
+        )
+        @RequestParam(required = false) Long maintopicId,
+        @Parameter(
+            description = "次ページ取得用のカーソル",
+            example = "MS41fDQy"
+        )
+        @RequestParam(required = false) String cursor,
+        @Parameter(
+            description = "1ページあたりの件数",
+            example = "10"
+        )
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        logger.debug("Searching discussions across maintopics, maintopicId: {}, size: {}", maintopicId, size);
+        DiscussionSearchRequestValidation.validate(maintopicId, size);
+        return ResponseEntity.ok(discussionSearchService.service(q, maintopicId, cursor, size));
+    }
+}
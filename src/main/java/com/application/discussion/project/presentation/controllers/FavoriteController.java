@@ -1,16 +1,139 @@
 package com.application.discussion.project.presentation.controllers;
 
-import org.springframework.web.bind.annotation.PostMapping;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.application.discussion.project.application.dtos.favorites.FavoriteMembershipResponse;
+import com.application.discussion.project.application.dtos.favorites.FavoriteResponse;
+import com.application.discussion.project.application.services.favorites.FavoriteAddService;
+import com.application.discussion.project.application.services.favorites.FavoriteMembershipService;
+import com.application.discussion.project.application.services.favorites.FavoriteRemoveService;
+import com.application.discussion.project.presentation.validations.FavoriteRequestValidation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Tag(name = "favorite",description = "Add favorite to discussion topics")
 @RestController
-@RequestMapping("/favorite")
+@RequestMapping("/v1/favorites/{targetType}")
 public class FavoriteController {
-    
-    @PostMapping
-    public void toggleFavorite(){}
+
+    @Autowired
+    private FavoriteAddService favoriteAddService;
+
+    @Autowired
+    private FavoriteRemoveService favoriteRemoveService;
+
+    @Autowired
+    private FavoriteMembershipService favoriteMembershipService;
+
+    @Operation(
+        summary = "お気に入りに追加する",
+        description = "認証済みユーザーとしてメイントピックまたは議論をお気に入りに追加する。既にお気に入りの場合も成功として扱う。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "お気に入りに追加された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FavoriteResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "対象の種類またはIDが不正",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定された対象が存在しない",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PutMapping("/{targetId}")
+    public ResponseEntity<FavoriteResponse> addFavorite(
+        @Parameter(description = "対象の種類（maintopicsまたはdiscussions）", required = true, example = "discussions")
+        @PathVariable String targetType,
+        @Parameter(description = "対象のID", required = true, example = "1")
+        @PathVariable Long targetId
+    ) {
+        FavoriteRequestValidation.validateTargetId(targetId);
+        return ResponseEntity.ok(favoriteAddService.service(targetType, targetId));
+    }
+
+    @Operation(
+        summary = "お気に入りから削除する",
+        description = "認証済みユーザーとしてメイントピックまたは議論をお気に入りから削除する。お気に入りでない場合も成功として扱う。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "お気に入りから削除された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FavoriteResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "対象の種類またはIDが不正",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @DeleteMapping("/{targetId}")
+    public ResponseEntity<FavoriteResponse> removeFavorite(
+        @Parameter(description = "対象の種類（maintopicsまたはdiscussions）", required = true, example = "discussions")
+        @PathVariable String targetType,
+        @Parameter(description = "対象のID", required = true, example = "1")
+        @PathVariable Long targetId
+    ) {
+        FavoriteRequestValidation.validateTargetId(targetId);
+        return ResponseEntity.ok(favoriteRemoveService.service(targetType, targetId));
+    }
+
+    @Operation(
+        summary = "お気に入り状態を一括で判定する",
+        description = "指定したIDのうち、認証済みユーザーがお気に入りにしているものを返す。" +
+                    "一覧の1ページ分（100件まで）のIDを1回のリクエストで判定する。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "お気に入り状態が判定された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = FavoriteMembershipResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "対象の種類が不正、またはIDが不正・100件を超える",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping
+    public ResponseEntity<FavoriteMembershipResponse> findFavorited(
+        @Parameter(description = "対象の種類（maintopicsまたはdiscussions）", required = true, example = "discussions")
+        @PathVariable String targetType,
+        @Parameter(description = "判定する対象のID（カンマ区切り）", required = true, example = "1,2,3")
+        @RequestParam List<Long> ids
+    ) {
+        FavoriteRequestValidation.validateTargetIds(ids);
+        return ResponseEntity.ok(favoriteMembershipService.service(targetType, ids));
+    }
 }
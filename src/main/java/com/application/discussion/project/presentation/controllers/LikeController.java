@@ -1,16 +1,96 @@
 package com.application.discussion.project.presentation.controllers;
 
-import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.application.discussion.project.application.dtos.discussions.DiscussionLikeResponse;
+import com.application.discussion.project.application.services.discussions.DiscussionLikeService;
+import com.application.discussion.project.application.services.discussions.DiscussionUnlikeService;
+import com.application.discussion.project.presentation.validations.DiscussionIdRequestValidation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Tag(name = "like",description = "Add like to discussion and comment")
 @RestController
-@RequestMapping("/likes")
+@RequestMapping("/v1/discussions/{discussionId}/likes")
 public class LikeController {
 
-    @PostMapping
-    public void toggleLike(){}
+    @Autowired
+    private DiscussionLikeService discussionLikeService;
+
+    @Autowired
+    private DiscussionUnlikeService discussionUnlikeService;
+
+    @Operation(
+        summary = "議論にいいねする",
+        description = "認証済みユーザーとして議論にいいねする。既にいいね済みの場合も成功として扱う。" +
+                    "いいね件数は非同期に集計されるため、直後の件数は他のユーザーの操作を含まない場合がある。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "いいねが登録された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DiscussionLikeResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "議論IDが不正",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "指定された議論が存在しない",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PutMapping
+    public ResponseEntity<DiscussionLikeResponse> like(
+        @Parameter(description = "いいねする議論のID", required = true, example = "1")
+        @PathVariable Long discussionId
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        return ResponseEntity.ok(discussionLikeService.service(discussionId));
+    }
+
+    @Operation(
+        summary = "議論へのいいねを取り消す",
+        description = "認証済みユーザーとして議論へのいいねを取り消す。いいねしていない場合も成功として扱う。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "いいねが取り消された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DiscussionLikeResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "議論IDが不正",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @DeleteMapping
+    public ResponseEntity<DiscussionLikeResponse> unlike(
+        @Parameter(description = "いいねを取り消す議論のID", required = true, example = "1")
+        @PathVariable Long discussionId
+    ) {
+        DiscussionIdRequestValidation.validate(discussionId);
+        return ResponseEntity.ok(discussionUnlikeService.service(discussionId));
+    }
 }
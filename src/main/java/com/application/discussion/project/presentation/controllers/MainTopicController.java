@@ -5,6 +5,7 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,12 +18,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.application.discussion.project.application.dtos.topics.MaintopicCreateRequest;
 import com.application.discussion.project.application.dtos.topics.MaintopicCreateResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicDeleteResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+import com.application.discussion.project.application.dtos.topics.MaintopicPageResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateRequest;
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateResponse;
@@ -34,6 +38,7 @@ import com.application.discussion.project.application.services.topics.Maintopics
 import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
 import com.application.discussion.project.presentation.validations.MaintopicCreateRequestValidation;
 import com.application.discussion.project.presentation.validations.MaintopicIdRequestValidation;
+import com.application.discussion.project.presentation.validations.MaintopicListRequestValidation;
 import com.application.discussion.project.presentation.validations.MaintopicUpdateRequestValidations;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -135,7 +140,11 @@ public class MainTopicController {
     }
 
 
-    @Operation(summary = "Retrieve topic list information", description = "Fetches the information of a topics")
+    @Operation(
+        summary = "Retrieve topic list information",
+        description = "Fetches the information of all topics. " +
+                    "The response carries a strong ETag; send it back in If-None-Match to receive 304 Not Modified while the list is unchanged."
+    )
     @ApiResponses(
         value = {
             @ApiResponse(
@@ -148,21 +157,83 @@ public class MainTopicController {
                     mediaType = "application/json"
                 )
             ),
+            @ApiResponse(
+                responseCode = "304",
+                description = "List of topics has not been modified since the ETag given in If-None-Match",
+                content = @Content
+            ),
             @ApiResponse(
                 responseCode = "400", 
                 description = "Bad request - Invalid parameters or request format"
             )
     })
     @GetMapping
-    public ResponseEntity<List<MaintopicListResponse>> findMaintopicList() throws Exception {
+    public ResponseEntity<List<MaintopicListResponse>> findMaintopicList(final WebRequest webRequest) throws Exception {
         logger.info("Retrieving list of main topics");
+        final String entityTag = maintopicsListService.currentEntityTag();
+        if (webRequest.checkNotModified(entityTag)) {
+            logger.info("List of main topics not modified for ETag: {}", entityTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setETag(entityTag);
+        headers.setCacheControl(CacheControl.noCache());
         return ResponseEntity.status(HttpStatus.OK)
                 .headers(headers)
                 .body(maintopicsListService.service());
     }
 
+    @Operation(
+        summary = "Retrieve a page of the topic list",
+        description = "Fetches topics in ascending ID order, one page at a time. " +
+                    "Pass the nextCursor of the response as after to fetch the following page; omit after for the first page. " +
+                    "The response carries a strong ETag usable with If-None-Match."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of topics retrieved successfully",
+            content = @Content(
+                schema = @Schema(implementation = MaintopicPageResponse.class),
+                mediaType = "application/json"
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Page of topics has not been modified since the ETag given in If-None-Match",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad request - Invalid cursor or page size",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping(params = "size")
+    public ResponseEntity<MaintopicPageResponse> findMaintopicPage(
+        @Parameter(description = "ID of the last topic on the previous page (omit for the first page)", example = "20")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "Number of topics per page (1-100)", required = true, example = "20")
+        @RequestParam Integer size,
+        final WebRequest webRequest
+    ) {
+        logger.info("Retrieving page of main topics after: {}, size: {}", after, size);
+        MaintopicListRequestValidation.validate(after, size);
+        final String entityTag = maintopicsListService.currentEntityTag(after, size);
+        if (webRequest.checkNotModified(entityTag)) {
+            logger.info("Page of main topics not modified for ETag: {}", entityTag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setETag(entityTag);
+        headers.setCacheControl(CacheControl.noCache());
+        return ResponseEntity.status(HttpStatus.OK)
+                .headers(headers)
+                .body(maintopicsListService.serviceByCursor(after, size));
+    }
+
     @Operation(summary = "find topic information", description = "Fetches the information of a topic based on its ID")
     @ApiResponses({
         @ApiResponse(
@@ -1,28 +1,121 @@
 package com.application.discussion.project.presentation.controllers;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.application.discussion.project.application.dtos.notifications.NotificationInboxResponse;
+import com.application.discussion.project.application.dtos.notifications.NotificationListResponse;
+import com.application.discussion.project.application.dtos.notifications.NotificationReadRequest;
+import com.application.discussion.project.application.services.notifications.NotificationListService;
+import com.application.discussion.project.application.services.notifications.NotificationReadService;
+import com.application.discussion.project.application.services.notifications.NotificationUnreadCountService;
+import com.application.discussion.project.presentation.validations.NotificationRequestValidation;
+
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
-@RequestMapping("/notifications")
+@RequestMapping("/v1/notifications")
 @Tag(name = "Notification Management", description = "API for managing notifications")
 public class NotificationController {
 
+    @Autowired
+    private NotificationListService notificationListService;
+
+    @Autowired
+    private NotificationUnreadCountService notificationUnreadCountService;
+
+    @Autowired
+    private NotificationReadService notificationReadService;
+
+    @Operation(
+        summary = "通知一覧を取得する",
+        description = "認証済みユーザーの通知を新しい順に取得する。次ページはレスポンスのnextCursorをbeforeに指定して取得する。" +
+                    "通知は非同期に配信されるため、操作の直後は含まれない場合がある。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "通知一覧が取得された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NotificationListResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "ページ指定が不正",
+            content = @Content(mediaType = "application/json")
+        )
+    })
     @GetMapping
-    @Operation(summary = "get unread notifications")
-    public void getNotifications(){}
+    public ResponseEntity<NotificationListResponse> getNotifications(
+        @Parameter(description = "前ページのnextCursor（省略時は最新から取得）", example = "21")
+        @RequestParam(required = false) Long before,
+        @Parameter(description = "1ページあたりの件数（1〜100）", example = "20")
+        @RequestParam(defaultValue = "20") Integer size
+    ) {
+        NotificationRequestValidation.validatePage(before, size);
+        return ResponseEntity.ok(notificationListService.service(before, size));
+    }
+
+    @Operation(
+        summary = "未読件数を取得する",
+        description = "認証済みユーザーの未読件数と既読位置を取得する。未読件数は集計済みの値で、通知の件数は数えない。"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "未読件数が取得された",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = NotificationInboxResponse.class)
+        )
+    )
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationInboxResponse> getUnreadCount() {
+        return ResponseEntity.ok(notificationUnreadCountService.service());
+    }
 
     @Operation(summary = "retrieve unread notification")
     @GetMapping("/{id}")
     public void retrieveNotification(){}
 
-    @Operation(summary = "add read notification")
-    @PostMapping
-    public void addReadNotifications(){}
+    @Operation(
+        summary = "通知を既読にする",
+        description = "認証済みユーザーのupToId以下の通知をまとめて既読にする。既読位置を戻す指定は無視する。"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "既読位置が更新された",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NotificationInboxResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "通知IDが不正",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/read")
+    public ResponseEntity<NotificationInboxResponse> addReadNotifications(
+        @RequestBody NotificationReadRequest notificationReadRequest
+    ) {
+        NotificationRequestValidation.validateRead(notificationReadRequest);
+        return ResponseEntity.ok(notificationReadService.service(notificationReadRequest));
+    }
 
 }
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -20,6 +21,7 @@ import com.application.discussion.project.application.dtos.exceptions.InternalSe
 import com.application.discussion.project.domain.exceptions.BadRequestException;
 import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
 import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -82,6 +84,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(errorResponse);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+        ServiceUnavailableException ex,
+        WebRequest webRequest
+    ) {
+        logger.warn("Error Handler service unavailable: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(
+            ex.getMessage(),
+            ex.getCode().value(),
+            ex.getStatus().getReasonPhrase()
+        );
+        return ResponseEntity.status(ex.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(ApplicationLayerException.class)
     public ResponseEntity <ErrorResponse> handleApplicationLayerException(
         ApplicationLayerException ex,
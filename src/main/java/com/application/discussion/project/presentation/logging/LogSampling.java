@@ -0,0 +1,30 @@
+package com.application.discussion.project.presentation.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * リクエストごとに発生するログをサンプリングして出力するためのユーティリティ
+ * 全件を出力すると書式化とI/Oのコストがリクエスト数に比例するため、指定した割合のみを出力対象とする
+ */
+public final class LogSampling {
+
+    private LogSampling() {
+    }
+
+    /**
+     * 今回のイベントをログに出力するかを判定する
+     * スレッドごとの乱数を使用するため、複数のスレッドから呼び出しても競合しない
+     *
+     * @param sampleRate 出力する割合（0.0〜1.0）。1.0以上の場合は常に出力し、0.0以下の場合は出力しない
+     * @return 出力対象の場合はtrue
+     */
+    public static boolean isSampled(final double sampleRate) {
+        if (sampleRate >= 1.0d) {
+            return true;
+        }
+        if (sampleRate <= 0.0d) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
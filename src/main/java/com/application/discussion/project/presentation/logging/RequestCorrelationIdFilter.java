@@ -0,0 +1,57 @@
+package com.application.discussion.project.presentation.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * リクエストごとの相関IDをMDCに設定するフィルター
+ * 1リクエストで出力された全てのログにrequestIdが付与され、レスポンスヘッダーでクライアントにも返却する
+ * クライアントやリバースプロキシがX-Request-Idを付与している場合は、形式が妥当であればその値を引き継ぐ
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    /**
+     * ログへの埋め込みを防ぐため、引き継ぐ値は英数字と一部の記号からなる64文字以内に限る
+     */
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest httpServletRequest,
+            final HttpServletResponse httpServletResponse,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final String requestId = resolveRequestId(httpServletRequest.getHeader(REQUEST_ID_HEADER));
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        httpServletResponse.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    private String resolveRequestId(final String requestIdHeader) {
+        if (requestIdHeader != null && VALID_REQUEST_ID.matcher(requestIdHeader).matches()) {
+            return requestIdHeader;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
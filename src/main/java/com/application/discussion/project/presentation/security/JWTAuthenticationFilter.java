@@ -1,12 +1,12 @@
 package com.application.discussion.project.presentation.security;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,8 +15,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetailsService;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
 import com.application.discussion.project.application.services.security.JWTUtils;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics.JwtValidationOutcome;
+import com.application.discussion.project.presentation.logging.LogSampling;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,31 +32,13 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
-    private static final List<String> SKIP_AUTH_POST_PATHS = List.of(
-        "/v1/auth/login",
-        "/v1/users/signup",
-        "/v1/auth/refresh"
-    );
-
-    private static final List<String> PUBLIC_PATHS = Arrays.asList(
-        "/v3/api-docs/**",
-        "/swagger-ui/**",
-        "/swagger-ui/index.html",
-        "/swagger-ui.html",
-        "/swagger-ui.html/**",
-        "/swagger-resources/**",
-        "/configuration/**",
-        "/webjars/**",
-        "/api-docs/**",
-        "/v3/api-docs",
-        "/swagger-ui",
-        "/swagger-resources",
-        "/configuration",
-        "/webjars",
-        "/api-docs"
-    );
-
     private static final Logger logger = LoggerFactory.getLogger(JWTAuthenticationFilter.class);
+
+    /**
+     * 認証に使用したトークンの検証済みクレームを保持するリクエスト属性の名前
+     * 長時間の接続でトークンの有効期限や失効を確認するために、コントローラーから参照する
+     */
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = JWTAuthenticationFilter.class.getName() + ".VERIFIED_CLAIMS";
     
     @Autowired
     private JWTUtils jwtUtils;
@@ -58,59 +46,71 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JWTAuthUserDetailsService jwtAuthUserDetailsService;
 
+    @Autowired
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @Autowired
+    private AuthenticationMetrics authenticationMetrics;
+
+    /**
+     * trueの場合、ユーザー情報とロールをDBから取得せずJWTクレームのみから認証情報を復元する
+     */
+    @Value("${springboot.app.authentication.jwt.stateless-principal.enabled:false}")
+    private boolean isStatelessPrincipalEnabled;
+
+    /**
+     * 認証完了のログを出力する割合。全リクエストで発生するため、既定では1%のみ出力する
+     */
+    @Value("${springboot.app.logging.authentication-sample-rate:0.01}")
+    private double authenticationLogSampleRate;
+
+    /**
+     * CORSのプリフライト、認証・登録用のPOST、公開パスへのリクエストはトークンの取得・検証を行わずに通過させる
+     */
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest httpServletRequest) {
+        return PublicPathMatcher.isPublicRequest(httpServletRequest);
+    }
+
     @Override
     protected void doFilterInternal(
             final HttpServletRequest httpServletRequest,
             final HttpServletResponse httpServletResponse,
             final FilterChain filterChain
     ) throws ServletException, IOException {
-        logger.info("JWTAuthenticationFilter is processing the request...");
-        String requestURI=httpServletRequest.getRequestURI();
-        logger.info("called for URI : {}",requestURI);
-
-        if ("POST".equals(httpServletRequest.getMethod()) && SKIP_AUTH_POST_PATHS.contains(requestURI)) {
-            logger.debug("Skipping JWT authentication for public auth request: {}", requestURI);
-            filterChain.doFilter(httpServletRequest, httpServletResponse);
-            return;
-        }
-
-        /**
-         * * パブリックパスの場合は認証をスキップする
-         * * 例: Swagger UIやログインエンドポイント
-         * * これにより、これらのパスへのアクセスが認証なしで可能になる
-         * ! セキュリティ上の注意: パブリックパスを適切に管理し、不要なパスが含まれないように注意すること
-         * ! また、デプロイの際はリストを見直し、セキュリティを確保すること
-         */
-        if (isPublicPath(requestURI)) {
-            logger.debug("Skipping JWT authentication for public path: {}", requestURI);
-            filterChain.doFilter(httpServletRequest, httpServletResponse);
-            return;
-        }
+        logger.debug("JWTAuthenticationFilter is processing the request: {}", httpServletRequest.getRequestURI());
 
         String token = jwtUtils.getJwtFromHeader(httpServletRequest);
         if (!StringUtils.hasText(token)) {
-            logger.warn("Authorization header is missing or empty");
+            logger.debug("Authorization header is missing or empty");
+            authenticationMetrics.recordJwtValidation(JwtValidationOutcome.MISSING);
             filterChain.doFilter(httpServletRequest, httpServletResponse);
             return;
         }
 
+        final JWTVerifiedClaims verifiedClaims;
         try {
-            if (!jwtUtils.validateJwtToken(token)) {
-                logger.error("JWT token validation returned false");
-                filterChain.doFilter(httpServletRequest, httpServletResponse);
-                return;
-            }
+            verifiedClaims = jwtUtils.parseAndVerify(token);
         } catch (Exception e) {
             logger.warn("JWT token is invalid or expired: {}", e.getMessage());
+            authenticationMetrics.recordJwtValidation(JwtValidationOutcome.INVALID);
             filterChain.doFilter(httpServletRequest, httpServletResponse);
             return;
         }
         
-        String emailOrLoginId = jwtUtils.getEmailOrLoginId(token);
-        String userId = jwtUtils.getUserIdFromToken(token);
-        logger.info("JWT token is valid for user: {} with ID: {}", emailOrLoginId, userId);
+        String emailOrLoginId = verifiedClaims.getSubject();
+        String userId = verifiedClaims.getUserId();
+        logger.debug("JWT token is valid for user: {} with ID: {}", emailOrLoginId, userId);
+
+        if (isRevoked(verifiedClaims)) {
+            logger.warn("JWT token has been revoked for user ID: {}", userId);
+            authenticationMetrics.recordJwtValidation(JwtValidationOutcome.REVOKED);
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+            return;
+        }
+        authenticationMetrics.recordJwtValidation(JwtValidationOutcome.VALID);
 
-        UserDetails userDetails = jwtAuthUserDetailsService.loadUserByUsername(emailOrLoginId);
+        UserDetails userDetails = resolveUserDetails(verifiedClaims);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
             userDetails,
             null,
@@ -120,12 +120,44 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
             new WebAuthenticationDetailsSource().buildDetails(httpServletRequest)
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
+        httpServletRequest.setAttribute(VERIFIED_CLAIMS_ATTRIBUTE, verifiedClaims);
         filterChain.doFilter(httpServletRequest, httpServletResponse);
-        logger.info("JWT authentication completed for user: {} with ID: {}", emailOrLoginId, userId);
+        if (logger.isInfoEnabled() && LogSampling.isSampled(authenticationLogSampleRate)) {
+            logger.info("JWT authentication completed for user: {} with ID: {} (sampled)", emailOrLoginId, userId);
+        }
+    }
+
+    /**
+     * 検証済みクレームから認証情報を取得する
+     * ステートレスモードかつトークンにロールが含まれる場合はDBを参照せずに復元し、
+     * それ以外の場合はDBからユーザー情報とロールを取得する
+     *
+     * @param verifiedClaims 署名検証済みのJWTクレーム
+     * @return 認証情報
+     */
+    private UserDetails resolveUserDetails(final JWTVerifiedClaims verifiedClaims) {
+        if (isStatelessPrincipalEnabled && verifiedClaims.hasRoles()) {
+            return JWTAuthUserDetails.fromClaims(verifiedClaims);
+        }
+        return jwtAuthUserDetailsService.loadUserByUsername(verifiedClaims.getSubject());
     }
 
-    private Boolean isPublicPath(final String requestURI) {
-        logger.info("Public path is checking... , requestURI: {}", requestURI);
-        return PUBLIC_PATHS.stream().anyMatch(requestURI::startsWith);
+    /**
+     * ログアウト等で失効済みのトークンかを判定する
+     * ユーザーIDがUUID形式でない不正なトークンも失効済みとして扱う
+     *
+     * @param verifiedClaims 署名検証済みのJWTクレーム
+     * @return 失効済みの場合true
+     */
+    private boolean isRevoked(final JWTVerifiedClaims verifiedClaims) {
+        try {
+            return jwtRevocationDenylist.isRevoked(
+                UUID.fromString(verifiedClaims.getUserId()),
+                verifiedClaims.getIssuedAt()
+            );
+        } catch (IllegalArgumentException | NullPointerException e) {
+            logger.warn("JWT token has invalid user ID: {}", verifiedClaims.getUserId());
+            return true;
+        }
     }
 }
@@ -0,0 +1,131 @@
+package com.application.discussion.project.presentation.security;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 認証不要のリクエストかどうかを判定するクラス
+ * 公開パスの定義はJWTAuthenticationFilterとWebSecurityConfigの両方からこのクラスを参照する
+ * パスパターンはクラスの初期化時に1度だけ解析し、リクエストごとの判定では解析済みのパターンのみを使用する
+ *
+ * ! セキュリティ上の注意: 公開パスに不要なパスが含まれないよう、デプロイの際はリストを見直すこと
+ */
+public final class PublicPathMatcher {
+
+    /**
+     * 全てのHTTPメソッドで認証不要とするパスパターン（Swagger UI、OpenAPI定義）
+     * "/**" は0個以上のセグメントに一致するため、"/v3/api-docs/**" は "/v3/api-docs" にも一致する
+     * Actuatorのエンドポイントは管理用ポート（management.server.port）でのみ公開し、アプリケーションのポートでは認証を必要とする
+     */
+    private static final List<String> PUBLIC_PATH_PATTERNS = List.of(
+        "/v3/api-docs/**",
+        "/swagger-ui/**",
+        "/swagger-ui.html/**",
+        "/swagger-resources/**",
+        "/configuration/**",
+        "/webjars/**",
+        "/api-docs/**"
+    );
+
+    /**
+     * POSTの場合に認証不要とする認証・登録用のパス
+     */
+    private static final Set<String> PUBLIC_POST_PATHS = Set.of(
+        "/v1/auth/login",
+        "/v1/users/signup",
+        "/v1/auth/refresh"
+    );
+
+    private static final List<PathPattern> COMPILED_PUBLIC_PATH_PATTERNS = PUBLIC_PATH_PATTERNS.stream()
+        .map(PathPatternParser.defaultInstance::parse)
+        .toList();
+
+    /**
+     * 公開パスパターンの先頭セグメント
+     * 先頭セグメントが一致しない大半の保護対象パスは、パスの解析を行わずに判定を終える
+     */
+    private static final Set<String> PUBLIC_PATH_FIRST_SEGMENTS = PUBLIC_PATH_PATTERNS.stream()
+        .map(PublicPathMatcher::getFirstSegment)
+        .collect(Collectors.toUnmodifiableSet());
+
+    private PublicPathMatcher() {
+    }
+
+    /**
+     * SecurityFilterChainでpermitAllとするパスパターンを取得する
+     *
+     * @return 公開パスパターンと認証・登録用のパス
+     */
+    public static String[] getPermitAllPatterns() {
+        return Stream.concat(PUBLIC_PATH_PATTERNS.stream(), PUBLIC_POST_PATHS.stream())
+            .toArray(String[]::new);
+    }
+
+    /**
+     * JWT認証を行わずに通過させるリクエストかどうかを判定する
+     * CORSのプリフライトリクエスト、認証・登録用のPOST、公開パスへのリクエストが対象となる
+     *
+     * @param httpServletRequest HTTPリクエスト
+     * @return 認証不要のリクエストの場合はtrue
+     */
+    public static boolean isPublicRequest(final HttpServletRequest httpServletRequest) {
+        if (CorsUtils.isPreFlightRequest(httpServletRequest)) {
+            return true;
+        }
+        final String path = getPathWithinApplication(httpServletRequest);
+        if (HttpMethod.POST.matches(httpServletRequest.getMethod()) && PUBLIC_POST_PATHS.contains(path)) {
+            return true;
+        }
+        return isPublicPath(path);
+    }
+
+    /**
+     * コンテキストパスを除いたパスが公開パスパターンに一致するかを判定する
+     *
+     * @param path コンテキストパスを除いたリクエストパス
+     * @return 公開パスの場合はtrue
+     */
+    public static boolean isPublicPath(final String path) {
+        if (!StringUtils.hasLength(path) || !PUBLIC_PATH_FIRST_SEGMENTS.contains(getFirstSegment(path))) {
+            return false;
+        }
+        final PathContainer pathContainer = PathContainer.parsePath(path);
+        for (final PathPattern pathPattern : COMPILED_PUBLIC_PATH_PATTERNS) {
+            if (pathPattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * リクエストURIからコンテキストパスを除いたパスを取得する
+     * server.servlet.context-pathを設定した場合もWebSecurityConfigと同じパスで判定する
+     */
+    private static String getPathWithinApplication(final HttpServletRequest httpServletRequest) {
+        final String requestURI = httpServletRequest.getRequestURI();
+        final String contextPath = httpServletRequest.getContextPath();
+        if (StringUtils.hasLength(contextPath) && Objects.nonNull(requestURI) && requestURI.startsWith(contextPath)) {
+            return requestURI.substring(contextPath.length());
+        }
+        return requestURI;
+    }
+
+    private static String getFirstSegment(final String path) {
+        final int start = path.startsWith("/") ? 1 : 0;
+        final int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+}
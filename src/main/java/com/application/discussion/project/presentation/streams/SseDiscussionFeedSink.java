@@ -0,0 +1,56 @@
+package com.application.discussion.project.presentation.streams;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionResponse;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedSink;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+
+/**
+ * 議論のライブフィードをServer-Sent Eventsで送信する送信先
+ * イベントIDに議論IDを設定し、クライアントは再接続時にLast-Event-IDとして送信する
+ */
+public class SseDiscussionFeedSink implements DiscussionFeedSink {
+
+    private final SseEmitter emitter;
+
+    private SseDiscussionFeedSink(final SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    public static SseDiscussionFeedSink of(final SseEmitter emitter) {
+        return new SseDiscussionFeedSink(emitter);
+    }
+
+    @Override
+    public void sendDiscussion(final Discussion discussion) throws IOException {
+        emitter.send(SseEmitter.event()
+            .id(String.valueOf(discussion.getDiscussionId()))
+            .name("discussion")
+            .data(DiscussionResponse.of(
+                discussion.getDiscussionId(),
+                discussion.getParagraph(),
+                discussion.getMaintopicId(),
+                discussion.getCreatedAt(),
+                discussion.getUpdatedAt()
+            ), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void sendReset() throws IOException {
+        emitter.send(SseEmitter.event().name("reset").data(""));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,95 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.application.dtos.comments.CommentCreateRequest;
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * コメントリクエストのバリデーションクラス
+ * 本文の文字数などの制約はドメイン層のParagraphで検証する
+ */
+public class CommentRequestValidation {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_REPLIES_PER_LEVEL = 20;
+    private static final int MAX_THREAD_DEPTH = 10;
+
+    private CommentRequestValidation() {}
+
+    /**
+     * コメント作成リクエストのバリデーションを実行する
+     *
+     * @param commentCreateRequest コメント作成リクエスト
+     * @throws PresentationLayerErrorException 本文が空白、または返信先のIDが正の整数でない場合
+     */
+    public static void validateCreate(final CommentCreateRequest commentCreateRequest) {
+        if (commentCreateRequest == null || StringUtils.isBlank(commentCreateRequest.getParagraph())) {
+            throw new PresentationLayerErrorException(
+                "文章は空白にできません",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (commentCreateRequest.getParentId() != null) {
+            validateCommentId(commentCreateRequest.getParentId());
+        }
+    }
+
+    /**
+     * コメントIDのバリデーションを実行する
+     *
+     * @param commentId コメントID
+     * @throws PresentationLayerErrorException コメントIDが空または正の整数でない場合
+     */
+    public static void validateCommentId(final Long commentId) {
+        if (commentId == null || commentId <= 0) {
+            throw new PresentationLayerErrorException(
+                "コメントIDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * 一覧取得のページ指定のバリデーションを実行する
+     *
+     * @param after 前ページのnextCursor（省略可）
+     * @param size  1ページあたりの件数
+     * @throws PresentationLayerErrorException カーソルが負の値、または件数が範囲外の場合
+     */
+    public static void validatePage(final Long after, final Integer size) {
+        if (after != null && after < 0) {
+            throw new PresentationLayerErrorException(
+                "カーソルが不正です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        validateRange("1ページあたりの件数", size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * スレッド取得の件数と深さのバリデーションを実行する
+     *
+     * @param repliesPerLevel 返信先ごとに取得する返信の件数
+     * @param depth           起点からの深さ
+     * @throws PresentationLayerErrorException 件数または深さが範囲外の場合
+     */
+    public static void validateThread(final Integer repliesPerLevel, final Integer depth) {
+        validateRange("返信先ごとの件数", repliesPerLevel, MAX_REPLIES_PER_LEVEL);
+        validateRange("深さ", depth, MAX_THREAD_DEPTH);
+    }
+
+    private static void validateRange(final String name, final Integer value, final int max) {
+        if (value == null || value < 1 || value > max) {
+            throw new PresentationLayerErrorException(
+                String.format("%sは1以上%d以下で指定する必要があります", name, max),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
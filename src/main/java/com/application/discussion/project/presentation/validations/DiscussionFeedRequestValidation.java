@@ -0,0 +1,35 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * 議論のライブフィード購読リクエストのバリデーションクラス
+ */
+public class DiscussionFeedRequestValidation {
+
+    /**
+     * 議論のライブフィード購読リクエストのバリデーションを実行する
+     *
+     * @param maintopicId メイントピックID
+     * @param lastEventId 最後に受信した議論ID（nullの場合は検証しない）
+     * @throws PresentationLayerErrorException バリデーションエラーが発生した場合
+     */
+    public static void validate(final Long maintopicId, final Long lastEventId) {
+        if (maintopicId == null || maintopicId <= 0) {
+            throw new PresentationLayerErrorException(
+                "メイントピックIDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (lastEventId != null && lastEventId <= 0) {
+            throw new PresentationLayerErrorException(
+                "Last-Event-IDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * 議論IDのバリデーションクラス
+ */
+public class DiscussionIdRequestValidation {
+
+    /**
+     * 議論IDのバリデーションを実行する
+     *
+     * @param discussionId 議論ID
+     * @throws PresentationLayerErrorException 議論IDが空または正の整数でない場合
+     */
+    public static void validate(final Long discussionId) {
+        if (discussionId == null) {
+            throw new PresentationLayerErrorException(
+                "議論IDは必須です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (discussionId <= 0) {
+            throw new PresentationLayerErrorException(
+                "議論IDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
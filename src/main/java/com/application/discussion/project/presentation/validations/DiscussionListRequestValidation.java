@@ -23,6 +23,7 @@ public class DiscussionListRequestValidation {
         "paragraph"
     );
     private static final List<String> ALLOWED_DIRECTIONS = Arrays.asList("asc", "desc");
+    private static final String CURSOR_SORT_FIELD = "createdAt";
 
     /**
      * 議論リスト取得リクエストのバリデーションを実行する
@@ -48,6 +49,36 @@ public class DiscussionListRequestValidation {
         validateDirection(direction);
     }
 
+    /**
+     * カーソル方式の議論リスト取得リクエストのバリデーションを実行する
+     * カーソル方式は(作成日時, ID)の並びでのみシークできるため、ソート項目はcreatedAtに限定する
+     *
+     * @param after 次ページ取得用のカーソル
+     * @param before 前ページ取得用のカーソル
+     * @param sortBy ソート項目
+     * @throws PresentationLayerErrorException バリデーションエラーが発生した場合
+     */
+    public static void validateCursor(
+        final String after,
+        final String before,
+        final String sortBy
+    ) {
+        if (StringUtils.isNotBlank(after) && StringUtils.isNotBlank(before)) {
+            throw new PresentationLayerErrorException(
+                "afterとbeforeは同時に指定できません",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (!CURSOR_SORT_FIELD.equals(sortBy)) {
+            throw new PresentationLayerErrorException(
+                String.format("カーソル方式で指定できるソート項目は%sのみです", CURSOR_SORT_FIELD),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
     /**
      * メイントピックIDのバリデーション
      */
@@ -0,0 +1,60 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * 議論検索リクエストのバリデーションクラス
+ * 検索キーワードの内容（文字数・語数）はドメイン層のSearchKeywordで検証する
+ */
+public class DiscussionSearchRequestValidation {
+
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 議論検索リクエストのバリデーションを実行する
+     *
+     * @param maintopicId 絞り込むメイントピックID（nullの場合は絞り込まない）
+     * @param size ページサイズ
+     * @throws PresentationLayerErrorException バリデーションエラーが発生した場合
+     */
+    public static void validate(final Long maintopicId, final Integer size) {
+        validateMaintopicId(maintopicId);
+        validateSize(size);
+    }
+
+    /**
+     * メイントピックIDのバリデーション
+     */
+    private static void validateMaintopicId(final Long maintopicId) {
+        if (maintopicId != null && maintopicId <= 0) {
+            throw new PresentationLayerErrorException(
+                "メイントピックIDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * ページサイズのバリデーション
+     */
+    private static void validateSize(final Integer size) {
+        if (size == null) {
+            throw new PresentationLayerErrorException(
+                "ページサイズは必須です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new PresentationLayerErrorException(
+                String.format("ページサイズは%d以上%d以下である必要があります", MIN_SIZE, MAX_SIZE),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.application.discussion.project.presentation.validations;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * お気に入りリクエストのバリデーションクラス
+ * 対象の種類はドメイン層のFavoriteTargetTypeで検証する
+ */
+public class FavoriteRequestValidation {
+
+    private static final int MAX_TARGET_IDS = 100;
+
+    /**
+     * 対象のIDのバリデーションを実行する
+     *
+     * @param targetId 対象のID
+     * @throws PresentationLayerErrorException 対象のIDが空または正の整数でない場合
+     */
+    public static void validateTargetId(final Long targetId) {
+        if (targetId == null || targetId <= 0) {
+            throw new PresentationLayerErrorException(
+                "対象のIDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * 一括判定する対象のIDのバリデーションを実行する
+     *
+     * @param targetIds 対象のIDのリスト
+     * @throws PresentationLayerErrorException 件数が上限を超えるか、不正なIDを含む場合
+     */
+    public static void validateTargetIds(final List<Long> targetIds) {
+        if (targetIds == null || targetIds.size() > MAX_TARGET_IDS) {
+            throw new PresentationLayerErrorException(
+                String.format("対象のIDは%d件以下で指定する必要があります", MAX_TARGET_IDS),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        targetIds.forEach(FavoriteRequestValidation::validateTargetId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * メイントピックリストのページ取得リクエストのバリデーションクラス
+ */
+public class MaintopicListRequestValidation {
+
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * メイントピックリストのページ取得リクエストのバリデーションを実行する
+     *
+     * @param after 直前のページの最後のメイントピックID（先頭ページの場合はnull）
+     * @param size ページサイズ
+     * @throws PresentationLayerErrorException バリデーションエラーが発生した場合
+     */
+    public static void validate(final Long after, final Integer size) {
+        validateAfter(after);
+        validateSize(size);
+    }
+
+    /**
+     * カーソルのバリデーション
+     */
+    private static void validateAfter(final Long after) {
+        if (after != null && after < 0) {
+            throw new PresentationLayerErrorException(
+                "カーソルは0以上である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * ページサイズのバリデーション
+     */
+    private static void validateSize(final Integer size) {
+        if (size == null) {
+            throw new PresentationLayerErrorException(
+                "ページサイズは必須です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (size < MIN_SIZE) {
+            throw new PresentationLayerErrorException(
+                String.format("ページサイズは%d以上である必要があります", MIN_SIZE),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (size > MAX_SIZE) {
+            throw new PresentationLayerErrorException(
+                String.format("ページサイズは%d以下である必要があります", MAX_SIZE),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
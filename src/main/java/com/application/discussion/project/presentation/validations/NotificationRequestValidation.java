@@ -0,0 +1,56 @@
+package com.application.discussion.project.presentation.validations;
+
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.application.dtos.notifications.NotificationReadRequest;
+import com.application.discussion.project.presentation.exceptions.PresentationLayerErrorException;
+
+/**
+ * 通知リクエストのバリデーションクラス
+ */
+public class NotificationRequestValidation {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private NotificationRequestValidation() {}
+
+    /**
+     * 一覧取得のページ指定のバリデーションを実行する
+     *
+     * @param before 前ページのnextCursor（省略可）
+     * @param size   1ページあたりの件数
+     * @throws PresentationLayerErrorException カーソルが正の整数でない、または件数が範囲外の場合
+     */
+    public static void validatePage(final Long before, final Integer size) {
+        if (before != null && before <= 0) {
+            throw new PresentationLayerErrorException(
+                "カーソルが不正です",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (size == null || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new PresentationLayerErrorException(
+                String.format("1ページあたりの件数は1以上%d以下で指定する必要があります", MAX_PAGE_SIZE),
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * 既読リクエストのバリデーションを実行する
+     *
+     * @param notificationReadRequest 既読リクエスト
+     * @throws PresentationLayerErrorException 通知IDが空または正の整数でない場合
+     */
+    public static void validateRead(final NotificationReadRequest notificationReadRequest) {
+        if (notificationReadRequest == null || notificationReadRequest.getUpToId() == null || notificationReadRequest.getUpToId() <= 0) {
+            throw new PresentationLayerErrorException(
+                "既読にする通知IDは正の整数である必要があります",
+                HttpStatus.BAD_REQUEST,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+}
@@ -20,6 +20,8 @@ import com.application.discussion.project.domain.entities.discussions.Discussion
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
 import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.repositories.NotificationRepository;
 import com.application.discussion.project.domain.services.topics.MaintopicDiscussionDuplicateDomainService;
 import com.application.discussion.project.domain.services.users.UserAuthenticationDomainService;
 
@@ -35,6 +37,15 @@ public class DiscussionCreateServiceImplTests {
     @Mock
     private DiscussionRepository discussionRepository;
 
+    @Mock
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private DiscussionFeedHub discussionFeedHub;
+
     @Mock
     private UserAuthenticationDomainService userAuthenticationDomainService;
 
@@ -99,6 +110,9 @@ public class DiscussionCreateServiceImplTests {
         verify(userAuthenticationDomainService, times(MOCK_WANTED_NUMBER)).getAuthenticatedUser();
         verify(maintopicDiscussionDuplicateDomainService, times(MOCK_WANTED_NUMBER)).isDuplicateDiscussionExists(MAINTOPIC_ID);
         verify(discussionRepository, times(MOCK_WANTED_NUMBER)).createDiscussion(any(Discussion.class));
+        verify(discussionSearchRepository, times(MOCK_WANTED_NUMBER)).index(createdDiscussion);
+        verify(notificationRepository, times(MOCK_WANTED_NUMBER)).publishDiscussionCreated(createdDiscussion);
+        verify(discussionFeedHub, times(MOCK_WANTED_NUMBER)).publish(createdDiscussion);
     }
 
     @Test
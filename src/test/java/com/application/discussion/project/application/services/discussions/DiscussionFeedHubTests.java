@@ -0,0 +1,264 @@
+package com.application.discussion.project.application.services.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub.DiscussionFeedSubscription;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+
+@DisplayName("DiscussionFeedHub単体テスト")
+public class DiscussionFeedHubTests {
+
+    private static final Long MAINTOPIC_ID = 1L;
+    private static final Long OTHER_MAINTOPIC_ID = 2L;
+    private static final int BUFFER_SIZE = 2;
+    private static final long TEST_RETRY_AFTER_SECONDS = 3L;
+    private static final long WAIT_SECONDS = 5L;
+    private static final long ABSENT_WAIT_MILLIS = 200L;
+
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+    private JWTRevocationDenylist jwtRevocationDenylist;
+    private DiscussionFeedHub discussionFeedHub;
+    private JWTVerifiedClaims verifiedClaims;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        backgroundTaskScheduler = new BackgroundTaskScheduler();
+        ReflectionTestUtils.setField(backgroundTaskScheduler, "poolSize", 1);
+        backgroundTaskScheduler.initialize();
+        jwtRevocationDenylist = new JWTRevocationDenylist();
+        ReflectionTestUtils.setField(jwtRevocationDenylist, "jwtTokenExpirationMs", 3_600_000L);
+        discussionFeedHub = new DiscussionFeedHub();
+        ReflectionTestUtils.setField(discussionFeedHub, "backgroundTaskScheduler", backgroundTaskScheduler);
+        ReflectionTestUtils.setField(discussionFeedHub, "jwtRevocationDenylist", jwtRevocationDenylist);
+        ReflectionTestUtils.setField(discussionFeedHub, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(discussionFeedHub, "heartbeatIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(discussionFeedHub, "maxSubscribers", 2);
+        ReflectionTestUtils.setField(discussionFeedHub, "retryAfterSeconds", TEST_RETRY_AFTER_SECONDS);
+        discussionFeedHub.initialize();
+        verifiedClaims = verifiedClaims(UUID.randomUUID(), Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        discussionFeedHub.shutdown();
+        backgroundTaskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("正常系: 投稿された議論が同じメイントピックの購読者にのみ配信されること")
+    void publishDeliversToSameMaintopicOnly() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        RecordingSink otherSink = new RecordingSink();
+        discussionFeedHub.subscribe(MAINTOPIC_ID, sink, verifiedClaims).start(Set.of());
+        discussionFeedHub.subscribe(OTHER_MAINTOPIC_ID, otherSink, verifiedClaims).start(Set.of());
+
+        discussionFeedHub.publish(discussion(10L, MAINTOPIC_ID));
+
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:10");
+        assertThat(otherSink.events.poll(ABSENT_WAIT_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(discussionFeedHub.getDeliveredCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("正常系: 開始前の投稿は保持され、開始時に再送済みの議論を除いて配信されること")
+    void startDeliversBufferedExceptReplayed() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        DiscussionFeedSubscription subscription = discussionFeedHub.subscribe(MAINTOPIC_ID, sink, verifiedClaims);
+        discussionFeedHub.publish(discussion(10L, MAINTOPIC_ID));
+        discussionFeedHub.publish(discussion(11L, MAINTOPIC_ID));
+        assertThat(sink.events.poll(ABSENT_WAIT_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+
+        subscription.start(Set.of(10L));
+
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:11");
+        assertThat(sink.events.poll(ABSENT_WAIT_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("正常系: 配信待ちのない購読者にハートビートが送信されること")
+    void heartbeatIsSentToIdleSubscribers() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        discussionFeedHub.subscribe(MAINTOPIC_ID, sink, verifiedClaims).start(Set.of());
+
+        ReflectionTestUtils.invokeMethod(discussionFeedHub, "sendHeartbeats");
+
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("heartbeat");
+    }
+
+    @Test
+    @DisplayName("異常系: アクセストークンの有効期限を過ぎた購読者はハートビートの送信時に切断されること")
+    void expiredSubscriberIsClosedOnHeartbeat() throws Exception {
+        RecordingSink expiredSink = new RecordingSink();
+        RecordingSink validSink = new RecordingSink();
+        JWTVerifiedClaims expiredClaims = verifiedClaims(
+            UUID.randomUUID(), Instant.now().minusSeconds(3600), Instant.now().minusSeconds(1)
+        );
+        DiscussionFeedSubscription expiredSubscription = discussionFeedHub.subscribe(MAINTOPIC_ID, expiredSink, expiredClaims);
+        expiredSubscription.start(Set.of());
+        discussionFeedHub.subscribe(MAINTOPIC_ID, validSink, verifiedClaims).start(Set.of());
+
+        ReflectionTestUtils.invokeMethod(discussionFeedHub, "sendHeartbeats");
+
+        assertThat(expiredSink.completed.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(expiredSubscription.isClosed()).isTrue();
+        assertThat(validSink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("heartbeat");
+        assertThat(discussionFeedHub.getExpiredCount()).isEqualTo(1L);
+        assertThat(discussionFeedHub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("異常系: ログアウト等でトークンが失効した購読者はハートビートの送信時に切断されること")
+    void revokedSubscriberIsClosedOnHeartbeat() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        DiscussionFeedSubscription subscription = discussionFeedHub.subscribe(MAINTOPIC_ID, sink, verifiedClaims);
+        subscription.start(Set.of());
+
+        jwtRevocationDenylist.revokeTokensIssuedBefore(UUID.fromString(verifiedClaims.getUserId()), Instant.now());
+        ReflectionTestUtils.invokeMethod(discussionFeedHub, "sendHeartbeats");
+
+        assertThat(sink.completed.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(sink.events).doesNotContain("heartbeat");
+        assertThat(discussionFeedHub.getExpiredCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("異常系: バッファが満杯の遅い購読者は投稿を待たせずに切断されること")
+    void slowConsumerIsEvicted() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        RecordingSink slowSink = new RecordingSink() {
+            @Override
+            public void sendDiscussion(final Discussion discussion) throws IOException {
+                sending.countDown();
+                try {
+                    release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendDiscussion(discussion);
+            }
+        };
+        DiscussionFeedSubscription slowSubscription = discussionFeedHub.subscribe(MAINTOPIC_ID, slowSink, verifiedClaims);
+        slowSubscription.start(Set.of());
+        discussionFeedHub.publish(discussion(10L, MAINTOPIC_ID));
+        assertThat(sending.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        for (long discussionId = 11L; discussionId <= 11L + BUFFER_SIZE; discussionId++) {
+            discussionFeedHub.publish(discussion(discussionId, MAINTOPIC_ID));
+        }
+
+        assertThat(slowSink.completed.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowSubscription.isClosed()).isTrue();
+        assertThat(discussionFeedHub.getEvictedCount()).isEqualTo(1L);
+        assertThat(discussionFeedHub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("異常系: 送信に失敗した購読者は購読が解除されること")
+    void disconnectedSubscriberIsRemoved() throws Exception {
+        RecordingSink brokenSink = new RecordingSink() {
+            @Override
+            public void sendDiscussion(final Discussion discussion) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        DiscussionFeedSubscription subscription = discussionFeedHub.subscribe(MAINTOPIC_ID, brokenSink, verifiedClaims);
+        subscription.start(Set.of());
+
+        discussionFeedHub.publish(discussion(10L, MAINTOPIC_ID));
+
+        assertThat(brokenSink.completed.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(discussionFeedHub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("異常系: 購読者数が上限に達している場合は503で拒否され、解除後は再び購読できること")
+    void subscribeRejectsWhenFull() {
+        DiscussionFeedSubscription subscription = discussionFeedHub.subscribe(MAINTOPIC_ID, new RecordingSink(), verifiedClaims);
+        discussionFeedHub.subscribe(OTHER_MAINTOPIC_ID, new RecordingSink(), verifiedClaims);
+
+        assertThatThrownBy(() -> discussionFeedHub.subscribe(MAINTOPIC_ID, new RecordingSink(), verifiedClaims))
+            .isInstanceOfSatisfying(ServiceUnavailableException.class, e -> {
+                assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(TEST_RETRY_AFTER_SECONDS);
+            });
+        assertThat(discussionFeedHub.getRejectedCount()).isEqualTo(1L);
+
+        discussionFeedHub.cancel(subscription);
+
+        assertThat(discussionFeedHub.subscribe(MAINTOPIC_ID, new RecordingSink(), verifiedClaims).isClosed()).isFalse();
+        assertThat(discussionFeedHub.getSubscriberCount()).isEqualTo(2);
+    }
+
+    private static JWTVerifiedClaims verifiedClaims(final UUID userId, final Instant issuedAt, final Instant expiration) {
+        return JWTVerifiedClaims.from(Jwts.claims()
+            .id(userId.toString())
+            .subject("feed-user")
+            .issuedAt(Date.from(issuedAt))
+            .expiration(Date.from(expiration))
+            .build());
+    }
+
+    private static Discussion discussion(final Long discussionId, final Long maintopicId) {
+        final LocalDateTime now = LocalDateTime.now();
+        return Discussion.of(discussionId, "議論内容", maintopicId, UUID.randomUUID(), now, now, null);
+    }
+
+    /**
+     * 送信されたイベントを記録する送信先
+     */
+    private static class RecordingSink implements DiscussionFeedSink {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void sendDiscussion(final Discussion discussion) throws IOException {
+            events.add("discussion:" + discussion.getDiscussionId());
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            events.add("heartbeat");
+        }
+
+        @Override
+        public void sendReset() throws IOException {
+            events.add("reset");
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
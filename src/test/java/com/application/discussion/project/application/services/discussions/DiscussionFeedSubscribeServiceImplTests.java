@@ -0,0 +1,222 @@
+package com.application.discussion.project.application.services.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub.DiscussionFeedSubscription;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTVerifiedClaims;
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.repositories.MaintopicRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
+import com.application.discussion.project.infrastructure.scheduling.BackgroundTaskScheduler;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 購読の開始と再接続時の再送は実際のDiscussionFeedHubで確認し、議論の取得のみモックする
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscussionFeedSubscribeServiceImpl クラスのテスト")
+public class DiscussionFeedSubscribeServiceImplTests {
+
+    private static final Long MAINTOPIC_ID = 1L;
+    private static final Long OTHER_MAINTOPIC_ID = 2L;
+    private static final Long LAST_EVENT_ID = 10L;
+    private static final int REPLAY_LIMIT = 3;
+    private static final long WAIT_SECONDS = 5L;
+    private static final long ABSENT_WAIT_MILLIS = 200L;
+    private static final LocalDateTime LAST_CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private DiscussionRepository discussionRepository;
+
+    @Mock
+    private MaintopicRepository maintopicRepository;
+
+    @InjectMocks
+    private DiscussionFeedSubscribeServiceImpl discussionFeedSubscribeService;
+
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+    private DiscussionFeedHub discussionFeedHub;
+    private JWTVerifiedClaims verifiedClaims;
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        backgroundTaskScheduler = new BackgroundTaskScheduler();
+        ReflectionTestUtils.setField(backgroundTaskScheduler, "poolSize", 1);
+        backgroundTaskScheduler.initialize();
+        final JWTRevocationDenylist jwtRevocationDenylist = new JWTRevocationDenylist();
+        ReflectionTestUtils.setField(jwtRevocationDenylist, "jwtTokenExpirationMs", 3_600_000L);
+        discussionFeedHub = new DiscussionFeedHub();
+        ReflectionTestUtils.setField(discussionFeedHub, "backgroundTaskScheduler", backgroundTaskScheduler);
+        ReflectionTestUtils.setField(discussionFeedHub, "jwtRevocationDenylist", jwtRevocationDenylist);
+        ReflectionTestUtils.setField(discussionFeedHub, "bufferSize", 16);
+        ReflectionTestUtils.setField(discussionFeedHub, "heartbeatIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(discussionFeedHub, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(discussionFeedHub, "retryAfterSeconds", 5L);
+        discussionFeedHub.initialize();
+
+        ReflectionTestUtils.setField(discussionFeedSubscribeService, "discussionFeedHub", discussionFeedHub);
+        ReflectionTestUtils.setField(discussionFeedSubscribeService, "replayLimit", REPLAY_LIMIT);
+
+        verifiedClaims = JWTVerifiedClaims.from(Jwts.claims()
+            .id(UUID.randomUUID().toString())
+            .subject("feed-user")
+            .issuedAt(Date.from(Instant.now().minusSeconds(60)))
+            .expiration(Date.from(Instant.now().plusSeconds(3600)))
+            .build());
+        sink = new RecordingSink();
+    }
+
+    @AfterEach
+    void tearDown() {
+        discussionFeedHub.shutdown();
+        backgroundTaskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("正常系: Last-Event-IDの議論より後に投稿された議論を再送してから配信を開始すること")
+    void serviceReplaysDiscussionsAfterLastEventId() throws Exception {
+        when(maintopicRepository.existsMaintopic(MAINTOPIC_ID)).thenReturn(true);
+        when(discussionRepository.findDiscussionById(LAST_EVENT_ID))
+            .thenReturn(Optional.of(discussion(LAST_EVENT_ID, MAINTOPIC_ID)));
+        when(discussionRepository.findDiscussionsByCursor(
+            eq(MAINTOPIC_ID), eq(DiscussionCursor.of(LAST_CREATED_AT, LAST_EVENT_ID)), eq(false), eq(REPLAY_LIMIT + 1)
+        )).thenReturn(List.of(discussion(11L, MAINTOPIC_ID), discussion(12L, MAINTOPIC_ID)));
+
+        DiscussionFeedSubscription subscription = discussionFeedSubscribeService.service(MAINTOPIC_ID, LAST_EVENT_ID, sink, verifiedClaims);
+        discussionFeedHub.publish(discussion(13L, MAINTOPIC_ID));
+
+        assertThat(subscription.isClosed()).isFalse();
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:11");
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:12");
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:13");
+    }
+
+    @Test
+    @DisplayName("正常系: 取りこぼした議論が再送の上限を超える場合は再送せずにresetを送信すること")
+    void serviceSendsResetWhenTooManyMissed() throws Exception {
+        final List<Discussion> missed = new ArrayList<>();
+        for (long discussionId = 11L; discussionId <= 11L + REPLAY_LIMIT; discussionId++) {
+            missed.add(discussion(discussionId, MAINTOPIC_ID));
+        }
+        when(maintopicRepository.existsMaintopic(MAINTOPIC_ID)).thenReturn(true);
+        when(discussionRepository.findDiscussionById(LAST_EVENT_ID))
+            .thenReturn(Optional.of(discussion(LAST_EVENT_ID, MAINTOPIC_ID)));
+        when(discussionRepository.findDiscussionsByCursor(eq(MAINTOPIC_ID), any(DiscussionCursor.class), eq(false), eq(REPLAY_LIMIT + 1)))
+            .thenReturn(missed);
+
+        DiscussionFeedSubscription subscription = discussionFeedSubscribeService.service(MAINTOPIC_ID, LAST_EVENT_ID, sink, verifiedClaims);
+
+        assertThat(subscription.isClosed()).isFalse();
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("reset");
+        assertThat(sink.events.poll(ABSENT_WAIT_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("正常系: Last-Event-IDが他のメイントピックの議論の場合は再送せずにresetを送信すること")
+    void serviceSendsResetForAnchorOfOtherMaintopic() throws Exception {
+        when(maintopicRepository.existsMaintopic(MAINTOPIC_ID)).thenReturn(true);
+        when(discussionRepository.findDiscussionById(LAST_EVENT_ID))
+            .thenReturn(Optional.of(discussion(LAST_EVENT_ID, OTHER_MAINTOPIC_ID)));
+
+        discussionFeedSubscribeService.service(MAINTOPIC_ID, LAST_EVENT_ID, sink, verifiedClaims);
+
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("reset");
+        verify(discussionRepository, never()).findDiscussionsByCursor(anyLong(), any(), eq(false), eq(REPLAY_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("正常系: 再送の取得中に配信された議論は、再送した議論と重複して送信されないこと")
+    void serviceDoesNotDuplicateReplayedAndBufferedDiscussions() throws Exception {
+        when(maintopicRepository.existsMaintopic(MAINTOPIC_ID)).thenReturn(true);
+        when(discussionRepository.findDiscussionById(LAST_EVENT_ID))
+            .thenReturn(Optional.of(discussion(LAST_EVENT_ID, MAINTOPIC_ID)));
+        when(discussionRepository.findDiscussionsByCursor(eq(MAINTOPIC_ID), any(DiscussionCursor.class), eq(false), eq(REPLAY_LIMIT + 1)))
+            .thenAnswer(invocation -> {
+                discussionFeedHub.publish(discussion(11L, MAINTOPIC_ID));
+                return List.of(discussion(11L, MAINTOPIC_ID));
+            });
+
+        discussionFeedSubscribeService.service(MAINTOPIC_ID, LAST_EVENT_ID, sink, verifiedClaims);
+        discussionFeedHub.publish(discussion(12L, MAINTOPIC_ID));
+
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:11");
+        assertThat(sink.events.poll(WAIT_SECONDS, TimeUnit.SECONDS)).isEqualTo("discussion:12");
+        assertThat(sink.events.poll(ABSENT_WAIT_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("異常系: メイントピックが存在しない場合は404となり、購読しないこと")
+    void serviceThrowsWhenMaintopicNotFound() {
+        when(maintopicRepository.existsMaintopic(MAINTOPIC_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> discussionFeedSubscribeService.service(MAINTOPIC_ID, null, sink, verifiedClaims))
+            .isInstanceOfSatisfying(ApplicationLayerException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThat(discussionFeedHub.getSubscriberCount()).isZero();
+    }
+
+    private static Discussion discussion(final Long discussionId, final Long maintopicId) {
+        return Discussion.of(discussionId, "議論内容", maintopicId, UUID.randomUUID(), LAST_CREATED_AT, LAST_CREATED_AT, null);
+    }
+
+    /**
+     * 送信されたイベントを記録する送信先
+     */
+    private static class RecordingSink implements DiscussionFeedSink {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void sendDiscussion(final Discussion discussion) throws IOException {
+            events.add("discussion:" + discussion.getDiscussionId());
+        }
+
+        @Override
+        public void sendHeartbeat() throws IOException {
+            events.add("heartbeat");
+        }
+
+        @Override
+        public void sendReset() throws IOException {
+            events.add("reset");
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.application.discussion.project.application.services.discussions;
 import com.application.discussion.project.application.dtos.discussions.DiscussionListResponse;
 import com.application.discussion.project.application.dtos.discussions.DiscussionResponse;
 import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionLikeRepository;
 import com.application.discussion.project.domain.repositories.DiscussionRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,18 +13,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +40,9 @@ class DiscussionListServiceImplTests {
     @Mock
     private DiscussionRepository discussionRepository;
 
+    @Mock
+    private DiscussionLikeRepository discussionLikeRepository;
+
     @InjectMocks
     private DiscussionListServiceImpl discussionListService;
 
@@ -58,9 +67,9 @@ class DiscussionListServiceImplTests {
     @Test
     @DisplayName("正常系: 議論リストを取得できること")
     void testServiceReturnsDiscussionList() {
-        Page<Discussion> discussionPage = new PageImpl<>(discussions, pageable, discussions.size());
-        when(discussionRepository.findAllDiscussions(eq(maintopicId), any(Pageable.class)))
-            .thenReturn(discussionPage);
+        when(discussionRepository.findDiscussionSlice(eq(maintopicId), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(discussions, pageable, false));
+        when(discussionRepository.countDiscussions(maintopicId)).thenReturn((long) discussions.size());
 
         DiscussionListResponse response = discussionListService.service(maintopicId, pageable);
 
@@ -71,15 +80,16 @@ class DiscussionListServiceImplTests {
         assertThat(response.getPageSize()).isEqualTo(10);
         assertThat(response.getTotalPages()).isEqualTo(1);
 
-        verify(discussionRepository, times(1)).findAllDiscussions(eq(maintopicId), any(Pageable.class));
+        verify(discussionRepository, times(1)).findDiscussionSlice(eq(maintopicId), any(Pageable.class));
+        verify(discussionRepository, never()).findAllDiscussions(eq(maintopicId), any(Pageable.class));
     }
 
     @Test
     @DisplayName("正常系: 空のリストが返されること")
     void testServiceReturnsEmptyList() {
-        Page<Discussion> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(discussionRepository.findAllDiscussions(eq(maintopicId), any(Pageable.class)))
-            .thenReturn(emptyPage);
+        when(discussionRepository.findDiscussionSlice(eq(maintopicId), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(discussionRepository.countDiscussions(maintopicId)).thenReturn(0L);
 
         DiscussionListResponse response = discussionListService.service(maintopicId, pageable);
 
@@ -90,20 +100,16 @@ class DiscussionListServiceImplTests {
         assertThat(response.getPageSize()).isEqualTo(10);
         assertThat(response.getTotalPages()).isEqualTo(0);
 
-        verify(discussionRepository, times(1)).findAllDiscussions(eq(maintopicId), any(Pageable.class));
+        verify(discussionRepository, times(1)).findDiscussionSlice(eq(maintopicId), any(Pageable.class));
     }
 
     @Test
     @DisplayName("正常系: ページネーション情報が正しく設定されること")
     void testServiceReturnsPaginationInfo() {
         Pageable secondPage = PageRequest.of(1, 2);
-        Page<Discussion> discussionPage = new PageImpl<>(
-            discussions.subList(0, 2), 
-            secondPage, 
-            5
-        );
-        when(discussionRepository.findAllDiscussions(eq(maintopicId), any(Pageable.class)))
-            .thenReturn(discussionPage);
+        when(discussionRepository.findDiscussionSlice(eq(maintopicId), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(discussions.subList(0, 2), secondPage, true));
+        when(discussionRepository.countDiscussions(maintopicId)).thenReturn(5L);
 
         DiscussionListResponse response = discussionListService.service(maintopicId, secondPage);
 
@@ -116,9 +122,9 @@ class DiscussionListServiceImplTests {
     @Test
     @DisplayName("正常系: DiscussionResponseへの変換が正しく行われること")
     void testDiscussionConvertedToDtoCorrectly() {
-        Page<Discussion> discussionPage = new PageImpl<>(discussions, pageable, discussions.size());
-        when(discussionRepository.findAllDiscussions(eq(maintopicId), any(Pageable.class)))
-            .thenReturn(discussionPage);
+        when(discussionRepository.findDiscussionSlice(eq(maintopicId), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(discussions, pageable, false));
+        when(discussionRepository.countDiscussions(maintopicId)).thenReturn((long) discussions.size());
 
         DiscussionListResponse response = discussionListService.service(maintopicId, pageable);
 
@@ -134,6 +140,86 @@ class DiscussionListServiceImplTests {
         assertThat(firstDto.getUpdatedAt()).isEqualTo(firstDiscussion.getUpdatedAt());
     }
 
+    @Test
+    @DisplayName("正常系: カーソル方式の先頭ページで次ページのカーソルのみが返され、件数取得が行われないこと")
+    void testServiceByCursorFirstPageReturnsNextCursorWithoutCount() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Discussion> fetched = List.of(
+            createCursorDiscussion(30L, base.plusMinutes(3)),
+            createCursorDiscussion(20L, base.plusMinutes(2)),
+            createCursorDiscussion(10L, base.plusMinutes(1))
+        );
+        when(discussionRepository.findDiscussionsByCursor(eq(maintopicId), isNull(), eq(true), eq(3)))
+            .thenReturn(fetched);
+
+        DiscussionListResponse response = discussionListService.serviceByCursor(maintopicId, "", null, 2, Sort.Direction.DESC, false);
+
+        assertThat(response.getDiscussions()).extracting(DiscussionResponse::getDiscussionId).containsExactly(30L, 20L);
+        assertThat(response.getNextCursor()).isEqualTo(DiscussionCursor.of(base.plusMinutes(2), 20L).encode());
+        assertThat(response.getPrevCursor()).isNull();
+        assertThat(response.getTotalCount()).isNull();
+        verify(discussionRepository, never()).countDiscussions(anyLong());
+        verify(discussionRepository, never()).findAllDiscussions(eq(maintopicId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("正常系: beforeを指定した場合はカーソルより新しいものを取得し、降順に並べ替えて返すこと")
+    void testServiceByCursorBackwardReversesOrder() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        DiscussionCursor cursor = DiscussionCursor.of(base.plusMinutes(2), 20L);
+        List<Discussion> fetched = List.of(
+            createCursorDiscussion(30L, base.plusMinutes(3)),
+            createCursorDiscussion(40L, base.plusMinutes(4))
+        );
+        when(discussionRepository.findDiscussionsByCursor(eq(maintopicId), eq(cursor), eq(false), eq(3)))
+            .thenReturn(fetched);
+
+        DiscussionListResponse response = discussionListService.serviceByCursor(maintopicId, null, cursor.encode(), 2, Sort.Direction.DESC, false);
+
+        assertThat(response.getDiscussions()).extracting(DiscussionResponse::getDiscussionId).containsExactly(40L, 30L);
+        assertThat(response.getNextCursor()).isEqualTo(DiscussionCursor.of(base.plusMinutes(3), 30L).encode());
+        assertThat(response.getPrevCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("正常系: includeTotalを指定した場合のみ総件数が取得されること")
+    void testServiceByCursorIncludesTotalCountWhenRequested() {
+        when(discussionRepository.findDiscussionsByCursor(eq(maintopicId), isNull(), eq(false), eq(11)))
+            .thenReturn(List.of());
+        when(discussionRepository.countDiscussions(maintopicId)).thenReturn(42L);
+
+        DiscussionListResponse response = discussionListService.serviceByCursor(maintopicId, "", null, 10, Sort.Direction.ASC, true);
+
+        assertThat(response.getDiscussions()).isEmpty();
+        assertThat(response.getTotalCount()).isEqualTo(42);
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getPrevCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("正常系: ページ内の議論のいいね件数が1回の取得で設定されること")
+    void testServiceByCursorAttachesLikeCountsOncePerPage() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Discussion> fetched = List.of(
+            createCursorDiscussion(12L, now),
+            createCursorDiscussion(11L, now.minusMinutes(1))
+        );
+        when(discussionRepository.findDiscussionsByCursor(eq(maintopicId), isNull(), eq(true), eq(11)))
+            .thenReturn(fetched);
+        when(discussionLikeRepository.countLikes(List.of(12L, 11L))).thenReturn(Map.of(12L, 5L, 11L, 0L));
+
+        DiscussionListResponse response = discussionListService.serviceByCursor(maintopicId, "", null, 10, Sort.Direction.DESC, false);
+
+        assertThat(response.getDiscussions())
+            .extracting(DiscussionResponse::getLikeCount)
+            .containsExactly(5L, 0L);
+        verify(discussionLikeRepository, times(1)).countLikes(List.of(12L, 11L));
+    }
+
+    private Discussion createCursorDiscussion(Long id, LocalDateTime createdAt) {
+        return Discussion.of(id, "議論内容" + id, maintopicId, VALID_USER_ID, createdAt, createdAt, null);
+    }
+
     private Discussion createDiscussion(Long id, String paragraph, Long maintopicId, LocalDateTime dateTime) {
         Discussion discussion = Discussion.of(maintopicId, paragraph, maintopicId, VALID_USER_ID, dateTime, dateTime, dateTime);
         return discussion;
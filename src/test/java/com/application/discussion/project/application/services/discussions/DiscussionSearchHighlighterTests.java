@@ -0,0 +1,56 @@
+package com.application.discussion.project.application.services.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DiscussionSearchHighlighter ユニットテスト")
+class DiscussionSearchHighlighterTests {
+
+    @Test
+    @DisplayName("正常系: 大文字・小文字を区別せずに一致箇所を<mark>で囲むこと")
+    void highlightMarksMatchesIgnoringCase() {
+        String highlighted = DiscussionSearchHighlighter.highlight("JavaとKotlinとjava", List.of("java"));
+
+        assertThat(highlighted).isEqualTo("<mark>Java</mark>とKotlinと<mark>java</mark>");
+    }
+
+    @Test
+    @DisplayName("正常系: 重なり合う一致箇所は1つの<mark>にまとめること")
+    void highlightMergesOverlappingMatches() {
+        String highlighted = DiscussionSearchHighlighter.highlight("リモートワークの是非", List.of("リモート", "トワーク"));
+
+        assertThat(highlighted).isEqualTo("<mark>リモートワーク</mark>の是非");
+    }
+
+    @Test
+    @DisplayName("正常系: 本文はHTMLエスケープしてから一致箇所を囲むこと")
+    void highlightEscapesHtml() {
+        String highlighted = DiscussionSearchHighlighter.highlight("<script>alert(1)</script>検索", List.of("検索"));
+
+        assertThat(highlighted).isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt;<mark>検索</mark>");
+    }
+
+    @Test
+    @DisplayName("正常系: 長い本文は最初の一致箇所の前後を切り出し、省略記号を付けること")
+    void highlightExtractsSnippetAroundFirstMatch() {
+        String text = "あ".repeat(300) + "検索" + "い".repeat(300);
+
+        String highlighted = DiscussionSearchHighlighter.highlight(text, List.of("検索"));
+
+        assertThat(highlighted).startsWith("…" + "あ".repeat(40) + "<mark>検索</mark>");
+        assertThat(highlighted).endsWith("い…");
+        assertThat(highlighted.replace("<mark>", "").replace("</mark>", "")).hasSize(162);
+    }
+
+    @Test
+    @DisplayName("正常系: 本文に一致箇所がない場合は本文の先頭を抜粋すること")
+    void highlightReturnsLeadingTextWithoutMatches() {
+        String highlighted = DiscussionSearchHighlighter.highlight("う".repeat(200), List.of("検索"));
+
+        assertThat(highlighted).isEqualTo("う".repeat(160) + "…");
+    }
+}
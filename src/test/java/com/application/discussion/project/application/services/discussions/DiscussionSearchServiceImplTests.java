@@ -0,0 +1,88 @@
+package com.application.discussion.project.application.services.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResponse;
+import com.application.discussion.project.application.dtos.discussions.DiscussionSearchResultResponse;
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscussionSearchServiceImpl ユニットテスト")
+class DiscussionSearchServiceImplTests {
+
+    private static final LocalDateTime TEST_CREATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30);
+
+    @Mock
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    @InjectMocks
+    private DiscussionSearchServiceImpl discussionSearchService;
+
+    @Test
+    @DisplayName("正常系: 1件多く取得できた場合は最後の結果のスコアとIDから次ページのカーソルを生成すること")
+    void serviceReturnsNextCursorWhenMoreResultsExist() {
+        when(discussionSearchRepository.search(eq(SearchKeyword.of("Java")), isNull(), isNull(), eq(3)))
+            .thenReturn(List.of(
+                createHit(5L, "Javaの設計", 2.0),
+                createHit(4L, "Javaの運用", 1.0),
+                createHit(3L, "Javaの歴史", 1.0)
+            ));
+
+        DiscussionSearchResponse response = discussionSearchService.service("Java", null, null, 2);
+
+        assertThat(response.getResults()).extracting(DiscussionSearchResultResponse::getDiscussionId)
+            .containsExactly(5L, 4L);
+        assertThat(response.getResults().get(0).getHighlight()).isEqualTo("<mark>Java</mark>の設計");
+        assertThat(response.getPageSize()).isEqualTo(2);
+        assertThat(DiscussionSearchCursor.decode(response.getNextCursor()))
+            .isEqualTo(DiscussionSearchCursor.of(1.0, 4L));
+    }
+
+    @Test
+    @DisplayName("正常系: 最終ページでは次ページのカーソルを設定せず、受け取ったカーソルとメイントピックIDで検索すること")
+    void serviceOmitsNextCursorOnLastPage() {
+        DiscussionSearchCursor cursor = DiscussionSearchCursor.of(1.0, 4L);
+        when(discussionSearchRepository.search(eq(SearchKeyword.of("java")), eq(10L), eq(cursor), eq(3)))
+            .thenReturn(List.of(createHit(3L, "Javaの歴史", 1.0)));
+
+        DiscussionSearchResponse response = discussionSearchService.service("java", 10L, cursor.encode(), 2);
+
+        assertThat(response.getResults()).hasSize(1);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("異常系: 不正なカーソルの場合は検索せずに例外が発生すること")
+    void serviceThrowsExceptionForInvalidCursor() {
+        assertThatThrownBy(() -> discussionSearchService.service("java", null, "@@invalid@@", 10))
+            .isInstanceOf(DomainLayerErrorException.class);
+
+        verify(discussionSearchRepository, never()).search(any(), any(), any(), anyInt());
+    }
+
+    private DiscussionSearchHit createHit(Long discussionId, String paragraph, double score) {
+        return DiscussionSearchHit.of(discussionId, paragraph, 10L, "プログラミング言語", TEST_CREATED_AT, score);
+    }
+}
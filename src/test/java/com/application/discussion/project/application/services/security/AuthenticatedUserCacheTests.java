@@ -0,0 +1,104 @@
+package com.application.discussion.project.application.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.domain.entities.users.User;
+import com.application.discussion.project.infrastructure.models.users.Users;
+
+@DisplayName("AuthenticatedUserCache単体テスト")
+public class AuthenticatedUserCacheTests {
+
+    private static final UUID TEST_USER_ID = UUID.randomUUID();
+    private static final String TEST_USERNAME = "testuser";
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String TEST_LOGIN_ID = "testloginid";
+    private static final String TEST_PASSWORD = "pAssworD12345";
+
+    private AuthenticatedUserCache authenticatedUserCache;
+    private JWTAuthUserDetails testUserDetails;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedUserCache = new AuthenticatedUserCache();
+        ReflectionTestUtils.setField(authenticatedUserCache, "maxSize", 100);
+        ReflectionTestUtils.setField(authenticatedUserCache, "ttlMs", 60000L);
+
+        Users usersModel = new Users();
+        usersModel.setUserId(TEST_USER_ID);
+        usersModel.setUsername(TEST_USERNAME);
+        usersModel.setEmail(TEST_EMAIL);
+        usersModel.setPassword(TEST_PASSWORD);
+        usersModel.setLoginId(TEST_LOGIN_ID);
+        usersModel.setIsDeleted(false);
+        usersModel.setIsActive(true);
+        testUserDetails = JWTAuthUserDetails.build(usersModel, Set.of());
+
+        LocalDateTime now = LocalDateTime.now();
+        testUser = User.of(TEST_USER_ID, TEST_USERNAME, TEST_EMAIL, TEST_PASSWORD, now, now);
+    }
+
+    @Test
+    @DisplayName("保存した認証情報を取得でき、ヒット数が加算されること")
+    void getUserDetailsReturnsStoredEntryAndCountsHit() {
+        authenticatedUserCache.putUserDetails(TEST_EMAIL, testUserDetails);
+
+        assertThat(authenticatedUserCache.getUserDetails(TEST_EMAIL)).containsSame(testUserDetails);
+        assertThat(authenticatedUserCache.getHitCount()).isEqualTo(1L);
+        assertThat(authenticatedUserCache.getMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("存在しないキーの場合は空を返し、ミス数が加算されること")
+    void getUserDetailsReturnsEmptyAndCountsMiss() {
+        assertThat(authenticatedUserCache.getUserDetails(TEST_EMAIL)).isEmpty();
+        assertThat(authenticatedUserCache.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("TTLが0以下の場合はキャッシュが無効になること")
+    void getUserDetailsReturnsEmptyWhenTtlDisabled() {
+        ReflectionTestUtils.setField(authenticatedUserCache, "ttlMs", 0L);
+        authenticatedUserCache.putUserDetails(TEST_EMAIL, testUserDetails);
+
+        assertThat(authenticatedUserCache.getUserDetails(TEST_EMAIL)).isEmpty();
+        assertThat(authenticatedUserCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("件数上限を超えた場合は最も参照されていないエントリが削除されること")
+    void putUserDetailsEvictsLeastRecentlyUsedEntry() {
+        ReflectionTestUtils.setField(authenticatedUserCache, "maxSize", 2);
+        authenticatedUserCache.putUserDetails("first", testUserDetails);
+        authenticatedUserCache.putUserDetails("second", testUserDetails);
+        authenticatedUserCache.getUserDetails("first");
+        authenticatedUserCache.putUserDetails("third", testUserDetails);
+
+        assertThat(authenticatedUserCache.getUserDetails("first")).isPresent();
+        assertThat(authenticatedUserCache.getUserDetails("second")).isEmpty();
+        assertThat(authenticatedUserCache.getUserDetails("third")).isPresent();
+    }
+
+    @Test
+    @DisplayName("invalidateで指定ユーザーの全てのエントリが削除されること")
+    void invalidateRemovesAllEntriesForUser() {
+        authenticatedUserCache.putUserDetails(TEST_EMAIL, testUserDetails);
+        authenticatedUserCache.putUserDetails(TEST_LOGIN_ID, testUserDetails);
+        authenticatedUserCache.putUser(testUser);
+
+        authenticatedUserCache.invalidate(TEST_USER_ID);
+
+        assertThat(authenticatedUserCache.getUserDetails(TEST_EMAIL)).isEmpty();
+        assertThat(authenticatedUserCache.getUserDetails(TEST_LOGIN_ID)).isEmpty();
+        assertThat(authenticatedUserCache.getUser(TEST_USER_ID)).isEmpty();
+    }
+}
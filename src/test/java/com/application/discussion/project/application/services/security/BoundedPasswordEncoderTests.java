@@ -0,0 +1,88 @@
+package com.application.discussion.project.application.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("BoundedPasswordEncoder単体テスト")
+public class BoundedPasswordEncoderTests {
+
+    private static final String TEST_RAW_PASSWORD = "pAssword1234Q";
+    private static final int TEST_BCRYPT_STRENGTH = 4;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationMetrics authenticationMetrics;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(passwordHashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 4);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "waitTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "retryAfterSeconds", 1L);
+        passwordHashingExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationMetrics = new AuthenticationMetrics();
+        ReflectionTestUtils.setField(authenticationMetrics, "meterRegistry", meterRegistry);
+        authenticationMetrics.initialize();
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(TEST_BCRYPT_STRENGTH),
+            passwordHashingExecutor,
+            authenticationMetrics
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("スレッドプール上でハッシュ化と照合が行われること")
+    void encodeAndMatchesRunOnExecutor() {
+        String encoded = boundedPasswordEncoder.encode(TEST_RAW_PASSWORD);
+
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(boundedPasswordEncoder.matches(TEST_RAW_PASSWORD, encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrongPassword1", encoded)).isFalse();
+        assertThat(passwordHashingExecutor.getSubmittedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("ハッシュ化と照合の処理時間が種別ごとに記録されること")
+    void encodeAndMatchesRecordHashingDuration() {
+        String encoded = boundedPasswordEncoder.encode(TEST_RAW_PASSWORD);
+        boundedPasswordEncoder.matches(TEST_RAW_PASSWORD, encoded);
+        boundedPasswordEncoder.matches("wrongPassword1", encoded);
+
+        assertThat(meterRegistry.get(AuthenticationMetrics.PASSWORD_HASHING_METRIC_NAME).tag("operation", "encode").timer().count())
+            .isEqualTo(1L);
+        assertThat(meterRegistry.get(AuthenticationMetrics.PASSWORD_HASHING_METRIC_NAME).tag("operation", "matches").timer().count())
+            .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("コストファクターが設定値より低いハッシュは再ハッシュ対象と判定されること")
+    void upgradeEncodingDetectsLowerStrength() {
+        String weakerHash = new BCryptPasswordEncoder(TEST_BCRYPT_STRENGTH).encode(TEST_RAW_PASSWORD);
+        BoundedPasswordEncoder strongerEncoder = new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(5),
+            passwordHashingExecutor,
+            authenticationMetrics
+        );
+
+        assertThat(strongerEncoder.upgradeEncoding(weakerHash)).isTrue();
+        assertThat(strongerEncoder.matches(TEST_RAW_PASSWORD, weakerHash)).isTrue();
+    }
+}
@@ -3,6 +3,7 @@ package com.application.discussion.project.application.services.security;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +48,9 @@ public class JWTAuthUserDetailsServiceTests {
     @Mock
     private RolesRepositoryInterface mockRolesRepository;
 
+    @Mock
+    private AuthenticatedUserCache mockAuthenticatedUserCache;
+
     @InjectMocks
     private JWTAuthUserDetailsService jwtAuthUserDetailsService;
 
@@ -90,6 +94,21 @@ public class JWTAuthUserDetailsServiceTests {
         assertThat(actualUserDetails.getAuthorities()).hasSize(1);
         verify(mockUsersRepository).findByEmailOrLoginId(TEST_EMAIL);
         verify(mockRolesRepository).findUserRolesById(TEST_USER_ID);
+        verify(mockAuthenticatedUserCache).putUserDetails(TEST_EMAIL, (JWTAuthUserDetails) actualUserDetails);
+    }
+
+    @Test
+    @DisplayName("キャッシュに存在するユーザーはDBを参照せずにロードできること")
+    void loadUserByUsernameReturnsCachedUserDetailsWithoutRepositoryAccess() {
+        JWTAuthUserDetails cachedUserDetails = JWTAuthUserDetails.build(testUser, testRolesSet);
+        when(mockAuthenticatedUserCache.getUserDetails(TEST_EMAIL))
+            .thenReturn(Optional.of(cachedUserDetails));
+
+        UserDetails actualUserDetails = jwtAuthUserDetailsService.loadUserByUsername(TEST_EMAIL);
+
+        assertThat(actualUserDetails).isSameAs(cachedUserDetails);
+        verify(mockUsersRepository, never()).findByEmailOrLoginId(anyString());
+        verify(mockRolesRepository, never()).findUserRolesById(TEST_USER_ID);
     }
 
     @Test
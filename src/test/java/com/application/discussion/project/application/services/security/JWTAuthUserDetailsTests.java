@@ -20,6 +20,9 @@ import com.application.discussion.project.domain.valueobjects.users.RoleNormalUs
 import com.application.discussion.project.domain.valueobjects.users.RoleType;
 import com.application.discussion.project.infrastructure.models.users.Users;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
 @DisplayName("JWTAuthUserDetails単体テスト")
 public class JWTAuthUserDetailsTests {
 
@@ -260,4 +263,29 @@ public class JWTAuthUserDetailsTests {
         assertThat(actualAuthorities).isNotEmpty();
         assertThat(actualAuthorities).allMatch(auth -> auth instanceof SimpleGrantedAuthority);
     }
+
+    @Test
+    @DisplayName("fromClaimsメソッドでJWTクレームのみからUserDetailsオブジェクトが作成されること")
+    void fromClaims_WithVerifiedClaims_ReturnsUserDetailsWithoutPassword() {
+        Claims claims = Jwts.claims()
+            .id(TEST_USER_ID.toString())
+            .subject(TEST_LOGIN_ID)
+            .add("username", TEST_USERNAME)
+            .add("loginId", TEST_LOGIN_ID)
+            .add("email", TEST_EMAIL)
+            .add("roles", List.of(TEST_ROLE_NAME))
+            .build();
+
+        JWTAuthUserDetails actualUserDetails = JWTAuthUserDetails.fromClaims(JWTVerifiedClaims.from(claims));
+
+        assertThat(actualUserDetails.getUserId()).isEqualTo(TEST_USER_ID);
+        assertThat(actualUserDetails.getUsername()).isEqualTo(TEST_USERNAME);
+        assertThat(actualUserDetails.getEmail()).isEqualTo(TEST_EMAIL);
+        assertThat(actualUserDetails.getLoginId()).isEqualTo(TEST_LOGIN_ID);
+        assertThat(actualUserDetails.getPassword()).isNull();
+        assertThat(actualUserDetails.getIsActive()).isTrue();
+        assertThat(actualUserDetails.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly(TEST_ROLE_NAME);
+    }
 }
@@ -0,0 +1,90 @@
+package com.application.discussion.project.application.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("JWTRevocationDenylist単体テスト")
+public class JWTRevocationDenylistTests {
+
+    private static final long TEST_EXPIRATION_MS = 60000L;
+    private static final UUID TEST_USER_ID = UUID.randomUUID();
+    private static final Instant TEST_REVOKED_AT = Instant.parse("2026-01-01T00:00:00.500Z");
+
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @BeforeEach
+    void setUp() {
+        jwtRevocationDenylist = new JWTRevocationDenylist();
+        ReflectionTestUtils.setField(jwtRevocationDenylist, "jwtTokenExpirationMs", TEST_EXPIRATION_MS);
+    }
+
+    @Test
+    @DisplayName("失効登録のないユーザーのトークンは有効と判定されること")
+    void isRevokedReturnsFalseWhenUserNotRegistered() {
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, TEST_REVOKED_AT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("失効時刻以前に発行されたトークンは失効済みと判定されること")
+    void isRevokedReturnsTrueForTokenIssuedBeforeRevocation() {
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT);
+
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, TEST_REVOKED_AT.minusSeconds(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("失効時刻と同じ秒に再ログインして発行されたトークンは有効と判定されること")
+    void isRevokedReturnsFalseForTokenIssuedInSameSecond() {
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT);
+
+        Instant issuedAt = TEST_REVOKED_AT.truncatedTo(ChronoUnit.SECONDS);
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, issuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("失効時刻の直前の秒に発行されたトークンは失効済みと判定されること")
+    void isRevokedReturnsTrueForTokenIssuedInPreviousSecond() {
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT);
+
+        Instant issuedAt = TEST_REVOKED_AT.truncatedTo(ChronoUnit.SECONDS).minusSeconds(1);
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("失効時刻より後に発行されたトークンは有効と判定されること")
+    void isRevokedReturnsFalseForTokenIssuedAfterRevocation() {
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT);
+
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, TEST_REVOKED_AT.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("古い失効時刻で登録し直しても新しい失効時刻が保持されること")
+    void revokeTokensIssuedBeforeKeepsLatestRevocation() {
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT);
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT.minusSeconds(30));
+
+        assertThat(jwtRevocationDenylist.isRevoked(TEST_USER_ID, TEST_REVOKED_AT.minusSeconds(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("アクセストークンの有効期限を過ぎた失効情報は削除されること")
+    @SuppressWarnings("unchecked")
+    void revokeTokensIssuedBeforeEvictsExpiredEntries() {
+        UUID otherUserId = UUID.randomUUID();
+        jwtRevocationDenylist.revokeTokensIssuedBefore(otherUserId, TEST_REVOKED_AT);
+        jwtRevocationDenylist.revokeTokensIssuedBefore(TEST_USER_ID, TEST_REVOKED_AT.plusMillis(TEST_EXPIRATION_MS * 2));
+
+        Map<UUID, Instant> entries = (Map<UUID, Instant>) ReflectionTestUtils.getField(jwtRevocationDenylist, "revokedBeforeByUserId");
+        assertThat(entries).containsOnlyKeys(TEST_USER_ID);
+    }
+}
@@ -353,4 +353,68 @@ public class JWTUtilsTests {
         assertEquals(400, exception.getCode().value());
         assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
     }
+
+    @Test
+    @DisplayName("parseAndVerifyで1回の解析から全てのクレームを取得できること")
+    void parseAndVerifyReturnsAllClaims() {
+        String token = jwtUtils.generateToken(mockUserDetails);
+
+        JWTVerifiedClaims actualClaims = jwtUtils.parseAndVerify(token);
+
+        assertEquals(TEST_LOGIN_ID, actualClaims.getSubject());
+        assertEquals(TEST_USER_ID.toString(), actualClaims.getUserId());
+        assertEquals(TEST_USERNAME, actualClaims.getUsername());
+        assertEquals(TEST_LOGIN_ID, actualClaims.getLoginId());
+        assertNotNull(actualClaims.getIssuedAt());
+        assertTrue(actualClaims.getExpiration().isAfter(actualClaims.getIssuedAt()));
+    }
+
+    @Test
+    @DisplayName("parseAndVerifyで期限切れのトークンは例外がスローされること")
+    void parseAndVerifyThrowsExceptionForExpiredToken() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenExpirationMs", -1000L);
+        String expiredToken = jwtUtils.generateToken(mockUserDetails);
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenExpirationMs", TEST_EXPIRATION_MS);
+
+        ApplicationLayerException exception = assertThrows(
+            ApplicationLayerException.class,
+            () -> jwtUtils.parseAndVerify(expiredToken)
+        );
+
+        assertEquals("JWT token is expired", exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("秘密鍵の長さが不足している場合でも生成した鍵が使い回され、発行したトークンを検証できること")
+    void parseAndVerifyReusesFallbackKeyWhenSecretTooShort() {
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenSecret", "c2hvcnRTZWNyZXQ=");
+        String token = jwtUtils.generateToken(mockUserDetails);
+
+        JWTVerifiedClaims actualClaims = jwtUtils.parseAndVerify(token);
+
+        assertEquals(TEST_USER_ID.toString(), actualClaims.getUserId());
+    }
+
+    @Test
+    @DisplayName("秘密鍵の設定値が変わった場合は古い鍵で署名されたトークンを拒否すること")
+    void parseAndVerifyRejectsTokenSignedWithPreviousSecret() {
+        String token = jwtUtils.generateToken(mockUserDetails);
+        ReflectionTestUtils.setField(jwtUtils, "jwtTokenSecret", "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=");
+
+        assertThrows(Exception.class, () -> jwtUtils.parseAndVerify(token));
+    }
+
+    @Test
+    @DisplayName("アクセストークンにメールアドレスとロールのクレームが含まれること")
+    void parseAndVerifyReturnsEmailAndRolesClaims() {
+        String token = jwtUtils.generateToken(mockUserDetails);
+        String expectedRole = mockUserDetails.getAuthorities().iterator().next().getAuthority();
+
+        JWTVerifiedClaims actualClaims = jwtUtils.parseAndVerify(token);
+
+        assertEquals(TEST_EMAIL, actualClaims.getEmail());
+        assertTrue(actualClaims.hasRoles());
+        assertEquals(java.util.List.of(expectedRole), actualClaims.getRoles());
+    }
 }
@@ -0,0 +1,108 @@
+package com.application.discussion.project.application.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.application.dtos.exceptions.ServiceUnavailableException;
+
+@DisplayName("PasswordHashingExecutor単体テスト")
+public class PasswordHashingExecutorTests {
+
+    private static final long TEST_RETRY_AFTER_SECONDS = 3L;
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private ExecutorService callers;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(passwordHashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "waitTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "retryAfterSeconds", TEST_RETRY_AFTER_SECONDS);
+        passwordHashingExecutor.initialize();
+        callers = Executors.newFixedThreadPool(2);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("処理結果を呼び出し元に返却すること")
+    void executeReturnsResult() {
+        assertThat(passwordHashingExecutor.execute(() -> "hashed")).isEqualTo("hashed");
+        assertThat(passwordHashingExecutor.getSubmittedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("処理中の実行時例外はそのまま呼び出し元にスローされること")
+    void executeRethrowsRuntimeException() {
+        assertThatThrownBy(() -> passwordHashingExecutor.execute(() -> {
+            throw new IllegalArgumentException("invalid hash");
+        }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("invalid hash");
+    }
+
+    @Test
+    @DisplayName("実行中と待機キューが満杯の場合は503で即座に拒否されること")
+    void executeRejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        callers.submit(() -> passwordHashingExecutor.execute(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> passwordHashingExecutor.execute(() -> release.await(5, TimeUnit.SECONDS)));
+        waitUntilQueued(1);
+
+        assertThatThrownBy(() -> passwordHashingExecutor.execute(() -> "hashed"))
+            .isInstanceOfSatisfying(ServiceUnavailableException.class, e -> {
+                assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(TEST_RETRY_AFTER_SECONDS);
+            });
+        assertThat(passwordHashingExecutor.getRejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("待機時間の上限を超えた場合は503で拒否されること")
+    void executeRejectsWhenWaitTimesOut() throws Exception {
+        ReflectionTestUtils.setField(passwordHashingExecutor, "waitTimeoutMs", 50L);
+        CountDownLatch started = new CountDownLatch(1);
+        callers.submit(() -> passwordHashingExecutor.execute(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> passwordHashingExecutor.execute(() -> "hashed"))
+            .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(passwordHashingExecutor.getTimeoutCount()).isEqualTo(1L);
+    }
+
+    private void waitUntilQueued(final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (passwordHashingExecutor.getQueueDepth() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(passwordHashingExecutor.getQueueDepth()).isEqualTo(expected);
+    }
+}
@@ -41,6 +41,9 @@ public class MaintopicCreateServiceImplTest {
     @Mock
     private UserAuthenticationDomainService userAuthenticationDomainService;
 
+    @Mock
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
     @InjectMocks
     private MaintopicCreateServiceImpl maintopicCreateServiceImpl;
 
@@ -96,6 +99,7 @@ public class MaintopicCreateServiceImplTest {
         assertEquals(mockMaintopic.getDescription(), actualResult.getDescription());
         verify(userAuthenticationDomainService, times(1)).getAuthenticatedUser();
         verify(maintopicRepository, times(1)).createMaintopic(any(Maintopic.class), eq(TEST_UUID));
+        verify(maintopicListSnapshotCache, times(1)).invalidate();
     }
 
     @Test
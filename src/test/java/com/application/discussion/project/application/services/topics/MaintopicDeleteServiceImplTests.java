@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
 import com.application.discussion.project.infrastructure.repositories.topics.MaintopicRepositoryImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +49,12 @@ public class MaintopicDeleteServiceImplTests {
     @Mock
     private MaintopicRepositoryImpl maintopicRepository;
 
+    @Mock
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
+    @Mock
+    private DiscussionSearchRepository discussionSearchRepository;
+
     @InjectMocks
     private MaintopicDeleteServiceImpl maintopicDeleteService;
 
@@ -92,6 +99,8 @@ public class MaintopicDeleteServiceImplTests {
         assertNotNull(response);
         verify(maintopicRepository, times(1)).existsMaintopic(VALID_TOPIC_ID);
         verify(maintopicRepository, times(1)).deleteMaintopic(VALID_TOPIC_ID);
+        verify(maintopicListSnapshotCache, times(1)).invalidate();
+        verify(discussionSearchRepository, times(1)).refreshMaintopic(VALID_TOPIC_ID);
     }
 
     @Test
@@ -106,6 +115,7 @@ public class MaintopicDeleteServiceImplTests {
         assertNotNull(response);
         assertEquals(NON_EXISTENT_TOPIC_MESSAGE, response.getMessage());
         verify(maintopicRepository, never()).deleteMaintopic(DOES_NOT_EXIST_TOPIC_ID);
+        verify(maintopicListSnapshotCache, never()).invalidate();
     }
 
     @Test
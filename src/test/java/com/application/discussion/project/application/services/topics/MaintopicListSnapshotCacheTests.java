@@ -0,0 +1,79 @@
+package com.application.discussion.project.application.services.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+
+@DisplayName("MaintopicListSnapshotCache単体テスト")
+public class MaintopicListSnapshotCacheTests {
+
+    private static final LocalDateTime TEST_DATETIME = LocalDateTime.of(2025, 12, 31, 10, 10, 10);
+
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+    private List<MaintopicListResponse> testMaintopics;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        maintopicListSnapshotCache = new MaintopicListSnapshotCache();
+        testMaintopics = List.of(
+            new MaintopicListResponse(1L, "Sample Topic 1", "Description 1", TEST_DATETIME, TEST_DATETIME, false, false)
+        );
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("同じバージョンの間は読み込み処理を1回だけ実行すること")
+    void getOrLoadLoadsOncePerVersion() {
+        maintopicListSnapshotCache.getOrLoad(this::load);
+        List<MaintopicListResponse> cached = maintopicListSnapshotCache.getOrLoad(this::load);
+
+        assertThat(cached).isEqualTo(testMaintopics);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("無効化後は再度読み込み、ETagが変わること")
+    void invalidateForcesReloadAndChangesEntityTag() {
+        maintopicListSnapshotCache.getOrLoad(this::load);
+        String entityTagBeforeInvalidate = maintopicListSnapshotCache.currentEntityTag();
+
+        maintopicListSnapshotCache.invalidate();
+        maintopicListSnapshotCache.getOrLoad(this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(maintopicListSnapshotCache.currentEntityTag()).isNotEqualTo(entityTagBeforeInvalidate);
+    }
+
+    @Test
+    @DisplayName("読み込み中に無効化された場合は読み込んだリストを保存しないこと")
+    void getOrLoadDoesNotStoreSnapshotInvalidatedDuringLoad() {
+        maintopicListSnapshotCache.getOrLoad(() -> {
+            maintopicListSnapshotCache.invalidate();
+            return load();
+        });
+        maintopicListSnapshotCache.getOrLoad(this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ETagはダブルクォートで囲まれた強いETagであること")
+    void currentEntityTagIsStrong() {
+        assertThat(maintopicListSnapshotCache.currentEntityTag()).startsWith("\"").endsWith("\"");
+        assertThat(maintopicListSnapshotCache.currentEntityTag("0-20")).startsWith("\"").endsWith("-0-20\"");
+    }
+
+    private List<MaintopicListResponse> load() {
+        loadCount.incrementAndGet();
+        return testMaintopics;
+    }
+}
@@ -28,6 +28,7 @@ import com.application.discussion.project.domain.valueobjects.topics.Description
 import com.application.discussion.project.domain.valueobjects.topics.Title;
 import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
 import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
 import com.application.discussion.project.infrastructure.repositories.topics.MaintopicRepositoryImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +37,12 @@ public class MaintopicUpdateServiceImplTests {
     @Mock
     private MaintopicRepositoryImpl maintopicRepository;
 
+    @Mock
+    private MaintopicListSnapshotCache maintopicListSnapshotCache;
+
+    @Mock
+    private DiscussionSearchRepository discussionSearchRepository;
+
     @InjectMocks
     private MaintopicUpdateServiceImpl maintopicUpdateService;
 
@@ -120,6 +127,8 @@ public class MaintopicUpdateServiceImplTests {
         verify(maintopicRepository, times(1)).findMaintopicById(maintopicId);
         verify(existingMaintopicMock, times(1)).update(any(Title.class), any(Description.class));
         verify(maintopicRepository, times(1)).updateMaintopic(maintopicEntity);
+        verify(maintopicListSnapshotCache, times(1)).invalidate();
+        verify(discussionSearchRepository, times(1)).refreshMaintopic(maintopicId);
     }
 
     @Test
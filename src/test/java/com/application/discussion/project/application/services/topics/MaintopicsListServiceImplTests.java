@@ -1,7 +1,9 @@
 package com.application.discussion.project.application.services.topics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,14 +15,17 @@ import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+import com.application.discussion.project.application.dtos.topics.MaintopicPageResponse;
 import com.application.discussion.project.domain.entities.topics.Maintopic;
 import com.application.discussion.project.infrastructure.repositories.topics.MaintopicRepositoryImpl;
 
@@ -31,6 +36,9 @@ public class MaintopicsListServiceImplTests {
     @Mock
     private MaintopicRepositoryImpl maintopicRepository;
 
+    @Spy
+    private MaintopicListSnapshotCache maintopicListSnapshotCache = new MaintopicListSnapshotCache();
+
     @InjectMocks
     private MaintopicsListServiceImpl maintopicsListServiceImpl;
 
@@ -100,4 +108,70 @@ public class MaintopicsListServiceImplTests {
         verify(maintopicRepository, times(1)).findMaintopicList();
     }
 
+    @Test
+    @DisplayName("2回目以降の取得ではスナップショットを返却し、リポジトリを呼び出さないこと")
+    void testGetMaintopicListReturnsSnapshot() {
+        when(maintopicRepository.findMaintopicList()).thenReturn(Arrays.asList(maintopic1, maintopic2));
+
+        List<MaintopicListResponse> first = maintopicsListServiceImpl.service();
+        List<MaintopicListResponse> second = maintopicsListServiceImpl.service();
+
+        assertEquals(2, second.size());
+        assertEquals(first, second);
+        verify(maintopicRepository, times(1)).findMaintopicList();
+    }
+
+    @Test
+    @DisplayName("スナップショットが無効化された場合はリポジトリから再取得し、ETagが変わること")
+    void testGetMaintopicListReloadsAfterInvalidate() {
+        when(maintopicRepository.findMaintopicList()).thenReturn(Arrays.asList(maintopic1, maintopic2));
+        maintopicsListServiceImpl.service();
+        String entityTagBeforeInvalidate = maintopicsListServiceImpl.currentEntityTag();
+
+        maintopicListSnapshotCache.invalidate();
+        maintopicsListServiceImpl.service();
+
+        assertNotEquals(entityTagBeforeInvalidate, maintopicsListServiceImpl.currentEntityTag());
+        verify(maintopicRepository, times(2)).findMaintopicList();
+    }
+
+    @Test
+    @DisplayName("次ページが存在する場合は最後のメイントピックIDを次ページのカーソルとして返却すること")
+    void testGetMaintopicPageWithNextCursor() {
+        Maintopic maintopic3 = Maintopic.of(3L, "Sample Topic 3", "Description for Sample Topic 3", UUID.randomUUID(),
+            LocalDateTime.of(2025, 12, 31, 10, 10, 10), LocalDateTime.of(2025, 12, 31, 10, 20, 10), false, false);
+        when(maintopicRepository.findMaintopicsAfter(0L, 3)).thenReturn(Arrays.asList(maintopic1, maintopic2, maintopic3));
+
+        MaintopicPageResponse response = maintopicsListServiceImpl.serviceByCursor(null, 2);
+
+        assertEquals(2, response.getMaintopics().size());
+        assertEquals(2, response.getPageSize());
+        assertEquals(2L, response.getNextCursor());
+        verify(maintopicRepository, times(1)).findMaintopicsAfter(0L, 3);
+    }
+
+    @Test
+    @DisplayName("最終ページの場合は次ページのカーソルを返却しないこと")
+    void testGetMaintopicPageWithoutNextCursor() {
+        when(maintopicRepository.findMaintopicsAfter(1L, 3)).thenReturn(Arrays.asList(maintopic2));
+
+        MaintopicPageResponse response = maintopicsListServiceImpl.serviceByCursor(1L, 2);
+
+        assertEquals(1, response.getMaintopics().size());
+        assertEquals(2L, response.getMaintopics().get(0).getMaintopicId());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("ページ位置が異なる場合は異なるETagを返却すること")
+    void testCurrentEntityTagDiffersByPage() {
+        assertNotEquals(
+            maintopicsListServiceImpl.currentEntityTag(null, 20),
+            maintopicsListServiceImpl.currentEntityTag(20L, 20)
+        );
+        assertEquals(
+            maintopicsListServiceImpl.currentEntityTag(null, 20),
+            maintopicsListServiceImpl.currentEntityTag(0L, 20)
+        );
+    }
 }
@@ -25,7 +25,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
 import com.application.discussion.project.application.dtos.users.LogoutResponseDTO;
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
 import com.application.discussion.project.application.services.security.JWTUtils;
 import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
 
@@ -44,6 +46,12 @@ public class AuthLogoutServiceImplTests {
     @Mock
     private RefreshTokenRepository mockRefreshTokenRepository;
 
+    @Mock
+    private JWTRevocationDenylist mockJwtRevocationDenylist;
+
+    @Mock
+    private AuthenticatedUserCache mockAuthenticatedUserCache;
+
     @Mock
     private Authentication mockAuthentication;
 
@@ -92,6 +100,8 @@ public class AuthLogoutServiceImplTests {
         assertThat(actualResponse.getLogoutResponse().getSuccess()).isTrue();
         assertThat(actualResponse.getJwtCookie()).isEqualTo(expectedClearRefreshCookie);
         verify(mockRefreshTokenRepository, times(1)).revokeAllByUserId(TEST_USER_ID);
+        verify(mockJwtRevocationDenylist, times(1)).revokeTokensIssuedBefore(org.mockito.ArgumentMatchers.eq(TEST_USER_ID), org.mockito.ArgumentMatchers.any());
+        verify(mockAuthenticatedUserCache, times(1)).invalidate(TEST_USER_ID);
         verify(mockJwtUtils, times(1)).getClearRefreshTokenCookie();
         mockedSecurityContextHolder.verify(SecurityContextHolder::clearContext, times(1));
     }
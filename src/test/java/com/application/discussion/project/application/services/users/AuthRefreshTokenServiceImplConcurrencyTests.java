@@ -0,0 +1,161 @@
+package com.application.discussion.project.application.services.users;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
+import com.application.discussion.project.application.dtos.users.AuthRefreshTokenServiceResult;
+import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
+import com.application.discussion.project.application.services.security.JWTUtils;
+import com.application.discussion.project.domain.entities.users.RefreshToken;
+import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+import com.application.discussion.project.infrastructure.repositories.users.JpaRefreshTokenRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * 同じリフレッシュトークンによる同時リクエストのうち、再発行に成功するのが1件のみであることを確認する
+ * また、同時の再発行で敗れたリクエストでは失効させず、再利用を検出した場合の失効はコミットされることを確認する
+ * 各リクエストが別々のトランザクションで実行されるよう、テストメソッドをトランザクションで囲まない
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("AuthRefreshTokenServiceImpl 同時実行のテスト")
+class AuthRefreshTokenServiceImplConcurrencyTests {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private AuthRefreshTokenService authRefreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private JWTRevocationDenylist jwtRevocationDenylist;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${springboot.app.cookies.refresh.name}")
+    private String refreshCookieName;
+
+    private RepositoryTestFixture fixture;
+    private Users user;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        user = fixture.createUser("refreshconcurrencyuser");
+
+        refreshToken = jwtUtils.generateRefreshToken(JWTAuthUserDetails.build(user, Set.of()));
+        refreshTokenRepository.save(RefreshToken.create(
+            user.getUserId(),
+            jwtUtils.hashToken(refreshToken),
+            LocalDateTime.now().plusHours(1)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 同じリフレッシュトークンで同時に再発行しても成功するのは1件のみであること")
+    void onlyOneConcurrentRefreshSucceeds() throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<AuthRefreshTokenServiceResult>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    MockHttpServletRequest request = new MockHttpServletRequest();
+                    request.setCookies(new Cookie(refreshCookieName, refreshToken));
+                    startSignal.await();
+                    try {
+                        return authRefreshTokenService.service(request);
+                    } catch (RuntimeException exception) {
+                        return null;
+                    }
+                }));
+            }
+            startSignal.countDown();
+
+            List<AuthRefreshTokenServiceResult> succeeded = new ArrayList<>();
+            for (Future<AuthRefreshTokenServiceResult> result : results) {
+                AuthRefreshTokenServiceResult serviceResult = result.get(30, TimeUnit.SECONDS);
+                if (serviceResult != null) {
+                    succeeded.add(serviceResult);
+                }
+            }
+
+            assertThat(succeeded).hasSize(1);
+            assertThat(jpaRefreshTokenRepository.findByTokenHash(jwtUtils.hashToken(refreshToken)))
+                .hasValueSatisfying(token -> assertThat(token.getIsUsed()).isTrue());
+            assertThat(jpaRefreshTokenRepository.findAllByUserUserIdAndIsRevokedFalse(user.getUserId())).hasSize(2);
+            String winnerAccessToken = succeeded.get(0).getRefreshTokenResponse().getAccessToken();
+            assertThat(jwtRevocationDenylist.isRevoked(
+                user.getUserId(),
+                jwtUtils.parseAndVerify(winnerAccessToken).getIssuedAt()
+            )).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("異常系: 猶予時間を過ぎた使用済みトークンの再利用では全トークンの失効がコミットされること")
+    void reuseAfterGraceRevokesAllTokensPersistently() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(refreshCookieName, refreshToken));
+        authRefreshTokenService.service(request);
+        fixture.executeInTransaction(() -> entityManager
+            .createQuery("update RefreshTokens t set t.updatedAt = :usedAt where t.tokenHash = :tokenHash")
+            .setParameter("usedAt", LocalDateTime.now().minusHours(1))
+            .setParameter("tokenHash", jwtUtils.hashToken(refreshToken))
+            .executeUpdate());
+
+        MockHttpServletRequest reuseRequest = new MockHttpServletRequest();
+        reuseRequest.setCookies(new Cookie(refreshCookieName, refreshToken));
+        assertThatThrownBy(() -> authRefreshTokenService.service(reuseRequest))
+            .isInstanceOf(ApplicationLayerException.class);
+
+        assertThat(jpaRefreshTokenRepository.findAllByUserUserIdAndIsRevokedFalse(user.getUserId())).isEmpty();
+    }
+}
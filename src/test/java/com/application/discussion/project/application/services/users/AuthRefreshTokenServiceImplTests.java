@@ -3,6 +3,7 @@ package com.application.discussion.project.application.services.users;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +27,7 @@ import com.application.discussion.project.application.dtos.exceptions.Applicatio
 import com.application.discussion.project.application.dtos.users.AuthRefreshTokenServiceResult;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetailsService;
+import com.application.discussion.project.application.services.security.JWTRevocationDenylist;
 import com.application.discussion.project.application.services.security.JWTUtils;
 import com.application.discussion.project.domain.entities.users.RefreshToken;
 import com.application.discussion.project.domain.repositories.users.RefreshTokenRepository;
@@ -54,6 +56,9 @@ public class AuthRefreshTokenServiceImplTests {
     @Mock
     private RefreshTokenRepository mockRefreshTokenRepository;
 
+    @Mock
+    private JWTRevocationDenylist mockJwtRevocationDenylist;
+
     @Mock
     private HttpServletRequest mockRequest;
 
@@ -63,15 +68,6 @@ public class AuthRefreshTokenServiceImplTests {
     @Test
     @DisplayName("有効なリフレッシュトークンで新しいアクセストークンとCookieを返す")
     public void serviceReturnsNewAccessTokenAndRefreshCookie() {
-        RefreshToken mockStoredToken = RefreshToken.reBuild(
-            TEST_TOKEN_ID,
-            TEST_USER_ID,
-            TEST_OLD_TOKEN_HASH,
-            LocalDateTime.now().plusMinutes(30),
-            false,
-            false,
-            LocalDateTime.now().minusMinutes(1)
-        );
         JWTAuthUserDetails mockUserDetails = new JWTAuthUserDetails(
             TEST_USER_ID,
             "test-user",
@@ -91,7 +87,8 @@ public class AuthRefreshTokenServiceImplTests {
         when(mockJwtUtils.getRefreshTokenFromCookies(mockRequest)).thenReturn(TEST_REFRESH_TOKEN);
         when(mockJwtUtils.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
         when(mockJwtUtils.hashToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_OLD_TOKEN_HASH);
-        when(mockRefreshTokenRepository.findByTokenHash(TEST_OLD_TOKEN_HASH)).thenReturn(Optional.of(mockStoredToken));
+        when(mockJwtUtils.getUserIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_USER_ID.toString());
+        when(mockRefreshTokenRepository.markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID)).thenReturn(true);
         when(mockJwtUtils.getEmailOrLoginIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_LOGIN_ID);
         when(mockJwtAuthUserDetailsService.loadUserByUsername(TEST_LOGIN_ID)).thenReturn(mockUserDetails);
         when(mockJwtUtils.generateToken(mockUserDetails)).thenReturn(TEST_NEW_ACCESS_TOKEN);
@@ -106,8 +103,9 @@ public class AuthRefreshTokenServiceImplTests {
         assertThat(actualResult.getRefreshTokenResponse()).isNotNull();
         assertThat(actualResult.getRefreshTokenResponse().getAccessToken()).isEqualTo(TEST_NEW_ACCESS_TOKEN);
         assertThat(actualResult.getRefreshTokenCookie()).isEqualTo(expectedCookie);
-        verify(mockRefreshTokenRepository).markAsUsed(TEST_TOKEN_ID);
+        verify(mockRefreshTokenRepository).markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID);
         verify(mockRefreshTokenRepository).save(any(RefreshToken.class));
+        verify(mockRefreshTokenRepository, never()).findByTokenHash(any());
     }
 
     @Test
@@ -121,7 +119,7 @@ public class AuthRefreshTokenServiceImplTests {
             .extracting("status")
             .isEqualTo(HttpStatus.UNAUTHORIZED);
 
-        verify(mockRefreshTokenRepository, never()).findByTokenHash(any());
+        verify(mockRefreshTokenRepository, never()).markAsUsedIfValid(any(), any());
     }
 
     @Test
@@ -130,6 +128,8 @@ public class AuthRefreshTokenServiceImplTests {
         when(mockJwtUtils.getRefreshTokenFromCookies(mockRequest)).thenReturn(TEST_REFRESH_TOKEN);
         when(mockJwtUtils.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
         when(mockJwtUtils.hashToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_OLD_TOKEN_HASH);
+        when(mockJwtUtils.getUserIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_USER_ID.toString());
+        when(mockRefreshTokenRepository.markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID)).thenReturn(false);
         when(mockRefreshTokenRepository.findByTokenHash(TEST_OLD_TOKEN_HASH)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authRefreshTokenService.service(mockRequest))
@@ -138,7 +138,8 @@ public class AuthRefreshTokenServiceImplTests {
             .extracting("status")
             .isEqualTo(HttpStatus.UNAUTHORIZED);
 
-        verify(mockRefreshTokenRepository, never()).markAsUsed(any());
+        verify(mockRefreshTokenRepository, never()).revokeAllByUserId(any());
+        verify(mockRefreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 
     @Test
@@ -157,6 +158,8 @@ public class AuthRefreshTokenServiceImplTests {
         when(mockJwtUtils.getRefreshTokenFromCookies(mockRequest)).thenReturn(TEST_REFRESH_TOKEN);
         when(mockJwtUtils.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
         when(mockJwtUtils.hashToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_OLD_TOKEN_HASH);
+        when(mockJwtUtils.getUserIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_USER_ID.toString());
+        when(mockRefreshTokenRepository.markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID)).thenReturn(false);
         when(mockRefreshTokenRepository.findByTokenHash(TEST_OLD_TOKEN_HASH)).thenReturn(Optional.of(usedToken));
 
         assertThatThrownBy(() -> authRefreshTokenService.service(mockRequest))
@@ -166,7 +169,40 @@ public class AuthRefreshTokenServiceImplTests {
             .isEqualTo(HttpStatus.UNAUTHORIZED);
 
         verify(mockRefreshTokenRepository).revokeAllByUserId(TEST_USER_ID);
-        verify(mockRefreshTokenRepository, never()).markAsUsed(any());
+        verify(mockJwtRevocationDenylist).revokeTokensIssuedBefore(eq(TEST_USER_ID), any());
+        verify(mockRefreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("同時の再発行で直前に使用済みになったトークンの場合は失効させずに例外をスローする")
+    public void serviceDoesNotRevokeWhenTokenWasUsedByConcurrentRefresh() {
+        RefreshToken usedToken = RefreshToken.reBuild(
+            TEST_TOKEN_ID,
+            TEST_USER_ID,
+            TEST_OLD_TOKEN_HASH,
+            LocalDateTime.now().plusMinutes(10),
+            true,
+            false,
+            LocalDateTime.now().minusMinutes(1)
+        );
+
+        when(mockJwtUtils.getRefreshTokenFromCookies(mockRequest)).thenReturn(TEST_REFRESH_TOKEN);
+        when(mockJwtUtils.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
+        when(mockJwtUtils.hashToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_OLD_TOKEN_HASH);
+        when(mockJwtUtils.getUserIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_USER_ID.toString());
+        when(mockRefreshTokenRepository.markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID)).thenReturn(false);
+        when(mockRefreshTokenRepository.findByTokenHash(TEST_OLD_TOKEN_HASH)).thenReturn(Optional.of(usedToken));
+        when(mockRefreshTokenRepository.isUsedSince(eq(TEST_OLD_TOKEN_HASH), any(LocalDateTime.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> authRefreshTokenService.service(mockRequest))
+            .isInstanceOf(ApplicationLayerException.class)
+            .hasMessage("リフレッシュトークンが無効です")
+            .extracting("status")
+            .isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        verify(mockRefreshTokenRepository, never()).revokeAllByUserId(any());
+        verify(mockJwtRevocationDenylist, never()).revokeTokensIssuedBefore(any(), any());
+        verify(mockRefreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 
     @Test
@@ -185,6 +221,8 @@ public class AuthRefreshTokenServiceImplTests {
         when(mockJwtUtils.getRefreshTokenFromCookies(mockRequest)).thenReturn(TEST_REFRESH_TOKEN);
         when(mockJwtUtils.validateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(true);
         when(mockJwtUtils.hashToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_OLD_TOKEN_HASH);
+        when(mockJwtUtils.getUserIdFromRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(TEST_USER_ID.toString());
+        when(mockRefreshTokenRepository.markAsUsedIfValid(TEST_OLD_TOKEN_HASH, TEST_USER_ID)).thenReturn(false);
         when(mockRefreshTokenRepository.findByTokenHash(TEST_OLD_TOKEN_HASH)).thenReturn(Optional.of(expiredToken));
 
         assertThatThrownBy(() -> authRefreshTokenService.service(mockRequest))
@@ -193,7 +231,7 @@ public class AuthRefreshTokenServiceImplTests {
             .extracting("status")
             .isEqualTo(HttpStatus.UNAUTHORIZED);
 
-        verify(mockRefreshTokenRepository, never()).markAsUsed(any());
+        verify(mockRefreshTokenRepository, never()).revokeAllByUserId(any());
         verify(mockRefreshTokenRepository, never()).save(any(RefreshToken.class));
     }
 }
@@ -17,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,7 +25,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import com.application.discussion.project.application.dtos.exceptions.ApplicationLayerException;
 import com.application.discussion.project.application.dtos.users.SignUpRequest;
 import com.application.discussion.project.application.dtos.users.SignUpResponse;
 import com.application.discussion.project.domain.entities.users.Role;
@@ -92,7 +92,6 @@ class UserRegistrationServiceImplTests {
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(true);
         when(mockRolesRepository.findByRoleName(any(RoleType.class))).thenReturn(mockRole);
@@ -181,14 +180,13 @@ class UserRegistrationServiceImplTests {
     }
 
     @Test
-    @DisplayName("正常系：パスワードが正常にハッシュ化されて正常にユーザー登録できること")
+    @DisplayName("正常系：パスワードのハッシュ化は1回のみ行い、ハッシュの再照合を行わずにユーザー登録できること")
     void service_withPasswordHashedSuccessfully_registersUserSuccessfully() {
         User mockSavedUser = createMockSavedUser();
         Role mockRole = createMockRole();
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(true);
         when(mockRolesRepository.findByRoleName(any(RoleType.class))).thenReturn(mockRole);
@@ -199,21 +197,7 @@ class UserRegistrationServiceImplTests {
 
         assertThat(actual).isNotNull();
         verify(mockPasswordEncoder).encode(anyString());
-        verify(mockPasswordEncoder).matches(TEST_PASSWORD, TEST_HASHED_PASSWORD);
-    }
-
-    @Test
-    @DisplayName("異常系：パスワードハッシュ検証失敗時にApplicationLayerExceptionがスローされること")
-    void service_whenPasswordHashVerificationFails_throwsApplicationLayerException() {
-        doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
-        when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(false);
-
-        assertThatThrownBy(() -> userRegistrationService.service(signUpRequest))
-            .isInstanceOf(ApplicationLayerException.class)
-            .hasMessageContaining("不明なエラーが発生しました")
-            .extracting("status")
-            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        verify(mockPasswordEncoder, never()).matches(anyString(), anyString());
     }
 
     @Test
@@ -224,7 +208,6 @@ class UserRegistrationServiceImplTests {
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(true);
         when(mockRolesRepository.findByRoleName(any(RoleType.class))).thenReturn(mockRole);
@@ -245,7 +228,6 @@ class UserRegistrationServiceImplTests {
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(false);
         when(mockRolesRepository.saveRole(any(Role.class))).thenReturn(mockRole);
@@ -266,7 +248,6 @@ class UserRegistrationServiceImplTests {
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(true);
         when(mockRolesRepository.findByRoleName(any(RoleType.class))).thenReturn(mockRole);
@@ -288,7 +269,6 @@ class UserRegistrationServiceImplTests {
         
         doNothing().when(mockUserRegistrationDomainService).ensureEmailIsUnique(any(Email.class));
         when(mockPasswordEncoder.encode(anyString())).thenReturn(TEST_HASHED_PASSWORD);
-        when(mockPasswordEncoder.matches(TEST_PASSWORD, TEST_HASHED_PASSWORD)).thenReturn(true);
         when(mockUsersRepository.save(any(User.class))).thenReturn(mockSavedUser);
         when(mockRoleRegistrationDomainService.ensureRoleIsUnique(any(RoleType.class))).thenReturn(true);
         when(mockRolesRepository.findByRoleName(any(RoleType.class))).thenReturn(mockRole);
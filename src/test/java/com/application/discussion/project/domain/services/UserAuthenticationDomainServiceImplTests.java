@@ -26,6 +26,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.application.services.security.JWTAuthUserDetails;
 import com.application.discussion.project.domain.entities.users.User;
 import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
@@ -39,6 +40,9 @@ public class UserAuthenticationDomainServiceImplTests {
     @Mock
     private UsersRepositoryInterface usersRepository;
 
+    @Mock
+    private AuthenticatedUserCache authenticatedUserCache;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -91,6 +95,25 @@ public class UserAuthenticationDomainServiceImplTests {
             assertEquals(TEST_USERNAME, actualResult.getUserName().value());
             assertEquals(TEST_EMAIL, actualResult.getEmail().value());
             verify(usersRepository, times(1)).findById(TEST_USER_UUID);
+            verify(authenticatedUserCache, times(1)).putUser(mockUser);
+        }
+    }
+
+    @Test
+    @DisplayName("キャッシュに存在するユーザはリポジトリを参照せずに取得できること")
+    void testGetAuthenticatedUserFromCache() {
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class)) {
+            mockedSecurityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(authentication);
+            when(authentication.isAuthenticated()).thenReturn(true);
+            when(authentication.getPrincipal()).thenReturn(userDetails);
+            when(userDetails.getUserId()).thenReturn(TEST_USER_UUID);
+            when(authenticatedUserCache.getUser(TEST_USER_UUID)).thenReturn(Optional.of(mockUser));
+
+            User actualResult = userAuthenticationDomainService.getAuthenticatedUser();
+
+            assertEquals(mockUser, actualResult);
+            verify(usersRepository, never()).findById(any(UUID.class));
         }
     }
 
@@ -0,0 +1,68 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+@DisplayName("DiscussionCursor ユニットテスト")
+class DiscussionCursorTests {
+
+    private static final LocalDateTime TEST_CREATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30, 15, 123456000);
+    private static final Long TEST_DISCUSSION_ID = 42L;
+    private static final String INVALID_CURSOR_MESSAGE = "カーソルの形式が不正です";
+
+    @Test
+    @DisplayName("正常系: エンコードしたカーソルを復元すると同じ値になること")
+    void encodeAndDecodeRoundTrip() {
+        DiscussionCursor cursor = DiscussionCursor.of(TEST_CREATED_AT, TEST_DISCUSSION_ID);
+
+        DiscussionCursor decoded = DiscussionCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getCreatedAt()).isEqualTo(TEST_CREATED_AT);
+        assertThat(decoded.getDiscussionId()).isEqualTo(TEST_DISCUSSION_ID);
+    }
+
+    @Test
+    @DisplayName("正常系: エンコードしたカーソルはURLセーフな文字のみで構成されること")
+    void encodeProducesUrlSafeString() {
+        String encoded = DiscussionCursor.of(TEST_CREATED_AT, TEST_DISCUSSION_ID).encode();
+
+        assertThat(encoded).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @Test
+    @DisplayName("異常系: Base64として不正な文字列は例外が発生すること")
+    void decodeThrowsExceptionForInvalidBase64() {
+        assertThatThrownBy(() -> DiscussionCursor.decode("@@invalid@@"))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE)
+            .extracting("status")
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("異常系: 区切り文字を含まないカーソルは例外が発生すること")
+    void decodeThrowsExceptionForMissingSeparator() {
+        String encoded = java.util.Base64.getUrlEncoder().encodeToString("2026-01-15T10:30".getBytes());
+
+        assertThatThrownBy(() -> DiscussionCursor.decode(encoded))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("異常系: 空のカーソルは例外が発生すること")
+    void decodeThrowsExceptionForBlank() {
+        assertThatThrownBy(() -> DiscussionCursor.decode(" "))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+    }
+}
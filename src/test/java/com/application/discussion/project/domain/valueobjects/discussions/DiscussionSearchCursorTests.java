@@ -0,0 +1,66 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+@DisplayName("DiscussionSearchCursor ユニットテスト")
+class DiscussionSearchCursorTests {
+
+    private static final double TEST_SCORE = 0.1 + 0.2;
+    private static final Long TEST_DISCUSSION_ID = 42L;
+    private static final String INVALID_CURSOR_MESSAGE = "カーソルの形式が不正です";
+
+    @Test
+    @DisplayName("正常系: エンコードしたカーソルを復元するとスコアが誤差なく同じ値になること")
+    void encodeAndDecodeRoundTrip() {
+        DiscussionSearchCursor cursor = DiscussionSearchCursor.of(TEST_SCORE, TEST_DISCUSSION_ID);
+
+        DiscussionSearchCursor decoded = DiscussionSearchCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getScore()).isEqualTo(TEST_SCORE);
+        assertThat(decoded.getDiscussionId()).isEqualTo(TEST_DISCUSSION_ID);
+        assertThat(cursor.encode()).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @Test
+    @DisplayName("正常系: スコアの降順、同スコアは議論IDの降順でカーソルより後にあるものを判定すること")
+    void isFollowedByFollowsRankingOrder() {
+        DiscussionSearchCursor cursor = DiscussionSearchCursor.of(1.5, TEST_DISCUSSION_ID);
+
+        assertThat(cursor.isFollowedBy(1.0, 100L)).isTrue();
+        assertThat(cursor.isFollowedBy(1.5, 41L)).isTrue();
+        assertThat(cursor.isFollowedBy(1.5, 42L)).isFalse();
+        assertThat(cursor.isFollowedBy(1.5, 43L)).isFalse();
+        assertThat(cursor.isFollowedBy(2.0, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("異常系: 形式が不正なカーソルは例外が発生すること")
+    void decodeThrowsExceptionForInvalidCursor() {
+        String withoutSeparator = Base64.getUrlEncoder().encodeToString("1.5".getBytes(StandardCharsets.UTF_8));
+        String nonNumericScore = Base64.getUrlEncoder().encodeToString("abc|42".getBytes(StandardCharsets.UTF_8));
+        String infiniteScore = Base64.getUrlEncoder().encodeToString("Infinity|42".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> DiscussionSearchCursor.decode("@@invalid@@"))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+        assertThatThrownBy(() -> DiscussionSearchCursor.decode(withoutSeparator))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+        assertThatThrownBy(() -> DiscussionSearchCursor.decode(nonNumericScore))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+        assertThatThrownBy(() -> DiscussionSearchCursor.decode(infiniteScore))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage(INVALID_CURSOR_MESSAGE);
+    }
+}
@@ -0,0 +1,62 @@
+package com.application.discussion.project.domain.valueobjects.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+
+@DisplayName("SearchKeyword ユニットテスト")
+class SearchKeywordTests {
+
+    @Test
+    @DisplayName("正常系: 小文字化し、全角空白を含む連続した空白を1つの区切りとして語に分割すること")
+    void ofNormalizesAndSplitsTerms() {
+        SearchKeyword keyword = SearchKeyword.of("  Remote　ワーク   Java ");
+
+        assertThat(keyword.getValue()).isEqualTo("remote ワーク java");
+        assertThat(keyword.getTerms()).containsExactly("remote", "ワーク", "java");
+    }
+
+    @Test
+    @DisplayName("正常系: 重複した語は1つにまとめること")
+    void ofRemovesDuplicateTerms() {
+        SearchKeyword keyword = SearchKeyword.of("java JAVA 設計");
+
+        assertThat(keyword.getTerms()).containsExactly("java", "設計");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = { "   ", "　　" })
+    @DisplayName("異常系: 空のキーワードは例外が発生すること")
+    void ofThrowsExceptionForBlankInput(String input) {
+        assertThatThrownBy(() -> SearchKeyword.of(input))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage("検索キーワードは必須です")
+            .extracting("status")
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("異常系: 100文字を超えるキーワードは例外が発生すること")
+    void ofThrowsExceptionForTooLongInput() {
+        assertThatThrownBy(() -> SearchKeyword.of("あ".repeat(101)))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage("検索キーワードは100文字以内で入力してください");
+    }
+
+    @Test
+    @DisplayName("異常系: 5語を超えるキーワードは例外が発生すること")
+    void ofThrowsExceptionForTooManyTerms() {
+        assertThatThrownBy(() -> SearchKeyword.of("a b c d e f"))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasMessage("検索キーワードは5語以内で入力してください");
+    }
+}
@@ -0,0 +1,72 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
+import com.application.discussion.project.application.services.security.PasswordHashingExecutor;
+import com.application.discussion.project.infrastructure.repositories.users.RefreshTokenPurger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticationMeterBinder単体テスト")
+public class AuthenticationMeterBinderTests {
+
+    @Mock
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @InjectMocks
+    private AuthenticationMeterBinder authenticationMeterBinder;
+
+    @Test
+    @DisplayName("キャッシュのヒット・ミス件数とスレッドプールの状態が公開されること")
+    void bindToExposesCacheAndExecutorState() {
+        when(authenticatedUserCache.getHitCount()).thenReturn(8L);
+        when(authenticatedUserCache.getMissCount()).thenReturn(2L);
+        when(passwordHashingExecutor.getRejectedCount()).thenReturn(3L);
+        when(passwordHashingExecutor.getQueueDepth()).thenReturn(5);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        authenticationMeterBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("app.auth.user.cache.requests").tag("result", "hit").functionCounter().count())
+            .isEqualTo(8.0d);
+        assertThat(meterRegistry.get("app.auth.user.cache.requests").tag("result", "miss").functionCounter().count())
+            .isEqualTo(2.0d);
+        assertThat(meterRegistry.get("app.auth.password.hashing.tasks").tag("result", "rejected").functionCounter().count())
+            .isEqualTo(3.0d);
+        assertThat(meterRegistry.get("app.auth.password.hashing.queued").gauge().value()).isEqualTo(5.0d);
+    }
+
+    @Test
+    @DisplayName("リフレッシュトークンの定期削除の件数と実行結果が公開されること")
+    void bindToExposesRefreshTokenPurgeState() {
+        when(refreshTokenPurger.getDeletedCount()).thenReturn(1200L);
+        when(refreshTokenPurger.getSucceededRunCount()).thenReturn(4L);
+        when(refreshTokenPurger.getFailedRunCount()).thenReturn(1L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        authenticationMeterBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("app.auth.refresh.token.purge.deleted").functionCounter().count())
+            .isEqualTo(1200.0d);
+        assertThat(meterRegistry.get("app.auth.refresh.token.purge.runs").tag("result", "success").functionCounter().count())
+            .isEqualTo(4.0d);
+        assertThat(meterRegistry.get("app.auth.refresh.token.purge.runs").tag("result", "failure").functionCounter().count())
+            .isEqualTo(1.0d);
+    }
+}
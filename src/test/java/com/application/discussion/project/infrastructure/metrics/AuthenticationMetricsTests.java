@@ -0,0 +1,61 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics.JwtValidationOutcome;
+import com.application.discussion.project.infrastructure.metrics.AuthenticationMetrics.PasswordHashingOperation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AuthenticationMetrics単体テスト")
+public class AuthenticationMetricsTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationMetrics authenticationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationMetrics = new AuthenticationMetrics();
+        ReflectionTestUtils.setField(authenticationMetrics, "meterRegistry", meterRegistry);
+        authenticationMetrics.initialize();
+    }
+
+    @Test
+    @DisplayName("初期化時に全ての検証結果のカウンターが0件で登録されること")
+    void initializeRegistersAllJwtValidationCounters() {
+        assertThat(meterRegistry.get(AuthenticationMetrics.JWT_VALIDATION_METRIC_NAME).counters()).hasSize(4);
+        assertThat(meterRegistry.get(AuthenticationMetrics.JWT_VALIDATION_METRIC_NAME).tag("outcome", "valid").counter().count())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("JWT検証の結果ごとに件数が記録されること")
+    void recordJwtValidationIncrementsCounterForOutcome() {
+        authenticationMetrics.recordJwtValidation(JwtValidationOutcome.VALID);
+        authenticationMetrics.recordJwtValidation(JwtValidationOutcome.VALID);
+        authenticationMetrics.recordJwtValidation(JwtValidationOutcome.REVOKED);
+
+        assertThat(meterRegistry.get(AuthenticationMetrics.JWT_VALIDATION_METRIC_NAME).tag("outcome", "valid").counter().count())
+            .isEqualTo(2.0d);
+        assertThat(meterRegistry.get(AuthenticationMetrics.JWT_VALIDATION_METRIC_NAME).tag("outcome", "revoked").counter().count())
+            .isEqualTo(1.0d);
+        assertThat(meterRegistry.get(AuthenticationMetrics.JWT_VALIDATION_METRIC_NAME).tag("outcome", "invalid").counter().count())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("パスワードのハッシュ化の結果を返し、処理時間が記録されること")
+    void recordPasswordHashingReturnsResultAndRecordsDuration() {
+        Boolean result = authenticationMetrics.recordPasswordHashing(PasswordHashingOperation.MATCHES, () -> Boolean.TRUE);
+
+        assertThat(result).isTrue();
+        assertThat(meterRegistry.get(AuthenticationMetrics.PASSWORD_HASHING_METRIC_NAME).tag("operation", "matches").timer().count())
+            .isEqualTo(1L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.application.discussion.project.application.services.discussions.DiscussionFeedHub;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscussionFeedMeterBinder単体テスト")
+public class DiscussionFeedMeterBinderTests {
+
+    @Mock
+    private DiscussionFeedHub discussionFeedHub;
+
+    @InjectMocks
+    private DiscussionFeedMeterBinder discussionFeedMeterBinder;
+
+    @Test
+    @DisplayName("購読者数と配信・切断の件数が公開されること")
+    void bindToExposesHubState() {
+        when(discussionFeedHub.getSubscriberCount()).thenReturn(9800);
+        when(discussionFeedHub.getDeliveredCount()).thenReturn(52000L);
+        when(discussionFeedHub.getEvictedCount()).thenReturn(12L);
+        when(discussionFeedHub.getRejectedCount()).thenReturn(3L);
+        when(discussionFeedHub.getExpiredCount()).thenReturn(5L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        discussionFeedMeterBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("app.discussions.feed.subscribers").gauge().value()).isEqualTo(9800.0d);
+        assertThat(meterRegistry.get("app.discussions.feed.delivered").functionCounter().count()).isEqualTo(52000.0d);
+        assertThat(meterRegistry.get("app.discussions.feed.disconnects").tag("reason", "slow_consumer").functionCounter().count())
+            .isEqualTo(12.0d);
+        assertThat(meterRegistry.get("app.discussions.feed.disconnects").tag("reason", "capacity").functionCounter().count())
+            .isEqualTo(3.0d);
+        assertThat(meterRegistry.get("app.discussions.feed.disconnects").tag("reason", "token_expired").functionCounter().count())
+            .isEqualTo(5.0d);
+    }
+}
@@ -0,0 +1,39 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.application.discussion.project.infrastructure.repositories.discussions.likes.DiscussionLikeCountAggregator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscussionLikeMeterBinder単体テスト")
+public class DiscussionLikeMeterBinderTests {
+
+    @Mock
+    private DiscussionLikeCountAggregator discussionLikeCountAggregator;
+
+    @InjectMocks
+    private DiscussionLikeMeterBinder discussionLikeMeterBinder;
+
+    @Test
+    @DisplayName("いいね件数の反映件数と失敗回数が公開されること")
+    void bindToExposesFlushState() {
+        when(discussionLikeCountAggregator.getFlushedRowCount()).thenReturn(250L);
+        when(discussionLikeCountAggregator.getFailedFlushCount()).thenReturn(2L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        discussionLikeMeterBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("app.likes.count.flushed").functionCounter().count()).isEqualTo(250.0d);
+        assertThat(meterRegistry.get("app.likes.count.flush.failures").functionCounter().count()).isEqualTo(2.0d);
+    }
+}
@@ -0,0 +1,114 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.application.discussion.project.application.dtos.users.LoginRequest;
+import com.application.discussion.project.application.services.security.JWTAuthUserDetailsService;
+import com.application.discussion.project.application.services.users.AuthLoginService;
+import com.application.discussion.project.application.services.users.AuthLogoutServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MethodMetricsAspect単体テスト")
+public class MethodMetricsAspectTests {
+
+    private static final String TEST_METHOD_NAME = "service";
+    private static final String TEST_RESULT = "result";
+
+    @Mock
+    private ProceedingJoinPoint proceedingJoinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MethodMetricsAspect methodMetricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        methodMetricsAspect = new MethodMetricsAspect();
+        ReflectionTestUtils.setField(methodMetricsAspect, "meterRegistry", meterRegistry);
+    }
+
+    private void stubJoinPoint() {
+        when(proceedingJoinPoint.getTarget()).thenReturn(new TestServiceImpl());
+        when(proceedingJoinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(TEST_METHOD_NAME);
+    }
+
+    @Test
+    @DisplayName("サービスの処理時間がクラス名・メソッド名・成功の結果で記録されること")
+    void recordServiceCallRecordsSuccess() throws Throwable {
+        stubJoinPoint();
+        when(proceedingJoinPoint.proceed()).thenReturn(TEST_RESULT);
+
+        Object result = methodMetricsAspect.recordServiceCall(proceedingJoinPoint);
+
+        assertThat(result).isEqualTo(TEST_RESULT);
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_METRIC_NAME)
+            .tag("class", "TestServiceImpl")
+            .tag("method", TEST_METHOD_NAME)
+            .tag("outcome", "success")
+            .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("例外がスローされた場合は例外クラス名を結果として記録し、例外を再スローすること")
+    void recordRepositoryCallRecordsExceptionOutcome() throws Throwable {
+        stubJoinPoint();
+        when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("failure"));
+
+        assertThatThrownBy(() -> methodMetricsAspect.recordRepositoryCall(proceedingJoinPoint))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(MethodMetricsAspect.REPOSITORY_METRIC_NAME)
+            .tag("outcome", "IllegalStateException")
+            .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("同じクラス・メソッド・結果の呼び出しは同じタイマーに記録されること")
+    void recordServiceCallReusesTimer() throws Throwable {
+        stubJoinPoint();
+        when(proceedingJoinPoint.proceed()).thenReturn(TEST_RESULT);
+
+        methodMetricsAspect.recordServiceCall(proceedingJoinPoint);
+        methodMetricsAspect.recordServiceCall(proceedingJoinPoint);
+
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_METRIC_NAME).timers()).hasSize(1);
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_METRIC_NAME).timer().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Implの接尾辞を持たないサービスのserviceメソッドも計測対象となること")
+    void servicePointcutMatchesServicesWithoutImplSuffix() throws NoSuchMethodException {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(MethodMetricsAspect.SERVICE_POINTCUT);
+
+        assertThat(pointcut.matches(AuthLoginService.class.getMethod("service", LoginRequest.class), AuthLoginService.class))
+            .isTrue();
+        assertThat(pointcut.matches(AuthLogoutServiceImpl.class.getMethod("service"), AuthLogoutServiceImpl.class))
+            .isTrue();
+        assertThat(pointcut.matches(
+            JWTAuthUserDetailsService.class.getMethod("loadUserByUsername", String.class),
+            JWTAuthUserDetailsService.class
+        )).isFalse();
+    }
+
+    private static final class TestServiceImpl {
+    }
+}
@@ -0,0 +1,47 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.application.discussion.project.infrastructure.repositories.notifications.NotificationDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationMeterBinder単体テスト")
+public class NotificationMeterBinderTests {
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @InjectMocks
+    private NotificationMeterBinder notificationMeterBinder;
+
+    @Test
+    @DisplayName("通知の受け付け・破棄・配信の件数とキューの状態が公開されること")
+    void bindToExposesDispatcherState() {
+        when(notificationDispatcher.getEnqueuedCount()).thenReturn(120L);
+        when(notificationDispatcher.getDroppedCount()).thenReturn(4L);
+        when(notificationDispatcher.getDeliveredCount()).thenReturn(3600L);
+        when(notificationDispatcher.getFailedBatchCount()).thenReturn(1L);
+        when(notificationDispatcher.getQueueDepth()).thenReturn(7);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        notificationMeterBinder.bindTo(meterRegistry);
+
+        assertThat(meterRegistry.get("app.notifications.events").tag("result", "enqueued").functionCounter().count())
+            .isEqualTo(120.0d);
+        assertThat(meterRegistry.get("app.notifications.events").tag("result", "dropped").functionCounter().count())
+            .isEqualTo(4.0d);
+        assertThat(meterRegistry.get("app.notifications.delivered").functionCounter().count()).isEqualTo(3600.0d);
+        assertThat(meterRegistry.get("app.notifications.dispatch.failures").functionCounter().count()).isEqualTo(1.0d);
+        assertThat(meterRegistry.get("app.notifications.queued").gauge().value()).isEqualTo(7.0d);
+    }
+}
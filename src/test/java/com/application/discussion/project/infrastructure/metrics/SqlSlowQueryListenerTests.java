@@ -0,0 +1,80 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * 実行時間を引数で渡し、データベースの実行速度によらずスロークエリの判定と出力内容を確認する
+ */
+@DisplayName("SqlSlowQueryListener単体テスト")
+class SqlSlowQueryListenerTests {
+
+    private static final String SQL_WITH_LITERAL = "select u1_0.user_id from users u1_0 where u1_0.email='secret@example.com' and u1_0.login_id=?";
+    private static final long TEST_THRESHOLD_MS = 100L;
+    private static final long SLOW_NANOS = 150_000_000L;
+    private static final long FAST_NANOS = 50_000_000L;
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(SqlSlowQueryListener.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("正常系: 閾値以上のSQLはリテラルを伏せ字にして出力されること")
+    void logIfSlowLogsRedactedSqlAtThreshold() {
+        SqlSlowQueryListener.prepare(SQL_WITH_LITERAL);
+
+        new SqlSlowQueryListener(TEST_THRESHOLD_MS).logIfSlow(SLOW_NANOS);
+
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertThat(messages).singleElement().satisfies(message -> {
+            assertThat(message).contains("150 ms", "from users u1_0");
+            assertThat(message).doesNotContain("secret@example.com");
+        });
+    }
+
+    @Test
+    @DisplayName("正常系: 閾値未満のSQLは出力されず、保持したSQLは実行ごとに破棄されること")
+    void logIfSlowClearsSqlAfterEachStatement() {
+        SqlSlowQueryListener listener = new SqlSlowQueryListener(TEST_THRESHOLD_MS);
+        SqlSlowQueryListener.prepare(SQL_WITH_LITERAL);
+
+        listener.logIfSlow(FAST_NANOS);
+        listener.logIfSlow(SLOW_NANOS);
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("正常系: 閾値が0以下の場合は出力せず、保持したSQLを破棄すること")
+    void logIfSlowIsDisabledByNonPositiveThreshold() {
+        SqlSlowQueryListener.prepare(SQL_WITH_LITERAL);
+
+        new SqlSlowQueryListener(0L).logIfSlow(SLOW_NANOS);
+        new SqlSlowQueryListener(TEST_THRESHOLD_MS).logIfSlow(SLOW_NANOS);
+
+        assertThat(appender.list).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 結合テストで発行されたSQLの件数を検証するためのヘルパー
+ * 検証対象の処理を実行している間だけ、現在のスレッドで発行されたSQLを記録する
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * 処理を実行し、その間に発行されたSQLの記録結果を返す
+     *
+     * @param action 検証対象の処理
+     * @return SQLの記録結果
+     */
+    public static SqlStatementRecorder.Recording recordStatements(final Runnable action) {
+        SqlStatementRecorder.start();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            SqlStatementRecorder.stop();
+            throw e;
+        }
+        return SqlStatementRecorder.stop();
+    }
+
+    /**
+     * 処理の実行中に発行されたSQLが指定件数であることを検証する
+     *
+     * @param expectedCount 期待するSQLの件数
+     * @param action        検証対象の処理
+     */
+    public static void assertStatementCount(final long expectedCount, final Runnable action) {
+        assertThat(recordStatements(action).getStatementCount())
+            .as("発行されたSQLの件数")
+            .isEqualTo(expectedCount);
+    }
+
+    /**
+     * 処理の実行中に同じSQLが指定回数以上発行されていない（N+1問題が発生していない）ことを検証する
+     *
+     * @param threshold 回数の閾値
+     * @param action    検証対象の処理
+     */
+    public static void assertNoRepeatedStatements(final int threshold, final Runnable action) {
+        assertThat(recordStatements(action).getRepeatedStatements(threshold))
+            .as("同じSQLが%d回以上発行されていないこと", threshold)
+            .isEmpty();
+    }
+}
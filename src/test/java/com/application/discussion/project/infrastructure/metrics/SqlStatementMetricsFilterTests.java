@@ -0,0 +1,76 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+@DisplayName("SqlStatementMetricsFilter単体テスト")
+public class SqlStatementMetricsFilterTests {
+
+    private static final String URI_PATTERN = "/maintopics/{maintopicId}/discussions";
+    private static final String SELECT_USER = "select u1_0.user_id from users u1_0 where u1_0.user_id=?";
+    private static final int TEST_THRESHOLD = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsFilter sqlStatementMetricsFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sqlStatementMetricsFilter = new SqlStatementMetricsFilter();
+        ReflectionTestUtils.setField(sqlStatementMetricsFilter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(sqlStatementMetricsFilter, "nPlusOneThreshold", TEST_THRESHOLD);
+        request = new MockHttpServletRequest("GET", "/maintopics/1/discussions");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI_PATTERN);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("リクエスト中に発行されたSQLの件数がエンドポイントごとに記録されること")
+    void doFilterRecordsStatementCountPerEndpoint() throws Exception {
+        sqlStatementMetricsFilter.doFilter(request, response, issueStatements(2));
+
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METRIC_NAME).tag("uri", URI_PATTERN).summary().totalAmount())
+            .isEqualTo(2.0d);
+        assertThat(meterRegistry.find(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("同じSQLが閾値以上発行された場合はN+1問題の疑いとして記録されること")
+    void doFilterRecordsNPlusOneWhenStatementRepeated() throws Exception {
+        sqlStatementMetricsFilter.doFilter(request, response, issueStatements(TEST_THRESHOLD));
+
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC_NAME).tag("uri", URI_PATTERN).counter().count())
+            .isEqualTo(1.0d);
+    }
+
+    @Test
+    @DisplayName("同じエンドポイントへのリクエストは登録済みのメトリクスに記録されること")
+    void doFilterReusesMetricsPerEndpoint() throws Exception {
+        sqlStatementMetricsFilter.doFilter(request, response, issueStatements(2));
+        sqlStatementMetricsFilter.doFilter(request, new MockHttpServletResponse(), issueStatements(1));
+
+        assertThat(meterRegistry.find(SqlStatementMetricsFilter.STATEMENTS_METRIC_NAME).summaries()).hasSize(1);
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METRIC_NAME).tag("uri", URI_PATTERN).summary().count())
+            .isEqualTo(2L);
+    }
+
+    private FilterChain issueStatements(final int count) {
+        return (servletRequest, servletResponse) -> {
+            for (int i = 0; i < count; i++) {
+                SqlStatementRecorder.record(SELECT_USER);
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.application.discussion.project.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SqlStatementRecorder単体テスト")
+public class SqlStatementRecorderTests {
+
+    private static final String SELECT_USER = "select u1_0.user_id from users u1_0 where u1_0.user_id=?";
+    private static final String SELECT_ROLE = "select r1_0.role_id from roles r1_0 where r1_0.role_id=?";
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementRecorder.stop();
+    }
+
+    @Test
+    @DisplayName("記録中に発行されたSQLの件数が記録されること")
+    void recordCountsStatementsWhileRecording() {
+        SqlStatementRecorder.start();
+        SqlStatementRecorder.record(SELECT_USER);
+        SqlStatementRecorder.record(SELECT_ROLE);
+
+        assertThat(SqlStatementRecorder.stop().getStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("記録を開始していない場合はSQLが記録されないこと")
+    void recordIgnoresStatementsWhenNotRecording() {
+        SqlStatementRecorder.record(SELECT_USER);
+
+        assertThat(SqlStatementRecorder.stop().getStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("閾値以上発行されたSQLのみが繰り返し発行されたSQLとして取得されること")
+    void getRepeatedStatementsReturnsStatementsAboveThreshold() {
+        SqlStatementRecorder.start();
+        for (int i = 0; i < 3; i++) {
+            SqlStatementRecorder.record(SELECT_ROLE);
+        }
+        SqlStatementRecorder.record(SELECT_USER);
+
+        assertThat(SqlStatementRecorder.stop().getRepeatedStatements(3)).containsOnlyKeys(SELECT_ROLE).containsEntry(SELECT_ROLE, 3);
+    }
+
+    @Test
+    @DisplayName("ログ出力用に文字列・数値のリテラルが伏せ字になること")
+    void redactReplacesLiterals() {
+        String redacted = SqlStatementRecorder.redact(
+            "select u1_0.user_id from users u1_0 where u1_0.email='test@example.com' and u1_0.is_active=1 limit 10"
+        );
+
+        assertThat(redacted).isEqualTo("select u1_0.user_id from users u1_0 where u1_0.email=? and u1_0.is_active=? limit ?");
+    }
+}
@@ -0,0 +1,157 @@
+package com.application.discussion.project.infrastructure.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.application.discussion.project.infrastructure.models.discussions.Discussions;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * リポジトリの統合テストで使用するユーザー・メイントピック・議論を登録し、テスト後に削除するフィクスチャ
+ * 登録は呼び出しごとのトランザクションでコミットし、テストのトランザクションがある場合はそれに参加してロールバックされる
+ *
+ * NOTE: 登録した議論・ユーザーを参照する行（コメントやいいねなど）は、cleanUpの前に各テストで削除すること
+ */
+public class RepositoryTestFixture {
+
+    private static final String PASSWORD = "pAssworD12345";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final List<UUID> userIds = new ArrayList<>();
+    private final List<Long> maintopicIds = new ArrayList<>();
+
+    public RepositoryTestFixture(final EntityManager entityManager, final PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 有効なユーザーを登録する
+     *
+     * @param loginId ログインID（ユーザー名とメールアドレスにも使用する）
+     * @return 登録したユーザー
+     */
+    public Users createUser(final String loginId) {
+        return getInTransaction(() -> {
+            final Users user = new Users();
+            user.setUsername(loginId);
+            user.setEmail(loginId + "@example.com");
+            user.setPassword(PASSWORD);
+            user.setLoginId(loginId);
+            user.setIsActive(true);
+            user.setIsDeleted(false);
+            entityManager.persist(user);
+            userIds.add(user.getUserId());
+            return user;
+        });
+    }
+
+    /**
+     * メイントピックを登録する
+     *
+     * @param owner 作成者
+     * @param title タイトル
+     * @return 登録したメイントピック
+     */
+    public Maintopics createMaintopic(final Users owner, final String title) {
+        return createMaintopic(owner, title, "説明");
+    }
+
+    /**
+     * 説明を指定してメイントピックを登録する
+     *
+     * @param owner       作成者
+     * @param title       タイトル
+     * @param description 説明
+     * @return 登録したメイントピック
+     */
+    public Maintopics createMaintopic(final Users owner, final String title, final String description) {
+        return getInTransaction(() -> {
+            final Maintopics maintopic = new Maintopics(null, title, description, owner, null, null, false, false);
+            entityManager.persist(maintopic);
+            maintopicIds.add(maintopic.getId());
+            return maintopic;
+        });
+    }
+
+    /**
+     * 議論を登録する
+     * 登録した議論はcleanUpでメイントピックごとに削除する
+     *
+     * @param maintopic 議論を登録するメイントピック
+     * @param author    投稿者
+     * @param paragraph 本文
+     * @return 登録した議論
+     */
+    public Discussions createDiscussion(final Maintopics maintopic, final Users author, final String paragraph) {
+        return getInTransaction(() -> {
+            final Discussions discussion = new Discussions(null, paragraph, maintopic, author, null, null, null);
+            entityManager.persist(discussion);
+            return discussion;
+        });
+    }
+
+    /**
+     * 処理を1つのトランザクションで実行する
+     *
+     * @param action 実行する処理
+     */
+    public void executeInTransaction(final Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+
+    /**
+     * 処理を1つのトランザクションで実行し、結果を返す
+     *
+     * @param action 実行する処理
+     * @return 処理の結果
+     */
+    public <T> T getInTransaction(final Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    /**
+     * 登録したメイントピックの議論、メイントピック、ユーザーのリフレッシュトークンとユーザーを削除する
+     * 登録に失敗した場合も呼び出せるよう、登録済みのものだけを対象とする
+     */
+    public void cleanUp() {
+        executeInTransaction(() -> {
+            if (!maintopicIds.isEmpty()) {
+                entityManager.createQuery("delete from Discussions d where d.maintopic.id in (:maintopicIds)")
+                    .setParameter("maintopicIds", maintopicIds)
+                    .executeUpdate();
+                entityManager.createQuery("delete from Maintopics m where m.id in (:maintopicIds)")
+                    .setParameter("maintopicIds", maintopicIds)
+                    .executeUpdate();
+            }
+            if (!userIds.isEmpty()) {
+                entityManager.createQuery("delete from RefreshTokens t where t.user.userId in (:userIds)")
+                    .setParameter("userIds", userIds)
+                    .executeUpdate();
+                entityManager.createQuery("delete from Users u where u.userId in (:userIds)")
+                    .setParameter("userIds", userIds)
+                    .executeUpdate();
+            }
+        });
+        maintopicIds.clear();
+        userIds.clear();
+    }
+
+    /**
+     * 登録したユーザーのIDを返す
+     *
+     * @return ユーザーIDの一覧
+     */
+    public List<UUID> getUserIds() {
+        return List.copyOf(userIds);
+    }
+}
@@ -0,0 +1,35 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CommentPaths単体テスト")
+class CommentPathsTests {
+
+    @Test
+    @DisplayName("正常系: 固定長のため文字列の順序がIDの順序と一致すること")
+    void segmentPreservesNumericOrder() {
+        assertThat(CommentPaths.segment(1L)).isEqualTo("0000000000001");
+        assertThat(CommentPaths.segment(Long.MAX_VALUE)).hasSize(CommentPaths.SEGMENT_LENGTH);
+        assertThat(CommentPaths.segment(35L).compareTo(CommentPaths.segment(36L))).isNegative();
+        assertThat(CommentPaths.segment(999L).compareTo(CommentPaths.segment(1000L))).isNegative();
+    }
+
+    @Test
+    @DisplayName("正常系: 子孫のパスは範囲に含まれ、次のIDのコメントの子孫は含まれないこと")
+    void descendantRangeContainsOnlyDescendants() {
+        String parentPath = CommentPaths.childPath(CommentPaths.ROOT, 7L);
+        String lower = CommentPaths.childPath(parentPath, 35L);
+        String upper = CommentPaths.descendantUpperBound(parentPath, 35L);
+        String grandchild = CommentPaths.childPath(lower, 1000L);
+        String nextSiblingChild = CommentPaths.childPath(parentPath, 36L);
+
+        assertThat(grandchild.compareTo(lower)).isPositive();
+        assertThat(grandchild.compareTo(upper)).isNegative();
+        assertThat(nextSiblingChild.compareTo(upper)).isGreaterThanOrEqualTo(0);
+        assertThat(parentPath.compareTo(lower)).isNegative();
+        assertThat(CommentPaths.depth(grandchild)).isEqualTo(3);
+    }
+}
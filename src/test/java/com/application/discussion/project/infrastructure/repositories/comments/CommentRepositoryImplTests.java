@@ -0,0 +1,197 @@
+package com.application.discussion.project.infrastructure.repositories.comments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.domain.entities.comments.Comment;
+import com.application.discussion.project.domain.exceptions.DomainLayerErrorException;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * コメントの作成はリポジトリのトランザクションで行われるため、テストメソッドをトランザクションで囲まずにデータを登録する
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("CommentRepositoryImpl マテリアライズドパスによるコメントの階層のテスト")
+class CommentRepositoryImplTests {
+
+    @Autowired
+    private CommentRepositoryImpl commentRepositoryImpl;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private Users user;
+    private Long discussionId;
+    private Long otherDiscussionId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        user = fixture.createUser("commentuser");
+        Maintopics maintopic = fixture.createMaintopic(user, "コメント検証");
+        discussionId = fixture.createDiscussion(maintopic, user, "コメント対象の議論").getId();
+        otherDiscussionId = fixture.createDiscussion(maintopic, user, "別の議論").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.executeInTransaction(() -> entityManager.createQuery("delete from Comments c where c.discussionId in (:discussionIds)")
+            .setParameter("discussionIds", List.of(discussionId, otherDiscussionId))
+            .executeUpdate());
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 同じ階層のコメントがキーセット方式で投稿順に取得され、返信件数が更新されること")
+    void findRepliesPagesByKeysetAndCountsReplies() {
+        Comment root = createRoot("最初のコメント");
+        createRoot("2つめのコメント");
+        List<Long> replyIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replyIds.add(createReply(root, "返信" + i).getCommentId());
+        }
+
+        List<Comment> firstPage = commentRepositoryImpl.findReplies(discussionId, root.getCommentId(), null, 3);
+        List<Comment> secondPage = commentRepositoryImpl.findReplies(
+            discussionId, root.getCommentId(), firstPage.get(2).getCommentId(), 3);
+
+        assertThat(firstPage).extracting(Comment::getCommentId).containsExactlyElementsOf(replyIds.subList(0, 3));
+        assertThat(secondPage).extracting(Comment::getCommentId).containsExactlyElementsOf(replyIds.subList(3, 5));
+        assertThat(secondPage).allSatisfy(reply -> {
+            assertThat(reply.getParentId()).isEqualTo(root.getCommentId());
+            assertThat(reply.getDepth()).isEqualTo(1);
+        });
+        assertThat(commentRepositoryImpl.findReplies(discussionId, null, null, 10)).hasSize(2);
+        assertThat(commentRepositoryImpl.findById(root.getCommentId()).orElseThrow().getReplyCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("正常系: スレッドは返信先ごとの件数と深さで絞り込まれ、件数によらず一定のクエリ数で取得されること")
+    void findThreadPrunesPerLevelWithConstantQueries() {
+        Comment root = createRoot("スレッドの起点");
+        List<Comment> children = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            children.add(createReply(root, "返信" + i));
+        }
+        List<Comment> grandchildren = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            grandchildren.add(createReply(children.get(0), "返信への返信" + i));
+        }
+        createReply(grandchildren.get(0), "3階層目の返信");
+        Comment secondChildReply = createReply(children.get(1), "2つめの返信への返信");
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Comment> thread = commentRepositoryImpl.findThread(discussionId, root.getCommentId(), 2, 2, 100);
+
+        assertThat(thread).extracting(Comment::getCommentId).containsExactly(
+            root.getCommentId(),
+            children.get(0).getCommentId(),
+            children.get(1).getCommentId(),
+            grandchildren.get(0).getCommentId(),
+            grandchildren.get(1).getCommentId(),
+            secondChildReply.getCommentId()
+        );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("正常系: 部分木の範囲検索に兄弟のコメントの子孫が含まれず、総数の上限で打ち切られること")
+    void findThreadIsBoundedToSubtreeAndLimit() {
+        Comment root = createRoot("起点");
+        Comment sibling = createRoot("隣のコメント");
+        createReply(sibling, "隣への返信");
+        Comment child = createReply(root, "起点への返信");
+        createReply(child, "起点への返信への返信");
+
+        assertThat(commentRepositoryImpl.findThread(discussionId, root.getCommentId(), 10, 10, 100))
+            .extracting(Comment::getParagraph)
+            .containsExactly("起点", "起点への返信", "起点への返信への返信");
+        assertThat(commentRepositoryImpl.findThread(discussionId, root.getCommentId(), 10, 10, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("正常系: 部分木の走査は行数の上限で打ち切られること")
+    void findThreadStopsScanningAtMaxScannedRows() {
+        Comment root = createRoot("起点");
+        List<Long> replyIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            replyIds.add(createReply(root, "返信" + i).getCommentId());
+        }
+        CommentRepositoryImpl target = AopTestUtils.getTargetObject(commentRepositoryImpl);
+        ReflectionTestUtils.setField(target, "maxScannedRows", 2);
+        try {
+            assertThat(commentRepositoryImpl.findThread(discussionId, root.getCommentId(), 10, 10, 100))
+                .extracting(Comment::getCommentId)
+                .containsExactly(root.getCommentId(), replyIds.get(0), replyIds.get(1));
+        } finally {
+            ReflectionTestUtils.setField(target, "maxScannedRows", 10000);
+        }
+    }
+
+    @Test
+    @DisplayName("異常系: 最も深い階層のコメントへの返信は返信先を付け替えずに拒否されること")
+    void createReplyBeyondMaxDepthIsRejected() {
+        Comment comment = createRoot("深さ0");
+        for (int depth = 1; depth < Comment.MAX_DEPTH; depth++) {
+            comment = createReply(comment, "深さ" + depth);
+        }
+        Comment deepest = comment;
+
+        assertThat(deepest.getDepth()).isEqualTo(Comment.MAX_DEPTH - 1);
+        assertThat(deepest.acceptsReplies()).isFalse();
+        assertThatThrownBy(() -> createReply(deepest, "上限を超える返信"))
+            .isInstanceOf(DomainLayerErrorException.class)
+            .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST);
+        assertThat(commentRepositoryImpl.findById(deepest.getCommentId()).orElseThrow().getReplyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("異常系: 別の議論のコメントへの返信と、別の議論を指定したスレッドの取得は失敗すること")
+    void rejectsCommentsOfOtherDiscussions() {
+        Comment root = createRoot("議論のコメント");
+
+        assertThatThrownBy(() -> commentRepositoryImpl.findReplies(otherDiscussionId, root.getCommentId(), null, 10))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> commentRepositoryImpl.findThread(otherDiscussionId, root.getCommentId(), 3, 3, 100))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> commentRepositoryImpl.createComment(Comment.create(Paragraph.of("存在しない議論"), -1L, user.getUserId())))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Comment createRoot(final String paragraph) {
+        return commentRepositoryImpl.createComment(Comment.create(Paragraph.of(paragraph), discussionId, user.getUserId()));
+    }
+
+    private Comment createReply(final Comment parent, final String paragraph) {
+        return commentRepositoryImpl.createComment(Comment.createReply(Paragraph.of(paragraph), parent, user.getUserId()));
+    }
+}
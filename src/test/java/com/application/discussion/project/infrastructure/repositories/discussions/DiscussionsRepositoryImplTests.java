@@ -0,0 +1,121 @@
+package com.application.discussion.project.infrastructure.repositories.discussions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.Paragraph;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("DiscussionsRepositoryImpl 一括登録のテスト")
+class DiscussionsRepositoryImplTests {
+
+    private static final int DISCUSSION_COUNT = 120;
+
+    @Autowired
+    private DiscussionsRepositoryImpl discussionsRepositoryImpl;
+
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    private Statistics statistics;
+    private Long maintopicId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        RepositoryTestFixture fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        Users user = fixture.createUser("bulkinsertuser");
+        userId = user.getUserId();
+        maintopicId = fixture.createMaintopic(user, "一括登録検証").getId();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("一括登録したディスカッションに引数と同じ順序でIDと作成日時が設定されること")
+    void createDiscussionsReturnsSavedDiscussionsInOrder() {
+        List<Discussion> created = discussionsRepositoryImpl.createDiscussions(createDiscussions(DISCUSSION_COUNT));
+
+        assertThat(created).hasSize(DISCUSSION_COUNT);
+        assertThat(created).allMatch(discussion -> discussion.getDiscussionId() != null && discussion.getCreatedAt() != null);
+        assertThat(created).extracting(Discussion::getParagraph)
+            .containsExactlyElementsOf(IntStream.range(0, DISCUSSION_COUNT).mapToObj(i -> "一括登録" + i).toList());
+        assertThat(created).extracting(Discussion::getDiscussionId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("一括登録でメイントピックのディスカッション件数が登録件数分増えること")
+    void createDiscussionsIncrementsDiscussionCount() {
+        discussionsRepositoryImpl.createDiscussions(createDiscussions(DISCUSSION_COUNT));
+
+        assertThat(jpaMaintopicsRepository.findDiscussionCountById(maintopicId)).contains((long) DISCUSSION_COUNT);
+    }
+
+    @Test
+    @DisplayName("一括登録はJDBCバッチでまとめて送信され、1件ごとにSQLを発行しないこと")
+    void createDiscussionsUsesJdbcBatching() {
+        discussionsRepositoryImpl.createDiscussions(createDiscussions(DISCUSSION_COUNT));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(DISCUSSION_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(DISCUSSION_COUNT / 10);
+    }
+
+    @Test
+    @DisplayName("一括登録したディスカッションがまとめて検索対象への追加に渡されること")
+    void createDiscussionsIndexesCreatedDiscussions() {
+        List<Discussion> created = discussionsRepositoryImpl.createDiscussions(createDiscussions(DISCUSSION_COUNT));
+
+        verify(discussionSearchRepository).indexAll(created);
+    }
+
+    @Test
+    @DisplayName("空のリストを渡した場合はSQLを発行せず空のリストを返すこと")
+    void createDiscussionsReturnsEmptyListForEmptyInput() {
+        assertThat(discussionsRepositoryImpl.createDiscussions(List.of())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private List<Discussion> createDiscussions(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> Discussion.create(Paragraph.of("一括登録" + i), maintopicId, userId))
+            .toList();
+    }
+}
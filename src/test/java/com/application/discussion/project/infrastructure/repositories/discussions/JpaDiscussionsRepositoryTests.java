@@ -0,0 +1,130 @@
+package com.application.discussion.project.infrastructure.repositories.discussions;
+
+import static com.application.discussion.project.infrastructure.metrics.SqlStatementAssertions.assertNoRepeatedStatements;
+import static com.application.discussion.project.infrastructure.metrics.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.infrastructure.dtos.DiscussionsProjections;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("JpaDiscussionsRepository 発行SQL数のテスト")
+class JpaDiscussionsRepositoryTests {
+
+    private static final int DISCUSSION_COUNT = 5;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private JpaDiscussionsRepository jpaDiscussionsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Long maintopicId;
+
+    @BeforeEach
+    void setUp() {
+        RepositoryTestFixture fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        Users user = fixture.createUser("projectionuser");
+        Maintopics maintopic = fixture.createMaintopic(user, "プロジェクション検証");
+        maintopicId = maintopic.getId();
+        for (int i = 0; i < DISCUSSION_COUNT; i++) {
+            fixture.createDiscussion(maintopic, user, "議論内容" + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("スライス取得は関連エンティティを読み込まず1ページにつき1回のSQLのみ発行すること")
+    void findSliceByMaintopicIdIssuesSingleStatement() {
+        Slice<DiscussionsProjections> slice = jpaDiscussionsRepository.findSliceByMaintopicId(
+            maintopicId,
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
+        );
+        slice.getContent().forEach(this::readAllColumns);
+
+        assertThat(slice.getContent()).hasSize(PAGE_SIZE);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).allMatch(projection -> maintopicId.equals(projection.getMaintopicId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("カーソル方式の取得は1ページにつき1回のSQLのみ発行すること")
+    void findFirstPageNewestFirstIssuesSingleStatement() {
+        List<DiscussionsProjections> projections = jpaDiscussionsRepository.findFirstPageNewestFirst(
+            maintopicId,
+            PageRequest.of(0, PAGE_SIZE + 1)
+        );
+        projections.forEach(this::readAllColumns);
+
+        assertThat(projections).hasSize(PAGE_SIZE + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("ページ取得は関連エンティティを読み込まず、一覧取得と件数取得の2回のSQLのみ発行すること")
+    void findPageByMaintopicIdIssuesSelectAndCountOnly() {
+        jpaDiscussionsRepository.findPageByMaintopicId(
+            maintopicId,
+            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "discussionId"))
+        ).getContent().forEach(this::readAllColumns);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("スライス取得で各行の全項目を参照しても、同じSQLが繰り返し発行されない（N+1問題が発生しない）こと")
+    void findSliceByMaintopicIdDoesNotIssueRepeatedStatements() {
+        Runnable readFirstPage = () -> jpaDiscussionsRepository.findSliceByMaintopicId(
+            maintopicId,
+            PageRequest.of(0, DISCUSSION_COUNT, Sort.by(Sort.Direction.DESC, "createdAt"))
+        ).getContent().forEach(this::readAllColumns);
+
+        assertStatementCount(1L, readFirstPage);
+        assertNoRepeatedStatements(2, readFirstPage);
+    }
+
+    private void readAllColumns(final DiscussionsProjections projection) {
+        projection.getDiscussionId();
+        projection.getParagraph();
+        projection.getMaintopicId();
+        projection.getUserId();
+        projection.getCreatedAt();
+        projection.getUpdatedAt();
+        projection.getDeletedAt();
+    }
+}
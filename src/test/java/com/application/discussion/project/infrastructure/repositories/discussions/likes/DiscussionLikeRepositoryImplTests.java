@@ -0,0 +1,159 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.likes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.models.discussions.Discussions;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * いいねの登録はリポジトリのトランザクションで行われるため、テストメソッドをトランザクションで囲まずにデータを登録する
+ * 件数の反映は定期実行を待たずにflushを直接呼び出して確認する
+ */
+@SpringBootTest(properties = "springboot.app.likes.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+@DisplayName("DiscussionLikeRepositoryImpl いいねと件数の集計のテスト")
+class DiscussionLikeRepositoryImplTests {
+
+    private static final int USER_COUNT = 8;
+
+    @Autowired
+    private DiscussionLikeRepositoryImpl discussionLikeRepositoryImpl;
+
+    @Autowired
+    private DiscussionLikeCountAggregator discussionLikeCountAggregator;
+
+    @Autowired
+    private JpaDiscussionLikeCountsRepository jpaDiscussionLikeCountsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private List<Users> users;
+    private Discussions discussion;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(fixture.createUser("likeuser" + i));
+        }
+        Maintopics maintopic = fixture.createMaintopic(users.get(0), "いいね検証");
+        discussion = fixture.createDiscussion(maintopic, users.get(0), "いいね対象の議論");
+    }
+
+    @AfterEach
+    void tearDown() {
+        discussionLikeCountAggregator.flush();
+        fixture.executeInTransaction(() -> {
+            entityManager.createQuery("delete from DiscussionLikes l where l.id.discussionId = :discussionId")
+                .setParameter("discussionId", discussion.getId())
+                .executeUpdate();
+            entityManager.createQuery("delete from DiscussionLikeCounts c where c.discussionId = :discussionId")
+                .setParameter("discussionId", discussion.getId())
+                .executeUpdate();
+        });
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 同じユーザーのいいねは1件のみ登録され、反映前の件数にも含まれること")
+    void likeIsIdempotentAndCountedBeforeFlush() {
+        final Long discussionId = discussion.getId();
+
+        assertThat(discussionLikeRepositoryImpl.like(users.get(0).getUserId(), discussionId)).isTrue();
+        assertThat(discussionLikeRepositoryImpl.like(users.get(0).getUserId(), discussionId)).isFalse();
+
+        assertThat(discussionLikeRepositoryImpl.countLikes(List.of(discussionId))).containsEntry(discussionId, 1L);
+        assertThat(jpaDiscussionLikeCountsRepository.findById(discussionId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("正常系: 反映後は集計行に件数が保存され、取消も加算で反映されること")
+    void flushPersistsDeltasAdditively() {
+        final Long discussionId = discussion.getId();
+        discussionLikeRepositoryImpl.like(users.get(0).getUserId(), discussionId);
+        discussionLikeRepositoryImpl.like(users.get(1).getUserId(), discussionId);
+        discussionLikeCountAggregator.flush();
+
+        assertThat(jpaDiscussionLikeCountsRepository.findById(discussionId))
+            .hasValueSatisfying(count -> assertThat(count.getLikeCount()).isEqualTo(2L));
+
+        assertThat(discussionLikeRepositoryImpl.unlike(users.get(0).getUserId(), discussionId)).isTrue();
+        assertThat(discussionLikeRepositoryImpl.unlike(users.get(0).getUserId(), discussionId)).isFalse();
+        discussionLikeCountAggregator.flush();
+
+        assertThat(jpaDiscussionLikeCountsRepository.findById(discussionId))
+            .hasValueSatisfying(count -> assertThat(count.getLikeCount()).isEqualTo(1L));
+        assertThat(discussionLikeRepositoryImpl.countLikes(List.of(discussionId))).containsEntry(discussionId, 1L);
+    }
+
+    @Test
+    @DisplayName("正常系: 同じ議論への同時のいいねが全て件数に反映されること")
+    void concurrentLikesAreAllCounted() throws Exception {
+        final Long discussionId = discussion.getId();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+        try {
+            for (Users user : users) {
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    return discussionLikeRepositoryImpl.like(user.getUserId(), discussionId);
+                }));
+            }
+            startSignal.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        discussionLikeCountAggregator.flush();
+
+        assertThat(jpaDiscussionLikeCountsRepository.findById(discussionId))
+            .hasValueSatisfying(count -> assertThat(count.getLikeCount()).isEqualTo((long) USER_COUNT));
+    }
+
+    @Test
+    @DisplayName("異常系: 存在しない議論へのいいねはResourceNotFoundExceptionとなること")
+    void likeMissingDiscussionThrowsNotFound() {
+        assertThatThrownBy(() -> discussionLikeRepositoryImpl.like(users.get(0).getUserId(), Long.MAX_VALUE))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("正常系: いいねのない議論の件数は0となること")
+    void countLikesReturnsZeroForDiscussionsWithoutLikes() {
+        assertThat(discussionLikeRepositoryImpl.countLikes(List.of(discussion.getId())))
+            .containsEntry(discussion.getId(), 0L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("LikeDiscussionSearchRepositoryImpl 議論検索のテスト")
+class LikeDiscussionSearchRepositoryImplTests {
+
+    @Autowired
+    private LikeDiscussionSearchRepositoryImpl likeDiscussionSearchRepositoryImpl;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+
+    private Maintopics javaMaintopic;
+    private Maintopics otherMaintopic;
+    private Long twiceMentionedId;
+    private Long onceMentionedId;
+    private Long titleOnlyId;
+    private Long otherMaintopicId;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        Users user = fixture.createUser("searchuser");
+        javaMaintopic = fixture.createMaintopic(user, "Java設計の議論", "オブジェクト指向について");
+        otherMaintopic = fixture.createMaintopic(user, "雑談", null);
+
+        twiceMentionedId = persistDiscussion("JavaのレコードとJavaのクラス", javaMaintopic, user);
+        onceMentionedId = persistDiscussion("Javaのインターフェース", javaMaintopic, user);
+        titleOnlyId = persistDiscussion("継承より委譲", javaMaintopic, user);
+        otherMaintopicId = persistDiscussion("java 100%の自信", otherMaintopic, user);
+        persistDiscussion("Kotlinの話", otherMaintopic, user);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("本文・タイトル・説明の一致回数で重み付けしたスコアの降順に議論を取得すること")
+    void searchRanksByWeightedOccurrences() {
+        List<DiscussionSearchHit> hits = likeDiscussionSearchRepositoryImpl.search(SearchKeyword.of("JAVA"), null, null, 10);
+
+        assertThat(hits).extracting(DiscussionSearchHit::getDiscussionId)
+            .containsExactly(twiceMentionedId, onceMentionedId, otherMaintopicId, titleOnlyId);
+        assertThat(hits).extracting(DiscussionSearchHit::getScore)
+            .containsExactly(2.5, 1.5, 1.0, 0.5);
+        assertThat(hits.get(0).getMaintopicTitle()).isEqualTo("Java設計の議論");
+        assertThat(hits.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("複数語は全ての語を含む議論のみを取得し、メイントピックIDで絞り込めること")
+    void searchRequiresAllTermsAndFiltersByMaintopic() {
+        List<DiscussionSearchHit> allTerms = likeDiscussionSearchRepositoryImpl.search(SearchKeyword.of("java レコード"), null, null, 10);
+        List<DiscussionSearchHit> filtered = likeDiscussionSearchRepositoryImpl.search(SearchKeyword.of("java"), otherMaintopic.getId(), null, 10);
+
+        assertThat(allTerms).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(twiceMentionedId);
+        assertThat(filtered).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(otherMaintopicId);
+    }
+
+    @Test
+    @DisplayName("LIKEのワイルドカード文字は通常の文字として検索すること")
+    void searchEscapesWildcards() {
+        List<DiscussionSearchHit> hits = likeDiscussionSearchRepositoryImpl.search(SearchKeyword.of("100%"), null, null, 10);
+
+        assertThat(hits).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(otherMaintopicId);
+    }
+
+    @Test
+    @DisplayName("カーソルを指定するとカーソルより後の結果のみを取得し、全件を重複なく辿れること")
+    void searchContinuesFromCursor() {
+        SearchKeyword keyword = SearchKeyword.of("java");
+        List<DiscussionSearchHit> firstPage = likeDiscussionSearchRepositoryImpl.search(keyword, null, null, 2);
+        DiscussionSearchHit last = firstPage.get(firstPage.size() - 1);
+
+        List<DiscussionSearchHit> secondPage = likeDiscussionSearchRepositoryImpl.search(
+            keyword, null, DiscussionSearchCursor.of(last.getScore(), last.getDiscussionId()), 2
+        );
+
+        assertThat(firstPage).extracting(DiscussionSearchHit::getDiscussionId)
+            .containsExactly(twiceMentionedId, onceMentionedId);
+        assertThat(secondPage).extracting(DiscussionSearchHit::getDiscussionId)
+            .containsExactly(otherMaintopicId, titleOnlyId);
+    }
+
+    private Long persistDiscussion(String paragraph, Maintopics maintopic, Users user) {
+        return fixture.createDiscussion(maintopic, user, paragraph).getId();
+    }
+}
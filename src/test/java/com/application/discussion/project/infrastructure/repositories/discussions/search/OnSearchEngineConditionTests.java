@@ -0,0 +1,40 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("OnSearchEngineCondition単体テスト")
+public class OnSearchEngineConditionTests {
+
+    @Test
+    @DisplayName("正常系: 方式を指定しない場合、データソースがPostgreSQLであればpostgresになること")
+    void resolveEngineDefaultsToPostgresForPostgresDatasource() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.url", "jdbc:postgresql://localhost:5432/discussion?reWriteBatchedInserts=true");
+
+        assertThat(OnSearchEngineCondition.resolveEngine(environment)).isEqualTo("postgres");
+    }
+
+    @Test
+    @DisplayName("正常系: 方式を指定しない場合、データソースがH2であればdatabaseになること")
+    void resolveEngineDefaultsToDatabaseForH2Datasource() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.url", "jdbc:h2:mem:testdb");
+
+        assertThat(OnSearchEngineCondition.resolveEngine(environment)).isEqualTo("database");
+        assertThat(OnSearchEngineCondition.resolveEngine(new MockEnvironment())).isEqualTo("database");
+    }
+
+    @Test
+    @DisplayName("正常系: 方式を指定した場合はデータソースに関わらず指定した方式になること")
+    void resolveEngineUsesExplicitEngine() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.datasource.url", "jdbc:postgresql://localhost:5432/discussion")
+            .withProperty("springboot.app.search.engine", "database");
+
+        assertThat(OnSearchEngineCondition.resolveEngine(environment)).isEqualTo("database");
+    }
+}
@@ -0,0 +1,116 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.valueobjects.discussions.DiscussionSearchCursor;
+
+@DisplayName("DiscussionInvertedIndex ユニットテスト")
+class DiscussionInvertedIndexTests {
+
+    private static final LocalDateTime TEST_CREATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30, 15, 123456000);
+    private static final Map<Long, String> MAINTOPIC_TITLES = Map.of(1L, "働き方", 2L, "プログラミング");
+    private static final LongFunction<String> TITLES = MAINTOPIC_TITLES::get;
+
+    private DiscussionInvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DiscussionInvertedIndex();
+        index.add(10L, 1L, TEST_CREATED_AT, "リモートワークは通勤時間が不要になる");
+        index.add(11L, 1L, TEST_CREATED_AT, "会議もリモートワーク、研修もリモートワーク");
+        index.add(12L, 2L, TEST_CREATED_AT, "Javaのリモートデバッグ");
+        index.add(13L, 2L, TEST_CREATED_AT, "ワークフローとリモコン");
+    }
+
+    @Test
+    @DisplayName("正常系: 検索語を含む議論のみを、出現回数の多い順に本文・作成日時とともに取得すること")
+    void searchReturnsMatchingDiscussionsRankedByFrequency() {
+        List<DiscussionSearchHit> hits = index.search(List.of("リモートワーク"), null, null, 10, TITLES);
+
+        assertThat(hits).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(11L, 10L);
+        assertThat(hits.get(0).getParagraph()).isEqualTo("会議もリモートワーク、研修もリモートワーク");
+        assertThat(hits.get(0).getMaintopicTitle()).isEqualTo("働き方");
+        assertThat(hits.get(0).getCreatedAt()).isEqualTo(TEST_CREATED_AT);
+        assertThat(hits.get(0).getScore()).isGreaterThanOrEqualTo(hits.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("正常系: bigramが全て含まれていても検索語が連続しない議論は除外すること")
+    void searchExcludesFalsePositivesOfBigrams() {
+        index.add(14L, 1L, TEST_CREATED_AT, "ートワ と リモー と モート");
+
+        List<DiscussionSearchHit> hits = index.search(List.of("リモートワ"), null, null, 10, TITLES);
+
+        assertThat(hits).extracting(DiscussionSearchHit::getDiscussionId).containsExactlyInAnyOrder(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("正常系: 1文字の検索語、大文字・小文字の違い、複数語のAND検索に対応すること")
+    void searchSupportsSingleCharacterCaseInsensitiveAndTerms() {
+        assertThat(index.search(List.of("研"), null, null, 10, TITLES))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(11L);
+        assertThat(index.search(List.of("java"), null, null, 10, TITLES))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(12L);
+        assertThat(index.search(List.of("リモート", "会議"), null, null, 10, TITLES))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(11L);
+        assertThat(index.search(List.of("存在しない"), null, null, 10, TITLES)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("正常系: メイントピックで絞り込み、削除済みのメイントピックの議論は除外すること")
+    void searchFiltersByMaintopic() {
+        assertThat(index.search(List.of("リモート"), 2L, null, 10, TITLES))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(12L);
+        assertThat(index.search(List.of("リモート"), null, null, 10, Map.of(2L, "プログラミング")::get))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(12L);
+    }
+
+    @Test
+    @DisplayName("正常系: 削除した議論は検索されず、削除後に追加しても索引しないこと")
+    void removeExcludesDiscussion() {
+        assertThat(index.remove(10L)).isTrue();
+        assertThat(index.remove(10L)).isFalse();
+        assertThat(index.remove(99L)).isFalse();
+
+        assertThat(index.add(10L, 1L, TEST_CREATED_AT, "リモートワーク")).isFalse();
+        assertThat(index.add(99L, 1L, TEST_CREATED_AT, "リモートワーク")).isFalse();
+        assertThat(index.search(List.of("リモートワーク"), null, null, 10, TITLES))
+            .extracting(DiscussionSearchHit::getDiscussionId).containsExactly(11L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("正常系: カーソルを指定すると並び順でカーソルより後の結果のみを取得し、全件を重複なく辿れること")
+    void searchContinuesFromCursor() {
+        for (long id = 100; id < 400; id++) {
+            index.add(id, 1L, TEST_CREATED_AT, "検索".repeat((int) (id % 7) + 1) + "の議論" + id);
+        }
+        List<DiscussionSearchHit> all = index.search(List.of("検索"), null, null, 1000, TITLES);
+
+        List<Long> paged = new ArrayList<>();
+        DiscussionSearchCursor cursor = null;
+        while (true) {
+            List<DiscussionSearchHit> page = index.search(List.of("検索"), null, cursor, 25, TITLES);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(hit -> paged.add(hit.getDiscussionId()));
+            DiscussionSearchHit last = page.get(page.size() - 1);
+            cursor = DiscussionSearchCursor.of(last.getScore(), last.getDiscussionId());
+        }
+
+        assertThat(all).hasSize(300);
+        assertThat(paged).containsExactlyElementsOf(all.stream().map(DiscussionSearchHit::getDiscussionId).toList());
+    }
+}
@@ -0,0 +1,149 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.discussions.DiscussionSearchHit;
+import com.application.discussion.project.domain.repositories.DiscussionSearchRepository;
+import com.application.discussion.project.domain.valueobjects.discussions.SearchKeyword;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * インデックスへの反映はコミット後に行われるため、テストメソッドをトランザクションで囲まずにデータを登録・削除する
+ */
+@SpringBootTest(properties = "springboot.app.search.engine=memory")
+@ActiveProfiles("test")
+@DisplayName("InMemoryDiscussionSearchRepositoryImpl アプリケーション内検索のテスト")
+class InMemoryDiscussionSearchRepositoryImplTests {
+
+    @Autowired
+    private DiscussionSearchRepository discussionSearchRepository;
+
+    @Autowired
+    private InMemoryDiscussionSearchRepositoryImpl inMemoryDiscussionSearchRepositoryImpl;
+
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private Users user;
+    private Maintopics maintopic;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        user = fixture.createUser("memorysearchuser");
+        maintopic = fixture.createMaintopic(user, "働き方の議論");
+        fixture.createDiscussion(maintopic, user, "リモートワークは通勤が不要");
+        fixture.createDiscussion(maintopic, user, "オフィスでの雑談");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+        inMemoryDiscussionSearchRepositoryImpl.rebuild();
+    }
+
+    @Test
+    @DisplayName("再構築でデータベースの議論が検索対象となり、メイントピックのタイトルとともに取得できること")
+    void rebuildIndexesStoredDiscussions() {
+        inMemoryDiscussionSearchRepositoryImpl.rebuild();
+
+        List<DiscussionSearchHit> hits = discussionSearchRepository.search(SearchKeyword.of("リモート"), null, null, 10);
+
+        assertThat(hits).extracting(DiscussionSearchHit::getParagraph).containsExactly("リモートワークは通勤が不要");
+        assertThat(hits.get(0).getMaintopicId()).isEqualTo(maintopic.getId());
+        assertThat(hits.get(0).getMaintopicTitle()).isEqualTo("働き方の議論");
+        assertThat(hits.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("作成・削除の通知で差分が反映され、メイントピックの更新が検索結果に反映されること")
+    void notificationsUpdateIndexIncrementally() {
+        inMemoryDiscussionSearchRepositoryImpl.rebuild();
+        Discussion created = Discussion.of(
+            9_000_001L, "リモート会議のコツ", maintopic.getId(), user.getUserId(), LocalDateTime.now(), null, null
+        );
+
+        discussionSearchRepository.index(created);
+        List<DiscussionSearchHit> afterCreate = discussionSearchRepository.search(SearchKeyword.of("会議"), null, null, 10);
+
+        discussionSearchRepository.remove(created.getDiscussionId());
+        List<DiscussionSearchHit> afterRemove = discussionSearchRepository.search(SearchKeyword.of("会議"), null, null, 10);
+
+        fixture.executeInTransaction(() -> jpaMaintopicsRepository.findById(maintopic.getId())
+            .ifPresent(entity -> entity.setTitle("在宅勤務の議論")));
+        discussionSearchRepository.refreshMaintopic(maintopic.getId());
+        List<DiscussionSearchHit> afterRename = discussionSearchRepository.search(SearchKeyword.of("リモート"), null, null, 10);
+
+        assertThat(afterCreate).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(9_000_001L);
+        assertThat(afterRemove).isEmpty();
+        assertThat(afterRename).extracting(DiscussionSearchHit::getMaintopicTitle).containsExactly("在宅勤務の議論");
+    }
+
+    @Test
+    @DisplayName("一括作成の通知でまとめて反映され、削除済みの割合が上限を超えた場合は再構築で解放されること")
+    void compactionReleasesRemovedDiscussions() {
+        inMemoryDiscussionSearchRepositoryImpl.rebuild();
+        final LocalDateTime now = LocalDateTime.now();
+        discussionSearchRepository.indexAll(List.of(
+            Discussion.of(9_000_011L, "リモート研修の資料", maintopic.getId(), user.getUserId(), now, null, null),
+            Discussion.of(9_000_012L, "リモート研修の日程", maintopic.getId(), user.getUserId(), now, null, null)
+        ));
+        List<DiscussionSearchHit> afterIndexAll = discussionSearchRepository.search(SearchKeyword.of("研修"), null, null, 10);
+        discussionSearchRepository.remove(9_000_011L);
+        discussionSearchRepository.remove(9_000_012L);
+
+        final DiscussionInvertedIndex beforeCompaction = currentIndex();
+        final int liveDiscussions = beforeCompaction.size();
+        final double removedRatio = (double) beforeCompaction.removedSize() / (beforeCompaction.removedSize() + liveDiscussions);
+
+        ReflectionTestUtils.setField(inMemoryDiscussionSearchRepositoryImpl, "compactionMinRemoved", 1);
+        ReflectionTestUtils.setField(inMemoryDiscussionSearchRepositoryImpl, "compactionRemovedRatio", removedRatio * 1.5);
+        inMemoryDiscussionSearchRepositoryImpl.compactIfNeeded();
+        final DiscussionInvertedIndex belowRatio = currentIndex();
+        ReflectionTestUtils.setField(inMemoryDiscussionSearchRepositoryImpl, "compactionRemovedRatio", removedRatio / 2);
+        inMemoryDiscussionSearchRepositoryImpl.compactIfNeeded();
+        final DiscussionInvertedIndex afterCompaction = currentIndex();
+        ReflectionTestUtils.setField(inMemoryDiscussionSearchRepositoryImpl, "compactionMinRemoved", 10_000);
+        ReflectionTestUtils.setField(inMemoryDiscussionSearchRepositoryImpl, "compactionRemovedRatio", 0.2d);
+
+        assertThat(afterIndexAll).extracting(DiscussionSearchHit::getDiscussionId).containsExactly(9_000_012L, 9_000_011L);
+        assertThat(belowRatio).isSameAs(beforeCompaction);
+        assertThat(beforeCompaction.removedSize()).isEqualTo(2);
+        assertThat(afterCompaction).isNotSameAs(beforeCompaction);
+        assertThat(afterCompaction.removedSize()).isZero();
+        assertThat(afterCompaction.size()).isEqualTo(liveDiscussions);
+        assertThat(discussionSearchRepository.search(SearchKeyword.of("リモート"), null, null, 10))
+            .extracting(DiscussionSearchHit::getParagraph)
+            .containsExactly("リモートワークは通勤が不要");
+    }
+
+    private DiscussionInvertedIndex currentIndex() {
+        return (DiscussionInvertedIndex) ReflectionTestUtils.getField(inMemoryDiscussionSearchRepositoryImpl, "index");
+    }
+}
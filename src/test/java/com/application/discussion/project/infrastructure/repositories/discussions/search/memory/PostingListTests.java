@@ -0,0 +1,71 @@
+package com.application.discussion.project.infrastructure.repositories.discussions.search.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PostingList ユニットテスト")
+class PostingListTests {
+
+    @Test
+    @DisplayName("正常系: 追加した文書番号と出現回数を文書番号の降順に読み出せること")
+    void readerReturnsAddedPostingsInDescendingOrder() {
+        PostingList postingList = new PostingList();
+        List<Integer> expected = new ArrayList<>();
+        for (int document = 0; document < 1000; document += 3) {
+            postingList.add(document * 1000, document % 5 + 1);
+            expected.add(document * 1000);
+        }
+        Collections.reverse(expected);
+
+        PostingList.Reader reader = postingList.reader();
+        List<Integer> documents = new ArrayList<>();
+        while (reader.previous()) {
+            documents.add(reader.document());
+            assertThat(reader.frequency()).isEqualTo(reader.document() / 1000 % 5 + 1);
+        }
+
+        assertThat(postingList.size()).isEqualTo(expected.size());
+        assertThat(documents).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("正常系: 指定した文書番号以下の最後の文書に戻れること")
+    void retreatMovesToTargetDocument() {
+        PostingList postingList = new PostingList();
+        for (int document = 0; document < 10_000; document += 2) {
+            postingList.add(document, 1);
+        }
+        PostingList.Reader reader = postingList.reader();
+
+        assertThat(reader.retreat(9_999)).isTrue();
+        assertThat(reader.document()).isEqualTo(9_998);
+        assertThat(reader.retreat(7_001)).isTrue();
+        assertThat(reader.document()).isEqualTo(7_000);
+        assertThat(reader.retreat(7_000)).isTrue();
+        assertThat(reader.document()).isEqualTo(7_000);
+        assertThat(reader.previous()).isTrue();
+        assertThat(reader.document()).isEqualTo(6_998);
+        assertThat(reader.retreat(5)).isTrue();
+        assertThat(reader.document()).isEqualTo(4);
+        assertThat(reader.retreat(0)).isTrue();
+        assertThat(reader.document()).isEqualTo(0);
+        assertThat(reader.previous()).isFalse();
+    }
+
+    @Test
+    @DisplayName("正常系: 指定した文書番号以下の文書がない場合はfalseを返すこと")
+    void retreatReturnsFalseWhenNoDocumentPrecedesTarget() {
+        PostingList postingList = new PostingList();
+        postingList.add(10, 1);
+        postingList.add(20, 2);
+        PostingList.Reader reader = postingList.reader();
+
+        assertThat(reader.retreat(9)).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompactIdBitmap ユニットテスト")
+class CompactIdBitmapTests {
+
+    @Test
+    @DisplayName("正常系: 追加したIDのみが含まれ、重複した追加・存在しないIDの削除は変更にならないこと")
+    void addAndRemoveTrackMembership() {
+        CompactIdBitmap bitmap = new CompactIdBitmap();
+
+        assertThat(bitmap.add(42L)).isTrue();
+        assertThat(bitmap.add(42L)).isFalse();
+        assertThat(bitmap.add(1L << 40)).isTrue();
+
+        assertThat(bitmap.contains(42L)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains(43L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2L);
+
+        assertThat(bitmap.remove(43L)).isFalse();
+        assertThat(bitmap.remove(42L)).isTrue();
+        assertThat(bitmap.contains(42L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("正常系: コンテナの表現が配列とビットマップの間で切り替わっても集合が保たれること")
+    void membershipSurvivesContainerConversion() {
+        CompactIdBitmap bitmap = new CompactIdBitmap();
+        for (long id = 0; id < 10_000; id += 2) {
+            bitmap.add(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(5_000L);
+        assertThat(bitmap.contains(9_998L)).isTrue();
+        assertThat(bitmap.contains(9_999L)).isFalse();
+
+        for (long id = 0; id < 10_000; id += 4) {
+            bitmap.remove(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(2_500L);
+        for (long id = 0; id < 10_000; id++) {
+            assertThat(bitmap.contains(id)).isEqualTo(id % 4 == 2);
+        }
+    }
+
+    @Test
+    @DisplayName("正常系: ランダムな追加・削除の結果がHashSetと一致すること")
+    void randomOperationsMatchHashSet() {
+        Random random = new Random(42);
+        CompactIdBitmap bitmap = new CompactIdBitmap();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long id = random.nextInt(300_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+            } else {
+                assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long id = 0; id < 300_000; id++) {
+            assertThat(bitmap.contains(id)).isEqualTo(expected.contains(id));
+        }
+    }
+}
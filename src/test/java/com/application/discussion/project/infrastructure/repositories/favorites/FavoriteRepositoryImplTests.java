@@ -0,0 +1,133 @@
+package com.application.discussion.project.infrastructure.repositories.favorites;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.domain.valueobjects.favorites.FavoriteTargetType;
+import com.application.discussion.project.infrastructure.exceptions.ResourceNotFoundException;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * お気に入りの追加はリポジトリのトランザクションで行われるため、テストメソッドをトランザクションで囲まずにデータを登録する
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("FavoriteRepositoryImpl お気に入りとビットマップキャッシュのテスト")
+class FavoriteRepositoryImplTests {
+
+    private static final int DISCUSSION_COUNT = 100;
+
+    @Autowired
+    private FavoriteRepositoryImpl favoriteRepositoryImpl;
+
+    @Autowired
+    private FavoriteBitmapCache favoriteBitmapCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private Users user;
+    private Maintopics maintopic;
+    private List<Long> discussionIds;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        user = fixture.createUser("favoriteuser");
+        maintopic = fixture.createMaintopic(user, "お気に入り検証");
+        discussionIds = fixture.getInTransaction(() -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < DISCUSSION_COUNT; i++) {
+                ids.add(fixture.createDiscussion(maintopic, user, "お気に入り対象の議論" + i).getId());
+            }
+            return ids;
+        });
+        favoriteBitmapCache.invalidate(user.getUserId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        favoriteBitmapCache.invalidate(user.getUserId());
+        fixture.executeInTransaction(() -> entityManager.createQuery("delete from Favorites f where f.id.userId = :userId")
+            .setParameter("userId", user.getUserId())
+            .executeUpdate());
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 同じ対象の追加は1件のみ登録され、削除後はお気に入りでなくなること")
+    void favoriteIsIdempotentAndRemovable() {
+        Long discussionId = discussionIds.get(0);
+
+        assertThat(favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionId)).isTrue();
+        assertThat(favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionId)).isFalse();
+        assertThat(favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.DISCUSSION, List.of(discussionId)))
+            .containsExactly(discussionId);
+
+        assertThat(favoriteRepositoryImpl.unfavorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionId)).isTrue();
+        assertThat(favoriteRepositoryImpl.unfavorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionId)).isFalse();
+        assertThat(favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.DISCUSSION, List.of(discussionId)))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("正常系: 読み込み後のお気に入り状態の判定はクエリを発行せず、追加・削除が反映されること")
+    void findFavoritedIdsUsesCachedBitmap() {
+        favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds.get(3));
+        favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.MAINTOPIC, maintopic.getId());
+        favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds);
+
+        favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds.get(7));
+        favoriteRepositoryImpl.unfavorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds.get(3));
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds))
+            .containsExactly(discussionIds.get(7));
+        assertThat(favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.MAINTOPIC, List.of(maintopic.getId())))
+            .containsExactly(maintopic.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("正常系: キャッシュを破棄した後はデータベースから読み込み直すこと")
+    void findFavoritedIdsReloadsAfterInvalidation() {
+        favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds.get(1));
+        favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds.get(2));
+        favoriteBitmapCache.invalidate(user.getUserId());
+
+        assertThat(favoriteRepositoryImpl.findFavoritedIds(user.getUserId(), FavoriteTargetType.DISCUSSION, discussionIds))
+            .containsExactly(discussionIds.get(1), discussionIds.get(2));
+    }
+
+    @Test
+    @DisplayName("異常系: 存在しない対象の追加はResourceNotFoundExceptionとなること")
+    void favoriteMissingTargetThrowsNotFound() {
+        assertThatThrownBy(() -> favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.MAINTOPIC, Long.MAX_VALUE))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> favoriteRepositoryImpl.favorite(user.getUserId(), FavoriteTargetType.DISCUSSION, Long.MAX_VALUE))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package com.application.discussion.project.infrastructure.repositories.notifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.domain.entities.discussions.Discussion;
+import com.application.discussion.project.domain.entities.notifications.Notification;
+import com.application.discussion.project.domain.entities.notifications.NotificationInbox;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 通知の配信は定期実行を待たずにdispatchを直接呼び出して確認する
+ * メイントピックの作成者と、議論を投稿した2人のユーザーを参加者とし、参加していないユーザーを1人登録する
+ */
+@SpringBootTest(properties = "springboot.app.notifications.dispatch-interval-ms=3600000")
+@ActiveProfiles("test")
+@DisplayName("NotificationRepositoryImpl 通知の配信と既読のテスト")
+class NotificationRepositoryImplTests {
+
+    @Autowired
+    private NotificationRepositoryImpl notificationRepositoryImpl;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private Users owner;
+    private Users participant;
+    private Users author;
+    private Users outsider;
+    private Maintopics maintopic;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        owner = fixture.createUser("notificationowner");
+        participant = fixture.createUser("notificationparticipant");
+        author = fixture.createUser("notificationauthor");
+        outsider = fixture.createUser("notificationoutsider");
+        maintopic = fixture.createMaintopic(owner, "通知検証");
+        fixture.createDiscussion(maintopic, participant, "参加者の議論");
+        fixture.createDiscussion(maintopic, author, "投稿者の議論");
+    }
+
+    @AfterEach
+    void tearDown() {
+        final List<UUID> userIds = fixture.getUserIds();
+        fixture.executeInTransaction(() -> {
+            entityManager.createQuery("delete from Notifications n where n.userId in (:userIds)")
+                .setParameter("userIds", userIds)
+                .executeUpdate();
+            entityManager.createQuery("delete from NotificationInboxes i where i.userId in (:userIds)")
+                .setParameter("userIds", userIds)
+                .executeUpdate();
+        });
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 議論の投稿は投稿者を除くメイントピックの参加者にのみ配信され、未読件数が加算されること")
+    void dispatchFansOutToParticipantsExceptActor() {
+        for (long discussionId = 1; discussionId <= 3; discussionId++) {
+            notificationRepositoryImpl.publishDiscussionCreated(discussionBy(author, discussionId));
+        }
+
+        assertThat(notificationDispatcher.dispatch()).isEqualTo(6L);
+
+        assertThat(notificationRepositoryImpl.findInbox(owner.getUserId()).getUnreadCount()).isEqualTo(3L);
+        assertThat(notificationRepositoryImpl.findInbox(participant.getUserId()).getUnreadCount()).isEqualTo(3L);
+        assertThat(notificationRepositoryImpl.findInbox(author.getUserId()).getUnreadCount()).isZero();
+        assertThat(notificationRepositoryImpl.findInbox(outsider.getUserId()).getUnreadCount()).isZero();
+        assertThat(notificationRepositoryImpl.findNotifications(owner.getUserId(), null, 10))
+            .extracting(Notification::getDiscussionId)
+            .containsExactly(3L, 2L, 1L);
+        assertThat(notificationDispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("正常系: 1つの操作の受信者がrows-per-transactionを超える場合も、分割して全ての受信者に配信されること")
+    void dispatchSplitsRecipientsOfOneEventIntoChunks() {
+        final int rowsPerTransaction = (int) ReflectionTestUtils.getField(notificationDispatcher, "rowsPerTransaction");
+        ReflectionTestUtils.setField(notificationDispatcher, "rowsPerTransaction", 1);
+        try {
+            notificationRepositoryImpl.publishDiscussionCreated(discussionBy(author, 1L));
+            notificationRepositoryImpl.publishDiscussionCreated(discussionBy(outsider, 2L));
+
+            assertThat(notificationDispatcher.dispatch()).isEqualTo(5L);
+        } finally {
+            ReflectionTestUtils.setField(notificationDispatcher, "rowsPerTransaction", rowsPerTransaction);
+        }
+
+        assertThat(notificationRepositoryImpl.findInbox(owner.getUserId()).getUnreadCount()).isEqualTo(2L);
+        assertThat(notificationRepositoryImpl.findInbox(participant.getUserId()).getUnreadCount()).isEqualTo(2L);
+        assertThat(notificationRepositoryImpl.findInbox(author.getUserId()).getUnreadCount()).isEqualTo(1L);
+        assertThat(notificationRepositoryImpl.findInbox(outsider.getUserId()).getUnreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("正常系: 既読位置までの通知がまとめて既読になり、未読件数が減ること")
+    void markReadAdvancesWatermark() {
+        for (long discussionId = 1; discussionId <= 4; discussionId++) {
+            notificationRepositoryImpl.publishDiscussionCreated(discussionBy(author, discussionId));
+        }
+        notificationDispatcher.dispatch();
+        List<Notification> notifications = notificationRepositoryImpl.findNotifications(owner.getUserId(), null, 10);
+
+        NotificationInbox inbox = notificationRepositoryImpl.markRead(owner.getUserId(), notifications.get(1).getNotificationId());
+
+        assertThat(inbox.getUnreadCount()).isEqualTo(1L);
+        assertThat(inbox.getLastReadId()).isEqualTo(notifications.get(1).getNotificationId());
+        assertThat(inbox.isRead(notifications.get(0))).isFalse();
+        assertThat(inbox.isRead(notifications.get(3))).isTrue();
+        assertThat(notificationRepositoryImpl.markRead(owner.getUserId(), notifications.get(3).getNotificationId()).getLastReadId())
+            .isEqualTo(notifications.get(1).getNotificationId());
+        assertThat(notificationRepositoryImpl.findInbox(participant.getUserId()).getUnreadCount()).isEqualTo(4L);
+        assertThat(notificationRepositoryImpl.findNotifications(owner.getUserId(), notifications.get(1).getNotificationId(), 10))
+            .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("正常系: 配信済みの通知IDを超える既読位置は配信済みの最大IDに揃えられ、後から配信された通知は未読になること")
+    void markReadIsClampedToDeliveredNotifications() {
+        notificationRepositoryImpl.publishDiscussionCreated(discussionBy(author, 1L));
+        notificationDispatcher.dispatch();
+        Long deliveredId = notificationRepositoryImpl.findNotifications(owner.getUserId(), null, 1).get(0).getNotificationId();
+
+        NotificationInbox inbox = notificationRepositoryImpl.markRead(owner.getUserId(), Long.MAX_VALUE);
+        notificationRepositoryImpl.publishDiscussionCreated(discussionBy(participant, 2L));
+        notificationDispatcher.dispatch();
+
+        assertThat(inbox.getLastReadId()).isEqualTo(deliveredId);
+        assertThat(inbox.getUnreadCount()).isZero();
+        assertThat(notificationRepositoryImpl.findInbox(owner.getUserId()).getUnreadCount()).isEqualTo(1L);
+    }
+
+    private Discussion discussionBy(final Users user, final Long discussionId) {
+        return Discussion.of(discussionId, "通知対象の議論", maintopic.getId(), user.getUserId(), LocalDateTime.now(), null, null);
+    }
+}
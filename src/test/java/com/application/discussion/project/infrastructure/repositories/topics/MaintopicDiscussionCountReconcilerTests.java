@@ -0,0 +1,46 @@
+package com.application.discussion.project.infrastructure.repositories.topics;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaintopicDiscussionCountReconciler単体テスト")
+public class MaintopicDiscussionCountReconcilerTests {
+
+    @Mock
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @InjectMocks
+    private MaintopicDiscussionCountReconciler maintopicDiscussionCountReconciler;
+
+    @Test
+    @DisplayName("正常系: 起動時の再計算が無効の場合は未初期化の件数だけを補正すること")
+    void runBackfillsUninitializedCountsWhenReconcileDisabled() {
+        ReflectionTestUtils.setField(maintopicDiscussionCountReconciler, "isReconcileOnStartupEnabled", false);
+
+        maintopicDiscussionCountReconciler.run(new DefaultApplicationArguments());
+
+        verify(jpaMaintopicsRepository).backfillUninitializedDiscussionCounts();
+        verify(jpaMaintopicsRepository, never()).recalculateDiscussionCounts();
+    }
+
+    @Test
+    @DisplayName("正常系: 起動時の再計算が有効の場合は全メイントピックの件数を再計算すること")
+    void runRecalculatesAllCountsWhenReconcileEnabled() {
+        ReflectionTestUtils.setField(maintopicDiscussionCountReconciler, "isReconcileOnStartupEnabled", true);
+
+        maintopicDiscussionCountReconciler.run(new DefaultApplicationArguments());
+
+        verify(jpaMaintopicsRepository).recalculateDiscussionCounts();
+        verify(jpaMaintopicsRepository, never()).backfillUninitializedDiscussionCounts();
+    }
+}
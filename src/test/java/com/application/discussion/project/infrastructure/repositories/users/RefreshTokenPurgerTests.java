@@ -0,0 +1,128 @@
+package com.application.discussion.project.infrastructure.repositories.users;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.application.discussion.project.infrastructure.models.users.RefreshTokens;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.RepositoryTestFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 削除はバッチごとに別のトランザクションで行われるため、テストメソッドをトランザクションで囲まずにデータを登録する
+ */
+@SpringBootTest(properties = {
+    "springboot.app.authentication.refresh-token-purge.retention-ms=0",
+    "springboot.app.authentication.refresh-token-purge.batch-size=2",
+    "springboot.app.authentication.refresh-token-purge.batch-pause-ms=0"
+})
+@ActiveProfiles("test")
+@DisplayName("RefreshTokenPurger リフレッシュトークンの定期削除のテスト")
+class RefreshTokenPurgerTests {
+
+    @Autowired
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RepositoryTestFixture fixture;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new RepositoryTestFixture(entityManager, transactionManager);
+        user = fixture.createUser("refreshpurgeuser");
+        fixture.executeInTransaction(() -> {
+            for (int i = 0; i < 5; i++) {
+                entityManager.persist(refreshToken(LocalDateTime.now().minusDays(1).minusMinutes(i), true));
+            }
+            entityManager.persist(refreshToken(LocalDateTime.now().plusDays(1), false));
+            entityManager.persist(refreshToken(LocalDateTime.now().plusDays(1), true));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    @DisplayName("正常系: 有効期限切れのトークンのみを件数上限ごとに繰り返し削除すること")
+    void purgeDeletesOnlyExpiredTokensInBatches() {
+        long deletedCountBefore = refreshTokenPurger.getDeletedCount();
+
+        long actualDeleted = refreshTokenPurger.purge();
+
+        assertThat(actualDeleted).isEqualTo(5);
+        assertThat(refreshTokenPurger.getDeletedCount() - deletedCountBefore).isEqualTo(5);
+        assertThat(countTokens("t.expiresAt < current_timestamp")).isZero();
+        assertThat(countTokens("t.expiresAt >= current_timestamp")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("正常系: 使用済みでも有効期限内のトークンは削除しないこと")
+    void purgeKeepsUsedTokensUntilExpiry() {
+        refreshTokenPurger.purge();
+
+        assertThat(countTokens("t.isUsed = true")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("正常系: 失効済みのトークンは未使用のもののみ有効期限を待たずに削除すること")
+    void purgeDeletesRevokedUnusedTokensBeforeExpiry() {
+        fixture.executeInTransaction(() -> {
+            for (int i = 0; i < 3; i++) {
+                entityManager.persist(refreshToken(LocalDateTime.now().plusDays(1), false, true));
+            }
+            entityManager.persist(refreshToken(LocalDateTime.now().plusDays(1), true, true));
+        });
+
+        long actualDeleted = refreshTokenPurger.purge();
+
+        assertThat(actualDeleted).isEqualTo(8);
+        assertThat(countTokens("t.isRevoked = true and t.isUsed = false")).isZero();
+        assertThat(countTokens("t.isRevoked = true and t.isUsed = true")).isEqualTo(1);
+        assertThat(countTokens("t.isRevoked = false")).isEqualTo(2);
+    }
+
+    private long countTokens(final String condition) {
+        return fixture.getInTransaction(() -> entityManager.createQuery(
+                "select count(t) from RefreshTokens t where t.user.userId = :userId and " + condition,
+                Long.class
+            )
+            .setParameter("userId", user.getUserId())
+            .getSingleResult());
+    }
+
+    private RefreshTokens refreshToken(final LocalDateTime expiresAt, final boolean isUsed) {
+        return refreshToken(expiresAt, isUsed, false);
+    }
+
+    private RefreshTokens refreshToken(final LocalDateTime expiresAt, final boolean isUsed, final boolean isRevoked) {
+        return new RefreshTokens(
+            null,
+            user,
+            UUID.randomUUID().toString().replace("-", "") + UUID.randomUUID().toString().replace("-", ""),
+            expiresAt,
+            isUsed,
+            isRevoked,
+            null
+        );
+    }
+}
@@ -11,10 +11,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.application.discussion.project.application.services.security.AuthenticatedUserCache;
 import com.application.discussion.project.domain.entities.users.RefreshToken;
 import com.application.discussion.project.infrastructure.models.users.RefreshTokens;
 import com.application.discussion.project.infrastructure.models.users.Users;
@@ -30,6 +36,9 @@ public class RefreshTokenRepositoryImplTests {
     @Mock
     private JpaRefreshTokenRepository mockJpaRefreshTokenRepository;
 
+    @Mock
+    private AuthenticatedUserCache mockAuthenticatedUserCache;
+
     @InjectMocks
     private RefreshTokenRepositoryImpl refreshTokenRepository;
 
@@ -113,13 +122,43 @@ public class RefreshTokenRepositoryImplTests {
         refreshTokenRepository.revokeAllByUserId(TEST_USER_ID);
 
         verify(mockJpaRefreshTokenRepository).revokeAllByUserId(TEST_USER_ID);
+        verify(mockAuthenticatedUserCache).invalidate(TEST_USER_ID);
+    }
+
+    @Test
+    @DisplayName("revokeAllByUserIdはトランザクション内の場合、認証済みユーザーのキャッシュをコミット後に削除する")
+    public void revokeAllByUserIdInvalidatesCacheAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            refreshTokenRepository.revokeAllByUserId(TEST_USER_ID);
+
+            verify(mockAuthenticatedUserCache, never()).invalidate(TEST_USER_ID);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(mockAuthenticatedUserCache).invalidate(TEST_USER_ID);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
-    @DisplayName("markAsUsedはJPAリポジトリに処理を委譲する")
-    public void markAsUsedDelegatesToJpaRepository() {
-        refreshTokenRepository.markAsUsed(TEST_TOKEN_ID);
+    @DisplayName("markAsUsedIfValidは1件更新した場合にtrueを返す")
+    public void markAsUsedIfValidReturnsTrueWhenOneRowUpdated() {
+        when(mockJpaRefreshTokenRepository.markAsUsedIfValid(eq(TEST_TOKEN_HASH), eq(TEST_USER_ID), any(LocalDateTime.class)))
+            .thenReturn(1);
+
+        boolean actualMarked = refreshTokenRepository.markAsUsedIfValid(TEST_TOKEN_HASH, TEST_USER_ID);
+
+        assertThat(actualMarked).isTrue();
+    }
+
+    @Test
+    @DisplayName("markAsUsedIfValidは更新しなかった場合にfalseを返す")
+    public void markAsUsedIfValidReturnsFalseWhenNoRowUpdated() {
+        when(mockJpaRefreshTokenRepository.markAsUsedIfValid(eq(TEST_TOKEN_HASH), eq(TEST_USER_ID), any(LocalDateTime.class)))
+            .thenReturn(0);
+
+        boolean actualMarked = refreshTokenRepository.markAsUsedIfValid(TEST_TOKEN_HASH, TEST_USER_ID);
 
-        verify(mockJpaRefreshTokenRepository).markAsUsed(TEST_TOKEN_ID);
+        assertThat(actualMarked).isFalse();
     }
 }
@@ -0,0 +1,101 @@
+package com.application.discussion.project.infrastructure.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BackgroundTaskScheduler単体テスト")
+public class BackgroundTaskSchedulerTests {
+
+    private static final long WAIT_SECONDS = 5L;
+
+    private BackgroundTaskScheduler backgroundTaskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        backgroundTaskScheduler = new BackgroundTaskScheduler();
+        ReflectionTestUtils.setField(backgroundTaskScheduler, "poolSize", 2);
+        backgroundTaskScheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundTaskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("正常系: 処理が例外をスローしても以降の定期実行が継続すること")
+    void scheduledTaskContinuesAfterException() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        final ScheduledFuture<?> future = backgroundTaskScheduler.scheduleWithFixedDelay("failing-task", () -> {
+            runs.incrementAndGet();
+            latch.countDown();
+            throw new IllegalStateException("failure");
+        }, 0L, 10L);
+
+        assertThat(latch.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        future.cancel(false);
+        assertThat(runs.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("正常系: 停止したScheduledFutureの処理は以降実行されないこと")
+    void cancelledTaskIsNotRunAgain() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final ScheduledFuture<?> future = backgroundTaskScheduler.scheduleWithFixedDelay("cancelled-task", () -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 0L, 50L);
+
+        assertThat(latch.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        future.cancel(false);
+        final int runsAtCancel = runs.get();
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertThat(runs.get()).isEqualTo(runsAtCancel);
+    }
+
+    @Test
+    @DisplayName("正常系: 定期実行する処理の数までスレッドが増え、実行中の処理が他の処理を待たせないこと")
+    void poolGrowsToScheduledTaskCount() throws Exception {
+        ReflectionTestUtils.setField(backgroundTaskScheduler, "poolSize", 1);
+        backgroundTaskScheduler.shutdown();
+        backgroundTaskScheduler.initialize();
+        final int taskCount = 3;
+        final CountDownLatch allRunning = new CountDownLatch(taskCount);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ScheduledFuture<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(backgroundTaskScheduler.scheduleWithFixedDelay("blocking-task-" + i, () -> {
+                allRunning.countDown();
+                try {
+                    release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 0L, 1000L));
+        }
+
+        try {
+            assertThat(allRunning.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+}
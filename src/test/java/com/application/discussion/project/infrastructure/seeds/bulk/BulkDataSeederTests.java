@@ -0,0 +1,106 @@
+package com.application.discussion.project.infrastructure.seeds.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.application.discussion.project.infrastructure.exceptions.InfrastructureLayerErrorException;
+import com.application.discussion.project.infrastructure.models.discussions.Discussions;
+import com.application.discussion.project.infrastructure.models.topics.Maintopics;
+import com.application.discussion.project.infrastructure.models.users.Users;
+import com.application.discussion.project.infrastructure.repositories.discussions.JpaDiscussionsRepository;
+import com.application.discussion.project.infrastructure.repositories.topics.JpaMaintopicsRepository;
+import com.application.discussion.project.infrastructure.repositories.users.JpaUsersRepository;
+
+@SpringBootTest(properties = {
+    "springboot.app.seeds.bulk.users=50",
+    "springboot.app.seeds.bulk.maintopics=5",
+    "springboot.app.seeds.bulk.discussions=1234",
+    "springboot.app.seeds.bulk.rows-per-statement=100"
+})
+@ActiveProfiles({"test", "bulk-seed"})
+@DisplayName("BulkDataSeeder 大量データ投入のテスト")
+class BulkDataSeederTests {
+
+    @Autowired
+    private BulkDataSeeder bulkDataSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaDiscussionsRepository jpaDiscussionsRepository;
+
+    @Autowired
+    private JpaMaintopicsRepository jpaMaintopicsRepository;
+
+    @Autowired
+    private JpaUsersRepository jpaUsersRepository;
+
+    @Test
+    @DisplayName("指定した件数のユーザー・メイントピック・ディスカッションが投入されること")
+    void seedInsertsConfiguredRowCounts() {
+        assertThat(queryForLong("select count(*) from users where login_id like 'bulkuser%'")).isEqualTo(50L);
+        assertThat(queryForLong("select count(*) from maintopics")).isEqualTo(5L);
+        assertThat(queryForLong("select count(*) from discussions")).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("メイントピックのディスカッション件数が実際の件数と一致し、先頭のメイントピックに投稿が集中すること")
+    void seedReconcilesDiscussionCountsWithSkew() {
+        List<Long> counts = jdbcTemplate.queryForList(
+            "select discussion_count from maintopics order by id", Long.class
+        );
+
+        assertThat(counts.stream().mapToLong(Long::longValue).sum()).isEqualTo(1234L);
+        assertThat(counts.get(0)).isGreaterThan(counts.get(counts.size() - 1));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("投入後もアプリケーションからのID採番が投入済みのIDと重複しないこと")
+    void applicationInsertsDoNotCollideWithSeededIds() {
+        Users user = jpaUsersRepository.findAll().get(0);
+        Maintopics maintopic = jpaMaintopicsRepository.save(
+            new Maintopics(null, "投入後のトピック", "説明", user, null, null, false, false)
+        );
+        Discussions discussion = jpaDiscussionsRepository.save(
+            new Discussions(null, "投入後のディスカッション", maintopic, user, null, null, null)
+        );
+
+        assertThat(maintopic.getId()).isGreaterThan(queryForLong("select max(id) from maintopics where id <> " + maintopic.getId()));
+        assertThat(discussion.getId()).isGreaterThan(queryForLong("select max(id) from discussions where id <> " + discussion.getId()));
+    }
+
+    @Test
+    @DisplayName("投入が完了している場合は再実行しても何も投入しないこと")
+    void runSkipsWhenSeedingCompleted() {
+        bulkDataSeeder.run();
+
+        assertThat(queryForLong("select count(*) from users where login_id like 'bulkuser%'")).isEqualTo(50L);
+        assertThat(queryForLong("select count(*) from discussions")).isEqualTo(1234L);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("件数の再計算の前に投入が終了していた場合は、投入済みとして扱わずに起動を中止すること")
+    void runFailsWhenSeedingIsIncomplete() {
+        jdbcTemplate.update("update maintopics set discussion_count = 0");
+
+        assertThatThrownBy(() -> bulkDataSeeder.run())
+            .isInstanceOf(InfrastructureLayerErrorException.class);
+    }
+
+    private Long queryForLong(final String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
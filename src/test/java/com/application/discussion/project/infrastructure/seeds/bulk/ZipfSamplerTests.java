@@ -0,0 +1,75 @@
+package com.application.discussion.project.infrastructure.seeds.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ZipfSampler単体テスト")
+public class ZipfSamplerTests {
+
+    private static final int SIZE = 100;
+    private static final int SAMPLE_COUNT = 100_000;
+
+    @Test
+    @DisplayName("抽選される順位が0からsize-1の範囲に収まること")
+    void sampleReturnsRankWithinRange() {
+        ZipfSampler sampler = ZipfSampler.of(SIZE, 1.1);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        assertThat(IntStream.range(0, SAMPLE_COUNT).map(i -> sampler.sample(random)))
+            .allMatch(rank -> rank >= 0 && rank < SIZE);
+    }
+
+    @Test
+    @DisplayName("同じシードの乱数生成器からは同じ順位の列が得られること")
+    void sampleIsReproducibleBySeed() {
+        ZipfSampler sampler = ZipfSampler.of(SIZE, 1.1);
+        SplittableRandom first = new SplittableRandom(42L);
+        SplittableRandom second = new SplittableRandom(42L);
+
+        int[] firstRanks = IntStream.range(0, 1000).map(i -> sampler.sample(first)).toArray();
+        int[] secondRanks = IntStream.range(0, 1000).map(i -> sampler.sample(second)).toArray();
+
+        assertThat(firstRanks).containsExactly(secondRanks);
+    }
+
+    @Test
+    @DisplayName("先頭の順位ほど多く抽選されること")
+    void sampleFavoursLeadingRanks() {
+        int[] counts = sampleCounts(ZipfSampler.of(SIZE, 1.1));
+
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[SIZE - 1]);
+        assertThat(counts[0]).isGreaterThan(SAMPLE_COUNT / 10);
+    }
+
+    @Test
+    @DisplayName("偏りが0の場合は一様に抽選されること")
+    void sampleIsUniformWhenExponentIsZero() {
+        int[] counts = sampleCounts(ZipfSampler.of(SIZE, 0));
+
+        int expected = SAMPLE_COUNT / SIZE;
+        assertThat(Arrays.stream(counts)).allMatch(count -> Math.abs(count - expected) < expected / 4);
+    }
+
+    @Test
+    @DisplayName("順位の数が1未満の場合は例外が発生すること")
+    void ofThrowsWhenSizeIsNotPositive() {
+        assertThatThrownBy(() -> ZipfSampler.of(0, 1.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int[] sampleCounts(final ZipfSampler sampler) {
+        SplittableRandom random = new SplittableRandom(7L);
+        int[] counts = new int[SIZE];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            counts[sampler.sample(random)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,75 @@
+package com.application.discussion.project.infrastructure.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommitTests {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("正常系: トランザクション外の場合は即座に実行されること")
+    void runImmediatelyWithoutTransaction() {
+        final AtomicInteger count = new AtomicInteger();
+
+        AfterCommit.run(count::incrementAndGet);
+
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("正常系: トランザクション内の場合はコミット後にのみ実行されること")
+    void runAfterCommitWithinTransaction() {
+        final AtomicInteger count = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(count::incrementAndGet);
+        assertThat(count).hasValue(0);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("異常系: コミット後の処理で発生した例外はコミットの呼び出し元へ伝わらないこと")
+    void exceptionInActionIsNotPropagated() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(() -> {
+            throw new IllegalStateException("cache failure");
+        });
+
+        assertThatCode(() -> TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit)).doesNotThrowAnyException();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThatCode(() -> AfterCommit.run(() -> {
+            throw new IllegalStateException("cache failure");
+        })).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("正常系: ロールバックされた場合は実行されないこと")
+    void notRunAfterRollback() {
+        final AtomicInteger count = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(count::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(count).hasValue(0);
+    }
+}
@@ -24,6 +24,7 @@ import org.springframework.data.domain.Sort;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -585,6 +586,44 @@ public class DiscussionControllerTests {
         verify(discussionListService, times(VERIFY_TIMES_ONE))
             .service(eq(TEST_MAINTOPIC_ID), any(Pageable.class));
     }
+    @Test
+    @WithMockUser
+    @DisplayName("正常系: afterを指定した場合はカーソル方式で議論リストを取得できること")
+    void getDiscussionsWithCursorTest() throws Exception {
+        DiscussionListResponse response = DiscussionListResponse.ofCursor(
+            createDiscussionResponseList(),
+            null,
+            DEFAULT_PAGE_SIZE,
+            "nextCursorValue",
+            null
+        );
+
+        when(discussionListService.serviceByCursor(
+            eq(TEST_MAINTOPIC_ID), eq(""), isNull(), eq(DEFAULT_PAGE_SIZE), eq(Sort.Direction.DESC), eq(false)))
+            .thenReturn(response);
+
+        mockMvc.perform(get(DISCUSSIONS_URL, TEST_MAINTOPIC_ID)
+                .param("after", "")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.discussions", hasSize(3)))
+            .andExpect(jsonPath("$.nextCursor", is("nextCursorValue")))
+            .andExpect(jsonPath("$.prevCursor").doesNotExist());
+
+        verify(discussionListService, times(0)).service(eq(TEST_MAINTOPIC_ID), any(Pageable.class));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("異常系: カーソル方式でcreatedAt以外のソート項目を指定した場合は400エラーになること")
+    void getDiscussionsWithCursorAndUnsupportedSortTest() throws Exception {
+        mockMvc.perform(get(DISCUSSIONS_URL, TEST_MAINTOPIC_ID)
+                .param("after", "")
+                .param("sortBy", UPDATED_AT_SORT)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
     /**
      * テスト用のDiscussionResponseリストを作成するヘルパーメソッド
      * @return DiscussionResponseのリスト
@@ -27,6 +27,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +37,7 @@ import com.application.discussion.project.application.dtos.topics.MaintopicCreat
 import com.application.discussion.project.application.dtos.topics.MaintopicCreateResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicDeleteResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicListResponse;
+import com.application.discussion.project.application.dtos.topics.MaintopicPageResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicResponse;
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateRequest;
 import com.application.discussion.project.application.dtos.topics.MaintopicUpdateResponse;
@@ -63,6 +65,7 @@ public class MaintopicControllerTests {
     private static final String CANNOT_DELETE_MESSAGE = "このメイントピックは削除できません";
     private static final String DELETE_RESPONSE_MESSAGE = "このリソースは存在しません";
     private static final String MAINTOPIC_ID_TYPE = "メイントピックIDが不正です";
+    private static final String TEST_ENTITY_TAG = "\"19a2b3c4d5e-0\"";
 	private MaintopicListResponse response1;
     private MaintopicListResponse response2;
     private MaintopicResponse response3;
@@ -148,12 +151,14 @@ public class MaintopicControllerTests {
     @Test
     void testFindMaintopicList() throws Exception {
         List<MaintopicListResponse> mockResponse = Arrays.asList(response1, response2);
+        when(maintopicsListService.currentEntityTag()).thenReturn(TEST_ENTITY_TAG);
         when(maintopicsListService.service()).thenReturn(mockResponse);
 
         mockMvc.perform(get("/maintopics"))
 			.andDo(print()) 
 			.andExpect(status().isOk())
 			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(header().string("ETag", TEST_ENTITY_TAG))
 			.andExpect(jsonPath("$[0].maintopicId").value(1L))
 			.andExpect(jsonPath("$[1].maintopicId").value(2L)
 		);
@@ -161,6 +166,56 @@ public class MaintopicControllerTests {
         verify(maintopicsListService, times(1)).service();
     }
 
+    @WithMockUser
+    @DisplayName("MaintopicControllerのメイントピックリスト取得テスト - ETagが一致する場合は304を返す")
+    @Test
+    void testFindMaintopicListNotModified() throws Exception {
+        when(maintopicsListService.currentEntityTag()).thenReturn(TEST_ENTITY_TAG);
+
+        mockMvc.perform(get("/maintopics").header("If-None-Match", TEST_ENTITY_TAG))
+			.andDo(print())
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", TEST_ENTITY_TAG))
+			.andExpect(content().string("")
+		);
+
+        verify(maintopicsListService, never()).service();
+    }
+
+    @WithMockUser
+    @DisplayName("MaintopicControllerのメイントピックリストのページ取得テスト")
+    @Test
+    void testFindMaintopicPage() throws Exception {
+        MaintopicPageResponse mockResponse = MaintopicPageResponse.of(Arrays.asList(response1, response2), 2, 2L);
+        when(maintopicsListService.currentEntityTag(null, 2)).thenReturn(TEST_ENTITY_TAG);
+        when(maintopicsListService.serviceByCursor(null, 2)).thenReturn(mockResponse);
+
+        mockMvc.perform(get("/maintopics").param("size", "2"))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", TEST_ENTITY_TAG))
+			.andExpect(jsonPath("$.maintopics[0].maintopicId").value(1L))
+			.andExpect(jsonPath("$.maintopics[1].maintopicId").value(2L))
+			.andExpect(jsonPath("$.pageSize").value(2))
+			.andExpect(jsonPath("$.nextCursor").value(2L)
+		);
+
+        verify(maintopicsListService, times(1)).serviceByCursor(null, 2);
+        verify(maintopicsListService, never()).service();
+    }
+
+    @WithMockUser
+    @DisplayName("MaintopicControllerのメイントピックリストのページ取得テスト - ページサイズが上限を超える場合")
+    @Test
+    void testFindMaintopicPageWithTooLargeSize() throws Exception {
+        mockMvc.perform(get("/maintopics").param("size", "101"))
+			.andDo(print())
+			.andExpect(status().isBadRequest()
+		);
+
+        verify(maintopicsListService, never()).serviceByCursor(any(), any());
+    }
+
     @WithMockUser
     @DisplayName("MaintopicControllerのメイントピック詳細取得テスト")
     @Test
@@ -0,0 +1,32 @@
+package com.application.discussion.project.presentation.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LogSampling単体テスト")
+public class LogSamplingTests {
+
+    @Test
+    @DisplayName("割合が1.0以上の場合は常に出力対象となること")
+    void isSampledReturnsTrueWhenRateIsOne() {
+        assertThat(IntStream.range(0, 1000).allMatch(i -> LogSampling.isSampled(1.0d))).isTrue();
+    }
+
+    @Test
+    @DisplayName("割合が0.0以下の場合は出力対象とならないこと")
+    void isSampledReturnsFalseWhenRateIsZero() {
+        assertThat(IntStream.range(0, 1000).noneMatch(i -> LogSampling.isSampled(0.0d))).isTrue();
+    }
+
+    @Test
+    @DisplayName("指定した割合に近い件数が出力対象となること")
+    void isSampledReturnsTrueAtApproximateRate() {
+        long sampled = IntStream.range(0, 100000).filter(i -> LogSampling.isSampled(0.1d)).count();
+
+        assertThat(sampled).isBetween(8000L, 12000L);
+    }
+}
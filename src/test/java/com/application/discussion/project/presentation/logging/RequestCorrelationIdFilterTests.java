@@ -0,0 +1,76 @@
+package com.application.discussion.project.presentation.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+
+@DisplayName("RequestCorrelationIdFilter単体テスト")
+public class RequestCorrelationIdFilterTests {
+
+    private static final String TEST_REQUEST_ID = "3f2b1c9a-request-id";
+
+    private RequestCorrelationIdFilter requestCorrelationIdFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private AtomicReference<String> requestIdInChain;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        requestCorrelationIdFilter = new RequestCorrelationIdFilter();
+        request = new MockHttpServletRequest("GET", "/maintopics");
+        response = new MockHttpServletResponse();
+        requestIdInChain = new AtomicReference<>();
+        filterChain = (servletRequest, servletResponse) ->
+            requestIdInChain.set(MDC.get(RequestCorrelationIdFilter.REQUEST_ID_MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("リクエストヘッダーの相関IDがMDCとレスポンスヘッダーに引き継がれること")
+    void doFilterPropagatesRequestIdHeader() throws Exception {
+        request.addHeader(RequestCorrelationIdFilter.REQUEST_ID_HEADER, TEST_REQUEST_ID);
+
+        requestCorrelationIdFilter.doFilter(request, response, filterChain);
+
+        assertThat(requestIdInChain.get()).isEqualTo(TEST_REQUEST_ID);
+        assertThat(response.getHeader(RequestCorrelationIdFilter.REQUEST_ID_HEADER)).isEqualTo(TEST_REQUEST_ID);
+    }
+
+    @Test
+    @DisplayName("相関IDが指定されていない場合は新しく採番されること")
+    void doFilterGeneratesRequestIdWhenHeaderMissing() throws Exception {
+        requestCorrelationIdFilter.doFilter(request, response, filterChain);
+
+        assertThat(requestIdInChain.get()).isNotBlank();
+        assertThat(response.getHeader(RequestCorrelationIdFilter.REQUEST_ID_HEADER)).isEqualTo(requestIdInChain.get());
+    }
+
+    @Test
+    @DisplayName("不正な形式の相関IDは引き継がれず、新しく採番されること")
+    void doFilterReplacesInvalidRequestId() throws Exception {
+        request.addHeader(RequestCorrelationIdFilter.REQUEST_ID_HEADER, "invalid\nrequest id");
+
+        requestCorrelationIdFilter.doFilter(request, response, filterChain);
+
+        assertThat(requestIdInChain.get()).isNotEqualTo("invalid\nrequest id").matches("^[A-Za-z0-9._-]+$");
+    }
+
+    @Test
+    @DisplayName("リクエストの処理後にMDCから相関IDが削除されること")
+    void doFilterRemovesRequestIdFromMdcAfterRequest() throws Exception {
+        request.addHeader(RequestCorrelationIdFilter.REQUEST_ID_HEADER, TEST_REQUEST_ID);
+
+        requestCorrelationIdFilter.doFilter(request, response, filterChain);
+
+        assertThat(MDC.get(RequestCorrelationIdFilter.REQUEST_ID_MDC_KEY)).isNull();
+    }
+}
@@ -0,0 +1,87 @@
+package com.application.discussion.project.presentation.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("PublicPathMatcher単体テスト")
+public class PublicPathMatcherTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/v3/api-docs",
+        "/v3/api-docs/swagger-config",
+        "/swagger-ui/index.html",
+        "/swagger-ui.html",
+        "/webjars/swagger-ui/swagger-ui.css",
+        "/api-docs"
+    })
+    @DisplayName("公開パスパターンに一致するパスは公開パスと判定されること")
+    void isPublicPathReturnsTrueForPublicPaths(final String path) {
+        assertThat(PublicPathMatcher.isPublicPath(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/maintopics",
+        "/maintopics/1/discussions",
+        "/api-docsfoo",
+        "/configurationfoo/bar",
+        "/v1/auth/login",
+        "/actuator/env",
+        "/actuator/health",
+        "/actuator/prometheus",
+        ""
+    })
+    @DisplayName("公開パスパターンに一致しないパスは公開パスと判定されないこと")
+    void isPublicPathReturnsFalseForProtectedPaths(final String path) {
+        assertThat(PublicPathMatcher.isPublicPath(path)).isFalse();
+    }
+
+    @Test
+    @DisplayName("認証・登録用のパスへのPOSTは認証不要と判定されること")
+    void isPublicRequestReturnsTrueForAuthenticationPost() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/auth/login");
+
+        assertThat(PublicPathMatcher.isPublicRequest(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("認証・登録用のパスでもPOST以外は認証が必要と判定されること")
+    void isPublicRequestReturnsFalseForAuthenticationGet() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/auth/login");
+
+        assertThat(PublicPathMatcher.isPublicRequest(request)).isFalse();
+    }
+
+    @Test
+    @DisplayName("CORSのプリフライトリクエストは認証不要と判定されること")
+    void isPublicRequestReturnsTrueForPreflightRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/maintopics");
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+
+        assertThat(PublicPathMatcher.isPublicRequest(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("コンテキストパスを除いたパスで判定されること")
+    void isPublicRequestIgnoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/swagger-ui/index.html");
+        request.setContextPath("/api");
+
+        assertThat(PublicPathMatcher.isPublicRequest(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("permitAllの対象に公開パスパターンと認証・登録用のパスが含まれること")
+    void getPermitAllPatternsContainsPublicAndAuthenticationPaths() {
+        assertThat(PublicPathMatcher.getPermitAllPatterns())
+            .contains("/v3/api-docs/**", "/swagger-ui/**", "/v1/auth/login", "/v1/auth/refresh", "/v1/users/signup");
+    }
+}
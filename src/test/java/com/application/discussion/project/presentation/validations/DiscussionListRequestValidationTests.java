@@ -482,4 +482,27 @@ class DiscussionListRequestValidationTests {
             .hasMessage(ERROR_MESSAGE_DIRECTION_INVALID)
             .hasFieldOrPropertyWithValue("status", HttpStatus.BAD_REQUEST);
     }
+
+    @Test
+    @DisplayName("正常系: カーソル方式でafterのみを指定した場合は例外が発生しないこと")
+    void validateCursorWithAfterOnly() {
+        assertThatCode(() -> DiscussionListRequestValidation.validateCursor("cursor", null, VALID_SORT_BY_CREATED_AT))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("異常系: カーソル方式でafterとbeforeを同時に指定した場合は例外が発生すること")
+    void validateCursorWithAfterAndBefore() {
+        assertThatThrownBy(() -> DiscussionListRequestValidation.validateCursor("cursor1", "cursor2", VALID_SORT_BY_CREATED_AT))
+            .isInstanceOf(PresentationLayerErrorException.class)
+            .hasMessage("afterとbeforeは同時に指定できません");
+    }
+
+    @Test
+    @DisplayName("異常系: カーソル方式でcreatedAt以外のソート項目を指定した場合は例外が発生すること")
+    void validateCursorWithUnsupportedSortBy() {
+        assertThatThrownBy(() -> DiscussionListRequestValidation.validateCursor("", null, VALID_SORT_BY_UPDATED_AT))
+            .isInstanceOf(PresentationLayerErrorException.class)
+            .hasMessage("カーソル方式で指定できるソート項目はcreatedAtのみです");
+    }
 }